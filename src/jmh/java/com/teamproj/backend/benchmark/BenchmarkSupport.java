@@ -0,0 +1,162 @@
+package com.teamproj.backend.benchmark;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.teamproj.backend.dto.user.profile.UserProfileDto;
+import com.teamproj.backend.model.like.LikeTypeEnum;
+import com.teamproj.backend.service.UserProfileService;
+import com.teamproj.backend.service.like.LikeStoreService;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/*
+    벤치마크 공통 준비 기능
+    Spring 컨텍스트, DB, Redis 없이 서비스의 메모리 내 처리만 측정하기 위해
+    서비스는 의존성을 null 로 생성하고, 좋아요/작성자 조회는 Redis/DB 를 거치지 않는 대체 구현으로 바꿔 넣음.
+ */
+final class BenchmarkSupport {
+    // 작성자 수. 목록 크기보다 작게 두어 같은 작성자가 여러 번 나오도록 함.
+    static final int WRITER_COUNT = 16;
+
+    private BenchmarkSupport() {
+    }
+
+    // @RequiredArgsConstructor 로 만들어진 생성자에 모두 null 을 넣어 생성
+    static <T> T newService(Class<T> serviceClass) {
+        try {
+            Constructor<?> constructor = serviceClass.getDeclaredConstructors()[0];
+            Object[] args = new Object[constructor.getParameterCount()];
+            return serviceClass.cast(constructor.newInstance(args));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(serviceClass.getName(), e);
+        }
+    }
+
+    static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        if (field == null) {
+            throw new IllegalArgumentException(name);
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    static Method privateMethod(Class<?> targetClass, String name, Class<?>... parameterTypes) {
+        Method method = ReflectionUtils.findMethod(targetClass, name, parameterTypes);
+        if (method == null) {
+            throw new IllegalArgumentException(name);
+        }
+        ReflectionUtils.makeAccessible(method);
+        return method;
+    }
+
+    static Object invoke(Method method, Object target, Object... args) {
+        return ReflectionUtils.invokeMethod(method, target, args);
+    }
+
+    // 짝수 ID 는 좋아요 한 것으로 처리
+    static LikeStoreService likeStoreService() {
+        return new LikeStoreService(null, null, null) {
+            @Override
+            public Set<Long> getLikedIdSet(LikeTypeEnum likeTypeEnum, Long userId, Collection<Long> targetIdList) {
+                Set<Long> likedIdSet = new HashSet<>();
+                for (Long targetId : targetIdList) {
+                    if (targetId % 2 == 0) {
+                        likedIdSet.add(targetId);
+                    }
+                }
+                return likedIdSet;
+            }
+        };
+    }
+
+    // 모든 작성자가 캐시에 있는 경우
+    static UserProfileService userProfileService() {
+        Map<Long, UserProfileDto> cachedProfileMap = new HashMap<>();
+        for (long userId = 1; userId <= WRITER_COUNT; userId++) {
+            cachedProfileMap.put(userId, UserProfileDto.builder()
+                    .userId(userId)
+                    .username("user" + userId)
+                    .nickname("닉네임" + userId)
+                    .profileImage("https://memegle.s3.ap-northeast-2.amazonaws.com/profile/" + userId + ".png")
+                    .build());
+        }
+
+        return new UserProfileService(null, null) {
+            @Override
+            public Map<Long, UserProfileDto> getUserProfileMap(Collection<Long> userIdList) {
+                Map<Long, UserProfileDto> result = new HashMap<>();
+                for (Long userId : userIdList) {
+                    UserProfileDto userProfile = cachedProfileMap.get(userId);
+                    if (userProfile != null) {
+                        result.put(userId, userProfile);
+                    }
+                }
+                return result;
+            }
+        };
+    }
+
+    // DictService 목록 조회 튜플 : dictId, title, summary, firstAuthorId, createdAt, likeCount
+    static List<Tuple> dictTupleList(int size) {
+        Expression<?>[] expressions = {
+                Expressions.path(Long.class, "dictId"),
+                Expressions.path(String.class, "dictName"),
+                Expressions.path(String.class, "summary"),
+                Expressions.path(Long.class, "firstAuthorId"),
+                Expressions.path(LocalDateTime.class, "createdAt"),
+                Expressions.path(Integer.class, "likeCount")
+        };
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Tuple> tupleList = new ArrayList<>();
+        for (long dictId = 1; dictId <= size; dictId++) {
+            tupleList.add(Projections.tuple(expressions).newInstance(
+                    dictId, "단어" + dictId, "한 줄 요약 " + dictId, dictId % WRITER_COUNT + 1,
+                    now.minusMinutes(dictId), (int) (dictId % 50)));
+        }
+        return tupleList;
+    }
+
+    // BoardService 목록 조회 튜플 : boardId, thumbNail, userId, createdAt, views, likeCount
+    static List<Tuple> boardTupleList(int size) {
+        Expression<?>[] expressions = {
+                Expressions.path(Long.class, "boardId"),
+                Expressions.path(String.class, "thumbNail"),
+                Expressions.path(Long.class, "userId"),
+                Expressions.path(LocalDateTime.class, "createdAt"),
+                Expressions.path(Integer.class, "views"),
+                Expressions.path(Integer.class, "likeCount")
+        };
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Tuple> tupleList = new ArrayList<>();
+        for (long boardId = 1; boardId <= size; boardId++) {
+            tupleList.add(Projections.tuple(expressions).newInstance(
+                    boardId, "https://memegle.s3.ap-northeast-2.amazonaws.com/boardImages/" + boardId + ".png",
+                    boardId % WRITER_COUNT + 1, now.minusMinutes(boardId), (int) (boardId * 7), (int) (boardId % 50)));
+        }
+        return tupleList;
+    }
+
+    // (Long, Long) 튜플 : 좋아요 목록, 개수 집계 등
+    static List<Tuple> longLongTupleList(int size) {
+        Expression<?>[] expressions = {
+                Expressions.path(Long.class, "targetId"),
+                Expressions.path(Long.class, "value")
+        };
+
+        List<Tuple> tupleList = new ArrayList<>();
+        for (long targetId = 1; targetId <= size; targetId++) {
+            tupleList.add(Projections.tuple(expressions).newInstance(targetId, targetId % WRITER_COUNT + 1));
+        }
+        return tupleList;
+    }
+}
@@ -0,0 +1,53 @@
+package com.teamproj.backend.benchmark;
+
+import com.teamproj.backend.security.UserDetailsImpl;
+import com.teamproj.backend.security.jwt.JwtDecoder;
+import com.teamproj.backend.security.jwt.JwtTokenUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+    JwtDecoder.decodeUser
+    cacheHit : 검증된 토큰 캐시에서 꺼내는 경우(대부분의 요청)
+    cacheMiss : 캐시 크기를 0 으로 두어 매번 서명 검증, claim 해석을 하는 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtDecoderBenchmark {
+    private JwtDecoder cachedDecoder;
+    private JwtDecoder uncachedDecoder;
+    private String token;
+
+    @Setup
+    public void setup() {
+        token = JwtTokenUtils.generateJwtToken(UserDetailsImpl.builder()
+                .userId(1L)
+                .username("user1")
+                .password("password")
+                .nickname("닉네임1")
+                .profileImage("https://memegle.s3.ap-northeast-2.amazonaws.com/profile/1.png")
+                .build());
+
+        cachedDecoder = new JwtDecoder(new SimpleMeterRegistry());
+        BenchmarkSupport.setField(cachedDecoder, "maxSize", 10000);
+        BenchmarkSupport.setField(cachedDecoder, "ttlMs", 600000L);
+        cachedDecoder.decodeUser(token);
+
+        uncachedDecoder = new JwtDecoder(new SimpleMeterRegistry());
+        BenchmarkSupport.setField(uncachedDecoder, "maxSize", 0);
+        BenchmarkSupport.setField(uncachedDecoder, "ttlMs", 600000L);
+    }
+
+    @Benchmark
+    public Object cacheHit() {
+        return cachedDecoder.decodeUser(token);
+    }
+
+    @Benchmark
+    public Object cacheMiss() {
+        return uncachedDecoder.decodeUser(token);
+    }
+}
@@ -0,0 +1,134 @@
+package com.teamproj.backend.benchmark;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.teamproj.backend.util.LongHashSet;
+import com.teamproj.backend.util.LongLongHashMap;
+import com.teamproj.backend.util.MemegleServiceStaticMethods;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/*
+    목록 응답의 좋아요 여부 / ID 별 값 조회 방식 비교
+    - likeStringKey : 이전 방식. LikeStoreService 가 반환한 Set<Long> 을 "dictId:userId" 문자열 키 HashMap 으로 옮겨서 조회
+    - likeBoxedSet : 현재 방식. LikeStoreService 가 반환한 Set<Long> 을 그대로 조회
+    - likePrimitive : Set<Long> 을 LongHashSet 으로 복사해서 조회. 복사 비용이 조회에서 아끼는 것보다 큼.
+    - countBoxed / countPrimitive : 튜플로 HashMap<Long, Long> / LongLongHashMap 을 만들어 조회
+    목록의 ID 는 튜플에서 꺼낸 Long 이므로 조회 쪽은 어느 방식이든 박싱이 없음.
+    맵을 만들고 목록 크기만큼 조회하는 것까지 한 번으로 측정함. gc 프로파일러의 gc.alloc.rate.norm 으로 할당량 비교.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LikeLookupBenchmark {
+    // Long 캐시(-128 ~ 127) 밖의 실제 ID 범위
+    private static final long FIRST_ID = 100_000L;
+    private static final long USER_ID = 7L;
+
+    @Param({"20", "100"})
+    private int size;
+
+    private List<Long> idList;
+    private Set<Long> likedIdSet;
+    private List<Tuple> countTupleList;
+
+    @Setup
+    public void setup() {
+        idList = new ArrayList<>();
+        // LikeStoreService.getLikedIdSet 의 반환값과 같은 HashSet<Long>
+        likedIdSet = new HashSet<>();
+        for (long id = FIRST_ID; id < FIRST_ID + size; id++) {
+            idList.add(id);
+            if (id % 2 == 0) {
+                likedIdSet.add(id);
+            }
+        }
+
+        // ID 별 개수 튜플 : targetId, count
+        Expression<?>[] countExpressions = {
+                Expressions.path(Long.class, "targetId"),
+                Expressions.path(Long.class, "count")
+        };
+        countTupleList = new ArrayList<>();
+        for (Long id : idList) {
+            countTupleList.add(Projections.tuple(countExpressions).newInstance(id, id % 1000));
+        }
+    }
+
+    // region 좋아요 여부
+    @Benchmark
+    public int likeStringKey() {
+        HashMap<String, Boolean> likeMap = new HashMap<>();
+        for (Long likedId : likedIdSet) {
+            likeMap.put(likedId + ":" + USER_ID, true);
+        }
+
+        int likedCount = 0;
+        for (Long id : idList) {
+            if (likeMap.get(id + ":" + USER_ID) != null) {
+                likedCount++;
+            }
+        }
+        return likedCount;
+    }
+
+    @Benchmark
+    public int likeBoxedSet() {
+        int likedCount = 0;
+        for (Long id : idList) {
+            if (likedIdSet.contains(id)) {
+                likedCount++;
+            }
+        }
+        return likedCount;
+    }
+
+    @Benchmark
+    public int likePrimitive() {
+        LongHashSet primitiveIdSet = LongHashSet.of(likedIdSet);
+
+        int likedCount = 0;
+        for (Long id : idList) {
+            if (primitiveIdSet.contains(id)) {
+                likedCount++;
+            }
+        }
+        return likedCount;
+    }
+    // endregion
+
+    // region ID 별 값
+    @Benchmark
+    public long countBoxed() {
+        HashMap<Long, Long> countMap = new HashMap<>();
+        for (Tuple tuple : countTupleList) {
+            countMap.put(tuple.get(0, Long.class), tuple.get(1, Long.class));
+        }
+
+        long sum = 0;
+        for (Long id : idList) {
+            sum += countMap.getOrDefault(id, 0L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long countPrimitive() {
+        LongLongHashMap countMap = MemegleServiceStaticMethods.getLongLongMap(countTupleList);
+
+        long sum = 0;
+        for (Long id : idList) {
+            sum += countMap.get(id, 0L);
+        }
+        return sum;
+    }
+    // endregion
+}
@@ -0,0 +1,77 @@
+package com.teamproj.backend.benchmark;
+
+import com.querydsl.core.Tuple;
+import com.teamproj.backend.model.User;
+import com.teamproj.backend.service.BoardService;
+import com.teamproj.backend.service.dict.DictService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+    목록 조회 튜플 -> 응답 DTO 변환
+    DictService.dictListToDictResponseDtoList, BoardService.getBoardResponseDtoList
+    좋아요 여부, 작성자 정보 조회는 메모리 내 대체 구현을 사용하므로 변환 자체의 비용만 측정됨.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ListMappingBenchmark {
+    // 한 페이지 크기, 큰 목록
+    @Param({"20", "100"})
+    private int size;
+
+    private DictService dictService;
+    private BoardService boardService;
+    private Method dictListMapper;
+    private Method boardListMapper;
+
+    private List<Tuple> dictTupleList;
+    private List<Tuple> boardTupleList;
+    private User user;
+
+    @Setup
+    public void setup() {
+        dictService = BenchmarkSupport.newService(DictService.class);
+        BenchmarkSupport.setField(dictService, "likeStoreService", BenchmarkSupport.likeStoreService());
+        BenchmarkSupport.setField(dictService, "userProfileService", BenchmarkSupport.userProfileService());
+        dictListMapper = BenchmarkSupport.privateMethod(DictService.class, "dictListToDictResponseDtoList",
+                List.class, User.class);
+
+        boardService = BenchmarkSupport.newService(BoardService.class);
+        BenchmarkSupport.setField(boardService, "likeStoreService", BenchmarkSupport.likeStoreService());
+        BenchmarkSupport.setField(boardService, "userProfileService", BenchmarkSupport.userProfileService());
+        boardListMapper = BenchmarkSupport.privateMethod(BoardService.class, "getBoardResponseDtoList",
+                List.class, User.class);
+
+        dictTupleList = BenchmarkSupport.dictTupleList(size);
+        boardTupleList = BenchmarkSupport.boardTupleList(size);
+        user = User.builder()
+                .id(1L)
+                .username("user1")
+                .nickname("닉네임1")
+                .build();
+    }
+
+    @Benchmark
+    public Object dictList_anonymous() {
+        return BenchmarkSupport.invoke(dictListMapper, dictService, dictTupleList, null);
+    }
+
+    @Benchmark
+    public Object dictList_login() {
+        return BenchmarkSupport.invoke(dictListMapper, dictService, dictTupleList, user);
+    }
+
+    @Benchmark
+    public Object boardList_anonymous() {
+        return BenchmarkSupport.invoke(boardListMapper, boardService, boardTupleList, null);
+    }
+
+    @Benchmark
+    public Object boardList_login() {
+        return BenchmarkSupport.invoke(boardListMapper, boardService, boardTupleList, user);
+    }
+}
@@ -0,0 +1,170 @@
+package com.teamproj.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.teamproj.backend.config.RedisCodecRegistry;
+import com.teamproj.backend.config.RedisCodecRegistry.Format;
+import com.teamproj.backend.dto.board.BoardMemeBest.BoardMemeBestResponseDto;
+import com.teamproj.backend.dto.main.MainTodayMemeResponseDto;
+import com.teamproj.backend.dto.quiz.QuizResponseDto;
+import com.teamproj.backend.dto.rank.RankResponseDto;
+import com.teamproj.backend.dto.statistics.StatDictPostByDayDto;
+import com.teamproj.backend.dto.statistics.StatDictQuestionListDto;
+import com.teamproj.backend.dto.statistics.StatDictResponseDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+    Redis 캐싱 DTO 저장 형식 비교(JSON / Smile)
+    목록은 Redis 리스트 원소마다 DTO 하나를 저장하므로 원소 단위로 읽음(요청마다 LRANGE 결과 전체를 역직렬화).
+    저장 크기(Redis 에 들어가는 값 바이트 합)는 측정이 끝날 때 출력함.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RedisCodecFormatBenchmark {
+    @Param({"JSON", "SMILE"})
+    private Format format;
+
+    private RedisSerializer<MainTodayMemeResponseDto> todayMemeCodec;
+    private RedisSerializer<BoardMemeBestResponseDto> bestMemeCodec;
+    private RedisSerializer<QuizResponseDto> quizCodec;
+    private RedisSerializer<StatDictResponseDto> statDictCodec;
+
+    private StatDictResponseDto statDict;
+    private List<byte[]> todayMemeBytes;
+    private List<byte[]> bestMemeBytes;
+    private List<byte[]> quizBytes;
+    private byte[] statDictBytes;
+
+    @Setup
+    public void setup() {
+        ObjectMapper jsonMapper = new ObjectMapper();
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        RedisCodecRegistry registry = new RedisCodecRegistry(jsonMapper, smileMapper, format,
+                MainTodayMemeResponseDto.class, BoardMemeBestResponseDto.class, QuizResponseDto.class, StatDictResponseDto.class);
+        todayMemeCodec = registry.get(MainTodayMemeResponseDto.class);
+        bestMemeCodec = registry.get(BoardMemeBestResponseDto.class);
+        quizCodec = registry.get(QuizResponseDto.class);
+        statDictCodec = registry.get(StatDictResponseDto.class);
+
+        // 오늘의 밈 20개, 명예의 밈짤 3개, 퀴즈 10개
+        todayMemeBytes = new ArrayList<>();
+        for (long dictId = 1; dictId <= 20; dictId++) {
+            todayMemeBytes.add(todayMemeCodec.serialize(new MainTodayMemeResponseDto(dictId, "단어" + dictId)));
+        }
+        bestMemeBytes = new ArrayList<>();
+        for (long boardId = 1; boardId <= 3; boardId++) {
+            bestMemeBytes.add(bestMemeCodec.serialize(bestMeme(boardId)));
+        }
+        quizBytes = new ArrayList<>();
+        for (int quizId = 1; quizId <= 10; quizId++) {
+            quizBytes.add(quizCodec.serialize(QuizResponseDto.builder()
+                    .question("다음 중 '" + quizId + "번 밈' 의 뜻으로 알맞은 것은?")
+                    .solution("정답" + quizId)
+                    .quizImage("https://memegle.s3.ap-northeast-2.amazonaws.com/quiz/" + quizId + ".png")
+                    .choice(Arrays.asList("정답" + quizId, "보기 1", "보기 2", "보기 3"))
+                    .build()));
+        }
+        statDict = statDict();
+        statDictBytes = statDictCodec.serialize(statDict);
+    }
+
+    @TearDown
+    public void printStoredBytes() {
+        System.out.printf("%n[%s] 저장 크기(byte) : 오늘의 밈 %d, 명예의 밈짤 %d, 퀴즈 %d, 사전 통계 %d%n", format,
+                sum(todayMemeBytes), sum(bestMemeBytes), sum(quizBytes), statDictBytes.length);
+    }
+
+    @Benchmark
+    public List<MainTodayMemeResponseDto> todayMeme_decode() {
+        return decode(todayMemeCodec, todayMemeBytes);
+    }
+
+    @Benchmark
+    public List<BoardMemeBestResponseDto> bestMeme_decode() {
+        return decode(bestMemeCodec, bestMemeBytes);
+    }
+
+    @Benchmark
+    public List<QuizResponseDto> quiz_decode() {
+        return decode(quizCodec, quizBytes);
+    }
+
+    @Benchmark
+    public StatDictResponseDto statDict_decode() {
+        return statDictCodec.deserialize(statDictBytes);
+    }
+
+    @Benchmark
+    public byte[] statDict_encode() {
+        return statDictCodec.serialize(statDict);
+    }
+
+    // region 보조 기능
+    private static <T> List<T> decode(RedisSerializer<T> codec, List<byte[]> bytesList) {
+        List<T> result = new ArrayList<>(bytesList.size());
+        for (byte[] bytes : bytesList) {
+            result.add(codec.deserialize(bytes));
+        }
+        return result;
+    }
+
+    private static int sum(List<byte[]> bytesList) {
+        int sum = 0;
+        for (byte[] bytes : bytesList) {
+            sum += bytes.length;
+        }
+        return sum;
+    }
+
+    private static BoardMemeBestResponseDto bestMeme(long boardId) {
+        return BoardMemeBestResponseDto.builder()
+                .boardId(boardId)
+                .thumbNail("https://memegle.s3.ap-northeast-2.amazonaws.com/boardImages/" + boardId + ".png")
+                .title("제목" + boardId)
+                .username("user" + boardId)
+                .profileImageUrl("https://memegle.s3.ap-northeast-2.amazonaws.com/profile/" + boardId + ".png")
+                .writer("닉네임" + boardId)
+                .content("내용" + boardId)
+                .views((int) boardId * 100)
+                .likeCnt(boardId * 10)
+                .isLike(false)
+                .build();
+    }
+
+    // 사전 통계 : 일별 등록 수 7일, 질문 목록 각 5개, 작성 순위 10명
+    private static StatDictResponseDto statDict() {
+        List<StatDictPostByDayDto> dictCountWeeks = new ArrayList<>();
+        for (int day = 1; day <= 7; day++) {
+            dictCountWeeks.add(new StatDictPostByDayDto("2022-01-0" + day, (long) day * 3));
+        }
+        List<StatDictQuestionListDto> questionList = new ArrayList<>();
+        for (long questionId = 1; questionId <= 5; questionId++) {
+            questionList.add(new StatDictQuestionListDto(questionId,
+                    "https://memegle.s3.ap-northeast-2.amazonaws.com/profile/" + questionId + ".png", "질문 제목 " + questionId));
+        }
+        List<RankResponseDto> rankList = new ArrayList<>();
+        for (long userId = 1; userId <= 10; userId++) {
+            rankList.add(new RankResponseDto(userId,
+                    "https://memegle.s3.ap-northeast-2.amazonaws.com/profile/" + userId + ".png", "닉네임" + userId, 100 - userId));
+        }
+
+        return StatDictResponseDto.builder()
+                .dictCountAll(2000L)
+                .dictCountWeeks(dictCountWeeks)
+                .questionCountAll(300L)
+                .completeQuestionCountAll(120L)
+                .completeQuestionList(questionList)
+                .remainQuestionCountAll(180L)
+                .remainQuestionList(questionList)
+                .dictPostRank(rankList)
+                .build();
+    }
+    // endregion
+}
@@ -0,0 +1,127 @@
+package com.teamproj.backend.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.teamproj.backend.config.RedisCodecRegistry;
+import com.teamproj.backend.dto.board.BoardMemeBest.BoardMemeBestResponseDto;
+import com.teamproj.backend.dto.main.MainTodayMemeResponseDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+    Redis 에 저장하는 DTO 직렬화 / 역직렬화
+    - serializer : 예전 redisTemplate 의 Jackson2JsonRedisSerializer<Object>. LinkedHashMap 으로 읽히므로
+      convertValue 로 DTO 로 다시 바꾸는 비용까지 측정함.
+    - *_typed : RedisCodecRegistry 의 DTO 타입별 직렬화기(JSON). 리스트 원소(DTO) 하나씩 읽고 씀.
+      JSON / Smile 비교는 RedisCodecFormatBenchmark 참고.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RedisSerializationBenchmark {
+    // 오늘의 밈 단어 목록 크기
+    @Param({"10", "100"})
+    private int size;
+
+    private final Jackson2JsonRedisSerializer<Object> serializer = new Jackson2JsonRedisSerializer<>(Object.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RedisCodecRegistry registry = new RedisCodecRegistry(objectMapper, new ObjectMapper(new SmileFactory()),
+            RedisCodecRegistry.Format.JSON, MainTodayMemeResponseDto.class, BoardMemeBestResponseDto.class);
+    private final RedisSerializer<MainTodayMemeResponseDto> todayMemeCodec = registry.get(MainTodayMemeResponseDto.class);
+    private final RedisSerializer<BoardMemeBestResponseDto> bestMemeCodec = registry.get(BoardMemeBestResponseDto.class);
+
+    private List<MainTodayMemeResponseDto> todayMemeList;
+    private List<BoardMemeBestResponseDto> bestMemeList;
+    private byte[] todayMemeBytes;
+    private byte[] bestMemeBytes;
+    private List<byte[]> todayMemeElementBytes;
+    private List<byte[]> bestMemeElementBytes;
+
+    @Setup
+    public void setup() {
+        todayMemeList = new ArrayList<>();
+        for (long dictId = 1; dictId <= size; dictId++) {
+            todayMemeList.add(new MainTodayMemeResponseDto(dictId, "단어" + dictId));
+        }
+
+        // 명예의 밈짤은 3개
+        bestMemeList = new ArrayList<>();
+        for (long boardId = 1; boardId <= 3; boardId++) {
+            bestMemeList.add(BoardMemeBestResponseDto.builder()
+                    .boardId(boardId)
+                    .thumbNail("https://memegle.s3.ap-northeast-2.amazonaws.com/boardImages/" + boardId + ".png")
+                    .title("제목" + boardId)
+                    .username("user" + boardId)
+                    .profileImageUrl("https://memegle.s3.ap-northeast-2.amazonaws.com/profile/" + boardId + ".png")
+                    .writer("닉네임" + boardId)
+                    .content("내용" + boardId)
+                    .views((int) boardId * 100)
+                    .likeCnt(boardId * 10)
+                    .isLike(false)
+                    .build());
+        }
+
+        todayMemeBytes = serializer.serialize(todayMemeList);
+        bestMemeBytes = serializer.serialize(bestMemeList);
+        todayMemeElementBytes = todayMeme_serialize_typed();
+        bestMemeElementBytes = new ArrayList<>();
+        for (BoardMemeBestResponseDto bestMeme : bestMemeList) {
+            bestMemeElementBytes.add(bestMemeCodec.serialize(bestMeme));
+        }
+    }
+
+    @Benchmark
+    public byte[] todayMeme_serialize() {
+        return serializer.serialize(todayMemeList);
+    }
+
+    @Benchmark
+    public Object todayMeme_deserialize() {
+        return serializer.deserialize(todayMemeBytes);
+    }
+
+    @Benchmark
+    public byte[] bestMeme_serialize() {
+        return serializer.serialize(bestMemeList);
+    }
+
+    @Benchmark
+    public List<BoardMemeBestResponseDto> bestMeme_deserializeAndConvert() {
+        return objectMapper.convertValue(serializer.deserialize(bestMemeBytes),
+                new TypeReference<List<BoardMemeBestResponseDto>>() {
+                });
+    }
+
+    @Benchmark
+    public List<byte[]> todayMeme_serialize_typed() {
+        List<byte[]> result = new ArrayList<>(todayMemeList.size());
+        for (MainTodayMemeResponseDto todayMeme : todayMemeList) {
+            result.add(todayMemeCodec.serialize(todayMeme));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<MainTodayMemeResponseDto> todayMeme_deserialize_typed() {
+        List<MainTodayMemeResponseDto> result = new ArrayList<>(todayMemeElementBytes.size());
+        for (byte[] bytes : todayMemeElementBytes) {
+            result.add(todayMemeCodec.deserialize(bytes));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<BoardMemeBestResponseDto> bestMeme_deserialize_typed() {
+        List<BoardMemeBestResponseDto> result = new ArrayList<>(bestMemeElementBytes.size());
+        for (byte[] bytes : bestMemeElementBytes) {
+            result.add(bestMemeCodec.deserialize(bytes));
+        }
+        return result;
+    }
+}
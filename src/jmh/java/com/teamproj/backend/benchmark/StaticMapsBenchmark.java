@@ -0,0 +1,50 @@
+package com.teamproj.backend.benchmark;
+
+import com.querydsl.core.Tuple;
+import com.teamproj.backend.dto.user.profile.UserProfileDto;
+import com.teamproj.backend.util.MemegleServiceStaticMethods;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+    MemegleServiceStaticMethods 의 문자열 키 맵 생성
+    "게시글ID:username" 처럼 키마다 문자열을 만들기 때문에 목록 크기에 비례해 할당이 늘어남.
+    좋아요 여부 확인 방식 비교는 LikeLookupBenchmark 참고.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StaticMapsBenchmark {
+    @Param({"20", "100"})
+    private int size;
+
+    private List<Tuple> tupleList;
+    private Map<Long, Long> writerIdMap;
+    private Map<Long, UserProfileDto> userProfileMap;
+
+    @Setup
+    public void setup() {
+        tupleList = BenchmarkSupport.longLongTupleList(size);
+        writerIdMap = new HashMap<>();
+        for (Tuple tuple : tupleList) {
+            writerIdMap.put(tuple.get(0, Long.class), tuple.get(1, Long.class));
+        }
+
+        userProfileMap = BenchmarkSupport.userProfileService().getUserProfileMap(new ArrayList<>(writerIdMap.values()));
+    }
+
+    @Benchmark
+    public Object getLongLongMap() {
+        return MemegleServiceStaticMethods.getLongLongMap(tupleList);
+    }
+
+    @Benchmark
+    public Object getUserInfoMap() {
+        return MemegleServiceStaticMethods.getUserInfoMap(writerIdMap, userProfileMap);
+    }
+}
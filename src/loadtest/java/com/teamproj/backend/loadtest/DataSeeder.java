@@ -0,0 +1,226 @@
+package com.teamproj.backend.loadtest;
+
+import com.teamproj.backend.Repository.UserRepository;
+import com.teamproj.backend.Repository.board.BoardCategoryRepository;
+import com.teamproj.backend.Repository.board.BoardLikeRepository;
+import com.teamproj.backend.Repository.board.BoardRepository;
+import com.teamproj.backend.Repository.board.BoardViewersRepository;
+import com.teamproj.backend.Repository.dict.DictLikeRepository;
+import com.teamproj.backend.Repository.dict.DictQuestionRepository;
+import com.teamproj.backend.Repository.dict.DictRepository;
+import com.teamproj.backend.Repository.dict.DictViewersRepository;
+import com.teamproj.backend.model.User;
+import com.teamproj.backend.model.board.Board;
+import com.teamproj.backend.model.board.BoardCategory;
+import com.teamproj.backend.model.board.BoardLike;
+import com.teamproj.backend.model.board.BoardViewers;
+import com.teamproj.backend.model.dict.Dict;
+import com.teamproj.backend.model.dict.DictLike;
+import com.teamproj.backend.model.dict.DictViewers;
+import com.teamproj.backend.model.dict.question.DictQuestion;
+import com.teamproj.backend.security.UserDetailsImpl;
+import com.teamproj.backend.security.jwt.JwtTokenUtils;
+import com.teamproj.backend.service.dict.DictSearchIndex;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/*
+    부하 테스트 데이터 생성
+    사용자, 사전, 게시글, 질문, 좋아요, 조회 기록을 만들고 사용자마다 JWT 를 발급함.
+    좋아요는 일부 인기 대상에 몰리도록(상위 10% 대상이 절반) 만들어 실제 서비스와 비슷하게 함.
+ */
+@RequiredArgsConstructor
+public class DataSeeder {
+    public static final String BOARD_CATEGORY = "IMAGEBOARD";
+    private static final int BATCH_SIZE = 1000;
+
+    private final ApplicationContext context;
+    private final LoadTestProperties properties;
+    private final Random random = new Random(8L);
+
+    public SeedData seed() {
+        List<User> userList = saveUsers();
+        List<Dict> dictList = saveDicts(userList);
+        List<Board> boardList = saveBoards(userList);
+        saveQuestions(userList);
+        saveLikes(userList, dictList, boardList);
+        saveViewers(dictList, boardList);
+
+        // 생성한 사전이 검색되도록 검색 색인을 다시 만듦
+        context.getBean(DictSearchIndex.class).rebuild();
+
+        SeedData seedData = new SeedData();
+        for (User user : userList) {
+            seedData.tokenList.add(JwtTokenUtils.generateJwtToken(UserDetailsImpl.fromUser(user)));
+        }
+        for (Dict dict : dictList) {
+            seedData.dictIdList.add(dict.getDictId());
+            seedData.dictNameList.add(dict.getDictName());
+        }
+        for (Board board : boardList) {
+            seedData.boardIdList.add(board.getBoardId());
+        }
+        return seedData;
+    }
+
+    // region 생성
+    private List<User> saveUsers() {
+        List<User> userList = new ArrayList<>();
+        for (int i = 1; i <= properties.getUserCount(); i++) {
+            userList.add(User.builder()
+                    .username("loadtest" + i)
+                    .nickname("부하" + i)
+                    .password("password")
+                    .profileImage("https://memegle.s3.ap-northeast-2.amazonaws.com/profile/" + i + ".png")
+                    .build());
+        }
+        return saveAll(UserRepository.class, userList);
+    }
+
+    private List<Dict> saveDicts(List<User> userList) {
+        List<Dict> dictList = new ArrayList<>();
+        for (int i = 1; i <= properties.getDictCount(); i++) {
+            User author = pick(userList);
+            dictList.add(Dict.builder()
+                    .firstAuthor(author)
+                    .recentModifier(author)
+                    .dictName("밈단어" + i)
+                    .summary("요약 " + i)
+                    .content("밈단어" + i + " 의 뜻과 유래. " + String.join(" ", Collections.nCopies(20, "설명")))
+                    .views(random.nextInt(1000))
+                    .build());
+        }
+        return saveAll(DictRepository.class, dictList);
+    }
+
+    private List<Board> saveBoards(List<User> userList) {
+        BoardCategory boardCategory = context.getBean(BoardCategoryRepository.class)
+                .save(BoardCategory.builder().categoryName(BOARD_CATEGORY).build());
+
+        List<Board> boardList = new ArrayList<>();
+        for (int i = 1; i <= properties.getBoardCount(); i++) {
+            boardList.add(Board.builder()
+                    .title("밈짤" + i)
+                    .content("밈짤 설명 " + i)
+                    .thumbNail("https://memegle.s3.ap-northeast-2.amazonaws.com/boardImages/" + i + ".png")
+                    .user(pick(userList))
+                    .boardCategory(boardCategory)
+                    .views(random.nextInt(1000))
+                    .enabled(true)
+                    .build());
+        }
+        return saveAll(BoardRepository.class, boardList);
+    }
+
+    private void saveQuestions(List<User> userList) {
+        List<DictQuestion> questionList = new ArrayList<>();
+        for (int i = 1; i <= properties.getQuestionCount(); i++) {
+            questionList.add(DictQuestion.builder()
+                    .user(pick(userList))
+                    .questionName("이 밈 뜻이 뭔가요 " + i)
+                    .content("질문 내용 " + i)
+                    .enabled(true)
+                    .build());
+        }
+        saveAll(DictQuestionRepository.class, questionList);
+    }
+
+    // 좋아요 2/3 은 사전, 1/3 은 게시글. 같은 사용자, 대상은 한 번만.
+    private void saveLikes(List<User> userList, List<Dict> dictList, List<Board> boardList) {
+        int dictLikeCount = properties.getLikeCount() * 2 / 3;
+        Set<String> likedSet = new HashSet<>();
+
+        List<DictLike> dictLikeList = new ArrayList<>();
+        for (int i = 0; i < dictLikeCount * 2 && dictLikeList.size() < dictLikeCount; i++) {
+            User user = pick(userList);
+            Dict dict = pickPopular(dictList);
+            if (likedSet.add("DICT:" + user.getId() + ":" + dict.getDictId())) {
+                dictLikeList.add(DictLike.builder().user(user).dict(dict).build());
+            }
+        }
+        saveAll(DictLikeRepository.class, dictLikeList);
+
+        int boardLikeCount = properties.getLikeCount() - dictLikeCount;
+        List<BoardLike> boardLikeList = new ArrayList<>();
+        for (int i = 0; i < boardLikeCount * 2 && boardLikeList.size() < boardLikeCount; i++) {
+            User user = pick(userList);
+            Board board = pickPopular(boardList);
+            if (likedSet.add("BOARD:" + user.getId() + ":" + board.getBoardId())) {
+                boardLikeList.add(BoardLike.builder().user(user).board(board).build());
+            }
+        }
+        saveAll(BoardLikeRepository.class, boardLikeList);
+
+        // 좋아요 개수를 생성한 좋아요 수와 맞춤
+        Map<Long, Integer> dictLikeCountMap = new HashMap<>();
+        for (DictLike dictLike : dictLikeList) {
+            dictLikeCountMap.merge(dictLike.getDict().getDictId(), 1, Integer::sum);
+        }
+        Map<Long, Integer> boardLikeCountMap = new HashMap<>();
+        for (BoardLike boardLike : boardLikeList) {
+            boardLikeCountMap.merge(boardLike.getBoard().getBoardId(), 1, Integer::sum);
+        }
+        inTransaction(() -> {
+            DictRepository dictRepository = context.getBean(DictRepository.class);
+            dictLikeCountMap.forEach((dictId, count) -> dictRepository.updateLikeCount(dictId, count));
+            BoardRepository boardRepository = context.getBean(BoardRepository.class);
+            boardLikeCountMap.forEach((boardId, count) -> boardRepository.updateLikeCount(boardId, count));
+        });
+    }
+
+    private void saveViewers(List<Dict> dictList, List<Board> boardList) {
+        List<DictViewers> dictViewersList = new ArrayList<>();
+        List<BoardViewers> boardViewersList = new ArrayList<>();
+        for (int i = 0; i < properties.getViewerCount(); i++) {
+            String viewerIp = "10.0." + random.nextInt(256) + "." + random.nextInt(256);
+            if (i % 3 == 2) {
+                boardViewersList.add(BoardViewers.builder().board(pickPopular(boardList)).viewerIp(viewerIp).build());
+            } else {
+                dictViewersList.add(DictViewers.builder().dict(pickPopular(dictList)).viewerIp(viewerIp).build());
+            }
+        }
+        saveAll(DictViewersRepository.class, dictViewersList);
+        saveAll(BoardViewersRepository.class, boardViewersList);
+    }
+    // endregion
+
+    // region 보조 기능
+    private <T> List<T> saveAll(Class<? extends JpaRepository<T, ?>> repositoryClass, List<T> entityList) {
+        JpaRepository<T, ?> repository = context.getBean(repositoryClass);
+        List<T> savedList = new ArrayList<>();
+        for (int from = 0; from < entityList.size(); from += BATCH_SIZE) {
+            List<T> batch = entityList.subList(from, Math.min(from + BATCH_SIZE, entityList.size()));
+            inTransaction(() -> savedList.addAll(repository.saveAll(batch)));
+        }
+        return savedList;
+    }
+
+    private void inTransaction(Runnable runnable) {
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> runnable.run());
+    }
+
+    private <T> T pick(List<T> list) {
+        return list.get(random.nextInt(list.size()));
+    }
+
+    // 절반은 상위 10% 안에서 고름
+    private <T> T pickPopular(List<T> list) {
+        int hotSize = Math.max(list.size() / 10, 1);
+        return random.nextBoolean() ? list.get(random.nextInt(hotSize)) : pick(list);
+    }
+    // endregion
+
+    @Getter
+    public static class SeedData {
+        private final List<String> tokenList = new ArrayList<>();
+        private final List<Long> dictIdList = new ArrayList<>();
+        private final List<String> dictNameList = new ArrayList<>();
+        private final List<Long> boardIdList = new ArrayList<>();
+    }
+}
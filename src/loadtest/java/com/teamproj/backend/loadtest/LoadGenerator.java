@@ -0,0 +1,215 @@
+package com.teamproj.backend.loadtest;
+
+import com.teamproj.backend.loadtest.DataSeeder.SeedData;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/*
+    목표 요청 수(rate)로 API 를 호출하는 부하 생성기
+    1. 요청 시작 시각을 1/rate 간격으로 미리 정하고(open model), 응답을 기다리지 않고 다음 요청을 보냄.
+    2. 응답 시간은 정해진 시작 시각부터 계산함. 서버가 밀려 요청이 늦게 나가도 그 대기 시간이 지연에 포함됨.
+    3. 읽기(메인, 목록, 검색, 상세)와 쓰기(좋아요, 조회수)를 가중치에 따라 섞어서 보냄.
+ */
+public class LoadGenerator {
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final String baseUrl;
+    private final SeedData seedData;
+    private final LoadTestProperties properties;
+
+    private final List<Endpoint> endpointList = new ArrayList<>();
+    private final int totalWeight;
+
+    public LoadGenerator(int port, SeedData seedData, LoadTestProperties properties) {
+        this.baseUrl = "http://localhost:" + port;
+        this.seedData = seedData;
+        this.properties = properties;
+
+        // region 요청 구성(이름, 가중치, 로그인 필요 여부, 경로)
+        endpointList.add(new Endpoint("GET /api/main", 15, false,
+                r -> "/api/main"));
+        endpointList.add(new Endpoint("GET /api/dict", 20, false,
+                r -> "/api/dict?page=" + r.nextInt(5) + "&size=20"));
+        // H2 는 질문 검색에 쓰는 MySQL 전문 검색을 지원하지 않으므로 제외
+        if (!properties.isH2()) {
+            endpointList.add(new Endpoint("GET /api/dict/search", 12, false,
+                    r -> "/api/dict/search?q=" + encode(searchQuery(r)) + "&page=0&size=10"));
+        }
+        endpointList.add(new Endpoint("GET /api/dict/{dictId}", 15, false,
+                r -> "/api/dict/" + pick(r, seedData.getDictIdList())));
+        endpointList.add(new Endpoint("GET /api/board/list/{categoryName}", 15, false,
+                r -> "/api/board/list/" + DataSeeder.BOARD_CATEGORY + "?page=" + r.nextInt(5) + "&size=20"));
+        endpointList.add(new Endpoint("GET /api/board/{boardId}", 5, false,
+                r -> "/api/board/" + pick(r, seedData.getBoardIdList())));
+        endpointList.add(new Endpoint("GET /api/dict/question", 4, false,
+                r -> "/api/dict/question?page=0&size=10"));
+        endpointList.add(new Endpoint("GET /api/dict/{dictId}/like", 9, true,
+                r -> "/api/dict/" + pick(r, seedData.getDictIdList()) + "/like"));
+        endpointList.add(new Endpoint("GET /api/board/{boardId}/like", 5, true,
+                r -> "/api/board/" + pick(r, seedData.getBoardIdList()) + "/like"));
+        // endregion
+
+        int weight = 0;
+        for (Endpoint endpoint : endpointList) {
+            weight += endpoint.weight;
+        }
+        this.totalWeight = weight;
+    }
+
+    /**
+     * 예열 후 측정.
+     *
+     * @return 요청별 측정 결과
+     */
+    public LoadTestReport run() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreads(), r -> {
+            Thread thread = new Thread(r, "load-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            dispatch(executor, properties.getWarmupSeconds(), false);
+            long startNanos = System.nanoTime();
+            dispatch(executor, properties.getDurationSeconds(), true);
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+            double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+            LoadTestReport report = new LoadTestReport(properties);
+            for (Endpoint endpoint : endpointList) {
+                report.add(endpoint.name, endpoint.recorder.getIntervalHistogram(),
+                        endpoint.errorCount.get(), elapsedSeconds);
+            }
+            return report;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // region 보조 기능
+    private void dispatch(ExecutorService executor, int seconds, boolean measured) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / properties.getRate();
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + TimeUnit.SECONDS.toNanos(seconds);
+
+        for (long i = 0; ; i++) {
+            long intendedNanos = startNanos + i * intervalNanos;
+            if (intendedNanos >= endNanos) {
+                return;
+            }
+            long waitNanos = intendedNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            Endpoint endpoint = pickEndpoint();
+            executor.execute(() -> call(endpoint, intendedNanos, measured));
+        }
+    }
+
+    private void call(Endpoint endpoint, long intendedNanos, boolean measured) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean success;
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + endpoint.path.apply(random)).openConnection();
+            connection.setConnectTimeout(5000);
+            connection.setReadTimeout(30000);
+            // 조회수가 쌓이도록 요청마다 다른 IP 로 보냄
+            connection.setRequestProperty("X-Forwarded-For", "10.1." + random.nextInt(256) + "." + random.nextInt(256));
+            if (endpoint.loginRequired || random.nextDouble() < properties.getLoginRatio()) {
+                connection.setRequestProperty("Authorization", "BEARER " + pick(random, seedData.getTokenList()));
+            }
+
+            int status = connection.getResponseCode();
+            drain(status < 400 ? connection.getInputStream() : connection.getErrorStream());
+            success = status < 400;
+        } catch (IOException e) {
+            success = false;
+        }
+
+        if (!measured) {
+            return;
+        }
+        endpoint.recorder.recordValue(Math.min(System.nanoTime() - intendedNanos, HIGHEST_TRACKABLE_NANOS));
+        if (!success) {
+            endpoint.errorCount.incrementAndGet();
+        }
+    }
+
+    private Endpoint pickEndpoint() {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Endpoint endpoint : endpointList) {
+            value -= endpoint.weight;
+            if (value < 0) {
+                return endpoint;
+            }
+        }
+        return endpointList.get(endpointList.size() - 1);
+    }
+
+    // 사전 이름 일부로 검색. 일부는 결과가 없는 검색어.
+    private String searchQuery(ThreadLocalRandom random) {
+        if (random.nextInt(10) == 0) {
+            return "없는검색어" + random.nextInt(100);
+        }
+        String dictName = pick(random, seedData.getDictNameList());
+        return dictName.substring(0, Math.max(dictName.length() - 1, 1));
+    }
+
+    private static <T> T pick(ThreadLocalRandom random, List<T> list) {
+        return list.get(random.nextInt(list.size()));
+    }
+
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void drain(InputStream inputStream) throws IOException {
+        if (inputStream == null) {
+            return;
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream in = inputStream) {
+            while (in.read(buffer) != -1) {
+                // 응답 본문은 버림
+            }
+        }
+    }
+    // endregion
+
+    private static class Endpoint {
+        private final String name;
+        private final int weight;
+        private final boolean loginRequired;
+        private final Function<ThreadLocalRandom, String> path;
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        private final AtomicLong errorCount = new AtomicLong();
+
+        private Endpoint(String name, int weight, boolean loginRequired, Function<ThreadLocalRandom, String> path) {
+            this.name = name;
+            this.weight = weight;
+            this.loginRequired = loginRequired;
+            this.path = path;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.teamproj.backend.loadtest;
+
+import com.teamproj.backend.BackendApplication;
+import com.teamproj.backend.loadtest.DataSeeder.SeedData;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+    부하 테스트 실행 : ./gradlew loadTest
+    1. 내장 Redis 와 H2(메모리)로 서버를 띄움. DB 는 loadtest.datasource.url 로 바꿀 수 있음.
+       외부 서비스(S3, 소셜 로그인, YouTube) 키는 더미 값을 사용하며 호출하지 않음.
+    2. 데이터 생성(DataSeeder)
+    3. 예열 후 목표 요청 수로 측정(LoadGenerator)
+    4. 결과를 출력하고 build/results/loadtest 에 JSON 으로 저장
+ */
+public class LoadTestMain {
+    public static void main(String[] args) throws Exception {
+        LoadTestProperties properties = new LoadTestProperties();
+
+        try (RedisStandIn redis = new RedisStandIn(properties.getRedisPort());
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                     .properties(applicationProperties(properties, redis.getPort()))
+                     .run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            long seedStart = System.currentTimeMillis();
+            SeedData seedData = new DataSeeder(context, properties).seed();
+            System.out.printf("데이터 생성 완료 (%d ms)%n", System.currentTimeMillis() - seedStart);
+
+            LoadTestReport report = new LoadGenerator(port, seedData, properties).run();
+            report.print();
+            File file = report.write(properties.getResultDir());
+            System.out.println("결과 저장 : " + file.getAbsolutePath());
+        }
+        System.exit(0);
+    }
+
+    private static Map<String, Object> applicationProperties(LoadTestProperties properties, int redisPort) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("server.port", 0);
+        if (properties.isH2()) {
+            map.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1");
+            map.put("spring.jpa.hibernate.ddl-auto", "create");
+        } else {
+            // 전문 검색 색인까지 만들어 둔 빈 DB 를 사용해야 함
+            map.put("spring.datasource.url", properties.getDatasourceUrl());
+            map.put("spring.jpa.hibernate.ddl-auto", "none");
+        }
+        map.put("spring.datasource.username", properties.getDatasourceUsername());
+        map.put("spring.datasource.password", properties.getDatasourcePassword());
+        map.put("spring.jpa.show-sql", false);
+        map.put("spring.redis.host", "localhost");
+        map.put("spring.redis.port", redisPort);
+        map.put("logging.level.root", "WARN");
+
+        // region 외부 서비스(호출하지 않음)
+        map.put("cloud.aws.credentials.access-key", "loadtest");
+        map.put("cloud.aws.credentials.secret-key", "loadtest");
+        map.put("cloud.aws.region.static", "ap-northeast-2");
+        map.put("cloud.aws.region.auto", false);
+        map.put("cloud.aws.stack.auto", false);
+        map.put("cloud.aws.s3.bucket", "loadtest");
+        map.put("kakao.client-id", "loadtest");
+        map.put("naver.client-id", "loadtest");
+        map.put("naver.secret-key", "loadtest");
+        map.put("spring.security.oauth2.client.registration.google.client-id", "loadtest");
+        map.put("spring.security.oauth2.client.registration.google.client-secret", "loadtest");
+        map.put("youtube.apikey", "loadtest");
+        map.put("sentry.dsn", "");
+        // endregion
+        return map;
+    }
+}
@@ -0,0 +1,48 @@
+package com.teamproj.backend.loadtest;
+
+import lombok.Getter;
+
+/*
+    부하 테스트 설정. -Dloadtest.* 시스템 속성으로 바꿀 수 있음.
+    ./gradlew loadTest -Dloadtest.rate=500 -Dloadtest.duration-seconds=120
+ */
+@Getter
+public class LoadTestProperties {
+    // 초당 요청 수(목표). 응답이 늦어져도 요청 시작 시각은 밀리지 않음.
+    private final int rate = intProperty("loadtest.rate", 200);
+    private final int warmupSeconds = intProperty("loadtest.warmup-seconds", 10);
+    private final int durationSeconds = intProperty("loadtest.duration-seconds", 60);
+    // 동시에 보낼 수 있는 최대 요청 수
+    private final int threads = intProperty("loadtest.threads", 64);
+    // 로그인한 사용자의 요청 비율(0 ~ 1)
+    private final double loginRatio = doubleProperty("loadtest.login-ratio", 0.5);
+    // 0 이면 내장 Redis 를 띄우고, 지정하면 localhost 의 해당 포트 Redis 를 사용함.
+    private final int redisPort = intProperty("loadtest.redis.port", 0);
+    private final String resultDir = System.getProperty("loadtest.result-dir", "build/results/loadtest");
+    // 지정하지 않으면 H2(메모리). 질문 검색은 MySQL 전문 검색(match against)을 사용하므로
+    // /api/dict/search 까지 측정하려면 전문 검색 색인이 있는 MySQL 을 지정해야 함.
+    private final String datasourceUrl = System.getProperty("loadtest.datasource.url");
+    private final String datasourceUsername = System.getProperty("loadtest.datasource.username", "sa");
+    private final String datasourcePassword = System.getProperty("loadtest.datasource.password", "");
+
+    // region 데이터 규모
+    private final int userCount = intProperty("loadtest.users", 500);
+    private final int dictCount = intProperty("loadtest.dicts", 2000);
+    private final int boardCount = intProperty("loadtest.boards", 1000);
+    private final int questionCount = intProperty("loadtest.questions", 300);
+    private final int likeCount = intProperty("loadtest.likes", 20000);
+    private final int viewerCount = intProperty("loadtest.viewers", 20000);
+    // endregion
+
+    public boolean isH2() {
+        return datasourceUrl == null;
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        return Integer.parseInt(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        return Double.parseDouble(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+}
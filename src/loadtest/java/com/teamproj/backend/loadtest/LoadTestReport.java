@@ -0,0 +1,120 @@
+package com.teamproj.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+    부하 테스트 결과
+    요청별 처리량(req/s), 오류 수, 응답 시간 p50 / p99 / p999 / max(ms).
+    실행마다 loadtest-yyyyMMdd-HHmmss.json 으로 저장하므로 성능 변경 전후를 비교할 수 있음.
+ */
+@Getter
+public class LoadTestReport {
+    private final String createdAt = LocalDateTime.now().toString();
+    private final int rate;
+    private final int durationSeconds;
+    private final int threads;
+    private final double loginRatio;
+    private final String database;
+    private final int userCount;
+    private final int dictCount;
+    private final int boardCount;
+    private final int likeCount;
+    private final List<EndpointResult> endpointList = new ArrayList<>();
+    private EndpointResult total;
+
+    // 합계 계산용. JSON 으로 내보내지 않음.
+    @Getter(AccessLevel.NONE)
+    private final Histogram totalHistogram = new Histogram(3);
+    @Getter(AccessLevel.NONE)
+    private long totalErrorCount = 0;
+
+    public LoadTestReport(LoadTestProperties properties) {
+        this.rate = properties.getRate();
+        this.durationSeconds = properties.getDurationSeconds();
+        this.threads = properties.getThreads();
+        this.loginRatio = properties.getLoginRatio();
+        this.database = properties.isH2() ? "h2" : properties.getDatasourceUrl();
+        this.userCount = properties.getUserCount();
+        this.dictCount = properties.getDictCount();
+        this.boardCount = properties.getBoardCount();
+        this.likeCount = properties.getLikeCount();
+    }
+
+    public void add(String endpoint, Histogram histogram, long errorCount, double elapsedSeconds) {
+        endpointList.add(new EndpointResult(endpoint, histogram, errorCount, elapsedSeconds));
+        totalHistogram.add(histogram);
+        totalErrorCount += errorCount;
+        total = new EndpointResult("ALL", totalHistogram, totalErrorCount, elapsedSeconds);
+    }
+
+    public void print() {
+        System.out.printf("%n%-36s %9s %9s %7s %9s %9s %9s %9s%n",
+                "endpoint", "count", "req/s", "errors", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (EndpointResult result : endpointList) {
+            print(result);
+        }
+        if (total != null) {
+            print(total);
+        }
+    }
+
+    // return : 저장한 파일
+    public File write(String resultDir) throws IOException {
+        File dir = new File(resultDir);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException(resultDir);
+        }
+        File file = new File(dir, "loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file, this);
+        return file;
+    }
+
+    private void print(EndpointResult result) {
+        System.out.printf("%-36s %9d %9.1f %7d %9.2f %9.2f %9.2f %9.2f%n",
+                result.endpoint, result.count, result.throughput, result.errorCount,
+                result.p50, result.p99, result.p999, result.max);
+    }
+
+    @Getter
+    public static class EndpointResult {
+        private final String endpoint;
+        private final long count;
+        private final long errorCount;
+        // req/s
+        private final double throughput;
+        // ms
+        private final double p50;
+        private final double p99;
+        private final double p999;
+        private final double max;
+
+        private EndpointResult(String endpoint, Histogram histogram, long errorCount, double elapsedSeconds) {
+            this.endpoint = endpoint;
+            this.count = histogram.getTotalCount();
+            this.errorCount = errorCount;
+            this.throughput = elapsedSeconds > 0 ? count / elapsedSeconds : 0;
+            this.p50 = toMillis(histogram.getValueAtPercentile(50));
+            this.p99 = toMillis(histogram.getValueAtPercentile(99));
+            this.p999 = toMillis(histogram.getValueAtPercentile(99.9));
+            this.max = toMillis(histogram.getMaxValue());
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
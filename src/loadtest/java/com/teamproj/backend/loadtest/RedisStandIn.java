@@ -0,0 +1,52 @@
+package com.teamproj.backend.loadtest;
+
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+/*
+    부하 테스트용 Redis
+    loadtest.redis.port 를 지정하지 않으면 빈 포트에 내장 Redis 를 띄움.
+    좋아요, 조회수 처리는 Lua 스크립트를 사용하므로 실제 Redis 프로세스가 필요함.
+ */
+public class RedisStandIn implements AutoCloseable {
+    private final int port;
+    private final RedisServer redisServer;
+
+    public RedisStandIn(int port) {
+        if (port > 0) {
+            this.port = port;
+            this.redisServer = null;
+            return;
+        }
+
+        this.port = findFreePort();
+        this.redisServer = RedisServer.builder()
+                .port(this.port)
+                .setting("maxmemory 256M")
+                .setting("save \"\"")
+                .build();
+        this.redisServer.start();
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    @Override
+    public void close() {
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    private static int findFreePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -22,8 +22,21 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 
     @Modifying
     @Transactional
-    @Query("update Board b set b.views = b.views + 1 where b.boardId = :id")
-    void updateView(Long id);
+    @Query("update Board b set b.views = b.views + :delta where b.boardId in :idList")
+    void updateViews(@Param("idList") List<Long> idList, @Param("delta") int delta);
+
+    @Modifying
+    @Transactional
+    @Query("update Board b set b.likeCount = b.likeCount + :delta where b.boardId = :boardId")
+    void updateLikeCount(@Param("boardId") Long boardId, @Param("delta") int delta);
+
+    // ID 범위 안에서 좋아요 개수가 실제와 다른 게시글을 보정(CountReconcileService)
+    @Modifying
+    @Transactional
+    @Query("update Board b set b.likeCount = (select count(l) from BoardLike l where l.board = b)" +
+           " where b.boardId between :fromId and :toId" +
+           "   and coalesce(b.likeCount, -1) <> (select count(l) from BoardLike l where l.board = b)")
+    int reconcileLikeCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
 
     @Query(value = "SELECT *" +
                    "  FROM board b" +
@@ -2,7 +2,23 @@ package com.teamproj.backend.Repository.dict;
 
 import com.teamproj.backend.model.dict.question.DictQuestionComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface DictQuestionCommentRepository extends JpaRepository<DictQuestionComment, Long> {
+    @Modifying
+    @Transactional
+    @Query("update DictQuestionComment c set c.likeCount = c.likeCount + :delta where c.questionCommentId = :commentId")
+    void updateLikeCount(@Param("commentId") Long commentId, @Param("delta") int delta);
 
+    // ID 범위 안에서 좋아요 개수가 실제와 다른 댓글을 보정(CountReconcileService)
+    @Modifying
+    @Transactional
+    @Query("update DictQuestionComment c set c.likeCount =" +
+           "       (select count(l) from QuestionCommentLike l where l.comment = c)" +
+           " where c.questionCommentId between :fromId and :toId" +
+           "   and coalesce(c.likeCount, -1) <> (select count(l) from QuestionCommentLike l where l.comment = c)")
+    int reconcileLikeCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
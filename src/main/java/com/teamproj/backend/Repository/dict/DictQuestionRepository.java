@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -16,8 +17,36 @@ public interface DictQuestionRepository extends JpaRepository<DictQuestion, Long
 
     @Modifying
     @Transactional
-    @Query("update DictQuestion d set d.views = d.views + 1 where d.questionId = :id")
-    void updateView(Long id);
+    @Query("update DictQuestion d set d.views = d.views + :delta where d.questionId in :idList")
+    void updateViews(@Param("idList") List<Long> idList, @Param("delta") int delta);
+
+    @Modifying
+    @Transactional
+    @Query("update DictQuestion d set d.commentCount = d.commentCount + :delta where d.questionId = :questionId")
+    void updateCommentCount(@Param("questionId") Long questionId, @Param("delta") int delta);
+
+    @Modifying
+    @Transactional
+    @Query("update DictQuestion d set d.curiousTooCount = d.curiousTooCount + :delta where d.questionId = :questionId")
+    void updateCuriousTooCount(@Param("questionId") Long questionId, @Param("delta") int delta);
+
+    // ID 범위 안에서 댓글 개수가 실제와 다른 질문을 보정(CountReconcileService). 삭제(enabled = false)된 댓글은 제외.
+    @Modifying
+    @Transactional
+    @Query("update DictQuestion d set d.commentCount =" +
+           "       (select count(c) from DictQuestionComment c where c.dictQuestion = d and c.enabled = true)" +
+           " where d.questionId between :fromId and :toId" +
+           "   and coalesce(d.commentCount, -1) <>" +
+           "       (select count(c) from DictQuestionComment c where c.dictQuestion = d and c.enabled = true)")
+    int reconcileCommentCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // ID 범위 안에서 나도 궁금해요 개수가 실제와 다른 질문을 보정(CountReconcileService)
+    @Modifying
+    @Transactional
+    @Query("update DictQuestion d set d.curiousTooCount = (select count(c) from DictCuriousToo c where c.dictQuestion = d)" +
+           " where d.questionId between :fromId and :toId" +
+           "   and coalesce(d.curiousTooCount, -1) <> (select count(c) from DictCuriousToo c where c.dictQuestion = d)")
+    int reconcileCuriousTooCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
 
     @Query(value =
             "SELECT *" +
@@ -23,8 +23,29 @@ public interface DictRepository extends JpaRepository<Dict, Long> {
 
     @Modifying
     @Transactional
-    @Query("update Dict d set d.views = d.views + 1 where d.dictId = :id")
-    void updateView(Long id);
+    @Query("update Dict d set d.views = d.views + :delta where d.dictId in :idList")
+    void updateViews(@Param("idList") List<Long> idList, @Param("delta") int delta);
+
+    @Modifying
+    @Transactional
+    @Query("update Dict d set d.likeCount = d.likeCount + :delta where d.dictId = :dictId")
+    void updateLikeCount(@Param("dictId") Long dictId, @Param("delta") int delta);
+
+    // ID 범위 안에서 좋아요 개수가 실제와 다른 사전을 보정(CountReconcileService)
+    @Modifying
+    @Transactional
+    @Query("update Dict d set d.likeCount = (select count(l) from DictLike l where l.dict = d)" +
+           " where d.dictId between :fromId and :toId" +
+           "   and coalesce(d.likeCount, -1) <> (select count(l) from DictLike l where l.dict = d)")
+    int reconcileLikeCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Transactional
+    @Query("update Dict d set d.youtubeEnrichedAt = :enrichedAt where d.dictId = :dictId")
+    void setYoutubeEnrichedAt(@Param("dictId") Long dictId, @Param("enrichedAt") LocalDateTime enrichedAt);
+
+    // 관련 영상을 아직 찾지 못한 사전(YoutubeEnrichmentService.recover)
+    List<Dict> findTop50ByYoutubeEnrichedAtIsNullAndCreatedAtBetweenOrderByCreatedAtAsc(LocalDateTime from, LocalDateTime to);
 
     Optional<List<Dict>> findAllByDictIdIn(List<Long> idList);
 
@@ -7,4 +7,6 @@ import java.util.List;
 
 public interface DictYoutubeUrlRepository extends JpaRepository<DictYoutubeUrl, Long> {
     List<DictYoutubeUrl> findAllByDict_DictId(Long dictId);
+
+    boolean existsByDict_DictId(Long dictId);
 }
@@ -2,7 +2,16 @@ package com.teamproj.backend.Repository.stat;
 
 import com.teamproj.backend.model.statistics.StatNumericData;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface StatNumericDataRepository extends JpaRepository<StatNumericData, Long> {
     StatNumericData findByName(String name);
+
+    @Modifying
+    @Transactional
+    @Query("update StatNumericData s set s.data = s.data + :delta where s.name = :name")
+    int addData(@Param("name") String name, @Param("delta") long delta);
 }
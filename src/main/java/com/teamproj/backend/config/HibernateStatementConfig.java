@@ -0,0 +1,20 @@
+package com.teamproj.backend.config;
+
+import com.teamproj.backend.util.SqlSessionEventListener;
+import com.teamproj.backend.util.SqlStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 요청, 서비스 메소드별 SQL 개수와 JDBC 실행 시간 집계(SqlStatementMonitor)를 위한 Hibernate 설정
+@Configuration
+public class HibernateStatementConfig {
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlSessionEventListener.class.getName());
+        };
+    }
+}
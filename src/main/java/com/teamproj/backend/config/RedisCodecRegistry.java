@@ -0,0 +1,103 @@
+package com.teamproj.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+    Redis 에 캐싱하는 DTO 타입별 직렬화기 모음
+    타입마다 ObjectReader / ObjectWriter 를 미리 만들어 두고 공유함(둘 다 불변이라 스레드 안전).
+    조회 시 템플릿의 직렬화기를 바꾸거나 LinkedHashMap 을 convertValue 로 다시 변환할 필요가 없음.
+
+    저장 형식은 JSON 또는 Smile(바이너리 JSON). 읽을 때는 값 앞의 Smile 헤더로 형식을 구분하므로 두 형식이 섞여 있어도 됨.
+    JSON -> Smile 전환 : 모든 서버를 이 버전으로 배포한 뒤 memegle.redis.codec=smile 로 바꿈.
+    (이전 버전 서버는 Smile 을 읽지 못하므로 되돌릴 때는 json 으로 먼저 바꾼 뒤 캐시가 다시 쓰이길 기다림)
+ */
+public class RedisCodecRegistry {
+    public enum Format {
+        JSON, SMILE
+    }
+
+    // Smile 데이터 시작 부분 ":)\n"
+    private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
+    private final Map<Class<?>, JsonCodec<?>> codecMap;
+
+    /**
+     * @param jsonMapper  JSON 읽기 / 쓰기
+     * @param smileMapper Smile 읽기 / 쓰기. jsonMapper 와 같은 설정으로 만든 것이어야 함.
+     * @param writeFormat 저장할 때 사용할 형식
+     */
+    public RedisCodecRegistry(ObjectMapper jsonMapper, ObjectMapper smileMapper, Format writeFormat, Class<?>... typeList) {
+        Map<Class<?>, JsonCodec<?>> map = new HashMap<>();
+        for (Class<?> type : typeList) {
+            map.put(type, new JsonCodec<>(jsonMapper, smileMapper, writeFormat, type));
+        }
+        this.codecMap = Collections.unmodifiableMap(map);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> RedisSerializer<T> get(Class<T> type) {
+        JsonCodec<?> codec = codecMap.get(type);
+        if (codec == null) {
+            throw new IllegalArgumentException(type.getName() + " 는 등록되지 않은 Redis 캐싱 타입입니다.");
+        }
+        return (RedisSerializer<T>) codec;
+    }
+
+    // 목록은 Redis 리스트 원소 하나하나가 DTO 하나이므로 원소 타입으로만 읽고 씀
+    static class JsonCodec<T> implements RedisSerializer<T> {
+        private final ObjectReader jsonReader;
+        private final ObjectReader smileReader;
+        private final ObjectWriter writer;
+
+        JsonCodec(ObjectMapper jsonMapper, ObjectMapper smileMapper, Format writeFormat, Class<T> type) {
+            this.jsonReader = jsonMapper.readerFor(type);
+            this.smileReader = smileMapper.readerFor(type);
+            this.writer = writeFormat == Format.SMILE ? smileMapper.writerFor(type) : jsonMapper.writerFor(type);
+        }
+
+        @Override
+        public byte[] serialize(T value) throws SerializationException {
+            if (value == null) {
+                return new byte[0];
+            }
+            try {
+                return writer.writeValueAsBytes(value);
+            } catch (IOException e) {
+                throw new SerializationException("Redis 값 직렬화에 실패했습니다.", e);
+            }
+        }
+
+        @Override
+        public T deserialize(byte[] bytes) throws SerializationException {
+            if (bytes == null || bytes.length == 0) {
+                return null;
+            }
+            try {
+                return isSmile(bytes) ? smileReader.readValue(bytes) : jsonReader.readValue(bytes);
+            } catch (IOException e) {
+                throw new SerializationException("Redis 값 역직렬화에 실패했습니다.", e);
+            }
+        }
+
+        private static boolean isSmile(byte[] bytes) {
+            if (bytes.length < SMILE_HEADER.length) {
+                return false;
+            }
+            for (int i = 0; i < SMILE_HEADER.length; i++) {
+                if (bytes[i] != SMILE_HEADER[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
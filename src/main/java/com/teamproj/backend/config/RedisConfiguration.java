@@ -1,14 +1,31 @@
 package com.teamproj.backend.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.teamproj.backend.dto.alarm.AlarmResponseDto;
+import com.teamproj.backend.dto.board.BoardMemeBest.BoardMemeBestResponseDto;
+import com.teamproj.backend.dto.main.MainMemeImageResponseDto;
+import com.teamproj.backend.dto.main.MainTodayBoardResponseDto;
+import com.teamproj.backend.dto.main.MainTodayMemeResponseDto;
+import com.teamproj.backend.dto.quiz.QuizResponseDto;
+import com.teamproj.backend.dto.statistics.StatDictResponseDto;
+import com.teamproj.backend.dto.youtube.DictRelatedYoutubeDto;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
 
 @Configuration
 @EnableRedisRepositories
@@ -19,19 +36,74 @@ public class RedisConfiguration {
     @Value("${spring.redis.port}")
     private int redisPort;
 
+    // 캐싱 DTO 저장 형식 : json, smile (RedisCodecRegistry 참고)
+    @Value("${memegle.redis.codec:json}")
+    private String redisCodec;
+
+    // Redis 가 내려갔을 때 요청이 기다리는 최대 시간. 기본값(연결 10초, 명령 60초)은 너무 길어서 줄임.
+    @Value("${memegle.redis.connect-timeout-ms:1000}")
+    private long connectTimeoutMs;
+    @Value("${memegle.redis.command-timeout-ms:1000}")
+    private long commandTimeoutMs;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(redisHost, redisPort);
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(commandTimeoutMs))
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder()
+                                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                                .build())
+                        .build())
+                .build();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(redisHost, redisPort), clientConfiguration);
     }
 
     @Bean
-    public RedisTemplate<?, ?> redisTemplate() {
+    public RedisTemplate<?, ?> redisTemplate(ObjectMapper objectMapper) {
+        Jackson2JsonRedisSerializer<Object> valueSerializer = new Jackson2JsonRedisSerializer<>(Object.class);
+        valueSerializer.setObjectMapper(objectMapper);
+
         RedisTemplate<byte[], byte[]> redisTemplate = new RedisTemplate<>();
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(Object.class));
+        redisTemplate.setValueSerializer(valueSerializer);
         redisTemplate.setHashKeySerializer(new StringRedisSerializer());
-        redisTemplate.setHashValueSerializer(new Jackson2JsonRedisSerializer<>(Object.class));
+        redisTemplate.setHashValueSerializer(valueSerializer);
+        redisTemplate.setConnectionFactory(redisConnectionFactory());
+        return redisTemplate;
+    }
+
+    // region DTO 타입별 직렬화
+    // 캐싱 DTO 는 CacheAsideTemplate 가 registry 의 직렬화기로 직접 읽고 씀.
+    // 알림처럼 RedisService 가 직접 다루는 값만 타입별 템플릿을 둠(제네릭 타입이 일치하는 빈이 주입됨).
+    @Bean
+    public RedisCodecRegistry redisCodecRegistry(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        // 애플리케이션 ObjectMapper 와 같은 설정(모듈, 날짜 형식 등)으로 Smile 용 ObjectMapper 를 만듦
+        ObjectMapper smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+        RedisCodecRegistry.Format writeFormat = RedisCodecRegistry.Format.valueOf(redisCodec.trim().toUpperCase());
+
+        return new RedisCodecRegistry(objectMapper, smileMapper, writeFormat,
+                AlarmResponseDto.class,
+                BoardMemeBestResponseDto.class,
+                DictRelatedYoutubeDto.class,
+                MainMemeImageResponseDto.class,
+                MainTodayBoardResponseDto.class,
+                MainTodayMemeResponseDto.class,
+                QuizResponseDto.class,
+                StatDictResponseDto.class);
+    }
+
+    @Bean
+    public RedisTemplate<String, AlarmResponseDto> redisAlarmResponseDtoTemplate(RedisCodecRegistry registry) {
+        return typedTemplate(registry, AlarmResponseDto.class);
+    }
+
+    private <T> RedisTemplate<String, T> typedTemplate(RedisCodecRegistry registry, Class<T> type) {
+        RedisTemplate<String, T> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(registry.get(type));
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         return redisTemplate;
     }
+    // endregion
 }
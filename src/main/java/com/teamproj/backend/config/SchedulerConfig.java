@@ -0,0 +1,26 @@
+package com.teamproj.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/*
+    @Scheduled 실행 스레드
+    기본 스케줄러는 스레드가 하나뿐이라, 자정 테이블 정리(범위 사이 대기 포함)처럼 오래 걸리는 작업이 도는 동안
+    좋아요 반영, 조회수 반영 같은 짧은 주기의 스케줄이 모두 밀림. 작업별로 따로 실행되도록 스레드를 여러 개 둠.
+    같은 스케줄은 이전 실행이 끝나야 다음 실행이 예약되므로 겹쳐서 실행되지 않음.
+ */
+@Configuration
+public class SchedulerConfig {
+    @Value("${memegle.scheduler.pool-size:4}")
+    private int poolSize;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("memegle-scheduler-");
+        return taskScheduler;
+    }
+}
@@ -11,6 +11,7 @@ import com.teamproj.backend.dto.board.BoardUpdate.BoardUpdateRequestDto;
 import com.teamproj.backend.dto.board.BoardUpdate.BoardUpdateResponseDto;
 import com.teamproj.backend.dto.board.BoardUpload.BoardUploadRequestDto;
 import com.teamproj.backend.dto.board.BoardUpload.BoardUploadResponseDto;
+import com.teamproj.backend.dto.cursor.CursorPageResponseDto;
 import com.teamproj.backend.security.UserDetailsImpl;
 import com.teamproj.backend.service.BoardService;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +40,18 @@ public class BoardController {
                 .build();
     }
 
+    @GetMapping("/api/board/list/{categoryName}/scroll")
+    public ResponseDto<CursorPageResponseDto<BoardResponseDto>> getBoardByCursor(@PathVariable String categoryName,
+                                                                                 @RequestParam(value = "cursor", required = false) String cursor,
+                                                                                 @RequestParam("size") int size,
+                                                                                 @RequestHeader(value="Authorization", required = false) String token ){
+        return ResponseDto.<CursorPageResponseDto<BoardResponseDto>>builder()
+                .status(HttpStatus.OK.toString())
+                .message("게시글 목록 불러오기")
+                .data(boardService.getBoardByCursor(categoryName, cursor, size, token))
+                .build();
+    }
+
     @PostMapping("/api/board/{categoryName}")
     public ResponseDto<BoardUploadResponseDto> uploadBoard(@AuthenticationPrincipal UserDetailsImpl userDetails,
                                                            @PathVariable String categoryName,
@@ -1,6 +1,7 @@
 package com.teamproj.backend.controller;
 
 import com.teamproj.backend.dto.ResponseDto;
+import com.teamproj.backend.dto.cursor.CursorPageResponseDto;
 import com.teamproj.backend.dto.dict.*;
 import com.teamproj.backend.dto.dict.mymeme.DictMyMemeResponseDto;
 import com.teamproj.backend.dto.dict.search.DictSearchResponseDto;
@@ -41,6 +42,25 @@ public class DictController {
                 .build();
     }
 
+    /**
+     * 사전 목록 조회(커서 기반)
+     *
+     * @param token  Authorization header token
+     * @param cursor 이전 응답의 nextCursor. 첫 페이지는 생략.
+     * @param size   size
+     * @return DictResponseDto List 와 다음 커서
+     */
+    @GetMapping("/api/dict/scroll")
+    public ResponseDto<CursorPageResponseDto<DictResponseDto>> getDictListByCursor(@RequestHeader(value = "Authorization", required = false) String token,
+                                                                                   @RequestParam(required = false) String cursor,
+                                                                                   @RequestParam int size) {
+        return ResponseDto.<CursorPageResponseDto<DictResponseDto>>builder()
+                .status(HttpStatus.OK.toString())
+                .message("사전 목록 요청")
+                .data(dictService.getDictListByCursor(cursor, size, token))
+                .build();
+    }
+
     @GetMapping("/api/myMeme/dict")
     public ResponseDto<List<DictMyMemeResponseDto>> getMyMeme(@AuthenticationPrincipal UserDetailsImpl userDetails) {
         return ResponseDto.<List<DictMyMemeResponseDto>>builder()
@@ -1,6 +1,7 @@
 package com.teamproj.backend.controller;
 
 import com.teamproj.backend.dto.ResponseDto;
+import com.teamproj.backend.dto.cursor.CursorPageResponseDto;
 import com.teamproj.backend.dto.dict.question.DictQuestionResponseDto;
 import com.teamproj.backend.dto.dict.question.DictQuestionUploadRequestDto;
 import com.teamproj.backend.dto.dict.question.DictQuestionUploadResponseDto;
@@ -32,6 +33,17 @@ public class DictQuestionController {
                 .build();
     }
 
+    @GetMapping("/api/dict/question/scroll")
+    public ResponseDto<CursorPageResponseDto<DictQuestionResponseDto>> getQuestionByCursor(@RequestParam(value = "cursor", required = false) String cursor,
+                                                                                          @RequestParam("size") int size,
+                                                                                          @RequestHeader(value = "Authorization", required = false) String token) {
+        return ResponseDto.<CursorPageResponseDto<DictQuestionResponseDto>>builder()
+                .status(HttpStatus.OK.toString())
+                .message("success")
+                .data(dictQuestionService.getQuestionByCursor(cursor, size, token))
+                .build();
+    }
+
     @GetMapping("/api/dict/question/{questionId}")
     public ResponseDto<DictQuestionDetailResponseDto> getQuestionDetail(@PathVariable Long questionId,
                                                                         @RequestHeader(value = "Authorization", required = false) String token) {
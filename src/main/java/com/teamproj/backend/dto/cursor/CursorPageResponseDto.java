@@ -0,0 +1,18 @@
+package com.teamproj.backend.dto.cursor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+    private List<T> content;
+    // 다음 페이지 요청시 cursor 로 그대로 전달. 마지막 페이지일 경우 null
+    private String nextCursor;
+}
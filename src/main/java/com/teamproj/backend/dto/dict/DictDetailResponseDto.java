@@ -26,5 +26,6 @@ public class DictDetailResponseDto {
     private int likeCount;
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
+    private int views;
     private List<DictRelatedYoutubeDto> relatedYoutube;
 }
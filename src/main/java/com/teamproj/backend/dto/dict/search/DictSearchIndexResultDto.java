@@ -0,0 +1,17 @@
+package com.teamproj.backend.dto.dict.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DictSearchIndexResultDto {
+    private List<Long> dictIdList;
+    private long totalCount;
+}
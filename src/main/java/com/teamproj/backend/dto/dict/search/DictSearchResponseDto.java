@@ -18,4 +18,6 @@ import java.util.List;
 public class DictSearchResponseDto {
     private List<DictSearchResultResponseDto> dictResult;
     private List<DictQuestionSearchResponseDto> questionResult;
+    // 시간 안에 끝나지 않은 검색이 있어 일부 결과만 반환했으면 true
+    private boolean partial;
 }
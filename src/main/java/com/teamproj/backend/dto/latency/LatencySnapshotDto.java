@@ -0,0 +1,20 @@
+package com.teamproj.backend.dto.latency;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 메소드별 실행 시간 통계. 시간 단위는 ms.
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencySnapshotDto {
+    private String method;
+    private long count;
+    private double p50;
+    private double p95;
+    private double p99;
+    private double max;
+}
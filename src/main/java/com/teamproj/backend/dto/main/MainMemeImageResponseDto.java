@@ -3,9 +3,11 @@ package com.teamproj.backend.dto.main;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
 @AllArgsConstructor
 public class MainMemeImageResponseDto {
     private Long boardId;
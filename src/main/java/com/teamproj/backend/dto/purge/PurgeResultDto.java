@@ -0,0 +1,19 @@
+package com.teamproj.backend.dto.purge;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class PurgeResultDto {
+    private String tableName;
+    private long purgedCount;
+    private int chunkCount;
+    private long elapsedMs;
+}
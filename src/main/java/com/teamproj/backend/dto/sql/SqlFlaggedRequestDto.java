@@ -0,0 +1,22 @@
+package com.teamproj.backend.dto.sql;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// SQL 개수가 기준을 넘었거나 같은 SQL 이 반복 실행(N+1 의심)된 요청
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SqlFlaggedRequestDto {
+    private String request;
+    private int statementCount;
+    private double jdbcMs;
+    private String repeatedSql;
+    private int repeatCount;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,21 @@
+package com.teamproj.backend.dto.sql;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SqlStatementReportDto {
+    // 요청당 평균 SQL 개수가 많은 순
+    private List<SqlStatementStatDto> requests;
+    // 호출당 평균 SQL 개수가 많은 순
+    private List<SqlStatementStatDto> methods;
+    // 최근 기준을 넘은 요청
+    private List<SqlFlaggedRequestDto> flagged;
+}
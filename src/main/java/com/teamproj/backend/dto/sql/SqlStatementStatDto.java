@@ -0,0 +1,20 @@
+package com.teamproj.backend.dto.sql;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 요청 또는 서비스 메소드별 SQL 통계. 시간 단위는 ms.
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SqlStatementStatDto {
+    private String name;
+    private long calls;
+    private double avgStatements;
+    private long maxStatements;
+    private double avgJdbcMs;
+    private long flaggedCount;
+}
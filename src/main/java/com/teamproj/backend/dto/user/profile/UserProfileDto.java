@@ -0,0 +1,18 @@
+package com.teamproj.backend.dto.user.profile;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 목록에 작성자로 표시되는 사용자 정보
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfileDto {
+    private Long userId;
+    private String username;
+    private String nickname;
+    private String profileImage;
+}
@@ -63,4 +63,11 @@ public final class ExceptionMessages {
 
     // OAuth2 Login
     public static final String NOT_VALID_CODE = "유효하지 않거나 잘못된 코드입니다.";
+
+    // Pagination
+    public static final String INVALID_CURSOR = "유효하지 않은 커서입니다.";
+    public static final String ILLEGAL_PAGE_SIZE = "페이지 크기는 1 이상 100 이하만 입력 가능합니다.";
+
+    // Like
+    public static final String LIKE_UNAVAILABLE = "일시적으로 좋아요를 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
 }
@@ -17,4 +17,13 @@ public class RestApiExceptionHandler {
                         .message(ex.getMessage())
                         .build());
     }
+
+    @ExceptionHandler(value = {ServiceUnavailableException.class})
+    public ResponseEntity<ResponseDto<RestApiException>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ResponseDto.<RestApiException>builder()
+                        .status(HttpStatus.SERVICE_UNAVAILABLE.toString())
+                        .message(ex.getMessage())
+                        .build());
+    }
 }
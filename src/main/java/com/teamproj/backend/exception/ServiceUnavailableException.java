@@ -0,0 +1,8 @@
+package com.teamproj.backend.exception;
+
+// 의존하는 저장소(Redis 등) 장애로 요청을 처리할 수 없음. 503 으로 응답함.
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -32,6 +32,11 @@ public class Board extends Timestamped {
     @ColumnDefault("0")
     private int views;
 
+    // 좋아요 개수. BoardRepository.updateLikeCount 로만 변경하며, 엔티티 수정시 덮어쓰지 않도록 updatable = false.
+    @ColumnDefault("0")
+    @Column(updatable = false)
+    private int likeCount;
+
     @Column(nullable = false)
     private String thumbNail;
 
@@ -7,6 +7,7 @@ import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,6 +17,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = @Index(name = "idx_dict_created_at_dict_id", columnList = "createdAt, dictId"))
 public class Dict extends Timestamped {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -41,6 +43,15 @@ public class Dict extends Timestamped {
     @ColumnDefault("0")
     private int views;
 
+    // 좋아요 개수. DictRepository.updateLikeCount 로만 변경하며, 엔티티 수정시 덮어쓰지 않도록 updatable = false.
+    @ColumnDefault("0")
+    @Column(updatable = false)
+    private int likeCount;
+
+    // 관련 영상을 찾은 시각. 찾기 전이면 null. DictRepository.setYoutubeEnrichedAt 로만 변경하며, 엔티티 수정시 덮어쓰지 않도록 updatable = false.
+    @Column(updatable = false)
+    private LocalDateTime youtubeEnrichedAt;
+
     @OneToMany(mappedBy = "dict", cascade = CascadeType.ALL)
     private final List<DictHistory> dictHistoryList = new ArrayList<>();
 
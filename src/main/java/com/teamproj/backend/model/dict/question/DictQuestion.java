@@ -37,6 +37,16 @@ public class DictQuestion extends Timestamped {
     @ColumnDefault("0")
     private int views;
 
+    // 댓글(삭제되지 않은), 나도 궁금해요 개수. DictQuestionRepository 의 update 쿼리로만 변경하며,
+    // 엔티티 수정시 덮어쓰지 않도록 updatable = false.
+    @ColumnDefault("0")
+    @Column(updatable = false)
+    private int commentCount;
+
+    @ColumnDefault("0")
+    @Column(updatable = false)
+    private int curiousTooCount;
+
     @ColumnDefault("1")
     private boolean enabled;
 
@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -43,6 +44,11 @@ public class DictQuestionComment extends Timestamped {
     @Column(columnDefinition = "boolean default true")
     private boolean enabled;
 
+    // 좋아요 개수. DictQuestionCommentRepository.updateLikeCount 로만 변경하며, 엔티티 수정시 덮어쓰지 않도록 updatable = false.
+    @ColumnDefault("0")
+    @Column(updatable = false)
+    private int likeCount;
+
     @OneToMany(mappedBy = "comment", cascade = CascadeType.ALL)
     private List<QuestionCommentLike> questionCommentLike = new ArrayList<>();
 
@@ -0,0 +1,5 @@
+package com.teamproj.backend.model.like;
+
+public enum LikeTypeEnum {
+    DICT, BOARD
+}
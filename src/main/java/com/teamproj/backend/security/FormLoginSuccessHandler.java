@@ -3,7 +3,6 @@ package com.teamproj.backend.security;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teamproj.backend.dto.ResponseDto;
 import com.teamproj.backend.dto.user.login.LoginResponseDto;
-import com.teamproj.backend.model.User;
 import com.teamproj.backend.security.jwt.JwtTokenUtils;
 import com.teamproj.backend.util.JwtAuthenticateProcessor;
 import org.springframework.http.HttpStatus;
@@ -38,11 +37,13 @@ public class FormLoginSuccessHandler extends SavedRequestAwareAuthenticationSucc
         response.setCharacterEncoding("UTF-8");
         response.setContentType("application/json");
 
-        User user = jwtAuthenticateProcessor.getUser(userDetails);
+        // 로그인 직후의 userDetails 는 방금 조회한 사용자 정보를 담고 있으므로 다시 조회하지 않음.
         LoginResponseDto loginResponseDto = LoginResponseDto.builder()
-                .userId(user.getId())
+                .userId(jwtAuthenticateProcessor.getUserId(userDetails))
                 .username(userDetails.getUsername())
-                .nickname(user.getNickname())
+                .nickname(userDetails.getNickname() == null
+                        ? jwtAuthenticateProcessor.getUser(userDetails).getNickname()
+                        : userDetails.getNickname())
                 .build();
         ResponseDto<LoginResponseDto> responseDto = ResponseDto.<LoginResponseDto>builder()
                 .status(HttpStatus.OK.toString())
@@ -1,5 +1,6 @@
 package com.teamproj.backend.security;
 
+import com.teamproj.backend.model.User;
 import com.teamproj.backend.security.jwt.JwtTokenUtils;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,14 +17,45 @@ import java.util.HashMap;
 public class UserDetailsImpl implements UserDetails {
     private String username;
     private String password;
+    // 토큰 발급 시점의 사용자 정보. 이전에 발급된 토큰에는 없으므로 null 일 수 있음.
+    private Long userId;
+    private String nickname;
+    private String profileImage;
 
     public static UserDetailsImpl initUserDetails(HashMap<String, String> userInfo){
+        String userId = userInfo.get(JwtTokenUtils.CLAIM_USER_ID);
         return UserDetailsImpl.builder()
                 .username(userInfo.get(JwtTokenUtils.CLAIM_USER_NAME))
                 .password(userInfo.get(JwtTokenUtils.CLAIM_USER_PASSWORD))
+                .userId(userId == null ? null : Long.valueOf(userId))
+                .nickname(userInfo.get(JwtTokenUtils.CLAIM_NICKNAME))
+                .profileImage(userInfo.get(JwtTokenUtils.CLAIM_PROFILE_IMAGE))
                 .build();
     }
 
+    // 로그인 처리(토큰 발급)용
+    public static UserDetailsImpl fromUser(User user){
+        return UserDetailsImpl.builder()
+                .username(user.getUsername())
+                .password(user.getPassword())
+                .userId(user.getId())
+                .nickname(user.getNickname())
+                .profileImage(user.getProfileImage())
+                .build();
+    }
+
+    public Long getUserId() {
+        return this.userId;
+    }
+
+    public String getNickname() {
+        return this.nickname;
+    }
+
+    public String getProfileImage() {
+        return this.profileImage;
+    }
+
     @Override
     public String getPassword() {
         return this.password;
@@ -24,10 +24,6 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         }
         System.out.println("loadUserByUsername.username : " + user.get().getUsername());
 
-        return UserDetailsImpl
-                .builder()
-                .username(user.get().getUsername())
-                .password(user.get().getPassword())
-                .build();
+        return UserDetailsImpl.fromUser(user.get());
     }
 }
@@ -144,6 +144,7 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
         // 게시판 목록 API 허용
         skipPathList.add("GET,/api/board/*"); // 게시글 상세보기, 검색
         skipPathList.add("GET,/api/board/list/*"); // 게시글 조회
+        skipPathList.add("GET,/api/board/list/*/scroll"); // 게시글 조회(커서 기반)
         skipPathList.add("GET,/api/board/*/best"); // 명예의 밈짤
         skipPathList.add("GET,/api/board/count/*"); // 게시글 총 개수 출력
         skipPathList.add("GET,/api/board/hashTag/*"); // 해시태그 검색
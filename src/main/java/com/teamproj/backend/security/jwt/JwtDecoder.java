@@ -1,34 +1,92 @@
 package com.teamproj.backend.security.jwt;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.JWTVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Optional;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
 
 import static com.teamproj.backend.security.jwt.JwtTokenUtils.*;
 
+/*
+    토큰 검증 및 사용자 정보 추출
+    1. JWTVerifier 는 스레드에 안전한 불변 객체이므로 요청마다 만들지 않고 하나를 공유함
+    2. 검증된 토큰의 사용자 정보는 토큰 해시(SHA-256)를 키로 보관하여, 같은 토큰으로 다시 요청하면 서명 검증과 클레임 파싱을 건너뜀
+       - 보관 개수는 memegle.jwt.cache.max-size 를 넘지 않음(LRU)
+       - 보관 기간은 memegle.jwt.cache.ttl-ms 와 토큰 만료 일시 중 빠른 쪽까지
+       - 원본 토큰은 보관하지 않음
+    3. 캐시 적중률은 memegle.jwt.cache{result=hit|miss} 지표로 확인
+ */
 @Component
+@RequiredArgsConstructor
 public class JwtDecoder {
+    private static final JWTVerifier VERIFIER = JWT.require(JWT_ALGORITHM).build();
 
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
+    private final MeterRegistry meterRegistry;
+
+    @Value("${memegle.jwt.cache.max-size:10000}")
+    private int maxSize;
+    @Value("${memegle.jwt.cache.ttl-ms:600000}")
+    private long ttlMs;
+
+    private final Map<String, VerifiedToken> verifiedTokenMap = new LinkedHashMap<String, VerifiedToken>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+            return size() > maxSize;
+        }
+    };
+
     public HashMap<String, String> decodeUser(String token) {
+        String tokenHash = hash(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken verifiedToken;
+        synchronized (verifiedTokenMap) {
+            verifiedToken = verifiedTokenMap.get(tokenHash);
+            if (verifiedToken != null && verifiedToken.cachedUntil <= now) {
+                verifiedTokenMap.remove(tokenHash);
+                verifiedToken = null;
+            }
+        }
+
+        if (verifiedToken != null) {
+            count("hit");
+        } else {
+            count("miss");
+            verifiedToken = verify(token, now);
+            synchronized (verifiedTokenMap) {
+                verifiedTokenMap.put(tokenHash, verifiedToken);
+            }
+        }
+
+        if (verifiedToken.expiredAt <= now) {
+            throw new IllegalArgumentException("만료된 토큰입니다.");
+        }
+
+        // 호출하는 쪽에서 수정하더라도 캐시에 영향이 없도록 복사해서 반환
+        return new HashMap<>(verifiedToken.userInfo);
+    }
+
+    // region 보조 기능
+    private VerifiedToken verify(String token, long now) {
         DecodedJWT decodedJWT = isValidToken(token)
                 .orElseThrow(() -> new IllegalArgumentException("유효한 토큰이 아닙니다."));
 
         Date expiredDate = decodedJWT
                 .getClaim(CLAIM_EXPIRED_DATE)
                 .asDate();
-
-        Date now = new Date();
-        if (expiredDate.before(now)) {
+        if (expiredDate == null || expiredDate.getTime() <= now) {
             throw new IllegalArgumentException("만료된 토큰입니다.");
         }
 
@@ -38,24 +96,53 @@ public class JwtDecoder {
                 decodedJWT.getClaim(CLAIM_USER_NAME).asString());
         userInfo.put(CLAIM_USER_PASSWORD,
                 decodedJWT.getClaim(CLAIM_USER_PASSWORD).asString());
+        Long userId = decodedJWT.getClaim(CLAIM_USER_ID).asLong();
+        userInfo.put(CLAIM_USER_ID, userId == null ? null : String.valueOf(userId));
+        userInfo.put(CLAIM_NICKNAME,
+                decodedJWT.getClaim(CLAIM_NICKNAME).asString());
+        userInfo.put(CLAIM_PROFILE_IMAGE,
+                decodedJWT.getClaim(CLAIM_PROFILE_IMAGE).asString());
 
-        return userInfo;
+        long expiredAt = expiredDate.getTime();
+        return new VerifiedToken(userInfo, expiredAt, Math.min(expiredAt, now + ttlMs));
     }
 
     private Optional<DecodedJWT> isValidToken(String token) {
         DecodedJWT jwt = null;
 
         try {
-            Algorithm algorithm = Algorithm.HMAC256(JWT_SECRET);
-            JWTVerifier verifier = JWT
-                    .require(algorithm)
-                    .build();
-
-            jwt = verifier.verify(token);
+            jwt = VERIFIER.verify(token);
         } catch (Exception e) {
             log.error(e.getMessage());
         }
 
         return Optional.ofNullable(jwt);
     }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 은 모든 JVM 에서 지원함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("memegle.jwt.cache", "result", result).increment();
+    }
+
+    private static class VerifiedToken {
+        private final Map<String, String> userInfo;
+        private final long expiredAt;
+        private final long cachedUntil;
+
+        private VerifiedToken(Map<String, String> userInfo, long expiredAt, long cachedUntil) {
+            this.userInfo = userInfo;
+            this.expiredAt = expiredAt;
+            this.cachedUntil = cachedUntil;
+        }
+    }
+    // endregion
 }
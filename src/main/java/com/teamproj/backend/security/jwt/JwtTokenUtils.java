@@ -1,6 +1,7 @@
 package com.teamproj.backend.security.jwt;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.teamproj.backend.security.UserDetailsImpl;
 import io.jsonwebtoken.Claims;
@@ -24,18 +25,33 @@ public final class JwtTokenUtils {
     public static final String CLAIM_EXPIRED_DATE = "EXPIRED_DATE";
     public static final String CLAIM_USER_NAME = "USER_NAME";
     public static final String CLAIM_USER_PASSWORD = "USER_PASSWORD";
+    public static final String CLAIM_USER_ID = "USER_ID";
+    public static final String CLAIM_NICKNAME = "NICKNAME";
+    public static final String CLAIM_PROFILE_IMAGE = "PROFILE_IMAGE";
     public static final String JWT_SECRET = "teamproj8!@$!^%$@#";
+    // Algorithm 은 불변 객체이므로 발급/검증 모두 하나를 공유함
+    static final Algorithm JWT_ALGORITHM = Algorithm.HMAC256(JWT_SECRET);
 
     public static String generateJwtToken(UserDetailsImpl userDetails) {
         String token = null;
         try {
-            token = JWT.create()
+            JWTCreator.Builder builder = JWT.create()
                     .withIssuer("team8")
                     .withClaim(CLAIM_USER_NAME, userDetails.getUsername())
                     .withClaim(CLAIM_USER_PASSWORD, userDetails.getPassword())
                      // 토큰 만료 일시 = 현재 시간 + 토큰 유효기간)
-                    .withClaim(CLAIM_EXPIRED_DATE, new Date(System.currentTimeMillis() + JWT_TOKEN_VALID_MILLI_SEC))
-                    .sign(generateAlgorithm());
+                    .withClaim(CLAIM_EXPIRED_DATE, new Date(System.currentTimeMillis() + JWT_TOKEN_VALID_MILLI_SEC));
+            // 요청마다 사용자를 조회하지 않도록 ID 와 프로필 정보도 함께 담음
+            if (userDetails.getUserId() != null) {
+                builder.withClaim(CLAIM_USER_ID, userDetails.getUserId());
+            }
+            if (userDetails.getNickname() != null) {
+                builder.withClaim(CLAIM_NICKNAME, userDetails.getNickname());
+            }
+            if (userDetails.getProfileImage() != null) {
+                builder.withClaim(CLAIM_PROFILE_IMAGE, userDetails.getProfileImage());
+            }
+            token = builder.sign(generateAlgorithm());
         } catch (Exception e) {
             System.out.println(e.getMessage());
         }
@@ -44,6 +60,6 @@ public final class JwtTokenUtils {
     }
 
     private static Algorithm generateAlgorithm() {
-        return Algorithm.HMAC256(JWT_SECRET);
+        return JWT_ALGORITHM;
     }
 }
@@ -9,10 +9,10 @@ import com.teamproj.backend.model.alarm.Alarm;
 import com.teamproj.backend.model.alarm.AlarmTypeEnum;
 import com.teamproj.backend.security.UserDetailsImpl;
 import com.teamproj.backend.util.JwtAuthenticateProcessor;
+import com.teamproj.backend.util.RedisFallbackCache;
 import com.teamproj.backend.util.ValidChecker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.RedisConnectionFailureException;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
@@ -28,9 +28,9 @@ import static com.teamproj.backend.util.RedisKey.USER_ALARM_KEY;
 @RequiredArgsConstructor
 public class AlarmService {
     private final JwtAuthenticateProcessor jwtAuthenticateProcessor;
-    private final RedisTemplate<String, Object> redisTemplate;
 
     private final RedisService redisService;
+    private final RedisFallbackCache redisFallbackCache;
 
     private final AlarmRepository alarmRepository;
     private final UserRepository userRepository;
@@ -91,8 +91,11 @@ public class AlarmService {
                 redisService.setAlarm(redisKey, alarmList);
             }
         }catch(RedisConnectionFailureException e){
-            list = getSafeAlarmListByUser(user);
-            alarmList = getAlarmListToResponseDto(list);
+            // 새 알림이 있으면 보관된 목록을 버리고 다시 불러옴
+            if (!user.isAlarmCheck()) {
+                redisFallbackCache.evict(redisKey);
+            }
+            alarmList = redisFallbackCache.get(redisKey, () -> getAlarmListToResponseDto(getSafeAlarmListByUser(user)));
         }
 
         user.setAlarmCheck(true);
@@ -140,11 +143,11 @@ public class AlarmService {
         // 1. 알람 id 확인하여 올바른 정보 전달
         // 2. 알람의 확인여부 true로
         ValidChecker.loginCheck(userDetails);
-        User user = jwtAuthenticateProcessor.getUser(userDetails);
+        Long userId = jwtAuthenticateProcessor.getUserId(userDetails);
         Alarm alarm = getSafeAlarmById(alarmId);
 
         // 자신의 알람이 아닐 경우 튕겨냄.
-        if (!user.getId().equals(alarm.getUser().getId())) {
+        if (!userId.equals(alarm.getUser().getId())) {
             throw new IllegalArgumentException(NOT_YOUR_ALARM);
         }
 
@@ -1,13 +1,10 @@
 package com.teamproj.backend.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.querydsl.core.Tuple;
-import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.teamproj.backend.Repository.ViewersRepository;
 import com.teamproj.backend.Repository.board.*;
 import com.teamproj.backend.dto.board.BoardDelete.BoardDeleteResponseDto;
 import com.teamproj.backend.dto.board.BoardDetail.BoardDetailResponseDto;
@@ -20,16 +17,20 @@ import com.teamproj.backend.dto.board.BoardUpdate.BoardUpdateRequestDto;
 import com.teamproj.backend.dto.board.BoardUpdate.BoardUpdateResponseDto;
 import com.teamproj.backend.dto.board.BoardUpload.BoardUploadRequestDto;
 import com.teamproj.backend.dto.board.BoardUpload.BoardUploadResponseDto;
+import com.teamproj.backend.dto.cursor.CursorPageResponseDto;
 import com.teamproj.backend.dto.main.MainMemeImageResponseDto;
 import com.teamproj.backend.dto.main.MainTodayBoardResponseDto;
+import com.teamproj.backend.dto.user.profile.UserProfileDto;
 import com.teamproj.backend.model.QUser;
 import com.teamproj.backend.model.User;
 import com.teamproj.backend.model.board.*;
-import com.teamproj.backend.model.viewers.QViewers;
+import com.teamproj.backend.model.like.LikeTypeEnum;
 import com.teamproj.backend.model.viewers.ViewTypeEnum;
-import com.teamproj.backend.model.viewers.Viewers;
 import com.teamproj.backend.security.UserDetailsImpl;
+import com.teamproj.backend.service.like.LikeStoreService;
+import com.teamproj.backend.util.CacheAsideTemplate;
 import com.teamproj.backend.util.JwtAuthenticateProcessor;
+import com.teamproj.backend.util.PageCursor;
 import com.teamproj.backend.util.S3Uploader;
 import com.teamproj.backend.util.StatisticsUtils;
 import com.teamproj.backend.util.ValidChecker;
@@ -42,11 +43,10 @@ import java.net.URLDecoder;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 import static com.teamproj.backend.exception.ExceptionMessages.*;
+import static com.teamproj.backend.util.CacheSpecs.BEST_MEME_JJAL;
 import static com.teamproj.backend.util.RedisKey.BEST_MEME_JJAL_KEY;
 
 @Service
@@ -54,15 +54,15 @@ import static com.teamproj.backend.util.RedisKey.BEST_MEME_JJAL_KEY;
 public class BoardService {
     private final BoardRepository boardRepository;
     private final BoardCategoryRepository boardCategoryRepository;
-    private final BoardLikeRepository boardLikeRepository;
     private final BoardImageRepository boardImageRepository;
-    private final BoardTodayLikeRepository boardTodayLikeRepository;
-    private final ViewersRepository viewersRepository;
 
-    private final RedisService redisService;
+    private final CacheAsideTemplate cacheAsideTemplate;
+    private final ViewCountService viewCountService;
     private final StatService statService;
+    private final LikeStoreService likeStoreService;
 
     private final JwtAuthenticateProcessor jwtAuthenticateProcessor;
+    private final UserProfileService userProfileService;
     private final S3Uploader s3Uploader;
 
     private final JPAQueryFactory queryFactory;
@@ -78,93 +78,126 @@ public class BoardService {
         // 3. Request 로 넘어온 카테고리 네임 DB 에서 조회
         BoardCategory boardCategory = BoardCategory.builder().categoryName(categoryName).build();
         // 4. 카테고리와 enabled(삭제 안된) 데이터를 페이지네이션 조건에 맞게 리스트형식으로 가져오기
-        List<Tuple> tupleList = getSafeBoardTupleList(user, boardCategory, page, size);
+        List<Tuple> tupleList = getSafeBoardTupleList(boardCategory, page, size);
 
-        return getBoardResponseDtoList(tupleList);
+        return getBoardResponseDtoList(tupleList, user);
     }
 
-    private List<Tuple> getSafeBoardTupleList(User user, BoardCategory boardCategory, int page, int size) {
+    /**
+     * 게시글 목록 가져오기(커서 기반). boardId 범위 조건으로 조회하므로 뒤쪽 페이지도 첫 페이지와 같은 속도로 조회됨.
+     *
+     * @param categoryName 카테고리 이름
+     * @param cursor       이전 응답의 nextCursor. 첫 페이지는 null.
+     * @param size         사이즈값
+     * @param token        Authorization header token
+     * @return 게시글 목록과 다음 커서
+     */
+    public CursorPageResponseDto<BoardResponseDto> getBoardByCursor(String categoryName, String cursor, int size, String token) {
+        PageCursor.validateSize(size);
+        // 1. 회원 정보가 존재할 시 로그인 처리
+        UserDetailsImpl userDetails = jwtAuthenticateProcessor.forceLogin(token);
+        User user = getSafeUserByUserDetails(userDetails);
+        BoardCategory boardCategory = BoardCategory.builder().categoryName(categoryName).build();
+        // 2. 다음 페이지 존재 여부를 알기 위해 1개 더 조회
+        List<Tuple> tupleList = getSafeBoardTupleListByCursor(boardCategory, PageCursor.decode(cursor), size + 1);
+        // 3. 다음 페이지가 있을 경우 마지막 게시글로 다음 커서 생성
+        String nextCursor = null;
+        if (tupleList.size() > size) {
+            tupleList = tupleList.subList(0, size);
+            nextCursor = PageCursor.encode(tupleList.get(size - 1).get(0, Long.class));
+        }
+
+        return CursorPageResponseDto.<BoardResponseDto>builder()
+                .content(getBoardResponseDtoList(tupleList, user))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private List<Tuple> getSafeBoardTupleList(BoardCategory boardCategory, int page, int size) {
+        QBoard qBoard = QBoard.board;
+
+        int offset = page * size;
+        return selectBoardTuple()
+                .where(qBoard.boardCategory.eq(boardCategory),
+                        qBoard.enabled.eq(true))
+                .orderBy(qBoard.boardId.desc())
+                .offset(offset)
+                .limit(size)
+                .fetch();
+    }
+
+    private List<Tuple> getSafeBoardTupleListByCursor(BoardCategory boardCategory, PageCursor cursor, int size) {
+        QBoard qBoard = QBoard.board;
+
+        return selectBoardTuple()
+                .where(qBoard.boardCategory.eq(boardCategory),
+                        qBoard.enabled.eq(true),
+                        cursor == null ? null : qBoard.boardId.lt(cursor.getId()))
+                .orderBy(qBoard.boardId.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    private JPAQuery<Tuple> selectBoardTuple() {
         QBoard qBoard = QBoard.board;
-        QBoardLike qBoardLike = QBoardLike.boardLike;
         /*
             튜플 데이터 열람
             boardId : Long, 게시글 ID
             thumbNail : String, 이미지 URL
-            username : String, 사용자의 계정명
-            profileImage : String, 사용자의 프로필이미지 URL
-            nickname : String, 사용자의 닉네임
+            userId : Long, 작성자 ID
             createdAt : LocalDateTime, 게시글 작성 일자
             views : Integer, 조회수
-            queryFactory[0] : Long, 좋아요 개수
-            queryFactory[1] : Long, 좋아요 여부
-             -> 좋아요 여부의 경우, 1 이상일 경우 true, 아닐 경우 false
+            likeCount : Integer, 좋아요 개수
+            좋아요 여부는 LikeStoreService 에서 목록 단위로 한 번에 확인함.
+            작성자 정보(계정명, 닉네임, 프로필이미지)는 User 를 join 하지 않고 UserProfileService 에서 한 번에 채움.
          */
-        int offset = page * size;
         return queryFactory
                 .select(qBoard.boardId,
                         qBoard.thumbNail,
-                        qBoard.user.username,
-                        qBoard.user.profileImage,
-                        qBoard.user.nickname,
+                        qBoard.user.id,
                         qBoard.createdAt,
                         qBoard.views,
-                        queryFactory
-                                .select(qBoardLike.count())
-                                .from(qBoardLike)
-                                .where(qBoardLike.board.eq(qBoard)),
-                        queryFactory
-                                .select(qBoardLike.count())
-                                .from(qBoardLike)
-                                .where(qBoardLike.board.eq(qBoard),
-                                        isLike(user))
-                )
-                .from(qBoard)
-                .where(qBoard.boardCategory.eq(boardCategory),
-                        qBoard.enabled.eq(true))
-                .orderBy(qBoard.boardId.desc())
-                .offset(offset)
-                .limit(size)
-                .fetch();
-    }
-
-    private BooleanExpression isLike(User user) {
-        return user == null ?
-                QBoardLike.boardLike.boardLikeId.eq(0L) :
-                QBoardLike.boardLike.user.eq(user);
+                        qBoard.likeCount)
+                .from(qBoard);
     }
 
     private User getSafeUserByUserDetails(UserDetailsImpl userDetails) {
         if (userDetails == null) {
             return null;
         }
-        return jwtAuthenticateProcessor.getUser(userDetails);
+        return jwtAuthenticateProcessor.getUserReference(userDetails);
     }
 
-    private List<BoardResponseDto> getBoardResponseDtoList(List<Tuple> tupleList) {
+    private List<BoardResponseDto> getBoardResponseDtoList(List<Tuple> tupleList, User user) {
         // 5. DB 에서 받아온 게시글 List 데이터를 담을 Response Dto 생성
         List<BoardResponseDto> boardResponseDtoList = new ArrayList<>();
+        // 6. 로그인한 유저가 좋아요 한 게시글 ID
+        Set<Long> likedBoardIdSet = getLikedBoardIdSet(tupleList, user);
+        // 작성자 정보
+        List<Long> writerIdList = new ArrayList<>();
+        for (Tuple tuple : tupleList) {
+            writerIdList.add(tuple.get(2, Long.class));
+        }
+        Map<Long, UserProfileDto> writerMap = userProfileService.getUserProfileMap(writerIdList);
         for (Tuple tuple : tupleList) {
             // Map 에 사용 될 id 키값
             Long boardId = tuple.get(0, Long.class);
             String thumbNail = tuple.get(1, String.class);
-            String username = tuple.get(2, String.class);
-            String profileImageUrl = tuple.get(3, String.class);
-            String writer = tuple.get(4, String.class);
-            LocalDateTime createdAt = tuple.get(5, LocalDateTime.class);
-            Integer viewsInteger = tuple.get(6, Integer.class);
+            UserProfileDto writer = writerMap.get(tuple.get(2, Long.class));
+            LocalDateTime createdAt = tuple.get(3, LocalDateTime.class);
+            Integer viewsInteger = tuple.get(4, Integer.class);
             int views = viewsInteger == null ? 0 : viewsInteger;
-            Long likeCntLong = tuple.get(7, Long.class);
-            int likeCnt = likeCntLong == null ? 0 : likeCntLong.intValue();
-            Long isLikeLong = tuple.get(8, Long.class);
-            boolean isLike = isLikeLong != null && isLikeLong > 0;
+            Integer likeCntInteger = tuple.get(5, Integer.class);
+            int likeCnt = likeCntInteger == null ? 0 : likeCntInteger;
+            boolean isLike = likedBoardIdSet.contains(boardId);
 
             // 7. 게시글 List 데이터를 DtoList 에 담아서 리턴
             boardResponseDtoList.add(BoardResponseDto.builder()
                     .boardId(boardId)
                     .thumbNail(thumbNail)
-                    .username(username)
-                    .profileImageUrl(profileImageUrl)
-                    .writer(writer)
+                    .username(writer == null ? null : writer.getUsername())
+                    .profileImageUrl(writer == null ? null : writer.getProfileImage())
+                    .writer(writer == null ? null : writer.getNickname())
                     .createdAt(createdAt)
                     .views(views)
                     .likeCnt(likeCnt)
@@ -173,6 +206,18 @@ public class BoardService {
         }
         return boardResponseDtoList;
     }
+
+    private Set<Long> getLikedBoardIdSet(List<Tuple> tupleList, User user) {
+        if (user == null) {
+            return new HashSet<>();
+        }
+
+        List<Long> boardIdList = new ArrayList<>();
+        for (Tuple tuple : tupleList) {
+            boardIdList.add(tuple.get(0, Long.class));
+        }
+        return likeStoreService.getLikedIdSet(LikeTypeEnum.BOARD, user.getId(), boardIdList);
+    }
     //endregion
 
     //region 게시글 작성
@@ -206,7 +251,7 @@ public class BoardService {
                 .title(boardTitle)                                    // 제목
                 .content(boardContent)                                // 내용
                 .boardCategory(boardCategory)                         // 카테고리
-                .user(jwtAuthenticateProcessor.getUser(userDetails))  // 유저
+                .user(jwtAuthenticateProcessor.getUserReference(userDetails))  // 유저
                 .thumbNail(imageUrl)                                  // 이미지 URL
                 .enabled(true)                                        // 게시글 삭제 여부
                 .build();
@@ -238,7 +283,7 @@ public class BoardService {
         UserDetailsImpl userDetails = jwtAuthenticateProcessor.forceLogin(token);
         User user = getSafeUserByUserDetails(userDetails);
         // 2. 게시글 조회
-        Tuple boardTuple = getSafeBoardTuple(boardId, user);
+        Tuple boardTuple = getSafeBoardTuple(boardId);
 
         String username = boardTuple.get(1, String.class);
         String writer = boardTuple.get(2, String.class);
@@ -246,24 +291,16 @@ public class BoardService {
         String thumbNail = boardTuple.get(4, String.class);
         LocalDateTime createdAt = boardTuple.get(5, LocalDateTime.class);
         Integer viewsInteger = boardTuple.get(6, Integer.class);
-        int views = viewsInteger == null ? 0 : viewsInteger;
-        Long likeCountLong = boardTuple.get(7, Long.class);
-        int likeCnt = likeCountLong == null ? 0 : likeCountLong.intValue();
-        Long isLikeLong = boardTuple.get(8, Long.class);
-        boolean isLike = isLikeLong != null && isLikeLong > 0;
-        Long viewerIpLong = boardTuple.get(9, Long.class);
-        boolean isView = viewerIpLong != null && viewerIpLong > 0;
+        // DB 에 아직 반영되지 않은 조회수까지 포함
+        int views = (viewsInteger == null ? 0 : viewsInteger) + viewCountService.getPendingViews(ViewTypeEnum.IMAGE_BOARD, boardId);
+        Integer likeCountInteger = boardTuple.get(7, Integer.class);
+        int likeCnt = likeCountInteger == null ? 0 : likeCountInteger;
+        boolean isLike = user != null && likeStoreService.isLiked(LikeTypeEnum.BOARD, user.getId(), boardId);
 
         // 4. 게시글 조회수 관련 처리 로직
         // - 조회하는 유저 IP를 통해 조회수 새로고침과 같은 중복 처리 방지
-        if (!isView) {
-            viewersRepository.save(Viewers.builder()
-                    .viewTypeEnum(ViewTypeEnum.IMAGE_BOARD)
-                    .viewerIp(StatisticsUtils.getClientIp())
-                    .targetId(boardId)
-                    .build());
-            boardRepository.updateView(boardId);
-        }
+        // - DB 반영은 ViewCountService 에서 모아서 처리함
+        viewCountService.view(ViewTypeEnum.IMAGE_BOARD, boardId, StatisticsUtils.getClientIp());
 
         // 6. 조회한 게시글 Response 전송
         // (게시글 아이디, 제목, 작성자 아이디, 내용, 작성자 닉네임,
@@ -281,12 +318,8 @@ public class BoardService {
                 .build();
     }
 
-    private Tuple getSafeBoardTuple(Long boardId, User user) {
+    private Tuple getSafeBoardTuple(Long boardId) {
         QBoard qBoard = QBoard.board;
-        QBoardLike qBoardLike = QBoardLike.boardLike;
-        QViewers qViewers = QViewers.viewers;
-
-        String userIp = StatisticsUtils.getClientIp();
 
         Tuple tuple = queryFactory
                 .select(qBoard.boardId,
@@ -296,20 +329,7 @@ public class BoardService {
                         qBoard.thumbNail,
                         qBoard.createdAt,
                         qBoard.views,
-                        queryFactory
-                                .select(qBoardLike.count())
-                                .from(qBoardLike)
-                                .where(qBoardLike.board.eq(qBoard)),
-                        queryFactory
-                                .select(qBoardLike.count())
-                                .from(qBoardLike)
-                                .where(qBoardLike.board.eq(qBoard),
-                                        isLike(user)),
-                        queryFactory
-                                .select(qViewers.count())
-                                .from(qViewers)
-                                .where(qViewers.targetId.eq(boardId), qViewers.viewerIp.eq(userIp), qViewers.viewTypeEnum.eq(ViewTypeEnum.IMAGE_BOARD))
-                )
+                        qBoard.likeCount)
                 .from(qBoard)
                 .where(qBoard.boardId.eq(boardId),
                         qBoard.enabled.eq(true))
@@ -396,66 +416,17 @@ public class BoardService {
     public BoardLikeResponseDto boardLike(UserDetailsImpl userDetails, Long boardId) {
         // 로그인한 유저인지 체크
         ValidChecker.loginCheck(userDetails);
-        // 1. 좋아요할 게시글 조회
-        Board board = getSafeBoard(boardId);
-        // 2. 해당 게시글 좋아요 조회
-        Optional<BoardLike> findBoardLike = boardLikeRepository.findByBoardAndUser(
-                board, jwtAuthenticateProcessor.getUser(userDetails)
-        );
-        // 3. 게시글 좋아요 여부 확인
-        // - 게시글 좋아요 되어있다면 해당 게시글 좋아요 삭제
-        // - 게시판 오늘의 좋아요 취소
-        // - 결과 값 false 로 Response
-        if (findBoardLike.isPresent()) {
-            boardLikeRepository.delete(findBoardLike.get());
-            todayLikeCancelProc(board);
-
-            return BoardLikeResponseDto.builder()
-                    .result(false)
-                    .build();
-        }
-        // 4. 게시글 좋아요 저장
-        BoardLike boardLike = BoardLike.builder()
-                .board(board)
-                .user(jwtAuthenticateProcessor.getUser(userDetails))
-                .build();
-        boardLikeRepository.save(boardLike);
-
-        // 5. 게시판 오늘의 좋아요 카운트 + 1
-        todayLikeProc(board, board.getBoardCategory());
-        // 6. 결과값 true 로 Response
+        // 1. 좋아요할 게시글 존재 여부 확인
+        getSafeBoard(boardId);
+        // 2. 게시글 좋아요 / 좋아요 취소
+        // - DB(게시글 좋아요, 좋아요 개수, 게시판 오늘의 좋아요) 반영은 LikeStoreService 에서 모아서 처리함
+        boolean isLike = likeStoreService.toggle(LikeTypeEnum.BOARD,
+                jwtAuthenticateProcessor.getUserId(userDetails), boardId);
+        // 3. 결과값 Response
         return BoardLikeResponseDto.builder()
-                .result(true)
+                .result(isLike)
                 .build();
     }
-
-    // 게시판 오늘의 좋아요 카운트 - 1
-    private void todayLikeCancelProc(Board board) {
-        Optional<BoardTodayLike> boardTodayLike = boardTodayLikeRepository.findByBoard(board);
-        if (boardTodayLike.isPresent()) {
-            Long likeCount = boardTodayLike.get().getLikeCount();
-            if (likeCount > 0) {
-                boardTodayLike.get().setLikeCount(likeCount - 1);
-                boardTodayLikeRepository.save(boardTodayLike.get());
-            }
-        }
-    }
-
-    // 게시판 오늘의 좋아요 카운트 + 1
-    private void todayLikeProc(Board board, BoardCategory boardCategory) {
-        Optional<BoardTodayLike> boardTodayLike = boardTodayLikeRepository.findByBoard(board);
-        if (boardTodayLike.isPresent()) {
-            boardTodayLike.get().setLikeCount(boardTodayLike.get().getLikeCount() + 1);
-            boardTodayLikeRepository.save(boardTodayLike.get());
-        } else {
-            BoardTodayLike newBoardTodayLike = BoardTodayLike.builder()
-                    .board(board)
-                    .boardCategory(boardCategory)
-                    .likeCount(1L)
-                    .build();
-            boardTodayLikeRepository.save(newBoardTodayLike);
-        }
-    }
     //endregion
 
 //    //region 게시글 검색
@@ -592,37 +563,31 @@ public class BoardService {
         // 1. 회원 정보가 존재할 시 로그인 처리
         UserDetailsImpl userDetails = jwtAuthenticateProcessor.forceLogin(token);
         // 2. 레디스 캐싱데이터에 명예의 밈짤 데이터 가져오기
-        List<BoardMemeBestResponseDto> boardMemeBestResponseDtoList = redisService.getBestMemeImgList(BEST_MEME_JJAL_KEY);
-        // 3. 레디스에 명예의 밈짤 데이터가 null 이면
-        // - 밈 게시글(Image Board)에서 3개의 명예의 밈짤 가져오는 함수 실행
-        // - 레디스에 해당 데이터 저장
-        if (boardMemeBestResponseDtoList == null) {
-
-            boardMemeBestResponseDtoList = getBestMemeResponseDtoList(categoryName);
-
-            if (boardMemeBestResponseDtoList.size() > 0) {
-                redisService.setBestMemeImgList(BEST_MEME_JJAL_KEY, boardMemeBestResponseDtoList);
-                boardMemeBestResponseDtoList = redisService.getBestMemeImgList(BEST_MEME_JJAL_KEY);
-            } else {
-                return new ArrayList<>();
-            }
+        // 3. 레디스에 명예의 밈짤 데이터가 없으면 밈 게시글(Image Board)에서 3개의 명예의 밈짤을 가져와 저장
+        List<BoardMemeBestResponseDto> boardMemeBestResponseDtoList = cacheAsideTemplate.getList(BEST_MEME_JJAL, BEST_MEME_JJAL_KEY,
+                () -> getBestMemeResponseDtoList(categoryName));
+        if (boardMemeBestResponseDtoList.isEmpty()) {
+            return new ArrayList<>();
         }
 
         // 4. 로그인한 유저라면
         // - 로그인한 유저가 명예의 밈짤 이미지들에 좋아요 눌렀는지 여부
         if (userDetails != null) {
-            User user = jwtAuthenticateProcessor.getUser(userDetails);
+            Long userId = jwtAuthenticateProcessor.getUserId(userDetails);
 
-            ObjectMapper mapper = new ObjectMapper();
-            List<BoardMemeBestResponseDto> mappedList = mapper.convertValue(boardMemeBestResponseDtoList, new TypeReference<List<BoardMemeBestResponseDto>>() {
-            });
+            List<Long> boardIdList = new ArrayList<>();
+            for (BoardMemeBestResponseDto boardMemeBestResponseDto : boardMemeBestResponseDtoList) {
+                boardIdList.add(boardMemeBestResponseDto.getBoardId());
+            }
+            Set<Long> likedBoardIdSet = likeStoreService.getLikedIdSet(LikeTypeEnum.BOARD, userId, boardIdList);
+            // 게시글마다 조회하지 않고 좋아요 개수만 한 번에 조회
+            Map<Long, Long> likeCountMap = getLikeCountMap(boardIdList);
 
             List<BoardMemeBestResponseDto> resultList = new ArrayList<>();
-            for (BoardMemeBestResponseDto boardMemeBestResponseDto : mappedList) {
-                Board board = boardRepository.findById(boardMemeBestResponseDto.getBoardId()).orElse(null);
+            for (BoardMemeBestResponseDto boardMemeBestResponseDto : boardMemeBestResponseDtoList) {
                 Long boardId = boardMemeBestResponseDto.getBoardId();
-                Boolean boardLike = boardLikeRepository.existsByBoard_BoardIdAndUser(boardId, user);
-                long likeCnt = board == null ? 0L : (long)board.getLikes().size();
+                Boolean boardLike = likedBoardIdSet.contains(boardId);
+                long likeCnt = likeCountMap.getOrDefault(boardId, 0L);
                 resultList.add(new BoardMemeBestResponseDto(boardMemeBestResponseDto, likeCnt, boardLike));
             }
 
@@ -632,6 +597,32 @@ public class BoardService {
         return boardMemeBestResponseDtoList;
     }
 
+    // 게시글 ID -> 좋아요 개수
+    private Map<Long, Long> getLikeCountMap(List<Long> boardIdList) {
+        Map<Long, Long> likeCountMap = new HashMap<>();
+        if (boardIdList.isEmpty()) {
+            return likeCountMap;
+        }
+
+        QBoard qBoard = QBoard.board;
+        List<Tuple> tupleList = queryFactory
+                .select(qBoard.boardId, qBoard.likeCount)
+                .from(qBoard)
+                .where(qBoard.boardId.in(boardIdList))
+                .fetch();
+
+        for (Tuple tuple : tupleList) {
+            Integer likeCount = tuple.get(1, Integer.class);
+            likeCountMap.put(tuple.get(0, Long.class), likeCount == null ? 0L : likeCount);
+        }
+        return likeCountMap;
+    }
+
+    // 명예의 밈짤 다시 산출(매주 일요일 스케줄)
+    public void refreshBestMemeImg() {
+        cacheAsideTemplate.refreshList(BEST_MEME_JJAL, BEST_MEME_JJAL_KEY, () -> getBestMemeResponseDtoList("MEME"));
+    }
+
     // 명예의 밈짤 데이터 DB 에서 산출
     private List<BoardMemeBestResponseDto> getBestMemeResponseDtoList(String categoryName) {
         LocalDateTime startDatetime = LocalDateTime.of(LocalDate.now().minusDays(7), LocalTime.of(0, 0, 0)); //어제 00:00:00
@@ -707,7 +698,7 @@ public class BoardService {
     }
 
     private void checkPermissionToBoard(UserDetailsImpl userDetails, Board board) {
-        if (!jwtAuthenticateProcessor.getUser(userDetails).getId().equals(board.getUser().getId())) {
+        if (!jwtAuthenticateProcessor.getUserId(userDetails).equals(board.getUser().getId())) {
             throw new IllegalArgumentException(NOT_MY_BOARD);
         }
     }
@@ -0,0 +1,104 @@
+package com.teamproj.backend.service;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teamproj.backend.Repository.board.BoardRepository;
+import com.teamproj.backend.Repository.dict.DictQuestionCommentRepository;
+import com.teamproj.backend.Repository.dict.DictQuestionRepository;
+import com.teamproj.backend.Repository.dict.DictRepository;
+import com.teamproj.backend.model.board.QBoard;
+import com.teamproj.backend.model.dict.QDict;
+import com.teamproj.backend.model.dict.question.QDictQuestion;
+import com.teamproj.backend.model.dict.question.QDictQuestionComment;
+import com.teamproj.backend.util.ClusterJobRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+    좋아요/댓글/나도 궁금해요 개수 보정
+    개수 컬럼은 쓰기 요청마다 증감하므로, 중간에 실패한 요청이나 DB 를 직접 수정한 경우 실제 개수와 어긋날 수 있음.
+    1. ID 범위(chunk-size)마다 update ... set 개수 = (select count(*) ...) 한 번으로 실제 개수와 다른 행만 고쳐줌.
+       읽은 개수를 다시 쓰지 않으므로, 보정 중에 들어온 좋아요 증감도 덮어쓰지 않음. 개수 컬럼이 비어 있는(null) 행도 채움.
+    2. 범위마다 따로 커밋해서 잠금을 짧게 유지하고, ClusterJobRunner 작업으로 실행 중이면 범위마다 임대를 확인함.
+    서버 시작시(개수 컬럼이 추가된 직후 기존 데이터 채우기)와 매일 새벽에 Scheduler 가 ClusterJobRunner 로 실행함.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CountReconcileService {
+    private final DictRepository dictRepository;
+    private final BoardRepository boardRepository;
+    private final DictQuestionRepository dictQuestionRepository;
+    private final DictQuestionCommentRepository dictQuestionCommentRepository;
+
+    private final JPAQueryFactory queryFactory;
+    private final ClusterJobRunner clusterJobRunner;
+
+    // 한 번에 보정할 ID 범위
+    @Value("${memegle.reconcile.chunk-size:5000}")
+    private long chunkSize;
+
+    /**
+     * 전체 개수 보정
+     *
+     * @return 개수 종류 -> 보정된 행 개수
+     */
+    public Map<String, Integer> reconcileAll() {
+        QDict qDict = QDict.dict;
+        QBoard qBoard = QBoard.board;
+        QDictQuestion qDictQuestion = QDictQuestion.dictQuestion;
+        QDictQuestionComment qComment = QDictQuestionComment.dictQuestionComment;
+
+        Map<String, Integer> result = new HashMap<>();
+        result.put("dict.likeCount",
+                reconcile(qDict, qDict.dictId, dictRepository::reconcileLikeCount));
+        result.put("board.likeCount",
+                reconcile(qBoard, qBoard.boardId, boardRepository::reconcileLikeCount));
+        result.put("dictQuestion.commentCount",
+                reconcile(qDictQuestion, qDictQuestion.questionId, dictQuestionRepository::reconcileCommentCount));
+        result.put("dictQuestion.curiousTooCount",
+                reconcile(qDictQuestion, qDictQuestion.questionId, dictQuestionRepository::reconcileCuriousTooCount));
+        result.put("dictQuestionComment.likeCount",
+                reconcile(qComment, qComment.questionCommentId, dictQuestionCommentRepository::reconcileLikeCount));
+
+        log.info("개수 보정 완료 : {}", result);
+        return result;
+    }
+
+    // region 보조 기능
+    /*
+        ID 범위별 보정
+        entityPath, idPath : 개수 컬럼이 있는 엔티티와 ID
+        rangeReconciler : (시작 ID, 끝 ID) -> 보정된 행 개수
+     */
+    private int reconcile(EntityPath<?> entityPath, NumberPath<Long> idPath,
+                          RangeReconciler rangeReconciler) {
+        Tuple idRange = queryFactory
+                .select(idPath.min(), idPath.max())
+                .from(entityPath)
+                .fetchOne();
+        if (idRange == null || idRange.get(0, Long.class) == null) {
+            return 0;
+        }
+
+        long maxId = idRange.get(1, Long.class);
+        int reconciledCount = 0;
+        for (long fromId = idRange.get(0, Long.class); fromId <= maxId; fromId += chunkSize) {
+            clusterJobRunner.checkLease();
+            reconciledCount += rangeReconciler.reconcile(fromId, Math.min(fromId + chunkSize - 1, maxId));
+        }
+        return reconciledCount;
+    }
+
+    private interface RangeReconciler {
+        int reconcile(Long fromId, Long toId);
+    }
+    // endregion
+}
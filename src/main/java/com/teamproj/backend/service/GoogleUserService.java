@@ -203,10 +203,7 @@ public class GoogleUserService {
 //    }
 
     private String forceLogin(User googleUser) {
-        UserDetailsImpl userDetails = UserDetailsImpl.builder()
-                .username(googleUser.getUsername())
-                .password(googleUser.getPassword())
-                .build();
+        UserDetailsImpl userDetails = UserDetailsImpl.fromUser(googleUser);
         Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
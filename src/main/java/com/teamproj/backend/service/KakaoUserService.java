@@ -32,6 +32,7 @@ import java.util.UUID;
 public class KakaoUserService {
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
+    private final UserProfileService userProfileService;
 
     @Value("${kakao.client-id}")
     private String clientId;
@@ -199,15 +200,13 @@ public class KakaoUserService {
             sameUser.setKakaoId(snsUserInfoDto.getId());
             sameUser.setNickname(snsUserInfoDto.getNickname());
             userRepository.save(sameUser);
+            userProfileService.evict(sameUser.getId());
         }
         return sameUser;
     }
 
     private String forceLogin(User kakaoUser) {
-        UserDetailsImpl userDetails = UserDetailsImpl.builder()
-                .username(kakaoUser.getUsername())
-                .password(kakaoUser.getPassword())
-                .build();
+        UserDetailsImpl userDetails = UserDetailsImpl.fromUser(kakaoUser);
         Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
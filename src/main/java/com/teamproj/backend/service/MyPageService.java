@@ -16,6 +16,8 @@ import com.teamproj.backend.model.dict.question.DictQuestion;
 import com.teamproj.backend.model.dict.question.QDictCuriousToo;
 import com.teamproj.backend.model.dict.question.QQuestionSelect;
 import com.teamproj.backend.security.UserDetailsImpl;
+import com.teamproj.backend.util.LongHashSet;
+import com.teamproj.backend.util.LongLongHashMap;
 import com.teamproj.backend.util.MemegleServiceStaticMethods;
 import com.teamproj.backend.util.S3Uploader;
 import com.teamproj.backend.util.ValidChecker;
@@ -26,7 +28,6 @@ import org.springframework.web.multipart.MultipartFile;
 import javax.transaction.Transactional;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +40,8 @@ public class MyPageService {
     private final DictRepository dictRepository;
     private final UserRepository userRepository;
 
+    private final UserProfileService userProfileService;
+
     private final S3Uploader s3Uploader;
     private final JPAQueryFactory queryFactory;
 
@@ -65,12 +68,12 @@ public class MyPageService {
         // 8. 로그인한 유저가 작성한 사전 데이터를 MyPageDictResponseDto에 저장
         List<MyPageDictResponseDto> userDictResponseList = getMyPageDictResponseDtoList(userDict, dictCount);
         
-        // 나도 궁금해요 맵
-        HashMap<String, Boolean> curiousTooMap = getCuriousTooMap(dictQuestionList);
+        // 나도 궁금해요 한 질문 ID
+        LongHashSet curiousTooIdSet = getCuriousTooIdSet(dictQuestionList, user);
         // 채택 여부 맵
-        HashMap<Long, Long> completeMap = getIsComplete(dictQuestionList);
+        LongLongHashMap completeMap = getIsComplete(dictQuestionList);
         // 로그인한 유저가 작성한 사전질문 데이터를 dictQuestionMyPageResponseDto에 저장
-        List<DictQuestionMyPageResponseDto> dictQuestionMyPageResponseDtoArrayList = getDictQuestionMyPageResponseDtoList(user, dictQuestionList, curiousTooMap, completeMap);
+        List<DictQuestionMyPageResponseDto> dictQuestionMyPageResponseDtoArrayList = getDictQuestionMyPageResponseDtoList(dictQuestionList, curiousTooIdSet, completeMap);
 
 
         // 10. 마이페이지 정보 Response
@@ -105,7 +108,7 @@ public class MyPageService {
                                 .content(board.getContent())
                                 .createdAt(board.getCreatedAt())
                                 .views(board.getViews())
-                                .likeCnt(board.getLikes().size())
+                                .likeCnt(board.getLikeCount())
 //                                .commentCnt(commentService.getCommentList(board).size())
                                 .build()
                     );
@@ -139,13 +142,13 @@ public class MyPageService {
     }
 
     // 사전질문 Response Dto 리스트
-    private List<DictQuestionMyPageResponseDto> getDictQuestionMyPageResponseDtoList(User user, List<DictQuestion> dictQuestionList, HashMap<String, Boolean> curiousTooMap, HashMap<Long, Long> completeMap) {
+    private List<DictQuestionMyPageResponseDto> getDictQuestionMyPageResponseDtoList(List<DictQuestion> dictQuestionList, LongHashSet curiousTooIdSet, LongLongHashMap completeMap) {
         List<DictQuestionMyPageResponseDto> dictQuestionMyPageResponseDtoArrayList = new ArrayList<>();
         if(!dictQuestionList.isEmpty()) {
             for (DictQuestion dictQuestion : dictQuestionList) {
                 Long questionId = dictQuestion.getQuestionId();
                 // completeMap 에 값이 없을 경우 채택되지 않음 = false.
-                boolean isComplete = completeMap.get(questionId) != null;
+                boolean isComplete = completeMap.containsKey(questionId);
                 if (dictQuestion.isEnabled() == true) {
                     dictQuestionMyPageResponseDtoArrayList.add(
                             DictQuestionMyPageResponseDto.builder()
@@ -160,7 +163,7 @@ public class MyPageService {
                                     .views(dictQuestion.getViews())
                                     .curiousTooCnt(dictQuestion.getDictCuriousTooList().size())
                                     .commentCnt(dictQuestion.getQuestionCommentList().size())
-                                    .isCuriousToo(user != null && curiousTooMap.get(questionId + ":" + user.getId()) != null)
+                                    .isCuriousToo(curiousTooIdSet.contains(questionId))
                                     .isComplete(isComplete)
                                     .build()
                     );
@@ -171,19 +174,24 @@ public class MyPageService {
     }
 
 
-    // 나도 궁금해요 체크 여부 받아오기 기능
-    private HashMap<String, Boolean> getCuriousTooMap(List<DictQuestion> questionList) {
+    // 사용자가 나도 궁금해요 한 질문 ID
+    private LongHashSet getCuriousTooIdSet(List<DictQuestion> questionList, User user) {
+        if (questionList.isEmpty()) {
+            return new LongHashSet();
+        }
+
         QDictCuriousToo qDictCuriousToo = QDictCuriousToo.dictCuriousToo;
-        List<Tuple> curiousTooTuple = queryFactory.select(qDictCuriousToo.dictQuestion.questionId, qDictCuriousToo.user.id)
+        List<Long> curiousTooIdList = queryFactory.select(qDictCuriousToo.dictQuestion.questionId)
                 .from(qDictCuriousToo)
-                .where(qDictCuriousToo.dictQuestion.in(questionList))
+                .where(qDictCuriousToo.dictQuestion.in(questionList),
+                        qDictCuriousToo.user.id.eq(user.getId()))
                 .fetch();
 
-        return MemegleServiceStaticMethods.getLikeMap(curiousTooTuple);
+        return LongHashSet.of(curiousTooIdList);
     }
 
     // 채택 여부 받아오기 기능
-    private HashMap<Long, Long> getIsComplete(List<DictQuestion> questionList) {
+    private LongLongHashMap getIsComplete(List<DictQuestion> questionList) {
         QQuestionSelect qQuestionSelect = QQuestionSelect.questionSelect;
         List<Tuple> selectTuple = queryFactory.select(qQuestionSelect.dictQuestion.questionId, qQuestionSelect.questionComment.questionCommentId)
                 .from(qQuestionSelect)
@@ -206,6 +214,7 @@ public class MyPageService {
         // 3. 유저 프로필 이미지 저장 및 수정
         String profileImageUrl = s3Uploader.upload(file, "profileImages");
         user.setProfileImage(profileImageUrl);
+        userProfileService.evict(user.getId());
         // 4. 해당 프로필 이미지 Response
         return MyPageProfileImageModifyResponseDto.builder()
                 .profileImageUrl(profileImageUrl)
@@ -35,6 +35,7 @@ import static com.teamproj.backend.exception.ExceptionMessages.NOT_VALID_CODE;
 public class NaverUserService {
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
+    private final UserProfileService userProfileService;
 
     @Value("${naver.client-id}")
     private String clientId;
@@ -226,16 +227,14 @@ public class NaverUserService {
             sameUser.setNaverId(snsUserInfoDto.getId());
             sameUser.setNickname(snsUserInfoDto.getNickname());
             userRepository.save(sameUser);
+            userProfileService.evict(sameUser.getId());
         }
         return sameUser;
     }
 
     // 4. 강제 로그인 처리
     private String forceLogin(User kakaoUser) {
-        UserDetailsImpl userDetails = UserDetailsImpl.builder()
-                .username(kakaoUser.getUsername())
-                .password(kakaoUser.getPassword())
-                .build();
+        UserDetailsImpl userDetails = UserDetailsImpl.fromUser(kakaoUser);
         Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
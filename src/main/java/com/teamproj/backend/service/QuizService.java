@@ -7,10 +7,10 @@ import com.teamproj.backend.model.quiz.QQuiz;
 import com.teamproj.backend.model.quiz.QQuizBank;
 import com.teamproj.backend.model.quiz.Quiz;
 import com.teamproj.backend.model.quiz.QuizBank;
+import com.teamproj.backend.util.CacheAsideTemplate;
 import com.teamproj.backend.util.MySqlJpaTemplates;
 import com.teamproj.backend.util.StatisticsUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.stereotype.Service;
 
 import javax.persistence.EntityManager;
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static com.teamproj.backend.exception.ExceptionMessages.NOT_EXIST_CATEGORY;
+import static com.teamproj.backend.util.CacheSpecs.RANDOM_QUIZ;
 import static com.teamproj.backend.util.RedisKey.RANDOM_QUIZ_KEY;
 
 @Service
@@ -26,7 +27,7 @@ import static com.teamproj.backend.util.RedisKey.RANDOM_QUIZ_KEY;
 public class QuizService {
     private final EntityManager entityManager;
     private final StatService statService;
-    private final RedisService redisService;
+    private final CacheAsideTemplate cacheAsideTemplate;
 
     // 문제 목록 불러오기
     public List<QuizResponseDto> getQuizList(int count, String category, String clientIp) {
@@ -69,24 +70,12 @@ public class QuizService {
     // Get SafeEntity
     // QuizResponseDtoList
     private List<QuizResponseDto> getSafeQuizResponseDtoList(String key, int count, String category) {
-        List<QuizResponseDto> quizResponseDtoList;
-        try {
-            quizResponseDtoList = redisService.getRandomQuiz(key + category);
-
-            if (quizResponseDtoList == null) {
-                // QueryDSL 적용 구문
-                List<Quiz> quizList = randomQuizPick(category);
-                // DtoList 로 반환하는 과정에서 문제 속의 선택지 순서도 섞임
-                redisService.setRandomQuiz(key + category, quizListToQuizResponseDtoList(quizList));
-                quizResponseDtoList = redisService.getRandomQuiz(key + category);
-
-                if (quizResponseDtoList == null) {
-                    throw new NullPointerException(NOT_EXIST_CATEGORY);
-                }
-            }
-        }catch(RedisConnectionFailureException e){
-            List<Quiz> quizList = randomQuizPick(category);
-            quizResponseDtoList = quizListToQuizResponseDtoList(quizList);
+        // QueryDSL 적용 구문. DtoList 로 반환하는 과정에서 문제 속의 선택지 순서도 섞임.
+        // 캐시된 목록이 섞이지 않도록 복사해서 사용
+        List<QuizResponseDto> quizResponseDtoList = new ArrayList<>(cacheAsideTemplate.getList(RANDOM_QUIZ, key + category,
+                () -> quizListToQuizResponseDtoList(randomQuizPick(category))));
+        if (quizResponseDtoList.isEmpty()) {
+            throw new NullPointerException(NOT_EXIST_CATEGORY);
         }
 
         Collections.shuffle(quizResponseDtoList);
@@ -8,15 +8,16 @@ import com.teamproj.backend.Repository.dict.DictLikeRepository;
 import com.teamproj.backend.Repository.dict.DictRepository;
 import com.teamproj.backend.dto.rank.RankDictAllTimeResponseDto;
 import com.teamproj.backend.dto.rank.RankResponseDto;
+import com.teamproj.backend.dto.user.profile.UserProfileDto;
 import com.teamproj.backend.model.QUser;
 import com.teamproj.backend.model.User;
 import com.teamproj.backend.model.dict.Dict;
 import com.teamproj.backend.model.dict.QDict;
-import com.teamproj.backend.model.dict.QDictLike;
+import com.teamproj.backend.model.like.LikeTypeEnum;
 import com.teamproj.backend.security.UserDetailsImpl;
 import com.teamproj.backend.service.dict.DictService;
+import com.teamproj.backend.service.like.LikeStoreService;
 import com.teamproj.backend.util.JwtAuthenticateProcessor;
-import com.teamproj.backend.util.MemegleServiceStaticMethods;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -25,12 +26,17 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class RankService {
     private final JwtAuthenticateProcessor jwtAuthenticateProcessor;
+    private final UserProfileService userProfileService;
+    private final LikeStoreService likeStoreService;
 
     private final JPAQueryFactory queryFactory;
 
@@ -55,15 +61,10 @@ public class RankService {
 
         // 작성자 맵
         HashMap<Long, String> firstWriterMap = getFirstWriterMap(dictList);
-        // 좋아요 맵
-        HashMap<String, Boolean> dictLikeMap = getDictLikeMap(dictList);
-        // 좋아요 개수 맵
-        HashMap<Long, Long> likeCountMap = getLikeCountMap(dictList);
+        // 좋아요 한 사전 ID
+        Set<Long> dictLikedIdSet = getDictLikedIdSet(dictList, user);
 
         for (Dict dict : dictList) {
-            // likeCountMap 에 값이 없을경우 좋아요가 없음 = 0개.
-            int likeCount = likeCountMap.get(dict.getDictId()) == null ? 0 : likeCountMap.get(dict.getDictId()).intValue();
-
             dictResponseDtoList.add(RankDictAllTimeResponseDto.builder()
                     .dictId(dict.getDictId())
                     .title(dict.getDictName())
@@ -71,8 +72,8 @@ public class RankService {
                     .meaning(dict.getContent())
                     .firstWriter(firstWriterMap.get(dict.getDictId()))
                     .createdAt(dict.getCreatedAt())
-                    .isLike(user != null && dictLikeMap.get(dict.getDictId() + ":" + user.getId()) != null)
-                    .likeCount(likeCount)
+                    .isLike(dictLikedIdSet.contains(dict.getDictId()))
+                    .likeCount(dict.getLikeCount())
                     .build());
         }
 
@@ -81,46 +82,32 @@ public class RankService {
 
     //region 보조기능
     // Utils
-    public HashMap<Long,Long> getLikeCountMap(List<Dict> dictList) {
-        QDictLike qDictLike = QDictLike.dictLike;
-        QDict qDict = QDict.dict;
-
-        List<Tuple> likeCountListTuple = queryFactory
-                .select(qDictLike.dict.dictId, qDictLike.count())
-                .from(qDictLike)
-                .where(qDictLike.dict.in(dictList))
-                .groupBy(qDict)
-                .fetch();
-
-        return MemegleServiceStaticMethods.getLongLongMap(likeCountListTuple);
-    }
-    // 좋아요 목록 가져와서 HashMap 으로 반환
-    public HashMap<String, Boolean> getDictLikeMap(List<Dict> dictList) {
-        QDictLike qDictLike = QDictLike.dictLike;
-        List<Tuple> dictLikeListTuple = queryFactory
-                .select(qDictLike.dict.dictId, qDictLike.user.id)
-                .from(qDictLike)
-                .where(qDictLike.dict.in(dictList))
-                .fetch();
+    // 사용자가 좋아요 한 사전 ID. 비회원이면 빈 집합.
+    public Set<Long> getDictLikedIdSet(List<Dict> dictList, User user) {
+        if (user == null) {
+            return new HashSet<>();
+        }
 
-        return MemegleServiceStaticMethods.getLikeMap(dictLikeListTuple);
+        List<Long> dictIdList = new ArrayList<>();
+        for (Dict dict : dictList) {
+            dictIdList.add(dict.getDictId());
+        }
+        return likeStoreService.getLikedIdSet(LikeTypeEnum.DICT, user.getId(), dictIdList);
     }
 
     // 사전 최초 작성자 목록 가져와서 HashMap 으로 반환
     public HashMap<Long, String> getFirstWriterMap(List<Dict> dictList) {
-        QDict qDict = QDict.dict;
-        List<Tuple> firstWriterTuple = queryFactory
-                .select(qDict.dictId, qDict.firstAuthor.nickname)
-                .from(qDict)
-                .where(qDict.in(dictList))
-                .fetch();
+        List<Long> firstAuthorIdList = new ArrayList<>();
+        for (Dict dict : dictList) {
+            firstAuthorIdList.add(dict.getFirstAuthor().getId());
+        }
+        Map<Long, UserProfileDto> userProfileMap = userProfileService.getUserProfileMap(firstAuthorIdList);
 
         HashMap<Long, String> firstWriterMap = new HashMap<>();
-        for (Tuple tuple : firstWriterTuple) {
+        for (Dict dict : dictList) {
             // 키값은 DictId, 밸류는 nickname
-            Long key = tuple.get(0, Long.class);
-            String value = tuple.get(1, String.class);
-            firstWriterMap.put(key, value);
+            UserProfileDto userProfile = userProfileMap.get(dict.getFirstAuthor().getId());
+            firstWriterMap.put(dict.getDictId(), userProfile == null ? null : userProfile.getNickname());
         }
 
         return firstWriterMap;
@@ -132,7 +119,7 @@ public class RankService {
         return queryFactory
                 .select(qDict)
                 .from(qDict)
-                .orderBy(qDict.dictLikeList.size().desc())
+                .orderBy(qDict.likeCount.desc())
                 .limit(10)
                 .fetch();
     }
@@ -142,7 +129,7 @@ public class RankService {
         if (userDetails == null) {
             return null;
         }
-        return jwtAuthenticateProcessor.getUser(userDetails);
+        return jwtAuthenticateProcessor.getUserReference(userDetails);
     }
 
     private List<RankResponseDto> getUserRank(int day) {
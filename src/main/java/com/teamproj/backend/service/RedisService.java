@@ -1,172 +1,43 @@
 package com.teamproj.backend.service;
 
 import com.teamproj.backend.dto.alarm.AlarmResponseDto;
-import com.teamproj.backend.dto.board.BoardMemeBest.BoardMemeBestResponseDto;
-import com.teamproj.backend.dto.main.MainMemeImageResponseDto;
-import com.teamproj.backend.dto.main.MainTodayBoardResponseDto;
-import com.teamproj.backend.dto.main.MainTodayMemeResponseDto;
-import com.teamproj.backend.dto.quiz.QuizResponseDto;
-import com.teamproj.backend.dto.statistics.StatDictResponseDto;
+import com.teamproj.backend.util.RedisCacheEntry;
+import com.teamproj.backend.util.RedisCacheWrite;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class RedisService {
+    // 빈 결과 표시 키 : 캐시 키 + EMPTY_SUFFIX
+    private static final String EMPTY_SUFFIX = ":EMPTY";
+    private static final byte[] EMPTY_MARK = {'1'};
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final RedisTemplate<String, String> redisStringTemplate;
-    private final RedisTemplate<String, MainTodayMemeResponseDto> redisMainTodayMemeResponseDtoTemplate;
-    private final RedisTemplate<String, MainMemeImageResponseDto> redisMainMemeImageResponseDtoTemplate;
-    private final RedisTemplate<String, MainTodayBoardResponseDto> redisMainTodayBoardResponseDtoTemplate;
-    private final RedisTemplate<String, QuizResponseDto> redisQuizResponseDtoTemplate;
-    private final RedisTemplate<String, BoardMemeBestResponseDto> redisMemeBestResponseDtoTemplate;
-    private final RedisTemplate<String, StatDictResponseDto> redisStatDictResponseDtoTemplate;
     private final RedisTemplate<String, AlarmResponseDto> redisAlarmResponseDtoTemplate;
-    private final RedisTemplate<String, Boolean> redisBooleanTemplate;
 
     public void setAlarm(String key, List<AlarmResponseDto> object){
-        redisTemplate.delete(key);
-        ListOperations<String, AlarmResponseDto> redis = redisAlarmResponseDtoTemplate.opsForList();
-        redis.leftPushAll(key, object);
+        replaceList(redisAlarmResponseDtoTemplate, key, object, 0);
     }
     public List<AlarmResponseDto> getAlarm(String key) {
         ListOperations<String, AlarmResponseDto> list = redisAlarmResponseDtoTemplate.opsForList();
 
-        if (list.size(key) > 0) {
-            return list.range(key, 0, list.size(key) - 1);
-        }
-
-        return null;
-    }
-
-    public void setStatDict(String key, StatDictResponseDto object) {
-        redisTemplate.delete(key);
-        ValueOperations<String, Object> redis = redisTemplate.opsForValue();
-        redis.set(key, object);
-        redisTemplate.expire(key, 10, TimeUnit.MINUTES);
-    }
-
-    public StatDictResponseDto getStatDict(String key) {
-        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(StatDictResponseDto.class));
-        ValueOperations<String, StatDictResponseDto> redis = redisStatDictResponseDtoTemplate.opsForValue();
-        StatDictResponseDto data = redis.get(key);
-        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(Object.class));
-        return data;
-    }
-
-    public void setBestDict(String key, List<String> bestDictList) {
-        redisTemplate.delete(key);
-        ListOperations<String, String> list = redisStringTemplate.opsForList();
-        list.leftPushAll(key, bestDictList);
-    }
-
-    public void setRecommendSearch(String key, List<String> recommendSearch) {
-        redisTemplate.delete(key);
-        ListOperations<String, String> list = redisStringTemplate.opsForList();
-        list.leftPushAll(key, recommendSearch);
-        redisStringTemplate.expire(key, 1, TimeUnit.HOURS);
-    }
-
-    public List<String> getStringList(String key) {
-        ListOperations<String, String> list = redisStringTemplate.opsForList();
-
-        if (list.size(key) > 0) {
-            return list.range(key, 0, list.size(key) - 1);
-        }
-
-        return null;
-    }
-
-    public void setTodayList(String key, List<MainTodayMemeResponseDto> todayList) {
-        redisTemplate.delete(key);
-        ListOperations<String, MainTodayMemeResponseDto> list = redisMainTodayMemeResponseDtoTemplate.opsForList();
-        list.leftPushAll(key, todayList);
-    }
-
-
-    public List<MainTodayMemeResponseDto> getTodayList(String key) {
-        ListOperations<String, MainTodayMemeResponseDto> list = redisMainTodayMemeResponseDtoTemplate.opsForList();
-
-        if (list.size(key) > 0) {
-            return list.range(key, 0, list.size(key) - 1);
-        }
-
-        return null;
-    }
-
-    public List<MainMemeImageResponseDto> getTodayMemeImageList(String key) {
-        ListOperations<String, MainMemeImageResponseDto> list = redisMainMemeImageResponseDtoTemplate.opsForList();
-
-        if (list.size(key) > 0) {
-            return list.range(key, 0, list.size(key) - 1);
-        }
-
-        return null;
-    }
-
-    public void setTodayMemeImageList(String key, List<MainMemeImageResponseDto> mainMemeImageResponseDtoList) {
-        redisTemplate.delete(key);
-        ListOperations<String, MainMemeImageResponseDto> list = redisMainMemeImageResponseDtoTemplate.opsForList();
-        list.leftPushAll(key, mainMemeImageResponseDtoList);
-    }
-
-    public List<MainTodayBoardResponseDto> getTodayBoardList(String key) {
-        ListOperations<String, MainTodayBoardResponseDto> list = redisMainTodayBoardResponseDtoTemplate.opsForList();
-
-        if (list.size(key) > 0) {
-            return list.range(key, 0, list.size(key) - 1);
-        }
-
-        return null;
-    }
-
-    public void setTodayBoardList(String key, List<MainTodayBoardResponseDto> mainTodayBoardResponseDtoList) {
-        redisTemplate.delete(key);
-        ListOperations<String, MainTodayBoardResponseDto> list = redisMainTodayBoardResponseDtoTemplate.opsForList();
-        list.leftPushAll(key, mainTodayBoardResponseDtoList);
-    }
-
-    public void setRandomQuiz(String key, List<QuizResponseDto> quizResponseDtoList) {
-        redisTemplate.delete(key);
-        ListOperations<String, QuizResponseDto> list = redisQuizResponseDtoTemplate.opsForList();
-        list.leftPushAll(key, quizResponseDtoList);
-        redisQuizResponseDtoTemplate.expire(key, 10, TimeUnit.MINUTES);
-    }
-
-    public List<QuizResponseDto> getRandomQuiz(String key) {
-        ListOperations<String, QuizResponseDto> list = redisQuizResponseDtoTemplate.opsForList();
-        if (list.size(key) > 0) {
-            return list.range(key, 0, list.size(key) - 1);
-        }
-
-        return null;
-    }
-
-    // Utils
-
-
-    //region 명예의 밈짤
-    public List<BoardMemeBestResponseDto> getBestMemeImgList(String key) {
-        ListOperations<String, BoardMemeBestResponseDto> list = redisMemeBestResponseDtoTemplate.opsForList();
-
-        if (list.size(key) > 0) {
-            return list.range(key, 0, list.size(key) - 1);
-        }
-
-        return null;
-    }
-
-    public void setBestMemeImgList(String key, List<BoardMemeBestResponseDto> boardMemeBestResponseDtoList) {
-        redisTemplate.delete(key);
-        ListOperations<String, BoardMemeBestResponseDto> list = redisMemeBestResponseDtoTemplate.opsForList();
-        list.leftPushAll(key, boardMemeBestResponseDtoList);
+        // LLEN 후 LRANGE 로 두 번 조회하지 않고 LRANGE 0 -1 한 번으로 전체 조회
+        List<AlarmResponseDto> result = list.range(key, 0, -1);
+        return result == null || result.isEmpty() ? null : result;
     }
 
     public String getDictHealth(String key) {
@@ -176,9 +47,136 @@ public class RedisService {
 
     public void setDictHealth(String key, String str) {
         ValueOperations<String, String> redis = redisStringTemplate.opsForValue();
-        redis.set(key, str);
-        redisStringTemplate.expire(key, 15, TimeUnit.SECONDS);
+        redis.set(key, str, 15, TimeUnit.SECONDS);
+    }
+
+    // region 캐시(CacheAsideTemplate)
+    /**
+     * 캐시 값, 남은 만료 시간, 빈 결과 표시를 파이프라인으로 한 번에 조회
+     *
+     * @param key  캐시 키
+     * @param list 목록(Redis 리스트)이면 true, 단일 값(Redis 문자열)이면 false
+     */
+    @SuppressWarnings("unchecked")
+    public RedisCacheEntry getCacheEntry(String key, boolean list) {
+        byte[] rawKey = rawKey(key);
+        byte[] rawEmptyKey = rawKey(key + EMPTY_SUFFIX);
+        List<Object> resultList = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            if (list) {
+                connection.lRange(rawKey, 0, -1);
+            } else {
+                connection.get(rawKey);
+            }
+            connection.pTtl(rawKey);
+            connection.exists(rawEmptyKey);
+            return null;
+        }, RedisSerializer.byteArray());
+
+        Long ttlMs = (Long) resultList.get(1);
+        return new RedisCacheEntry(
+                list ? (List<byte[]>) resultList.get(0) : null,
+                list ? null : (byte[]) resultList.get(0),
+                ttlMs == null ? -2 : ttlMs,
+                Boolean.TRUE.equals(resultList.get(2)));
+    }
+
+    /*
+        캐시 값 교체. DEL 후 RPUSH 를 따로 보내면 그 사이에 빈 목록을 읽은 요청이 DB 에서 다시 만들게 되므로
+        MULTI/EXEC 로 묶어 한 번에 적용하고, 명령들은 파이프라인으로 보내 왕복 한 번으로 끝냄.
+        여러 키를 넘기면 모두 한 트랜잭션으로 교체됨(자정 스케줄의 메인 페이지 목록 등).
+     */
+    public void setCacheEntries(List<RedisCacheWrite> writeList) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.multi();
+            for (RedisCacheWrite write : writeList) {
+                queueCacheWrite(connection, write);
+            }
+            connection.exec();
+            return null;
+        }, RedisSerializer.byteArray());
+    }
+
+    public void deleteCacheEntry(String key) {
+        redisTemplate.delete(Arrays.asList(key, key + EMPTY_SUFFIX));
+    }
+    // endregion
+
+    // region 일별 조회수 순위(ZSET)
+    /**
+     * 대상별 조회수 증가분을 더함(ZINCRBY). 서버마다 모아둔 증가분을 파이프라인으로 한 번에 보냄.
+     *
+     * @param key        날짜별 순위 키
+     * @param deltaMap   targetId -> 증가분
+     * @param ttlSeconds 순위 키 만료 시간
+     */
+    public void incrementViewRank(String key, Map<Long, Integer> deltaMap, long ttlSeconds) {
+        byte[] rawKey = rawKey(key);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<Long, Integer> entry : deltaMap.entrySet()) {
+                connection.zIncrBy(rawKey, entry.getValue(), rawKey(String.valueOf(entry.getKey())));
+            }
+            connection.expire(rawKey, ttlSeconds);
+            return null;
+        }, RedisSerializer.byteArray());
+    }
+
+    /**
+     * 조회수 상위 대상(ZREVRANGE)
+     *
+     * @return 조회수 내림차순 targetId 목록
+     */
+    public List<Long> getViewRank(String key, int size) {
+        Set<String> memberSet = redisStringTemplate.opsForZSet().reverseRange(key, 0, size - 1);
+        List<Long> result = new ArrayList<>();
+        if (memberSet != null) {
+            for (String member : memberSet) {
+                result.add(Long.valueOf(member));
+            }
+        }
+        return result;
+    }
+    // endregion
+
+    // region 보조 기능
+    // 목록 교체. setCacheEntries 와 같은 방식으로 MULTI/EXEC 를 파이프라인으로 보냄. ttlSeconds 가 0 이면 만료 시간 없음.
+    private <V> void replaceList(RedisTemplate<String, V> template, String key, List<V> valueList, long ttlSeconds) {
+        template.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, T> Object execute(RedisOperations<K, T> operations) {
+                template.multi();
+                template.delete(key);
+                if (!valueList.isEmpty()) {
+                    // RPUSH 는 값이 하나 이상 필요함
+                    template.opsForList().rightPushAll(key, valueList);
+                    if (ttlSeconds > 0) {
+                        template.expire(key, ttlSeconds, TimeUnit.SECONDS);
+                    }
+                }
+                template.exec();
+                return null;
+            }
+        });
+    }
+
+    // MULTI 안에서 호출해야 함
+    private void queueCacheWrite(RedisConnection connection, RedisCacheWrite write) {
+        byte[] rawKey = rawKey(write.getKey());
+        byte[] rawEmptyKey = rawKey(write.getKey() + EMPTY_SUFFIX);
+        connection.del(rawKey, rawEmptyKey);
+
+        if (write.getValueList() != null && !write.getValueList().isEmpty()) {
+            connection.rPush(rawKey, write.getValueList().toArray(new byte[0][]));
+            connection.pExpire(rawKey, write.getExpireMs());
+        } else if (write.getValue() != null) {
+            connection.pSetEx(rawKey, write.getExpireMs(), write.getValue());
+        } else if (write.getEmptyMs() > 0) {
+            connection.pSetEx(rawEmptyKey, write.getEmptyMs(), EMPTY_MARK);
+        }
     }
-    //endregion
-}
 
+    // 템플릿의 키 직렬화(StringRedisSerializer)와 같은 UTF-8
+    private static byte[] rawKey(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+    // endregion
+}
@@ -1,13 +1,12 @@
 package com.teamproj.backend.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.teamproj.backend.Repository.dict.DictQuestionRepository;
 import com.teamproj.backend.Repository.dict.DictRepository;
 import com.teamproj.backend.Repository.dict.QuestionSelectRepository;
 import com.teamproj.backend.Repository.stat.*;
+import com.teamproj.backend.dto.purge.PurgeResultDto;
 import com.teamproj.backend.dto.rank.RankResponseDto;
 import com.teamproj.backend.dto.statistics.StatDictPostByDayDto;
 import com.teamproj.backend.dto.statistics.StatDictQuestionListDto;
@@ -18,12 +17,12 @@ import com.teamproj.backend.model.dict.question.DictQuestion;
 import com.teamproj.backend.model.dict.question.QDictQuestion;
 import com.teamproj.backend.model.dict.question.QQuestionSelect;
 import com.teamproj.backend.model.statistics.*;
+import com.teamproj.backend.util.CacheAsideTemplate;
 import com.teamproj.backend.util.StatisticsUtils;
+import com.teamproj.backend.util.TablePurger;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.stereotype.Service;
 
-import javax.transaction.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -33,6 +32,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 
+import static com.teamproj.backend.util.CacheSpecs.STAT_DICT;
 import static com.teamproj.backend.util.RedisKey.STAT_DICT_KEY;
 
 @Service
@@ -50,28 +50,14 @@ public class StatService {
     private final QuestionSelectRepository questionSelectRepository;
 
     private final RankService rankService;
-    private final RedisService redisService;
+    private final CacheAsideTemplate cacheAsideTemplate;
 
     private final JPAQueryFactory queryFactory;
+    private final TablePurger tablePurger;
 
     // 사전 통계 내용 출력
     public StatDictResponseDto statDict() {
-        StatDictResponseDto statDictResponseDto;
-        try{
-            statDictResponseDto = redisService.getStatDict(STAT_DICT_KEY);
-
-            if (statDictResponseDto == null) {
-                redisService.setStatDict(STAT_DICT_KEY, getStatDict());
-                statDictResponseDto = redisService.getStatDict(STAT_DICT_KEY);
-            }
-        }catch(RedisConnectionFailureException e){
-            statDictResponseDto = getStatDict();
-        }
-
-        ObjectMapper mapper = new ObjectMapper();
-
-        return mapper.convertValue(statDictResponseDto, new TypeReference<StatDictResponseDto>() {
-        });
+        return cacheAsideTemplate.get(STAT_DICT, STAT_DICT_KEY, this::getStatDict);
     }
 
     private StatDictResponseDto getStatDict() {
@@ -153,12 +139,17 @@ public class StatService {
 
     // 전체 방문자수 통계.
     // 하루에 한 번씩 일일 방문자수의 레코드 수를 반영하도록 되어 있음.
-    @Transactional
-    public void statVisitorToNumericData(Long statVisitorCnt, String data) {
-        StatNumericData statNumericData = statNumericDataRepository.findByName(data);
-        statNumericData.setData(statNumericData.getData() + statVisitorCnt);
-        statNumericDataRepository.save(statNumericData);
-        statVisitorRepository.deleteAll();
+    // 방문 기록 정리는 범위별로 나눠 커밋하므로 트랜잭션으로 묶지 않음.
+    // 방문자 기록을 지우면서 지운 행 수만큼 누적 방문자 수에 더함. 범위마다 집계와 삭제가 함께 커밋됨.
+    public PurgeResultDto statVisitorToNumericData(String data) {
+        QStatVisitor qStatVisitor = QStatVisitor.statVisitor;
+        Long maxId = tablePurger.getMaxId(qStatVisitor, qStatVisitor.visitId);
+        return tablePurger.purge(qStatVisitor, qStatVisitor.visitId, maxId, deletedCount -> {
+            // 더할 곳이 없으면 삭제도 롤백해서 방문자 기록을 남겨 둠
+            if (statNumericDataRepository.addData(data, deletedCount) == 0) {
+                throw new IllegalStateException("누적 통계 항목이 없습니다 : " + data);
+            }
+        });
     }
 
     //region 보조기능
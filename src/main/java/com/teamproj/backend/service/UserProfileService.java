@@ -0,0 +1,155 @@
+package com.teamproj.backend.service;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teamproj.backend.dto.user.profile.UserProfileDto;
+import com.teamproj.backend.model.QUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    사용자 ID -> 작성자 정보(아이디, 닉네임, 프로필 이미지) 캐시
+    목록 조회시 작성자 정보를 얻기 위해 매번 User 를 join 하지 않고, 목록에서는 사용자 ID 만 조회한 뒤 여기서 한 번에 채움.
+    1. 캐시에 없는 사용자만 모아서 한 번의 in 쿼리로 불러옴(read-through)
+    2. 닉네임, 프로필 이미지가 바뀌면 evict 로 삭제. 트랜잭션 중이면 커밋 후에 한 번 더 삭제함.
+    3. 다른 서버의 캐시는 삭제되지 않으므로 최대 ttl-ms 동안 이전 정보가 보일 수 있음.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserProfileService {
+    private final JPAQueryFactory queryFactory;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${memegle.cache.user-profile.max-size:10000}")
+    private int maxSize;
+    @Value("${memegle.cache.user-profile.ttl-ms:60000}")
+    private long ttlMs;
+
+    private final Map<Long, CachedUserProfile> userProfileMap = new LinkedHashMap<Long, CachedUserProfile>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedUserProfile> eldest) {
+            return size() > maxSize;
+        }
+    };
+    // 불러오는 도중 삭제된 정보를 다시 보관하지 않기 위한 삭제 횟수
+    private final AtomicLong evictCount = new AtomicLong();
+
+    /**
+     * 사용자 정보 조회
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 정보. 없는 사용자면 null
+     */
+    public UserProfileDto getUserProfile(Long userId) {
+        return getUserProfileMap(Collections.singletonList(userId)).get(userId);
+    }
+
+    /**
+     * 사용자 정보 일괄 조회
+     *
+     * @param userIdList 사용자 ID 목록(중복, null 허용)
+     * @return 사용자 ID -> 사용자 정보
+     */
+    public Map<Long, UserProfileDto> getUserProfileMap(Collection<Long> userIdList) {
+        Map<Long, UserProfileDto> result = new HashMap<>();
+        Set<Long> missIdSet = new HashSet<>();
+
+        long now = System.currentTimeMillis();
+        synchronized (userProfileMap) {
+            for (Long userId : userIdList) {
+                if (userId == null || result.containsKey(userId)) {
+                    continue;
+                }
+                CachedUserProfile cachedUserProfile = userProfileMap.get(userId);
+                if (cachedUserProfile != null && now < cachedUserProfile.expiredAt) {
+                    result.put(userId, cachedUserProfile.userProfile);
+                } else {
+                    missIdSet.add(userId);
+                }
+            }
+        }
+        meterRegistry.counter("memegle.cache.user-profile", "result", "hit").increment(result.size());
+        if (missIdSet.isEmpty()) {
+            return result;
+        }
+        meterRegistry.counter("memegle.cache.user-profile", "result", "miss").increment(missIdSet.size());
+
+        long evictCountBeforeLoad = evictCount.get();
+        List<UserProfileDto> loadedUserProfileList = loadUserProfileList(missIdSet);
+        long expiredAt = System.currentTimeMillis() + ttlMs;
+        synchronized (userProfileMap) {
+            boolean evictedWhileLoading = evictCount.get() != evictCountBeforeLoad;
+            for (UserProfileDto userProfile : loadedUserProfileList) {
+                result.put(userProfile.getUserId(), userProfile);
+                if (!evictedWhileLoading) {
+                    userProfileMap.put(userProfile.getUserId(), new CachedUserProfile(userProfile, expiredAt));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사용자 정보 캐시 삭제. 닉네임, 프로필 이미지 변경시 호출.
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        remove(userId);
+        // 커밋 전에 다른 요청이 이전 정보를 다시 불러왔을 수 있으므로 커밋 후에 한 번 더 삭제
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                }
+            });
+        }
+    }
+
+    // region 보조 기능
+    private List<UserProfileDto> loadUserProfileList(Collection<Long> userIdList) {
+        QUser qUser = QUser.user;
+        List<Tuple> tupleList = queryFactory
+                .select(qUser.id, qUser.username, qUser.nickname, qUser.profileImage)
+                .from(qUser)
+                .where(qUser.id.in(userIdList))
+                .fetch();
+
+        List<UserProfileDto> userProfileList = new ArrayList<>();
+        for (Tuple tuple : tupleList) {
+            userProfileList.add(UserProfileDto.builder()
+                    .userId(tuple.get(0, Long.class))
+                    .username(tuple.get(1, String.class))
+                    .nickname(tuple.get(2, String.class))
+                    .profileImage(tuple.get(3, String.class))
+                    .build());
+        }
+        return userProfileList;
+    }
+
+    private void remove(Long userId) {
+        synchronized (userProfileMap) {
+            evictCount.incrementAndGet();
+            userProfileMap.remove(userId);
+        }
+    }
+
+    private static class CachedUserProfile {
+        private final UserProfileDto userProfile;
+        private final long expiredAt;
+
+        private CachedUserProfile(UserProfileDto userProfile, long expiredAt) {
+            this.userProfile = userProfile;
+            this.expiredAt = expiredAt;
+        }
+    }
+    // endregion
+}
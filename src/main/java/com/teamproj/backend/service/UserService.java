@@ -30,6 +30,7 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final JwtAuthenticateProcessor jwtAuthenticateProcessor;
     private final AlarmService alarmService;
+    private final UserProfileService userProfileService;
 
     // 회원가입 기능
     public SignUpResponseDto signUp(SignUpRequestDto signUpRequestDto) {
@@ -100,6 +101,7 @@ public class UserService {
 
         User user = jwtAuthenticateProcessor.getUser(userDetails);
         user.setNickname(userNicknameModifyRequestDto.getNickname());
+        userProfileService.evict(user.getId());
 
         return UserNicknameModifyResponseDto.builder()
                 .result("변경 완료")
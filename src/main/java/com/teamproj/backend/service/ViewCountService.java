@@ -0,0 +1,237 @@
+package com.teamproj.backend.service;
+
+import com.teamproj.backend.Repository.board.BoardRepository;
+import com.teamproj.backend.Repository.dict.DictQuestionRepository;
+import com.teamproj.backend.Repository.dict.DictRepository;
+import com.teamproj.backend.model.viewers.ViewTypeEnum;
+import com.teamproj.backend.util.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.teamproj.backend.util.RedisKey.VIEW_RANK_KEY;
+
+/*
+    조회수 집계 서비스(write-behind)
+    상세보기 요청마다 조회 기록 테이블 조회 + insert + update views = views + 1 을 실행하던 구조를 대체함.
+    1. 중복 조회 판단은 하루 단위로 교체되는 블룸 필터로 처리(type:targetId:ip). DB 를 사용하지 않음.
+    2. 증가분은 대상별로 메모리에 누적해두었다가 주기적으로 한 번에 DB 에 반영
+    3. 아직 반영되지 않은 증가분은 getPendingViews 로 조회해 응답의 조회수에 더해줌
+    4. 대상별 일별 조회수는 Redis 의 날짜별 순위(ZSET, VIEW_RANK:DICT:2021-08-01)에 모든 서버가 같이 더함(ZINCRBY).
+       서버마다 메모리에만 집계하면 자정 스케줄을 실행하는 서버의 조회수만 반영되기 때문.
+       증가분은 DB 반영과 같은 주기로 보내고, 자정에는 어제 증가분을 어제 순위에 마저 보낸 뒤 새 날짜로 넘어감.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+    private final DictRepository dictRepository;
+    private final BoardRepository boardRepository;
+    private final DictQuestionRepository dictQuestionRepository;
+    private final RedisService redisService;
+
+    private final MeterRegistry meterRegistry;
+
+    // 일별 순위는 어제 순위를 읽을 수 있도록 며칠 남겨 둠
+    private static final long VIEW_RANK_TTL_SECONDS = TimeUnit.DAYS.toSeconds(3);
+
+    // 하루 동안의 예상 조회 기록 수. 이를 넘으면 오탐률이 목표보다 높아짐.
+    @Value("${memegle.view.bloom.expected-insertions:1000000}")
+    private long expectedInsertions;
+    // 목표 오탐률. 오탐시 처음 조회한 사용자의 조회수가 증가하지 않음.
+    @Value("${memegle.view.bloom.fpp:0.001}")
+    private double fpp;
+
+    // 오늘 조회한 기록. 매일 0시에 새 필터로 교체됨.
+    private volatile BloomFilter todayViewerFilter;
+    // DB 에 반영되지 않은 조회수 증가분. type 별로 targetId -> 증가분
+    private final Map<ViewTypeEnum, ConcurrentHashMap<Long, Integer>> pendingViewMap = initViewMap();
+    // DB 에 반영중인 조회수 증가분. 반영이 끝나기 전까지 응답에 포함시키기 위해 보관.
+    private final Map<ViewTypeEnum, ConcurrentHashMap<Long, Integer>> flushingViewMap = initViewMap();
+    // 일별 순위에 반영되지 않은 오늘의 조회수 증가분. 매일 0시에 초기화 됨.
+    private volatile Map<ViewTypeEnum, ConcurrentHashMap<Long, Integer>> todayViewMap = initViewMap();
+    // todayViewMap 의 날짜
+    private volatile LocalDate todayViewDate = LocalDate.now();
+
+    @PostConstruct
+    public void init() {
+        todayViewerFilter = new BloomFilter(expectedInsertions, fpp);
+
+        Gauge.builder("memegle.view.bloom.fpp", this, s -> s.todayViewerFilter.expectedFpp())
+                .description("오늘 조회 기록 블룸 필터의 예상 오탐률")
+                .register(meterRegistry);
+        Gauge.builder("memegle.view.bloom.target.fpp", this, s -> s.todayViewerFilter.getTargetFpp())
+                .description("오늘 조회 기록 블룸 필터의 목표 오탐률")
+                .register(meterRegistry);
+        Gauge.builder("memegle.view.bloom.insertions", this, s -> s.todayViewerFilter.getInsertionCount())
+                .description("오늘 조회 기록 블룸 필터에 추가된 기록 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 처리
+     *
+     * @param viewTypeEnum 조회 대상 종류
+     * @param targetId     조회 대상 ID
+     * @param viewerIp     조회한 사용자 IP
+     * @return true : 조회수 증가 / false : 오늘 이미 조회한 사용자
+     */
+    public boolean view(ViewTypeEnum viewTypeEnum, Long targetId, String viewerIp) {
+        // 1. 오늘 이미 조회한 기록이 있을 경우 조회수 증가하지 않음
+        if (!todayViewerFilter.put(viewTypeEnum.ordinal() + ":" + targetId + ":" + viewerIp)) {
+            return false;
+        }
+        // 2. 증가분 누적 - DB 반영은 flushViews 에서 일괄로 처리
+        pendingViewMap.get(viewTypeEnum).merge(targetId, 1, Integer::sum);
+        todayViewMap.get(viewTypeEnum).merge(targetId, 1, Integer::sum);
+        return true;
+    }
+
+    /**
+     * DB 에 아직 반영되지 않은 조회수 증가분
+     *
+     * @param viewTypeEnum 조회 대상 종류
+     * @param targetId     조회 대상 ID
+     * @return 증가분(반영중인 값 포함)
+     */
+    public int getPendingViews(ViewTypeEnum viewTypeEnum, Long targetId) {
+        return pendingViewMap.get(viewTypeEnum).getOrDefault(targetId, 0)
+                + flushingViewMap.get(viewTypeEnum).getOrDefault(targetId, 0);
+    }
+
+    /**
+     * 날짜별 조회수 상위 대상 목록(모든 서버 합계)
+     *
+     * @param viewTypeEnum 조회 대상 종류
+     * @param date         날짜
+     * @param size         개수
+     * @return 조회수 내림차순 targetId 목록
+     */
+    public List<Long> getMostViewedIdList(ViewTypeEnum viewTypeEnum, LocalDate date, int size) {
+        return redisService.getViewRank(getViewRankKey(viewTypeEnum, date), size);
+    }
+
+    // 누적된 증가분을 DB 와 일별 순위에 일괄 반영
+    @Scheduled(fixedDelayString = "${memegle.view.flush-delay-ms:5000}")
+    @PreDestroy
+    public synchronized void flushViews() {
+        for (ViewTypeEnum viewTypeEnum : ViewTypeEnum.values()) {
+            flushViews(viewTypeEnum);
+            flushViewRank(viewTypeEnum, todayViewDate, todayViewMap.get(viewTypeEnum));
+        }
+    }
+
+    // 자정에 오늘 조회 기록 초기화. 필터를 통째로 교체하므로 메모리는 항상 필터 1개 분량으로 유지됨.
+    // 자정 스케줄이 어제 순위를 읽기 전에 실행되어야 함(Scheduler.dayRegularSchedule).
+    public synchronized void resetTodayViewers() {
+        todayViewerFilter = new BloomFilter(expectedInsertions, fpp);
+        Map<ViewTypeEnum, ConcurrentHashMap<Long, Integer>> yesterdayViewMap = todayViewMap;
+        LocalDate yesterday = todayViewDate;
+        todayViewMap = initViewMap();
+        todayViewDate = LocalDate.now();
+        // 어제 증가분은 어제 순위에 마저 반영
+        for (ViewTypeEnum viewTypeEnum : ViewTypeEnum.values()) {
+            flushViewRank(viewTypeEnum, yesterday, yesterdayViewMap.get(viewTypeEnum));
+        }
+    }
+
+    // region 보조 기능
+    private void flushViews(ViewTypeEnum viewTypeEnum) {
+        ConcurrentHashMap<Long, Integer> pending = pendingViewMap.get(viewTypeEnum);
+        ConcurrentHashMap<Long, Integer> flushing = flushingViewMap.get(viewTypeEnum);
+
+        // 1. 증가분을 반영중 맵으로 옮김. remove 는 원자적이므로 옮기는 도중 들어온 증가분은 다음 주기에 반영됨.
+        for (Long targetId : pending.keySet()) {
+            Integer delta = pending.remove(targetId);
+            if (delta != null) {
+                flushing.merge(targetId, delta, Integer::sum);
+            }
+        }
+        if (flushing.isEmpty()) {
+            return;
+        }
+
+        // 2. 같은 증가분끼리 묶어서 update 횟수를 줄임 - 대부분의 대상은 증가분이 1이므로 쿼리 몇 개로 끝남
+        Map<Integer, List<Long>> targetIdListByDelta = new HashMap<>();
+        for (Map.Entry<Long, Integer> entry : flushing.entrySet()) {
+            targetIdListByDelta.computeIfAbsent(entry.getValue(), k -> new ArrayList<>()).add(entry.getKey());
+        }
+
+        // 3. 반영된 묶음은 바로 반영중 맵에서 빼서 getPendingViews 가 DB 값과 중복해서 더하지 않도록 함
+        //    반영 실패한 증가분은 다음 주기에 다시 시도하도록 되돌림
+        for (Map.Entry<Integer, List<Long>> entry : targetIdListByDelta.entrySet()) {
+            try {
+                updateViews(viewTypeEnum, entry.getValue(), entry.getKey());
+                flushing.keySet().removeAll(entry.getValue());
+            } catch (DataAccessException e) {
+                log.warn("조회수 반영 실패 : type = {}, count = {}, {}", viewTypeEnum, entry.getValue().size(), e.getMessage());
+                for (Long targetId : entry.getValue()) {
+                    flushing.remove(targetId);
+                    pending.merge(targetId, entry.getKey(), Integer::sum);
+                }
+            }
+        }
+    }
+
+    // 증가분을 일별 순위에 더함. 실패하면 되돌려서 다음 주기에 다시 시도(날짜가 바뀐 뒤에는 버려짐).
+    private void flushViewRank(ViewTypeEnum viewTypeEnum, LocalDate date, ConcurrentHashMap<Long, Integer> viewMap) {
+        Map<Long, Integer> deltaMap = new HashMap<>();
+        for (Long targetId : viewMap.keySet()) {
+            Integer delta = viewMap.remove(targetId);
+            if (delta != null) {
+                deltaMap.put(targetId, delta);
+            }
+        }
+        if (deltaMap.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisService.incrementViewRank(getViewRankKey(viewTypeEnum, date), deltaMap, VIEW_RANK_TTL_SECONDS);
+        } catch (DataAccessException e) {
+            log.warn("일별 조회수 순위 반영 실패 : {}", e.getMessage());
+            for (Map.Entry<Long, Integer> entry : deltaMap.entrySet()) {
+                viewMap.merge(entry.getKey(), entry.getValue(), Integer::sum);
+            }
+        }
+    }
+
+    private static String getViewRankKey(ViewTypeEnum viewTypeEnum, LocalDate date) {
+        return VIEW_RANK_KEY + ":" + viewTypeEnum.name() + ":" + date;
+    }
+
+    private void updateViews(ViewTypeEnum viewTypeEnum, List<Long> targetIdList, int delta) {
+        switch (viewTypeEnum) {
+            case DICT:
+                dictRepository.updateViews(targetIdList, delta);
+                break;
+            case IMAGE_BOARD:
+                boardRepository.updateViews(targetIdList, delta);
+                break;
+            case DICT_QUESTION:
+                dictQuestionRepository.updateViews(targetIdList, delta);
+                break;
+        }
+    }
+
+    private static Map<ViewTypeEnum, ConcurrentHashMap<Long, Integer>> initViewMap() {
+        Map<ViewTypeEnum, ConcurrentHashMap<Long, Integer>> viewMap = new EnumMap<>(ViewTypeEnum.class);
+        for (ViewTypeEnum viewTypeEnum : ViewTypeEnum.values()) {
+            viewMap.put(viewTypeEnum, new ConcurrentHashMap<>());
+        }
+        return viewMap;
+    }
+    // endregion
+}
@@ -1,5 +1,6 @@
 package com.teamproj.backend.service;
 
+import com.google.api.client.googleapis.json.GoogleJsonError;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
 import com.google.api.client.http.HttpTransport;
 import com.google.api.client.http.javanet.NetHttpTransport;
@@ -8,37 +9,86 @@ import com.google.api.client.json.jackson2.JacksonFactory;
 import com.google.api.services.youtube.YouTube;
 import com.google.api.services.youtube.model.*;
 import com.teamproj.backend.Repository.dict.DictYoutubeUrlRepository;
+import com.teamproj.backend.dto.youtube.DictRelatedYoutubeDto;
 import com.teamproj.backend.model.dict.Dict;
 import com.teamproj.backend.model.dict.DictYoutubeUrl;
+import com.teamproj.backend.service.youtube.YoutubeApiException;
+import com.teamproj.backend.service.youtube.YoutubeQuota;
+import com.teamproj.backend.util.CacheAsideTemplate;
+import com.teamproj.backend.util.CacheSpec;
+import com.teamproj.backend.util.CacheSpecs;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Optional;
-
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static com.teamproj.backend.util.RedisKey.YOUTUBE_SEARCH_KEY;
+
+/*
+    YouTube 관련 영상 검색
+    1. YouTube 클라이언트는 하나를 만들어 모든 요청이 같이 씀(HttpTransport 의 연결을 재사용)
+    2. 검색어별 결과(유사한 영상 최대 3개)는 CacheAsideTemplate 로 서버들이 같이 캐싱함(CacheSpecs.YOUTUBE_SEARCH).
+       같은 검색어를 동시에 찾으면 한 요청만 API 를 호출하고 나머지는 그 결과를 받음.
+       기다리는 요청이 먼저 포기하고 같이 호출하지 않도록, 기다리는 시간은 API 시간 초과(연결 + 읽기)보다 길게 잡음.
+    3. 캐시에 없어서 API 를 호출할 때만 YoutubeQuota 에서 할당량을 사용함. 부족하면 budgetExceeded 예외.
+    4. refreshYoutubeSearchResult : 캐시와 관계없이 다시 검색해서 캐시를 교체함(인기 사전 갱신용, 갱신 예산 사용)
+ */
 @Service
 @RequiredArgsConstructor
 public class YoutubeService {
     private final DictYoutubeUrlRepository dictYoutubeUrlRepository;
+    private final YoutubeQuota youtubeQuota;
+    private final CacheAsideTemplate cacheAsideTemplate;
 
     // API key
     @Value("${youtube.apikey}")
     private String apiKey;
+    // 테스트에서는 로컬 가짜 서버(YoutubeStub) 주소로 바꿔서 사용
+    @Value("${youtube.root-url:https://www.googleapis.com/}")
+    private String rootUrl;
+    @Value("${memegle.youtube.connect-timeout-ms:3000}")
+    private int connectTimeoutMs;
+    @Value("${memegle.youtube.read-timeout-ms:5000}")
+    private int readTimeoutMs;
 
     /**
      * Global instance
      * HttpTransport : instance of the HTTP transport.
      * JsonFactory : instance of the JSON factory.
      * NUMBER_OF_VIDEOS_RETURNED : instance of the max number of videos we want returned (50 = upper limit per page).
-     * youtube : instance of Youtube object to make all API requests.
+     * youtube : instance of Youtube object to make all API requests. init 에서 한 번 만들어 같이 사용.
      */
     private static final HttpTransport HTTP_TRANSPORT = new NetHttpTransport();
     private static final JsonFactory JSON_FACTORY = new JacksonFactory();
     private static final long NUMBER_OF_VIDEOS_RETURNED = 50;
-    private static YouTube youtube;
+    // 사전 하나에 저장하는 관련 영상 수
+    private static final int RELATED_VIDEO_LIMIT = 3;
+    // 시간 초과 후 예외를 만들어 돌려주기까지의 여유
+    private static final long SEARCH_WAIT_MARGIN_MS = 1000;
+    private YouTube youtube;
+    private CacheSpec<DictRelatedYoutubeDto> searchCacheSpec;
+
+    @PostConstruct
+    public void init() {
+        /*
+         * The YouTube object is used to make all API requests. The last argument is required, but
+         * because we don't need anything initialized when the HttpRequest is initialized, we override
+         * the interface and provide a no-op function.
+         */
+        // 응답이 없는 API 때문에 호출한 스레드가 묶이지 않도록 시간 초과를 지정함
+        youtube = new YouTube.Builder(HTTP_TRANSPORT, JSON_FACTORY, request -> {
+            request.setConnectTimeout(connectTimeoutMs);
+            request.setReadTimeout(readTimeoutMs);
+        })
+                .setRootUrl(rootUrl)
+                .setApplicationName("youtube-cmdline-search-sample").build();
+        searchCacheSpec = CacheSpecs.YOUTUBE_SEARCH.waitTime(
+                (long) connectTimeoutMs + readTimeoutMs + SEARCH_WAIT_MARGIN_MS, TimeUnit.MILLISECONDS);
+    }
 
     /*
      * Youtube Data Api v3 구조 설명
@@ -83,6 +133,30 @@ public class YoutubeService {
      *
      */
     public List<DictYoutubeUrl> getYoutubeSearchResult(Dict dict, String query) {
+        // 검색어가 2글자보다 작을 경우 신뢰도 있는 결과를 얻기 어려우므로 생략.
+        if (query.replaceAll(" ", "").length() < 2) {
+            return new ArrayList<>();
+        }
+        List<DictRelatedYoutubeDto> relatedYoutubeList = cacheAsideTemplate.getList(searchCacheSpec,
+                getSearchKey(query), () -> searchRelatedVideo(query, false));
+        return toDictYoutubeUrlList(dict, relatedYoutubeList);
+    }
+
+    /**
+     * 캐시와 관계없이 다시 검색해서 캐시를 교체. 인기 사전의 관련 영상 갱신에 사용하며 갱신 예산을 사용함.
+     *
+     * @throws YoutubeApiException 호출 실패 또는 갱신 예산 초과(budgetExceeded)
+     */
+    public List<DictYoutubeUrl> refreshYoutubeSearchResult(Dict dict, String query) {
+        if (query.replaceAll(" ", "").length() < 2) {
+            return new ArrayList<>();
+        }
+        List<DictRelatedYoutubeDto> relatedYoutubeList = cacheAsideTemplate.refreshList(searchCacheSpec,
+                getSearchKey(query), () -> searchRelatedVideo(query, true));
+        return toDictYoutubeUrlList(dict, relatedYoutubeList);
+    }
+
+    private List<DictRelatedYoutubeDto> searchRelatedVideo(String query, boolean refresh) {
         /*
             결과값 받아오기 프로세스
             1. 쿼리의 공백 제거
@@ -93,13 +167,24 @@ public class YoutubeService {
             6. 최대 3개까지 저장하여 반환.
             7. 이론상 좋아.
          */
-        // 검색어가 2글자보다 작을 경우 신뢰도 있는 결과를 얻기 어려우므로 생략.
-        if (query.replaceAll(" ", "").length() < 2) {
-            return new ArrayList<>();
+        boolean acquired = refresh
+                ? youtubeQuota.tryAcquireForRefresh(YoutubeQuota.SEARCH_COST)
+                : youtubeQuota.tryAcquire(YoutubeQuota.SEARCH_COST);
+        if (!acquired) {
+            throw YoutubeApiException.budgetExceeded();
         }
-        List<SearchResult> searchResultList = youtubeSearch(query);
 
-        List<DictYoutubeUrl> dictYoutubeUrlList = new ArrayList<>();
+        List<SearchResult> searchResultList;
+        try {
+            searchResultList = youtubeSearch(query);
+        } catch (YoutubeApiException e) {
+            if (e.isApiQuotaExceeded()) {
+                youtubeQuota.markExhausted();
+            }
+            throw e;
+        }
+
+        List<DictRelatedYoutubeDto> relatedYoutubeList = new ArrayList<>();
         for (SearchResult searchResult : searchResultList) {
             ResourceId rId = searchResult.getId();
 
@@ -114,24 +199,43 @@ public class YoutubeService {
 
                 // 영상의 제목과 검색어가 유사한지 비교한다. 신뢰도 높은 결과를 위해.
                 if (isSimilar(title, query)) {
-                    dictYoutubeUrlList.add(DictYoutubeUrl.builder()
-                            .dict(dict)
+                    relatedYoutubeList.add(DictRelatedYoutubeDto.builder()
                             .title(title)
                             .channel(channel)
                             .thumbNail(thumbNail)
-                            .youtubeUrl(youtubeUrl)
+                            .youtubeId(youtubeUrl)
                             .build());
                 }
             }
 
-            if (dictYoutubeUrlList.size() >= 3) {
+            if (relatedYoutubeList.size() >= RELATED_VIDEO_LIMIT) {
                 break;
             }
         }
 
+        return relatedYoutubeList;
+    }
+
+    // 캐시된 값은 수정하지 않고 사전마다 새 엔티티를 만듦
+    private List<DictYoutubeUrl> toDictYoutubeUrlList(Dict dict, List<DictRelatedYoutubeDto> relatedYoutubeList) {
+        List<DictYoutubeUrl> dictYoutubeUrlList = new ArrayList<>();
+        for (DictRelatedYoutubeDto relatedYoutube : relatedYoutubeList) {
+            dictYoutubeUrlList.add(DictYoutubeUrl.builder()
+                    .dict(dict)
+                    .title(relatedYoutube.getTitle())
+                    .channel(relatedYoutube.getChannel())
+                    .thumbNail(relatedYoutube.getThumbNail())
+                    .youtubeUrl(relatedYoutube.getYoutubeId())
+                    .build());
+        }
         return dictYoutubeUrlList;
     }
 
+    // 띄어쓰기, 대소문자만 다른 검색어는 같은 결과를 사용
+    private String getSearchKey(String query) {
+        return YOUTUBE_SEARCH_KEY + ":" + query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
     private boolean isSimilar(String title, String query) {
         // 1. query, title 의 공백 제거
         query = query.replaceAll(" ", "");
@@ -204,24 +308,15 @@ public class YoutubeService {
     }
 
     /**
-     * Initializes YouTube object to search for videos on YouTube (Youtube.Search.List). The program
+     * Searches for videos on YouTube (Youtube.Search.List) with the shared YouTube object. The program
      * then prints the names and thumbnails of each of the videos (only first 50 videos).
      *
      * @param query request query to Youtube Data API v3. origin parameter name : q
      *              <p>
-     *              Handling Exceptions : IOException, GoogleJsonResponseException
+     *              Handling Exceptions : IOException, GoogleJsonResponseException -> YoutubeApiException
      */
     public List<SearchResult> youtubeSearch(String query) {
         try {
-            /*
-             * The YouTube object is used to make all API requests. The last argument is required, but
-             * because we don't need anything initialized when the HttpRequest is initialized, we override
-             * the interface and provide a no-op function.
-             */
-            youtube = new YouTube.Builder(HTTP_TRANSPORT, JSON_FACTORY, request -> {
-            })
-                    .setApplicationName("youtube-cmdline-search-sample").build();
-
             // Get query term from user.
 //            String queryTerm = getInputQuery(query);
             String queryTerm = query;
@@ -247,19 +342,21 @@ public class YoutubeService {
             search.setMaxResults(NUMBER_OF_VIDEOS_RETURNED);
             SearchListResponse searchResponse = search.execute();
 
-            Optional<List<SearchResult>> searchResultList = Optional.of(searchResponse.getItems());
+            Optional<List<SearchResult>> searchResultList = Optional.ofNullable(searchResponse.getItems());
 
             return searchResultList.orElseGet(ArrayList::new);
 //            searchResultList.ifPresent(searchResults -> prettyPrint(searchResults.iterator(), queryTerm));
         } catch (GoogleJsonResponseException e) {
-            System.err.println("Google Service Error : " + e.getDetails().getCode() + " : "
-                    + e.getDetails().getMessage());
-        } catch (Throwable t) {
-            t.printStackTrace();
+            // 이전에는 오류를 출력만 하고 null 을 반환해서 호출한 쪽에서 NullPointerException 이 발생했음.
+            // 재시도 / 할당량 판단을 위해 상태 코드와 사유를 그대로 전달함.
+            GoogleJsonError details = e.getDetails();
+            String reason = details == null || details.getErrors() == null || details.getErrors().isEmpty()
+                    ? null : details.getErrors().get(0).getReason();
+            throw new YoutubeApiException(e.getStatusCode(), reason, "Google Service Error : " + e.getStatusCode()
+                    + " : " + (details == null ? e.getStatusMessage() : details.getMessage()), e);
+        } catch (IOException e) {
+            throw new YoutubeApiException(0, null, "Google Service Error : " + e.getMessage(), e);
         }
-
-        // other unknown error : return null
-        return null;
     }
 
     /*
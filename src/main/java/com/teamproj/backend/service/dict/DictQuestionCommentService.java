@@ -54,6 +54,7 @@ public class DictQuestionCommentService {
     }
 
     // 댓글 작성
+    @Transactional
     public CommentPostResponseDto postComment(UserDetailsImpl userDetails, Long questionId, CommentPostRequestDto commentPostRequestDto) {
         // 로그인 여부 확인
         ValidChecker.loginCheck(userDetails);
@@ -66,6 +67,8 @@ public class DictQuestionCommentService {
                 .user(user)
                 .enabled(true)
                 .build());
+        // 질문의 댓글 개수 반영
+        dictQuestionRepository.updateCommentCount(questionId, 1);
 
         // 댓글 작성 시 질문 작성자에게 알림
         sendAlarmToDictQuestionWriter(user, dictQuestion);
@@ -104,6 +107,10 @@ public class DictQuestionCommentService {
         DictQuestionComment comment = commentIsMineCheck(userDetails, commentId);
 
         checkSelected(comment);
+        // 이미 삭제된 댓글은 개수에서 빠져있으므로 다시 빼지 않음.
+        if (comment.isEnabled()) {
+            dictQuestionRepository.updateCommentCount(comment.getDictQuestion().getQuestionId(), -1);
+        }
         // enabled 를 false 로 하여 삭제 처리. 이후 쿼리에서 조회되지 않음!
         comment.setEnabled(false);
 
@@ -117,7 +124,7 @@ public class DictQuestionCommentService {
     public boolean likeComment(UserDetailsImpl userDetails, Long commentId) {
         // 로그인 체크
         ValidChecker.loginCheck(userDetails);
-        User user = jwtAuthenticateProcessor.getUser(userDetails);
+        User user = jwtAuthenticateProcessor.getUserReference(userDetails);
         DictQuestionComment comment = getSafeComment(commentId);
 
         /*
@@ -136,6 +143,8 @@ public class DictQuestionCommentService {
 
             isLike = true;
         }
+        // 댓글 좋아요 개수 반영
+        commentRepository.updateLikeCount(commentId, isLike ? 1 : -1);
 
         return isLike;
     }
@@ -145,7 +154,7 @@ public class DictQuestionCommentService {
     // 자신의 댓글인지 체크하는 기능
     private DictQuestionComment commentIsMineCheck(UserDetailsImpl userDetails, Long commentId) {
         DictQuestionComment comment = getSafeComment(commentId);
-        if (!jwtAuthenticateProcessor.getUser(userDetails).getId().equals(comment.getUser().getId())) {
+        if (!jwtAuthenticateProcessor.getUserId(userDetails).equals(comment.getUser().getId())) {
             throw new IllegalArgumentException(NOT_MY_COMMENT);
         }
 
@@ -179,7 +188,7 @@ public class DictQuestionCommentService {
                         qComment.user.nickname,
                         qComment.content,
                         qComment.createdAt,
-                        qComment.questionCommentLike.size(),
+                        qComment.likeCount,
                         queryFactory
                                 .select(qQuestionCommentLike.count())
                                 .from(qQuestionCommentLike)
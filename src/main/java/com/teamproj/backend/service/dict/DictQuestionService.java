@@ -2,15 +2,13 @@ package com.teamproj.backend.service.dict;
 
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.teamproj.backend.Repository.ViewersRepository;
 import com.teamproj.backend.Repository.dict.DictCuriousTooRepository;
 import com.teamproj.backend.Repository.dict.DictQuestionCommentRepository;
 import com.teamproj.backend.Repository.dict.DictQuestionRepository;
 import com.teamproj.backend.Repository.dict.QuestionSelectRepository;
 import com.teamproj.backend.Repository.image.ImageRepository;
+import com.teamproj.backend.dto.cursor.CursorPageResponseDto;
 import com.teamproj.backend.dto.dict.question.DictQuestionResponseDto;
 import com.teamproj.backend.dto.dict.question.DictQuestionUploadRequestDto;
 import com.teamproj.backend.dto.dict.question.DictQuestionUploadResponseDto;
@@ -22,13 +20,13 @@ import com.teamproj.backend.model.User;
 import com.teamproj.backend.model.dict.question.*;
 import com.teamproj.backend.model.image.Image;
 import com.teamproj.backend.model.image.ImageTypeEnum;
-import com.teamproj.backend.model.viewers.QViewers;
 import com.teamproj.backend.model.viewers.ViewTypeEnum;
-import com.teamproj.backend.model.viewers.Viewers;
 import com.teamproj.backend.security.UserDetailsImpl;
 import com.teamproj.backend.service.AlarmService;
 import com.teamproj.backend.service.RedisService;
 import com.teamproj.backend.service.StatService;
+import com.teamproj.backend.service.UserProfileService;
+import com.teamproj.backend.service.ViewCountService;
 import com.teamproj.backend.util.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -54,14 +52,15 @@ public class DictQuestionService {
     private final QuestionSelectRepository questionSelectRepository;
 
     private final ImageRepository imageRepository;
-    private final ViewersRepository viewersRepository;
 
     private final RedisService redisService;
     private final StatService statService;
     private final DictQuestionCommentService commentService;
     private final AlarmService alarmService;
+    private final ViewCountService viewCountService;
 
     private final JwtAuthenticateProcessor jwtAuthenticateProcessor;
+    private final UserProfileService userProfileService;
     private final S3Uploader s3Uploader;
 
     private final JPAQueryFactory queryFactory;
@@ -82,11 +81,39 @@ public class DictQuestionService {
         return getDictQuestionResponseDtoList(user, tupleList);
     }
 
+    /**
+     * 질문 목록 가져오기(커서 기반). questionId 범위 조건으로 조회하므로 뒤쪽 페이지도 첫 페이지와 같은 속도로 조회됨.
+     *
+     * @param cursor 이전 응답의 nextCursor. 첫 페이지는 null.
+     * @param size   사이즈값
+     * @param token  Authorization header token
+     * @return 질문 목록과 다음 커서
+     */
+    public CursorPageResponseDto<DictQuestionResponseDto> getQuestionByCursor(String cursor, int size, String token) {
+        PageCursor.validateSize(size);
+        // 1. 회원 정보가 존재할 시 로그인 처리
+        UserDetailsImpl userDetails = jwtAuthenticateProcessor.forceLogin(token);
+        User user = getSafeUserByUserDetails(userDetails);
+        // 2. 다음 페이지 존재 여부를 알기 위해 1개 더 조회
+        List<DictQuestion> questionList = getQuestionProcByCursor(true, PageCursor.decode(cursor), size + 1);
+        // 3. 다음 페이지가 있을 경우 마지막 질문으로 다음 커서 생성
+        String nextCursor = null;
+        if (questionList.size() > size) {
+            questionList = questionList.subList(0, size);
+            nextCursor = PageCursor.encode(questionList.get(size - 1).getQuestionId());
+        }
+
+        return CursorPageResponseDto.<DictQuestionResponseDto>builder()
+                .content(getDictQuestionResponseDtoList(user, questionList))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     private User getSafeUserByUserDetails(UserDetailsImpl userDetails) {
         if (userDetails == null) {
             return null;
         }
-        return jwtAuthenticateProcessor.getUser(userDetails);
+        return jwtAuthenticateProcessor.getUserReference(userDetails);
     }
 
 //    // 대량의 데이터를 처리할 때 나눠 호출하는게 더 빨라서 질문 조회에 한해서는 한방쿼리 제외.....
@@ -154,6 +181,18 @@ public class DictQuestionService {
 //                .fetch();
 //    }
 
+    private List<DictQuestion> getQuestionProcByCursor(boolean enabled, PageCursor cursor, int size) {
+        QDictQuestion qDictQuestion = QDictQuestion.dictQuestion;
+
+        return queryFactory
+                .selectFrom(qDictQuestion)
+                .where(qDictQuestion.enabled.eq(enabled),
+                        cursor == null ? null : qDictQuestion.questionId.lt(cursor.getId()))
+                .orderBy(qDictQuestion.questionId.desc())
+                .limit(size)
+                .fetch();
+    }
+
     private List<DictQuestion> getQuestionProc(boolean enabled, int page, int size) {
         QDictQuestion qDictQuestion = QDictQuestion.dictQuestion;
 
@@ -223,35 +262,16 @@ public class DictQuestionService {
 
         // 작성자 맵
         HashMap<String, String> userInfoMap = getUserInfoMap(questionList);
-        // 나도 궁금해요 맵
-        HashMap<String, Boolean> curiousTooMap = getCuriousTooMap(questionIdList);
-        // 좋아요 개수 맵
-        HashMap<Long, Long> curiousTooCountMap = getCuriousTooCountMap(questionList);
-        // 댓글 개수 맵
-        HashMap<Long, Long> commentCountMap = getDictQuestionCommentCountMap(questionList);
+        // 나도 궁금해요 한 질문 ID
+        LongHashSet curiousTooIdSet = getCuriousTooIdSet(questionIdList, user);
         // 채택 여부 맵
-        HashMap<Long, Long> completeMap = getIsComplete(questionIdList);
+        LongLongHashMap completeMap = getIsComplete(questionIdList);
 
-        Long userId = user == null ? null : user.getId();
         // DB 에서 받아온 게시글 List 데이터를 담을 Response Dto 생성
         List<DictQuestionResponseDto> dictQuestionResponseDtoList = new ArrayList<>();
         for (DictQuestion d : questionList) {
             Long questionId = d.getQuestionId();
 
-            Long curiousTooCntLong = curiousTooCountMap.get(questionId);
-            int curiousTooCnt;
-            if(curiousTooCntLong == null){
-                curiousTooCnt = 0;
-            }else{
-                curiousTooCnt = curiousTooCntLong.intValue();
-            }
-            Long commentCntLong = commentCountMap.get(questionId);
-            int commentCnt;
-            if(commentCntLong == null){
-                commentCnt = 0;
-            }else{
-                commentCnt = commentCntLong.intValue();
-            }
             dictQuestionResponseDtoList.add(DictQuestionResponseDto.builder()
                     .questionId(questionId)
                     .title(d.getQuestionName())
@@ -262,10 +282,10 @@ public class DictQuestionService {
                     .writer(userInfoMap.get(questionId+":nickname"))
                     .createdAt(d.getCreatedAt())
                     .views(d.getViews())
-                    .curiousTooCnt(curiousTooCnt)
-                    .commentCnt(commentCnt)
-                    .isCuriousToo(user != null && curiousTooMap.get(questionId + ":" + userId) != null)
-                    .isComplete(completeMap.get(questionId) != null)
+                    .curiousTooCnt(d.getCuriousTooCount())
+                    .commentCnt(d.getCommentCount())
+                    .isCuriousToo(curiousTooIdSet.contains(questionId))
+                    .isComplete(completeMap.containsKey(questionId))
                     .build()
             );
         }
@@ -274,7 +294,7 @@ public class DictQuestionService {
     }
 
     // 채택 여부 받아오기 기능
-    private HashMap<Long, Long> getIsComplete(List<Long> questionIdList) {
+    private LongLongHashMap getIsComplete(List<Long> questionIdList) {
         QQuestionSelect qQuestionSelect = QQuestionSelect.questionSelect;
         List<Tuple> selectTuple = queryFactory.select(qQuestionSelect.dictQuestion.questionId, qQuestionSelect.questionComment.questionCommentId)
                 .from(qQuestionSelect)
@@ -284,57 +304,33 @@ public class DictQuestionService {
         return MemegleServiceStaticMethods.getLongLongMap(selectTuple);
     }
 
-    // 댓글 개수 받아오기 기능
-    private HashMap<Long, Long> getDictQuestionCommentCountMap(List<DictQuestion> questionList) {
-        QDictQuestionComment qComment = QDictQuestionComment.dictQuestionComment;
-        NumberPath<Long> count = Expressions.numberPath(Long.class, "c");
-        List<Tuple> commentCountListTuple = queryFactory
-                .select(qComment.dictQuestion.questionId, qComment.count().as(count))
-                .from(qComment)
-                .where(qComment.dictQuestion.in(questionList)
-                        .and(qComment.enabled.eq(true)))
-                .groupBy(qComment.dictQuestion.questionId)
-                .fetch();
-
-        return MemegleServiceStaticMethods.getLongLongMap(commentCountListTuple);
-    }
-
-    // 나도 궁금해요 개수 받아오기 기능
-    private HashMap<Long, Long> getCuriousTooCountMap(List<DictQuestion> questionList) {
-        QDictCuriousToo qDictCuriousToo = QDictCuriousToo.dictCuriousToo;
-        QDictQuestion qDictQuestion = QDictQuestion.dictQuestion;
-
-        List<Tuple> curiousTooCountListTuple = queryFactory
-                .select(qDictCuriousToo.dictQuestion.questionId, qDictCuriousToo.count())
-                .from(qDictCuriousToo)
-                .where(qDictCuriousToo.dictQuestion.in(questionList))
-                .groupBy(qDictQuestion)
-                .fetch();
-
-        return MemegleServiceStaticMethods.getLongLongMap(curiousTooCountListTuple);
-    }
+    // 사용자가 나도 궁금해요 한 질문 ID. 비회원이면 빈 집합.
+    private LongHashSet getCuriousTooIdSet(List<Long> questionIdList, User user) {
+        if (user == null || questionIdList.isEmpty()) {
+            return new LongHashSet();
+        }
 
-    // 나도 궁금해요 체크 여부 받아오기 기능
-    private HashMap<String, Boolean> getCuriousTooMap(List<Long> questionIdList) {
         QDictCuriousToo qDictCuriousToo = QDictCuriousToo.dictCuriousToo;
-        List<Tuple> curiousTooTuple = queryFactory.select(qDictCuriousToo.dictQuestion.questionId, qDictCuriousToo.user.id)
+        List<Long> curiousTooIdList = queryFactory.select(qDictCuriousToo.dictQuestion.questionId)
                 .from(qDictCuriousToo)
-                .where(qDictCuriousToo.dictQuestion.questionId.in(questionIdList))
+                .where(qDictCuriousToo.dictQuestion.questionId.in(questionIdList),
+                        qDictCuriousToo.user.id.eq(user.getId()))
                 .fetch();
 
-        return MemegleServiceStaticMethods.getLikeMap(curiousTooTuple);
+        return LongHashSet.of(curiousTooIdList);
     }
 
     // 질문 작성자 정보 받아오기 기능
     private HashMap<String, String> getUserInfoMap(List<DictQuestion> questionList) {
         // 얻어오는 정보 : 사용자 아이디, 사용자 닉네임, 사용자 프로필이미지
-        QDictQuestion qDictQuestion = QDictQuestion.dictQuestion;
-        List<Tuple> userInfoTuple = queryFactory.select(qDictQuestion.questionId, qDictQuestion.user.username, qDictQuestion.user.nickname, qDictQuestion.user.profileImage)
-                .from(qDictQuestion)
-                .where(qDictQuestion.in(questionList))
-                .fetch();
+        // 작성자 ID 는 질문에 이미 있으므로(외래키) 작성자 정보는 UserProfileService 에서 채움
+        HashMap<Long, Long> writerIdMap = new HashMap<>();
+        for (DictQuestion dictQuestion : questionList) {
+            writerIdMap.put(dictQuestion.getQuestionId(), dictQuestion.getUser().getId());
+        }
 
-        return MemegleServiceStaticMethods.getUserInfoMap(userInfoTuple);
+        return MemegleServiceStaticMethods.getUserInfoMap(writerIdMap,
+                userProfileService.getUserProfileMap(writerIdMap.values()));
     }
     //endregion
 
@@ -362,7 +358,7 @@ public class DictQuestionService {
         }
 
         // 3. 게시글 데이터 DB에 저장
-        User user = jwtAuthenticateProcessor.getUser(userDetails);
+        User user = jwtAuthenticateProcessor.getUserReference(userDetails);
         DictQuestion dictQuestion = DictQuestion.builder()
                 .user(user)                         // 작성자
                 .questionName(questionName)         // 제목
@@ -415,26 +411,19 @@ public class DictQuestionService {
         String thumbNail = dictQuestionTuple.get(5, String.class);
         LocalDateTime createdAt = dictQuestionTuple.get(6, LocalDateTime.class);
         Integer viewsInteger = dictQuestionTuple.get(7, Integer.class);
-        int views = viewsInteger == null ? 0 : viewsInteger;
+        // DB 에 아직 반영되지 않은 조회수까지 포함
+        int views = (viewsInteger == null ? 0 : viewsInteger) + viewCountService.getPendingViews(ViewTypeEnum.DICT_QUESTION, questionId);
         Integer curiousTooCntInteger = dictQuestionTuple.get(8, Integer.class);
         int curiousTooCnt = curiousTooCntInteger == null ? 0 : curiousTooCntInteger;
         Long isCuriousTooLong = dictQuestionTuple.get(9, Long.class);
         Boolean isCuriousToo = isCuriousTooLong != null && isCuriousTooLong > 0;
         Long selectedComment = dictQuestionTuple.get(10, Long.class);
         selectedComment = selectedComment == null ? 0L : selectedComment;
-        Long viewerIpLong = dictQuestionTuple.get(11, Long.class);
-        boolean isView = viewerIpLong != null && viewerIpLong > 0;
 
         // 4. 게시글 조회수 관련 처리 로직
         // - 조회하는 유저 IP를 통해 조회수 새로고침과 같은 중복 처리 방지
-        if (!isView) {
-            viewersRepository.save(Viewers.builder()
-                    .viewTypeEnum(ViewTypeEnum.DICT_QUESTION)
-                    .targetId(questionId)
-                    .viewerIp(StatisticsUtils.getClientIp())
-                    .build());
-            dictQuestionRepository.updateView(questionId);
-        }
+        // - DB 반영은 ViewCountService 에서 모아서 처리함
+        viewCountService.view(ViewTypeEnum.DICT_QUESTION, questionId, StatisticsUtils.getClientIp());
 
         List<DictQuestionCommentResponseDto> commentList = commentService.getCommentList(questionId, user, selectedComment);
         return DictQuestionDetailResponseDto.builder()
@@ -458,11 +447,8 @@ public class DictQuestionService {
     private Tuple getSafeQuestionTupleById(Long questionId, User user) {
         QDictQuestion qDictQuestion = QDictQuestion.dictQuestion;
         QDictCuriousToo qDictCuriousToo = QDictCuriousToo.dictCuriousToo;
-        QViewers qViewers = QViewers.viewers;
         QQuestionSelect qQuestionSelect = QQuestionSelect.questionSelect;
 
-        String userIp = StatisticsUtils.getClientIp();
-
         Tuple result = queryFactory
                 .select(qDictQuestion.user.username,
                         qDictQuestion.user.nickname,
@@ -472,7 +458,7 @@ public class DictQuestionService {
                         qDictQuestion.thumbNail,
                         qDictQuestion.createdAt,
                         qDictQuestion.views,
-                        qDictQuestion.dictCuriousTooList.size(),
+                        qDictQuestion.curiousTooCount,
                         queryFactory
                                 .select(qDictCuriousToo.count())
                                 .from(qDictCuriousToo)
@@ -481,11 +467,7 @@ public class DictQuestionService {
                         queryFactory
                                 .select(qQuestionSelect.questionComment.questionCommentId.max())
                                 .from(qQuestionSelect)
-                                .where(qQuestionSelect.dictQuestion.eq(qDictQuestion)),
-                        queryFactory
-                                .select(qViewers.count())
-                                .from(qViewers)
-                                .where(qViewers.targetId.eq(questionId), qViewers.viewerIp.eq(userIp), qViewers.viewTypeEnum.eq(ViewTypeEnum.DICT_QUESTION))
+                                .where(qQuestionSelect.dictQuestion.eq(qDictQuestion))
                 )
                 .from(qDictQuestion)
                 .where(qDictQuestion.questionId.eq(questionId),
@@ -586,13 +568,14 @@ public class DictQuestionService {
     //endregion
 
     //region 질문 나도 궁금해요
+    @Transactional
     public boolean curiousTooQuestion(UserDetailsImpl userDetails, Long questionId) {
         // 로그인한 유저인지 체크
         ValidChecker.loginCheck(userDetails);
         // 1. 좋아요할 게시글 조회
         DictQuestion dictQuestion = getSafeQuestion(questionId);
         // 2. 해당 게시글 좋아요 조회
-        User user = jwtAuthenticateProcessor.getUser(userDetails);
+        User user = jwtAuthenticateProcessor.getUserReference(userDetails);
         Optional<DictCuriousToo> dictCuriousToo = dictCuriousTooRepository.findByDictQuestionAndUser(dictQuestion, user);
 
         // 3. 나도 궁금해요 여부 확인
@@ -608,6 +591,8 @@ public class DictQuestionService {
                     .build());
             isLike = true;
         }
+        // 나도 궁금해요 개수 반영
+        dictQuestionRepository.updateCuriousTooCount(questionId, isLike ? 1 : -1);
 
         return isLike;
     }
@@ -634,14 +619,10 @@ public class DictQuestionService {
         }
         // 작성자 맵
         HashMap<String, String> userInfoMap = getUserInfoMap(questionList);
-        // 나도 궁금해요 맵
-        HashMap<String, Boolean> curiousTooMap = getCuriousTooMap(questionIdList);
-        // 좋아요 개수 맵
-        HashMap<Long, Long> curiousTooCountMap = getCuriousTooCountMap(questionList);
-        // 댓글 개수 맵
-        HashMap<Long, Long> commentCountMap = getDictQuestionCommentCountMap(questionList);
+        // 나도 궁금해요 한 질문 ID
+        LongHashSet curiousTooIdSet = getCuriousTooIdSet(questionIdList, user);
         // 채택 여부 맵
-        HashMap<Long, Long> completeMap = getIsComplete(questionIdList);
+        LongLongHashMap completeMap = getIsComplete(questionIdList);
 
 
         // 3. 검색 결과가 있으면 해당 게시글들 Response
@@ -650,16 +631,8 @@ public class DictQuestionService {
             // Map 에 사용 될 id 키값
             Long questionId = dictQuestion.getQuestionId();
 
-            // likeCountMap 에 값이 없을경우 좋아요가 없음 = 0개.
-            Long curiousTooCountLong = curiousTooCountMap.get(questionId);
-            int curiousTooCount = curiousTooCountLong == null ? 0 : curiousTooCountLong.intValue();
-
-            // CommentCountMap 에 값이 없을 경우 댓글이 없음 = 0개.
-            Long commentCountLong = commentCountMap.get(questionId);
-            int commentCount = commentCountLong == null ? 0 : commentCountLong.intValue();
-
             // completeMap 에 값이 없을 경우 채택되지 않음 = false.
-            boolean isComplete = completeMap.get(questionId) != null;
+            boolean isComplete = completeMap.containsKey(questionId);
 
             dictQuestionSearchResponseDtoList.add(DictQuestionSearchResponseDto.builder()
                     .questionId(questionId)
@@ -671,9 +644,9 @@ public class DictQuestionService {
                     .writer(userInfoMap.get(questionId + ":nickname"))
                     .createdAt(dictQuestion.getCreatedAt())
                     .views(dictQuestion.getViews())
-                    .curiousTooCnt(curiousTooCount)
-                    .commentCnt(commentCount)
-                    .isCuriousToo(user != null && curiousTooMap.get(questionId + ":" + user.getId()) != null)
+                    .curiousTooCnt(dictQuestion.getCuriousTooCount())
+                    .commentCnt(dictQuestion.getCommentCount())
+                    .isCuriousToo(curiousTooIdSet.contains(questionId))
                     .isComplete(isComplete)
                     .build());
         }
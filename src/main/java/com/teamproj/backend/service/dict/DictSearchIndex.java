@@ -0,0 +1,343 @@
+package com.teamproj.backend.service.dict;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teamproj.backend.dto.dict.search.DictSearchIndexResultDto;
+import com.teamproj.backend.model.dict.Dict;
+import com.teamproj.backend.model.dict.QDict;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+    사전 검색용 메모리 역색인(n-gram inverted index)
+    dictName/summary/content 에 LIKE %q% 를 실행하던 검색과 개수 조회를 대체함.
+    1. 사전 이름, 한줄요약, 내용을 정규화한 뒤 2-gram, 3-gram 단위로 색인
+       한글은 음절 하나가 문자 하나이므로 2글자 검색어도 색인으로 처리됨.
+    2. 검색어의 n-gram 중 가장 적은 사전을 가진 색인 하나로 후보를 추리고, 후보의 원문에 검색어가 포함되는지 확인
+       LIKE %q% 와 같은 결과를 돌려주며, 개수도 정확함.
+    3. 서버 시작시 전체 사전으로 색인을 만들고, 이후 사전 작성/수정/삭제가 커밋되면 DictSearchIndexListener 가 갱신함.
+       다른 서버에서 수정된 사전은 syncModifiedDict 가 주기적으로 반영함.
+       다른 서버에서 삭제된 사전은 검색 결과를 DB 에서 조회할 때 없으면 removeAll 로 지움.
+ */
+@Service
+@RequiredArgsConstructor
+public class DictSearchIndex {
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final JPAQueryFactory queryFactory;
+
+    // 최근 수정된 사전 반영 주기 사이에 놓치는 사전이 없도록 겹쳐서 조회하는 시간(초)
+    @Value("${memegle.search.dict.sync-overlap-seconds:5}")
+    private long syncOverlapSeconds;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // dictId -> 색인된 사전
+    private final Map<Long, IndexedDict> indexedDictMap = new HashMap<>();
+    // n-gram -> dictId 목록
+    private final Map<String, Set<Long>> postingMap = new HashMap<>();
+
+    private volatile boolean ready = false;
+    private volatile LocalDateTime lastSyncedAt;
+
+    /**
+     * 색인 사용 가능 여부. 서버 시작 후 색인이 만들어지기 전까지는 false.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 사전 검색
+     *
+     * @param q    검색어
+     * @param page 페이지값
+     * @param size 사이즈값
+     * @return 최신순 dictId 목록과 검색 결과 총 개수
+     */
+    public DictSearchIndexResultDto search(String q, int page, int size) {
+        List<IndexedDict> matchedList = findMatchedList(q);
+        matchedList.sort(Comparator.comparingLong((IndexedDict indexedDict) -> indexedDict.createdAt)
+                .thenComparingLong(indexedDict -> indexedDict.dictId)
+                .reversed());
+
+        int fromIndex = Math.min(page * size, matchedList.size());
+        int toIndex = Math.min(fromIndex + size, matchedList.size());
+        List<Long> dictIdList = new ArrayList<>();
+        for (IndexedDict indexedDict : matchedList.subList(fromIndex, toIndex)) {
+            dictIdList.add(indexedDict.dictId);
+        }
+
+        return DictSearchIndexResultDto.builder()
+                .dictIdList(dictIdList)
+                .totalCount(matchedList.size())
+                .build();
+    }
+
+    /**
+     * 검색 결과 총 개수
+     *
+     * @param q 검색어
+     * @return 검색 결과 총 개수
+     */
+    public long count(String q) {
+        return findMatchedList(q).size();
+    }
+
+    /**
+     * 사전 색인. 트랜잭션 안이면 커밋된 뒤에 반영함.
+     * 커밋 전에 반영하면 다른 요청이 아직 DB 에 없는 사전을 찾고, 삭제된 사전으로 보고 색인에서 지울 수 있음.
+     *
+     * @param dict 저장/수정된 사전
+     */
+    public void indexAfterCommit(Dict dict) {
+        // 커밋 후에는 엔티티가 바뀌었을 수 있으므로 지금 내용으로 만들어 둠
+        IndexedDict indexedDict = toIndexedDict(dict);
+        runAfterCommit(() -> put(indexedDict));
+    }
+
+    /**
+     * 사전 색인 삭제. 트랜잭션 안이면 커밋된 뒤에 반영함.
+     *
+     * @param dictId 삭제된 사전 id
+     */
+    public void removeAfterCommit(Long dictId) {
+        runAfterCommit(() -> remove(dictId));
+    }
+
+    /**
+     * 색인에는 있지만 DB 에 없는 사전 삭제. 다른 서버에서 삭제된 사전을 검색 결과 조회시 정리함.
+     *
+     * @param dictIdList 삭제할 사전 id 목록
+     */
+    public void removeAll(Collection<Long> dictIdList) {
+        lock.writeLock().lock();
+        try {
+            for (Long dictId : dictIdList) {
+                removeWithoutLock(dictId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 서버 시작시 전체 사전 색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lastSyncedAt = LocalDateTime.now();
+
+        QDict qDict = QDict.dict;
+        Long lastDictId = 0L;
+        while (true) {
+            List<Tuple> tupleList = queryFactory
+                    .select(qDict.dictId, qDict.dictName, qDict.summary, qDict.content, qDict.createdAt)
+                    .from(qDict)
+                    .where(qDict.dictId.gt(lastDictId))
+                    .orderBy(qDict.dictId.asc())
+                    .limit(LOAD_CHUNK_SIZE)
+                    .fetch();
+
+            for (Tuple tuple : tupleList) {
+                put(tupleToIndexedDict(tuple));
+            }
+            if (tupleList.size() < LOAD_CHUNK_SIZE) {
+                break;
+            }
+            lastDictId = tupleList.get(tupleList.size() - 1).get(0, Long.class);
+        }
+
+        ready = true;
+    }
+
+    // 다른 서버에서 작성/수정된 사전 반영
+    @Scheduled(fixedDelayString = "${memegle.search.dict.sync-delay-ms:60000}")
+    public void syncModifiedDict() {
+        if (!ready) {
+            return;
+        }
+
+        LocalDateTime from = lastSyncedAt.minusSeconds(syncOverlapSeconds);
+        lastSyncedAt = LocalDateTime.now();
+
+        QDict qDict = QDict.dict;
+        List<Tuple> tupleList = queryFactory
+                .select(qDict.dictId, qDict.dictName, qDict.summary, qDict.content, qDict.createdAt)
+                .from(qDict)
+                .where(qDict.modifiedAt.goe(from))
+                .fetch();
+
+        for (Tuple tuple : tupleList) {
+            put(tupleToIndexedDict(tuple));
+        }
+    }
+
+    // region 보조 기능
+    private List<IndexedDict> findMatchedList(String q) {
+        String normalizedQ = normalize(q);
+        List<IndexedDict> matchedList = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (IndexedDict indexedDict : getCandidateList(normalizedQ)) {
+                if (indexedDict.contains(normalizedQ)) {
+                    matchedList.add(indexedDict);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matchedList;
+    }
+
+    // 검색어의 n-gram 중 가장 적은 사전을 가진 색인의 사전 목록. 1글자 검색어는 전체 사전이 후보가 됨.
+    private Collection<IndexedDict> getCandidateList(String normalizedQ) {
+        if (normalizedQ.length() < MIN_GRAM) {
+            return indexedDictMap.values();
+        }
+
+        int gramSize = Math.min(normalizedQ.length(), MAX_GRAM);
+        Set<Long> smallestPosting = null;
+        for (int i = 0; i + gramSize <= normalizedQ.length(); i++) {
+            Set<Long> posting = postingMap.get(normalizedQ.substring(i, i + gramSize));
+            if (posting == null) {
+                return Collections.emptyList();
+            }
+            if (smallestPosting == null || posting.size() < smallestPosting.size()) {
+                smallestPosting = posting;
+            }
+        }
+
+        List<IndexedDict> candidateList = new ArrayList<>();
+        for (Long dictId : smallestPosting) {
+            candidateList.add(indexedDictMap.get(dictId));
+        }
+        return candidateList;
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // 색인 추가. 이미 색인된 사전이면 교체함.
+    private void put(IndexedDict indexedDict) {
+        lock.writeLock().lock();
+        try {
+            removeWithoutLock(indexedDict.dictId);
+            indexedDictMap.put(indexedDict.dictId, indexedDict);
+            for (String gram : indexedDict.getGramSet()) {
+                postingMap.computeIfAbsent(gram, k -> new HashSet<>()).add(indexedDict.dictId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long dictId) {
+        lock.writeLock().lock();
+        try {
+            removeWithoutLock(dictId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeWithoutLock(Long dictId) {
+        IndexedDict prevIndexedDict = indexedDictMap.remove(dictId);
+        if (prevIndexedDict == null) {
+            return;
+        }
+        for (String gram : prevIndexedDict.getGramSet()) {
+            Set<Long> posting = postingMap.get(gram);
+            if (posting != null) {
+                posting.remove(dictId);
+                if (posting.isEmpty()) {
+                    postingMap.remove(gram);
+                }
+            }
+        }
+    }
+
+    private IndexedDict toIndexedDict(Dict dict) {
+        return new IndexedDict(dict.getDictId(), dict.getDictName(), dict.getSummary(), dict.getContent(),
+                dict.getCreatedAt());
+    }
+
+    private IndexedDict tupleToIndexedDict(Tuple tuple) {
+        return new IndexedDict(tuple.get(0, Long.class), tuple.get(1, String.class), tuple.get(2, String.class),
+                tuple.get(3, String.class), tuple.get(4, LocalDateTime.class));
+    }
+
+    /*
+        정규화
+        1. NFKC : 자모가 분리된 한글(맥 OS 에서 입력된 파일명 등)을 완성형으로 합치고 전각 문자를 반각으로 바꿈
+        2. 소문자 변환 : MySQL 기본 collation 과 같이 대소문자를 구분하지 않음
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static class IndexedDict {
+        private final Long dictId;
+        private final long createdAt;
+        private final String dictName;
+        private final String summary;
+        private final String content;
+
+        private IndexedDict(Long dictId, String dictName, String summary, String content, LocalDateTime createdAt) {
+            this.dictId = dictId;
+            this.createdAt = createdAt == null ? 0L : createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            this.dictName = normalize(dictName);
+            this.summary = normalize(summary);
+            this.content = normalize(content);
+        }
+
+        private boolean contains(String normalizedQ) {
+            return dictName.contains(normalizedQ) || summary.contains(normalizedQ) || content.contains(normalizedQ);
+        }
+
+        // 필드 경계를 넘는 n-gram 이 생기지 않도록 필드별로 따로 나눔. 메모리를 아끼기 위해 보관하지 않고 매번 계산함.
+        private Set<String> getGramSet() {
+            Set<String> gramSet = new HashSet<>();
+            addGram(gramSet, dictName);
+            addGram(gramSet, summary);
+            addGram(gramSet, content);
+            return gramSet;
+        }
+
+        private static void addGram(Set<String> gramSet, String text) {
+            for (int gramSize = MIN_GRAM; gramSize <= MAX_GRAM; gramSize++) {
+                for (int i = 0; i + gramSize <= text.length(); i++) {
+                    gramSet.add(text.substring(i, i + gramSize));
+                }
+            }
+        }
+    }
+    // endregion
+}
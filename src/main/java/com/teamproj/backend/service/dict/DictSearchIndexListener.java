@@ -0,0 +1,60 @@
+package com.teamproj.backend.service.dict;
+
+import com.teamproj.backend.model.dict.Dict;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+/*
+    사전 작성(postDict)/수정(putDict)/삭제(회원 탈퇴 등의 cascade 포함)가 커밋되면 검색 색인 갱신
+    엔티티에 @EntityListeners 로 붙이면 model 이 service 를 알게 되므로, Hibernate 이벤트 리스너로 직접 등록함.
+ */
+@Component
+@RequiredArgsConstructor
+public class DictSearchIndexListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    private final EntityManagerFactory entityManagerFactory;
+    private final DictSearchIndex dictSearchIndex;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImpl.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Dict) {
+            dictSearchIndex.indexAfterCommit((Dict) event.getEntity());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Dict) {
+            dictSearchIndex.indexAfterCommit((Dict) event.getEntity());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Dict) {
+            dictSearchIndex.removeAfterCommit((Long) event.getId());
+        }
+    }
+
+    // 커밋 후 반영은 DictSearchIndex 가 TransactionSynchronization 으로 처리함
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+}
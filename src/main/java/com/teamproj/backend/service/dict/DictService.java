@@ -2,57 +2,73 @@ package com.teamproj.backend.service.dict;
 
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.teamproj.backend.Repository.ViewersRepository;
-import com.teamproj.backend.Repository.dict.DictLikeRepository;
 import com.teamproj.backend.Repository.dict.DictRepository;
 import com.teamproj.backend.Repository.dict.DictYoutubeUrlRepository;
+import com.teamproj.backend.dto.cursor.CursorPageResponseDto;
 import com.teamproj.backend.dto.dict.*;
 import com.teamproj.backend.dto.dict.mymeme.DictMyMemeResponseDto;
 import com.teamproj.backend.dto.dict.question.search.DictQuestionSearchResponseDto;
+import com.teamproj.backend.dto.dict.search.DictSearchIndexResultDto;
 import com.teamproj.backend.dto.dict.search.DictSearchResponseDto;
 import com.teamproj.backend.dto.main.MainTodayMemeResponseDto;
+import com.teamproj.backend.dto.user.profile.UserProfileDto;
 import com.teamproj.backend.dto.youtube.DictRelatedYoutubeDto;
 import com.teamproj.backend.model.User;
 import com.teamproj.backend.model.dict.*;
-import com.teamproj.backend.model.viewers.QViewers;
+import com.teamproj.backend.model.like.LikeTypeEnum;
 import com.teamproj.backend.model.viewers.ViewTypeEnum;
-import com.teamproj.backend.model.viewers.Viewers;
 import com.teamproj.backend.security.UserDetailsImpl;
 import com.teamproj.backend.service.RedisService;
-import com.teamproj.backend.service.YoutubeService;
+import com.teamproj.backend.service.UserProfileService;
+import com.teamproj.backend.service.ViewCountService;
+import com.teamproj.backend.service.like.LikeStoreService;
+import com.teamproj.backend.service.youtube.YoutubeEnrichmentService;
+import com.teamproj.backend.util.CacheAsideTemplate;
 import com.teamproj.backend.util.JwtAuthenticateProcessor;
-import com.teamproj.backend.util.MemegleServiceStaticMethods;
+import com.teamproj.backend.util.ParallelBranchExecutor;
+import com.teamproj.backend.util.PageCursor;
 import com.teamproj.backend.util.ValidChecker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import static com.teamproj.backend.exception.ExceptionMessages.*;
+import static com.teamproj.backend.util.CacheSpecs.BEST_DICT;
+import static com.teamproj.backend.util.CacheSpecs.DICT_RECOMMEND_SEARCH;
 import static com.teamproj.backend.util.RedisKey.*;
 
 @Service
 @RequiredArgsConstructor
 public class DictService {
-    private final YoutubeService youtubeService;
+    private final YoutubeEnrichmentService youtubeEnrichmentService;
     private final DictQuestionService dictQuestionService;
+    private final DictSearchIndex dictSearchIndex;
 
     private final DictRepository dictRepository;
-    private final DictLikeRepository dictLikeRepository;
-    private final ViewersRepository viewersRepository;
     private final DictYoutubeUrlRepository dictYoutubeUrlRepository;
 
     private final JwtAuthenticateProcessor jwtAuthenticateProcessor;
+    private final UserProfileService userProfileService;
     private final JPAQueryFactory queryFactory;
 
     private final RedisService redisService;
+    private final CacheAsideTemplate cacheAsideTemplate;
+    private final ViewCountService viewCountService;
+    private final LikeStoreService likeStoreService;
+    private final ParallelBranchExecutor parallelBranchExecutor;
+
+    // 검색(사전 / 질문)을 기다리는 최대 시간
+    @Value("${memegle.search.timeout-ms:1500}")
+    private long searchTimeoutMs;
 
     /**
      * 사전 목록 가져오기
@@ -68,9 +84,38 @@ public class DictService {
         // 2. 받아온 회원 정보로 User 정보 받아오기 - 좋아요 했는지 여부 판단하기 위해 (select from user 시행 지점)
         User user = getSafeUserByUserDetails(userDetails);
         // 3. 사전 목록 가져오기 - 현재 페이지네이션이 잘못 되어있는데 프론트엔드 분들이 교정해서 쓰고 계셔서 수정 하지 않음.
-        List<Tuple> dictTupleList = getSafeDictTupleList(page, size, user);
+        List<Tuple> dictTupleList = getSafeDictTupleList(page, size);
         // 4. 사전 목록을 알맞은 반환 양식으로 변환하여 return.
-        return dictListToDictResponseDtoList(dictTupleList);
+        return dictListToDictResponseDtoList(dictTupleList, user);
+    }
+
+    /**
+     * 사전 목록 가져오기(커서 기반). 작성일, ID 범위 조건으로 조회하므로 뒤쪽 페이지도 첫 페이지와 같은 속도로 조회됨.
+     *
+     * @param cursor @RequestParam String cursor 이전 응답의 nextCursor. 첫 페이지는 null.
+     * @param size   @RequestParam int size 사이즈(limit)값.
+     * @param token  Authorization header token.
+     * @return 사전 목록과 다음 커서
+     */
+    public CursorPageResponseDto<DictResponseDto> getDictListByCursor(String cursor, int size, String token) {
+        PageCursor.validateSize(size);
+        // 1. 회원 정보가 존재할 시 로그인 처리
+        UserDetailsImpl userDetails = jwtAuthenticateProcessor.forceLogin(token);
+        User user = getSafeUserByUserDetails(userDetails);
+        // 2. 다음 페이지 존재 여부를 알기 위해 1개 더 조회
+        List<Tuple> dictTupleList = getSafeDictTupleListByCursor(PageCursor.decode(cursor), size + 1);
+        // 3. 다음 페이지가 있을 경우 마지막 행으로 다음 커서 생성
+        String nextCursor = null;
+        if (dictTupleList.size() > size) {
+            dictTupleList = dictTupleList.subList(0, size);
+            Tuple lastTuple = dictTupleList.get(size - 1);
+            nextCursor = PageCursor.encode(lastTuple.get(4, LocalDateTime.class), lastTuple.get(0, Long.class));
+        }
+
+        return CursorPageResponseDto.<DictResponseDto>builder()
+                .content(dictListToDictResponseDtoList(dictTupleList, user))
+                .nextCursor(nextCursor)
+                .build();
     }
 
     /**
@@ -83,7 +128,7 @@ public class DictService {
         ValidChecker.loginCheck(userDetails);
         User user = getSafeUserByUserDetails(userDetails);
         List<Tuple> tupleList = getMyMemeList(user);
-        return myMemeListToDictMyMemeResponseDtoList(tupleList);
+        return myMemeListToDictMyMemeResponseDtoList(applyPendingLike(tupleList, user));
     }
 
     /**
@@ -149,7 +194,10 @@ public class DictService {
         if (q == null) {
             return dictRepository.count();
         }
-        // 2. 쿼리가 있을 경우 : 쿼리의 검색결과의 개수 출력
+        // 2. 쿼리가 있을 경우 : 쿼리의 검색결과의 개수 출력. 검색 색인이 준비되기 전까지는 DB 에서 셈.
+        if (dictSearchIndex.isReady()) {
+            return dictSearchIndex.count(q);
+        }
         return dictRepository.countByDictNameContainingOrContentContaining(q, q);
     }
 
@@ -165,11 +213,11 @@ public class DictService {
         UserDetailsImpl userDetails = jwtAuthenticateProcessor.forceLogin(token);
         User user = getSafeUserByUserDetails(userDetails);
         // 2. 사전 정보 받아오기
-        Tuple dictTuple = getSafeDictTuple(dictId, user, viewerIp);
+        Tuple dictTuple = getSafeDictTuple(dictId);
         // 3. 알맞은 DTO 형식으로 전환.
-        DictDetailResponseDto result = dictTupleToDictDetailResponseDto(dictId, dictTuple);
-        // 4. 조회수 증가 여부 판단 후 증가.
-        viewProc(dictTuple, viewerIp);
+        DictDetailResponseDto result = dictTupleToDictDetailResponseDto(dictId, dictTuple, user);
+        // 4. 조회수 증가 여부 판단 후 증가. DB 반영은 ViewCountService 에서 모아서 처리함.
+        viewCountService.view(ViewTypeEnum.DICT, dictId, viewerIp);
         // 5. 반환.
         return result;
     }
@@ -199,7 +247,7 @@ public class DictService {
         if (dictRepository.existsByDictName(dictName)) {
             throw new IllegalArgumentException(EXIST_DICT);
         }
-        User user = jwtAuthenticateProcessor.getUser(userDetails);
+        User user = jwtAuthenticateProcessor.getUserReference(userDetails);
 
         // 최초 작성자와 최근 수정자는 우선 동일하게 부여함.
         Dict dict = Dict.builder()
@@ -219,17 +267,12 @@ public class DictService {
                 .build();
         dict.addHistory(dictHistory);
 
-        // 연관동영상 리스트 받아온 후 삽입
-        List<DictYoutubeUrl> dictYoutubeUrlList = youtubeService.getYoutubeSearchResult(dict, dictName);
-        if (dictYoutubeUrlList.size() > 0) {
-            for (DictYoutubeUrl dictYoutubeUrl : dictYoutubeUrlList) {
-                dict.addDictYoutubeUrl(dictYoutubeUrl);
-            }
-        }
-
         // 사전 저장
         dictRepository.save(dict);
 
+        // 연관동영상은 커밋 후 백그라운드에서 찾아서 삽입(YouTube API 응답을 기다리는 동안 DB 연결을 잡지 않도록)
+        youtubeEnrichmentService.enqueue(dict.getDictId(), dictName);
+
         return DictPostResponseDto.builder()
                 .result("작성 성공")
                 .build();
@@ -256,7 +299,7 @@ public class DictService {
         }
 
         Dict dict = getSafeDict(dictId);
-        User user = jwtAuthenticateProcessor.getUser(userDetails);
+        User user = jwtAuthenticateProcessor.getUserReference(userDetails);
 
         // 이전 내용 히스토리에 저장
         DictHistory dictHistory = DictHistory.builder()
@@ -304,29 +347,18 @@ public class DictService {
      * @param dictId      @PathVariable Long dictId
      * @return true : 좋아요 완료 / false : 좋아요 취소 완료
      */
-    @Transactional
     public DictLikeResponseDto likeDict(UserDetailsImpl userDetails, Long dictId) {
         // 로그인 체크
         ValidChecker.loginCheck(userDetails);
-        User user = jwtAuthenticateProcessor.getUser(userDetails);
-        Dict dict = getSafeDict(dictId);
+        Long userId = jwtAuthenticateProcessor.getUserId(userDetails);
+        getSafeDict(dictId);
 
         /*
             1. 좋아요 중일 시 : 좋아요 취소
             2. 좋아요 중이 아닐 시 : 좋아요
+            DB(DictLike, 좋아요 개수) 반영은 LikeStoreService 에서 모아서 처리함.
          */
-        boolean isLike = false;
-        Optional<DictLike> dictLike = dictLikeRepository.findByUserAndDict(user, dict);
-        if (dictLike.isPresent()) {
-            dictLikeRepository.deleteById(dictLike.get().getDictLikeId());
-        } else {
-            DictLike newDictLike = DictLike.builder()
-                    .dict(dict)
-                    .user(user)
-                    .build();
-            dictLikeRepository.save(newDictLike);
-            isLike = true;
-        }
+        boolean isLike = likeStoreService.toggle(LikeTypeEnum.DICT, userId, dictId);
         return DictLikeResponseDto.builder()
                 .result(isLike)
                 .build();
@@ -355,12 +387,20 @@ public class DictService {
         UserDetailsImpl userDetails = jwtAuthenticateProcessor.forceLogin(token);
         User user = getSafeUserByUserDetails(userDetails);
 
-        List<DictSearchResultResponseDto> dictResult = getDictSearchResult(user, q, page, size);
-        List<DictQuestionSearchResponseDto> questionResult = dictQuestionService.questionSearch(user, q, page, size);
+        // 사전 / 질문 검색은 서로 관계없으므로 동시에 실행. 기한까지 끝나지 않은 검색은 빈 결과로 반환함.
+        ParallelBranchExecutor.Branch<List<DictSearchResultResponseDto>> dictBranch =
+                parallelBranchExecutor.fork("search", "dict", () -> getDictSearchResult(user, q, page, size));
+        ParallelBranchExecutor.Branch<List<DictQuestionSearchResponseDto>> questionBranch =
+                parallelBranchExecutor.fork("search", "question", () -> dictQuestionService.questionSearch(user, q, page, size));
+
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(searchTimeoutMs);
+        List<DictSearchResultResponseDto> dictResult = dictBranch.join(deadlineNanos, null);
+        List<DictQuestionSearchResponseDto> questionResult = questionBranch.join(deadlineNanos, null);
 
         return DictSearchResponseDto.builder()
-                .dictResult(dictResult)
-                .questionResult(questionResult)
+                .dictResult(dictResult == null ? new ArrayList<>() : dictResult)
+                .questionResult(questionResult == null ? new ArrayList<>() : questionResult)
+                .partial(dictResult == null || questionResult == null)
                 .build();
     }
 
@@ -400,43 +440,12 @@ public class DictService {
         return recommend;
     }
 
-    // 사전 상세보기시 조회수 증가 로직
-    private void viewProc(Tuple dictTuple, String viewerIp) {
-        Long dictId = dictTuple.get(0, Long.class);
-        Long viewerIpLong = dictTuple.get(12, Long.class);
-        boolean isView = viewerIpLong != null && viewerIpLong > 0;
-
-        // 조회수 증가
-        // 1. 조회수 테이블 열람
-        // 2. 조회수 테이블에 내가 확인했다는 기록(IP로 판단)이 존재할 경우 조회수 상승하지 않음
-        // 3. 존재하지 않을 경우 조회수 상승하고 조회수 테이블에 사용자 정보 등록.
-        // 조회수 테이블은 매일 0시에 초기화 됨.
-        if (!isView) {
-            viewersRepository.save(Viewers.builder()
-                    .viewTypeEnum(ViewTypeEnum.DICT)
-                    .targetId(dictId)
-                    .viewerIp(viewerIp)
-                    .build());
-            dictRepository.updateView(dictId);
+    // 사용자가 좋아요 한 사전 ID. 비회원이면 빈 집합.
+    public Set<Long> getDictLikedIdSet(List<Long> dictIdList, User user) {
+        if (user == null) {
+            return new HashSet<>();
         }
-    }
-
-    // 좋아요 목록 가져와서 HashMap 으로 반환
-    public HashMap<String, Boolean> getDictLikeMap(List<Long> dictIdList, User user) {
-        QDictLike qDictLike = QDictLike.dictLike;
-        List<Tuple> dictLikeListTuple = queryFactory
-                .select(qDictLike.dict.dictId, qDictLike.user.id)
-                .from(qDictLike)
-                .where(eqUser(user),
-                        qDictLike.dict.dictId.in(dictIdList))
-                .fetch();
-
-        return MemegleServiceStaticMethods.getLikeMap(dictLikeListTuple);
-    }
-
-    // qDictLike 와 user 를 비교하기 위한 BooleanExpression.
-    private BooleanExpression eqUser(User user) {
-        return user == null ? QDictLike.dictLike.dictLikeId.eq(0L) : QDictLike.dictLike.user.eq(user);
+        return likeStoreService.getLikedIdSet(LikeTypeEnum.DICT, user.getId(), dictIdList);
     }
 
     /**
@@ -463,7 +472,7 @@ public class DictService {
         if (userDetails == null) {
             return null;
         }
-        return jwtAuthenticateProcessor.getUser(userDetails);
+        return jwtAuthenticateProcessor.getUserReference(userDetails);
     }
 
     // MyMemeList By User
@@ -477,6 +486,31 @@ public class DictService {
                 .fetch();
     }
 
+    // 아직 DB 에 반영되지 않은 좋아요 / 좋아요 취소 적용. 새로 좋아요 한 사전은 맨 앞에 추가함.
+    private List<Tuple> applyPendingLike(List<Tuple> tupleList, User user) {
+        Set<Long> likedIdSet = likeStoreService.getLikedIdSet(LikeTypeEnum.DICT, user.getId());
+
+        List<Tuple> result = new ArrayList<>();
+        for (Tuple tuple : tupleList) {
+            if (likedIdSet.remove(tuple.get(0, Long.class))) {
+                result.add(tuple);
+            }
+        }
+        if (likedIdSet.isEmpty()) {
+            return result;
+        }
+
+        QDict qDict = QDict.dict;
+        List<Tuple> pendingTupleList = queryFactory
+                .select(qDict.dictId, qDict.dictName, qDict.content, qDict.summary)
+                .from(qDict)
+                .where(qDict.dictId.in(likedIdSet))
+                .orderBy(qDict.dictId.desc())
+                .fetch();
+        result.addAll(0, pendingTupleList);
+        return result;
+    }
+
     // Dict
     public Dict getSafeDict(Long dictId) {
         Optional<Dict> dict = dictRepository.findById(dictId);
@@ -484,108 +518,90 @@ public class DictService {
     }
 
     // DictTupleList
-    private List<Tuple> getSafeDictTupleList(int page, int size, User user) {
+    private List<Tuple> getSafeDictTupleList(int page, int size) {
         QDict qDict = QDict.dict;
-        QDictLike qDictLike = QDictLike.dictLike;
 
         // 원래 정석은 offset 은 page * size 로 줘야함..... 실수했는데 프론트분들이 이대로 작업하셔서 수정하지 않고 사용하기로 함
+        return selectDictTuple()
+                .orderBy(qDict.createdAt.desc())
+                .offset(page)
+                .limit(size)
+                .fetch();
+    }
+
+    // 커서 이후의 사전 목록. 작성일이 같은 사전은 ID 로 순서를 정함.
+    private List<Tuple> getSafeDictTupleListByCursor(PageCursor cursor, int size) {
+        QDict qDict = QDict.dict;
+
+        return selectDictTuple()
+                .where(afterCursor(cursor))
+                .orderBy(qDict.createdAt.desc(), qDict.dictId.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    private JPAQuery<Tuple> selectDictTuple() {
+        QDict qDict = QDict.dict;
+
         return queryFactory
                 .select(qDict.dictId,
                         qDict.dictName,
                         qDict.summary,
-                        qDict.firstAuthor.nickname,
+                        qDict.firstAuthor.id,
                         qDict.createdAt,
-                        qDict.dictLikeList.size(),
-                        queryFactory
-                                .select(qDictLike.count())
-                                .from(qDictLike)
-                                .where(eqUser(user),
-                                        qDictLike.dict.eq(qDict))
-                )
-                .from(qDict)
-                .orderBy(qDict.createdAt.desc())
-                .offset(page)
-                .limit(size)
-                .fetch();
+                        qDict.likeCount)
+                .from(qDict);
+    }
+
+    private BooleanExpression afterCursor(PageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (cursor.getCreatedAt() == null) {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+
+        QDict qDict = QDict.dict;
+        return qDict.createdAt.lt(cursor.getCreatedAt())
+                .or(qDict.createdAt.eq(cursor.getCreatedAt())
+                        .and(qDict.dictId.lt(cursor.getId())));
     }
 
     // DictLikeTuple
     private List<Tuple> getSafeDictLikeCountTupleOrderByDescLimit(int size) {
-        QDictLike qDictLike = QDictLike.dictLike;
+        QDict qDict = QDict.dict;
 
-        NumberPath<Long> count = Expressions.numberPath(Long.class, "c");
         return queryFactory
-                .select(qDictLike.dict.dictId, qDictLike.dict.dictName, qDictLike.dict.count().as(count))
-                .from(qDictLike)
-                .groupBy(qDictLike.dict)
-                .orderBy(count.desc())
+                .select(qDict.dictId, qDict.dictName, qDict.likeCount)
+                .from(qDict)
+                .where(qDict.likeCount.gt(0))
+                .orderBy(qDict.likeCount.desc())
                 .limit(size)
                 .fetch();
     }
 
-    // BestDict
+    // BestDict - 어제 조회수 상위 20개(모든 서버 합계)
     public List<String> getSafeBestDict() {
-        List<Tuple> tupleList = getSafeBestDictTuple();
-
         List<String> idList = new ArrayList<>();
-        for (Tuple tuple : tupleList) {
-            idList.add(String.valueOf(tuple.get(0, Long.class)));
+        for (Long dictId : viewCountService.getMostViewedIdList(ViewTypeEnum.DICT, LocalDate.now().minusDays(1), 20)) {
+            idList.add(String.valueOf(dictId));
         }
         return idList;
     }
 
-    // DictBestTuple
-    private List<Tuple> getSafeBestDictTuple() {
-        QViewers qViewers = QViewers.viewers;
-
-        NumberPath<Long> count = Expressions.numberPath(Long.class, "c");
-        return queryFactory
-                .select(qViewers.targetId, qViewers.count().as(count))
-                .from(qViewers)
-                .where(qViewers.viewTypeEnum.eq(ViewTypeEnum.DICT))
-                .groupBy(qViewers.targetId)
-                .orderBy(count.desc())
-                .limit(20)
-                .fetch();
-    }
-
     // RecommendSearch
     private List<String> getSafeRecommendSearch(String key) {
-        try {
-            List<String> result = redisService.getStringList(key);
-
-            if (result == null) {
-                redisService.setRecommendSearch(key, getRecommendSearch(20));
-                result = redisService.getStringList(key);
-                if (result == null) {
-                    return new ArrayList<>();
-                }
-            }
-            return result;
-        } catch (RedisConnectionFailureException e) {
-            return getRecommendSearch(20);
-        }
+        return cacheAsideTemplate.getList(DICT_RECOMMEND_SEARCH, key, () -> getRecommendSearch(20));
     }
 
     // BestDict
     private List<Dict> getSafeBestDict(String key) {
-        List<String> bestDictIdList;
-        try {
-            bestDictIdList = redisService.getStringList(key);
-
-            if (bestDictIdList == null) {
-                redisService.setBestDict(key, getSafeBestDict());
-                bestDictIdList = redisService.getStringList(key);
-
-                if (bestDictIdList == null) {
-                    return dictRepository.findAllByOrderByViewsDesc(PageRequest.of(0, 5)).toList();
-                }
-            }
-        } catch (RedisConnectionFailureException e) {
-            bestDictIdList = getSafeBestDict();
+        // 캐시된 목록이 섞이지 않도록 복사해서 사용
+        List<String> bestDictIdList = new ArrayList<>(cacheAsideTemplate.getList(BEST_DICT, key, this::getSafeBestDict));
+        if (bestDictIdList.isEmpty()) {
+            return dictRepository.findAllByOrderByViewsDesc(PageRequest.of(0, 5)).toList();
         }
 
-
         Collections.shuffle(bestDictIdList);
         List<Long> nums = new ArrayList<>();
         for (String str : bestDictIdList.subList(0, Math.min(5, bestDictIdList.size()))) {
@@ -599,12 +615,41 @@ public class DictService {
     // DictList 검색결과
     private List<Tuple> getSearchResultTupleList(String q, int page, int size) {
         QDict qDict = QDict.dict;
+
+        // 1. 검색 색인이 준비된 경우 : 색인에서 dictId 목록을 받은 뒤 해당 사전만 조회
+        if (dictSearchIndex.isReady()) {
+            DictSearchIndexResultDto searchIndexResult = dictSearchIndex.search(q, page, size);
+            List<Long> dictIdList = searchIndexResult.getDictIdList();
+            if (dictIdList.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            List<Tuple> tupleList = queryFactory
+                    .select(qDict.dictId, qDict.dictName, qDict.summary, qDict.content, qDict.firstAuthor.id,
+                            qDict.createdAt, qDict.likeCount)
+                    .from(qDict)
+                    .where(qDict.dictId.in(dictIdList))
+                    .fetch();
+            // 다른 서버에서 삭제되어 DB 에 없는 사전은 색인에서도 지움
+            if (tupleList.size() < dictIdList.size()) {
+                Set<Long> deletedDictIdSet = new HashSet<>(dictIdList);
+                for (Tuple tuple : tupleList) {
+                    deletedDictIdSet.remove(tuple.get(0, Long.class));
+                }
+                dictSearchIndex.removeAll(deletedDictIdSet);
+            }
+            // in 절은 순서를 보장하지 않으므로 색인의 순서(최신순)대로 정렬
+            tupleList.sort(Comparator.comparingInt(tuple -> dictIdList.indexOf(tuple.get(0, Long.class))));
+            return tupleList;
+        }
+
+        // 2. 서버 시작 직후 색인이 준비되기 전 : DB 에서 검색
         String newQ = "%" + q + "%";
         int offset = page * size;
 
         return queryFactory
-                .select(qDict.dictId, qDict.dictName, qDict.summary, qDict.content, qDict.firstAuthor.nickname,
-                        qDict.createdAt, qDict.dictLikeList.size())
+                .select(qDict.dictId, qDict.dictName, qDict.summary, qDict.content, qDict.firstAuthor.id,
+                        qDict.createdAt, qDict.likeCount)
                 .from(qDict)
                 .where(qDict.dictName.like(newQ)
                         .or(qDict.summary.like(newQ))
@@ -616,10 +661,8 @@ public class DictService {
     }
 
     // 사전 상세정보 Tuple
-    private Tuple getSafeDictTuple(Long dictId, User user, String userIp) {
+    private Tuple getSafeDictTuple(Long dictId) {
         QDict qDict = QDict.dict;
-        QDictLike qDictLike = QDictLike.dictLike;
-        QViewers qViewers = QViewers.viewers;
 
         Tuple result = queryFactory
                 .select(qDict.dictId.as("id"),
@@ -630,20 +673,10 @@ public class DictService {
                         qDict.firstAuthor.profileImage.as("first_author_profile_image"),
                         qDict.recentModifier.nickname.as("recent_modifier_name"),
                         qDict.recentModifier.profileImage.as("recent_modifier_profile_image"),
-                        queryFactory
-                                .select(qDictLike.dictLikeId.count())
-                                .from(qDictLike)
-                                .where(qDictLike.dict.eq(qDict),
-                                        isLikeExp(user)),
-                        qDict.dictLikeList.size().as("like_count"),
+                        qDict.likeCount.as("like_count"),
                         qDict.createdAt.as("created_at"),
                         qDict.modifiedAt.as("modified_at"),
-                        queryFactory
-                                .select(qViewers.count())
-                                .from(qViewers)
-                                .where(qViewers.targetId.eq(dictId),
-                                        qViewers.viewerIp.eq(userIp),
-                                        qViewers.viewTypeEnum.eq(ViewTypeEnum.DICT))
+                        qDict.views.as("views")
                 )
                 .from(qDict)
                 .where(qDict.dictId.eq(dictId))
@@ -656,26 +689,26 @@ public class DictService {
         return result;
     }
 
-    // 좋아요 어부 확인 BooleanExpression
-    private BooleanExpression isLikeExp(User user) {
-        return user == null ? QDictLike.dictLike.dictLikeId.eq(0L) : QDictLike.dictLike.user.eq(user);
-    }
-
     // Entity To Dto
     // DictDtoList to DictResponseDtoList
-    private List<DictResponseDto> dictListToDictResponseDtoList(List<Tuple> dictTupleList) {
+    private List<DictResponseDto> dictListToDictResponseDtoList(List<Tuple> dictTupleList, User user) {
         List<DictResponseDto> dictResponseDtoList = new ArrayList<>();
 
+        // 좋아요 한 사전 ID
+        List<Long> dictIdList = getDictIdListByTupleList(dictTupleList);
+        Set<Long> dictLikedIdSet = getDictLikedIdSet(dictIdList, user);
+        // 작성자 맵
+        Map<Long, UserProfileDto> firstWriterMap = getFirstWriterMap(dictTupleList, 3);
+
         for (Tuple tuple : dictTupleList) {
             Long dictId = tuple.get(0, Long.class);
             String title = tuple.get(1, String.class);
             String summary = tuple.get(2, String.class);
-            String firstWriter = tuple.get(3, String.class);
+            String firstWriter = getNickname(firstWriterMap, tuple.get(3, Long.class));
             LocalDateTime createdAt = tuple.get(4, LocalDateTime.class);
             Integer likeCountInteger = tuple.get(5, Integer.class);
             int likeCount = likeCountInteger == null ? 0 : likeCountInteger;
-            Long isDictLikeLong = tuple.get(6, Long.class);
-            boolean isDictLike = isDictLikeLong != null && isDictLikeLong > 0;
+            boolean isDictLike = dictLikedIdSet.contains(dictId);
 
             dictResponseDtoList.add(DictResponseDto.builder()
                     .dictId(dictId)
@@ -691,35 +724,23 @@ public class DictService {
         return dictResponseDtoList;
     }
 
-    public HashMap<Long, Long> getLikeCountMap(List<Dict> dictList) {
-        QDictLike qDictLike = QDictLike.dictLike;
-        QDict qDict = QDict.dict;
-
-        List<Tuple> likeCountListTuple = queryFactory
-                .select(qDictLike.dict.dictId, qDictLike.count())
-                .from(qDictLike)
-                .where(qDictLike.dict.in(dictList))
-                .groupBy(qDict)
-                .fetch();
-
-        return MemegleServiceStaticMethods.getLongLongMap(likeCountListTuple);
-    }
-
 
     // DictDtoList to DictSearchResultResponseDtoList
     private List<DictSearchResultResponseDto> dictListToDictSearchResultResponseDto(List<Tuple> dictTupleList, User user) {
         List<DictSearchResultResponseDto> dictSearchResultResponseDto = new ArrayList<>();
 
-        // 좋아요 맵
+        // 좋아요 한 사전 ID
         List<Long> dictIdList = getDictIdListByTupleList(dictTupleList);
-        HashMap<String, Boolean> dictLikeMap = getDictLikeMap(dictIdList, user);
+        Set<Long> dictLikedIdSet = getDictLikedIdSet(dictIdList, user);
+        // 작성자 맵
+        Map<Long, UserProfileDto> firstWriterMap = getFirstWriterMap(dictTupleList, 4);
 
         for (Tuple tuple : dictTupleList) {
             Long dictId = tuple.get(0, Long.class);
             String title = tuple.get(1, String.class);
             String summary = tuple.get(2, String.class);
             String meaning = tuple.get(3, String.class);
-            String firstWriter = tuple.get(4, String.class);
+            String firstWriter = getNickname(firstWriterMap, tuple.get(4, Long.class));
             LocalDateTime createdAt = tuple.get(5, LocalDateTime.class);
             Integer likeCountInteger = tuple.get(6, Integer.class);
             int likeCount = likeCountInteger == null ? 0 : likeCountInteger;
@@ -731,7 +752,7 @@ public class DictService {
                     .meaning(meaning)
                     .firstWriter(firstWriter)
                     .createdAt(createdAt)
-                    .isLike(user != null && dictLikeMap.get(dictId + ":" + user.getId()) != null)
+                    .isLike(dictLikedIdSet.contains(dictId))
                     .likeCount(likeCount)
                     .build());
         }
@@ -739,6 +760,20 @@ public class DictService {
         return dictSearchResultResponseDto;
     }
 
+    // 목록의 최초 작성자 정보. 목록 쿼리는 작성자 ID 만 조회하고, 작성자 정보는 UserProfileService 에서 한 번에 채움.
+    private Map<Long, UserProfileDto> getFirstWriterMap(List<Tuple> tupleList, int firstAuthorIdIndex) {
+        List<Long> firstAuthorIdList = new ArrayList<>();
+        for (Tuple tuple : tupleList) {
+            firstAuthorIdList.add(tuple.get(firstAuthorIdIndex, Long.class));
+        }
+        return userProfileService.getUserProfileMap(firstAuthorIdList);
+    }
+
+    private String getNickname(Map<Long, UserProfileDto> userProfileMap, Long userId) {
+        UserProfileDto userProfile = userProfileMap.get(userId);
+        return userProfile == null ? null : userProfile.getNickname();
+    }
+
     private List<Long> getDictIdListByTupleList(List<Tuple> tupleList) {
         List<Long> result = new ArrayList<>();
         for (Tuple tuple : tupleList) {
@@ -751,26 +786,21 @@ public class DictService {
     public List<DictBestResponseDto> dictListToDictBestResponseDtoList(List<Dict> dictList, User user) {
         List<DictBestResponseDto> dictBestResponseDtoList = new ArrayList<>();
 
-        // 좋아요 맵
+        // 좋아요 한 사전 ID
         List<Long> li = new ArrayList<>();
         for (Dict dict : dictList) {
             li.add(dict.getDictId());
         }
-        HashMap<String, Boolean> dictLikeMap = getDictLikeMap(li, user);
-        // 좋아요 개수 맵
-        HashMap<Long, Long> likeCountMap = getLikeCountMap(dictList);
+        Set<Long> dictLikedIdSet = getDictLikedIdSet(li, user);
 
         for (Dict dict : dictList) {
-            // likeCountMap 에 값이 없을경우 좋아요가 없음 = 0개.
-            int likeCount = likeCountMap.get(dict.getDictId()) == null ? 0 : likeCountMap.get(dict.getDictId()).intValue();
-
             dictBestResponseDtoList.add(DictBestResponseDto.builder()
                     .dictId(dict.getDictId())
                     .title(dict.getDictName())
                     .summary(dict.getSummary())
                     .meaning(dict.getContent())
-                    .isLike(user != null && dictLikeMap.get(dict.getDictId() + ":" + user.getId()) != null)
-                    .likeCount(likeCount)
+                    .isLike(dictLikedIdSet.contains(dict.getDictId()))
+                    .likeCount(dict.getLikeCount())
                     .build());
         }
         return dictBestResponseDtoList;
@@ -808,7 +838,7 @@ public class DictService {
     }
 
     // DictTuple To DictDetailResponseDto
-    private DictDetailResponseDto dictTupleToDictDetailResponseDto(Long dictId, Tuple dictTuple) {
+    private DictDetailResponseDto dictTupleToDictDetailResponseDto(Long dictId, Tuple dictTuple, User user) {
         String title = dictTuple.get(1, String.class);
         String summary = dictTuple.get(2, String.class);
         String meaning = dictTuple.get(3, String.class);
@@ -816,12 +846,14 @@ public class DictService {
         String firstWriterProfileImage = dictTuple.get(5, String.class);
         String recentWriterNickname = dictTuple.get(6, String.class);
         String recentWriterProfileImage = dictTuple.get(7, String.class);
-        Long isLikeLong = dictTuple.get(8, Long.class);
-        boolean isLike = isLikeLong != null && isLikeLong > 0;
-        Integer likeCountInteger = dictTuple.get(9, Integer.class);
+        boolean isLike = user != null && likeStoreService.isLiked(LikeTypeEnum.DICT, user.getId(), dictId);
+        Integer likeCountInteger = dictTuple.get(8, Integer.class);
         int likeCount = likeCountInteger == null ? 0 : likeCountInteger;
-        LocalDateTime createdAt = dictTuple.get(10, LocalDateTime.class);
-        LocalDateTime modifiedAt = dictTuple.get(11, LocalDateTime.class);
+        LocalDateTime createdAt = dictTuple.get(9, LocalDateTime.class);
+        LocalDateTime modifiedAt = dictTuple.get(10, LocalDateTime.class);
+        Integer viewsInteger = dictTuple.get(11, Integer.class);
+        // DB 에 아직 반영되지 않은 조회수까지 포함
+        int views = (viewsInteger == null ? 0 : viewsInteger) + viewCountService.getPendingViews(ViewTypeEnum.DICT, dictId);
 
         // 사용자 정보가 존재할 경우 좋아요 여부 감별 실시.
         List<DictYoutubeUrl> dictYoutubeUrlList = dictYoutubeUrlRepository.findAllByDict_DictId(dictId);
@@ -839,6 +871,7 @@ public class DictService {
                 .likeCount(likeCount)
                 .createdAt(createdAt)
                 .modifiedAt(modifiedAt)
+                .views(views)
                 .relatedYoutube(dictRelatedYoutubeDtoList)
                 .build();
     }
@@ -0,0 +1,21 @@
+package com.teamproj.backend.service.like;
+
+import com.teamproj.backend.model.like.LikeTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 좋아요 변경 내역. Redis 에는 "type:userId:targetId:liked(1/0)" 문자열로 저장됨.
+@Getter
+@AllArgsConstructor
+public class LikeEntry {
+    private final LikeTypeEnum likeTypeEnum;
+    private final Long userId;
+    private final Long targetId;
+    private final boolean liked;
+
+    public static LikeEntry parse(String value) {
+        String[] split = value.split(":");
+        return new LikeEntry(LikeTypeEnum.valueOf(split[0]), Long.parseLong(split[1]), Long.parseLong(split[2]),
+                "1".equals(split[3]));
+    }
+}
@@ -0,0 +1,187 @@
+package com.teamproj.backend.service.like;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teamproj.backend.Repository.UserRepository;
+import com.teamproj.backend.Repository.board.BoardLikeRepository;
+import com.teamproj.backend.Repository.board.BoardRepository;
+import com.teamproj.backend.Repository.board.BoardTodayLikeRepository;
+import com.teamproj.backend.Repository.dict.DictLikeRepository;
+import com.teamproj.backend.Repository.dict.DictRepository;
+import com.teamproj.backend.model.User;
+import com.teamproj.backend.model.board.Board;
+import com.teamproj.backend.model.board.BoardLike;
+import com.teamproj.backend.model.board.BoardTodayLike;
+import com.teamproj.backend.model.board.QBoardLike;
+import com.teamproj.backend.model.dict.Dict;
+import com.teamproj.backend.model.dict.DictLike;
+import com.teamproj.backend.model.dict.QDictLike;
+import com.teamproj.backend.model.like.LikeTypeEnum;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import javax.transaction.Transactional;
+import java.util.*;
+
+/*
+    좋아요 DB 반영
+    1. LikeStoreService 가 Redis 에 모아둔 좋아요 변경 내역을 한 번에 DB 에 반영(persistAll)
+    2. Redis 에 사용자의 좋아요 목록이 없을 때 DB 에서 불러오기
+    3. Redis 에 연결할 수 없을 때 좋아요 여부를 DB 에서 조회
+    반영은 "좋아요 상태로 만들기 / 취소 상태로 만들기" 로 처리하므로 같은 내역을 여러 번 반영해도 결과가 같음.
+ */
+@Service
+@RequiredArgsConstructor
+public class LikePersistService {
+    private final UserRepository userRepository;
+    private final DictRepository dictRepository;
+    private final DictLikeRepository dictLikeRepository;
+    private final BoardRepository boardRepository;
+    private final BoardLikeRepository boardLikeRepository;
+    private final BoardTodayLikeRepository boardTodayLikeRepository;
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 사용자가 좋아요 한 대상 ID 전체
+     *
+     * @param likeTypeEnum 좋아요 대상 종류
+     * @param userId       사용자 ID
+     * @return 좋아요 한 대상 ID 목록
+     */
+    public List<Long> getLikedIdList(LikeTypeEnum likeTypeEnum, Long userId) {
+        return getLikedIdList(likeTypeEnum, userId, null);
+    }
+
+    /**
+     * 대상 중 사용자가 좋아요 한 대상 ID
+     *
+     * @param likeTypeEnum 좋아요 대상 종류
+     * @param userId       사용자 ID
+     * @param targetIdList 확인할 대상 ID 목록
+     * @return 좋아요 한 대상 ID
+     */
+    public Set<Long> getLikedIdSet(LikeTypeEnum likeTypeEnum, Long userId, Collection<Long> targetIdList) {
+        if (targetIdList.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(getLikedIdList(likeTypeEnum, userId, targetIdList));
+    }
+
+    /**
+     * 좋아요 변경 내역 반영
+     * 같은 사용자, 대상의 내역이 여러 개면 마지막 내역만 반영함.
+     *
+     * @param likeEntryList 변경 순서대로 정렬된 내역
+     */
+    @Transactional
+    public void persistAll(List<LikeEntry> likeEntryList) {
+        Map<String, LikeEntry> lastEntryMap = new LinkedHashMap<>();
+        for (LikeEntry likeEntry : likeEntryList) {
+            String key = likeEntry.getLikeTypeEnum() + ":" + likeEntry.getUserId() + ":" + likeEntry.getTargetId();
+            lastEntryMap.remove(key);
+            lastEntryMap.put(key, likeEntry);
+        }
+
+        for (LikeEntry likeEntry : lastEntryMap.values()) {
+            persist(likeEntry);
+        }
+    }
+
+    // region 보조 기능
+    private List<Long> getLikedIdList(LikeTypeEnum likeTypeEnum, Long userId, Collection<Long> targetIdList) {
+        switch (likeTypeEnum) {
+            case DICT:
+                QDictLike qDictLike = QDictLike.dictLike;
+                return queryFactory
+                        .select(qDictLike.dict.dictId)
+                        .from(qDictLike)
+                        .where(qDictLike.user.id.eq(userId),
+                                targetIdList == null ? null : qDictLike.dict.dictId.in(targetIdList))
+                        .fetch();
+            case BOARD:
+                QBoardLike qBoardLike = QBoardLike.boardLike;
+                return queryFactory
+                        .select(qBoardLike.board.boardId)
+                        .from(qBoardLike)
+                        .where(qBoardLike.user.id.eq(userId),
+                                targetIdList == null ? null : qBoardLike.board.boardId.in(targetIdList))
+                        .fetch();
+            default:
+                throw new IllegalArgumentException(likeTypeEnum.name());
+        }
+    }
+
+    private void persist(LikeEntry likeEntry) {
+        User user = userRepository.getById(likeEntry.getUserId());
+        switch (likeEntry.getLikeTypeEnum()) {
+            case DICT:
+                persistDictLike(user, dictRepository.getById(likeEntry.getTargetId()), likeEntry.isLiked());
+                break;
+            case BOARD:
+                persistBoardLike(user, boardRepository.getById(likeEntry.getTargetId()), likeEntry.isLiked());
+                break;
+            default:
+                throw new IllegalArgumentException(likeEntry.getLikeTypeEnum().name());
+        }
+    }
+
+    // 실제로 추가/삭제된 경우에만 좋아요 개수 증감
+    private void persistDictLike(User user, Dict dict, boolean liked) {
+        Optional<DictLike> dictLike = dictLikeRepository.findByUserAndDict(user, dict);
+        if (liked && !dictLike.isPresent()) {
+            dictLikeRepository.save(DictLike.builder()
+                    .dict(dict)
+                    .user(user)
+                    .build());
+            dictRepository.updateLikeCount(dict.getDictId(), 1);
+        } else if (!liked && dictLike.isPresent()) {
+            dictLikeRepository.deleteById(dictLike.get().getDictLikeId());
+            dictRepository.updateLikeCount(dict.getDictId(), -1);
+        }
+    }
+
+    private void persistBoardLike(User user, Board board, boolean liked) {
+        Optional<BoardLike> boardLike = boardLikeRepository.findByBoardAndUser(board, user);
+        if (liked && !boardLike.isPresent()) {
+            boardLikeRepository.save(BoardLike.builder()
+                    .board(board)
+                    .user(user)
+                    .build());
+            boardRepository.updateLikeCount(board.getBoardId(), 1);
+            todayLikeProc(board);
+        } else if (!liked && boardLike.isPresent()) {
+            boardLikeRepository.delete(boardLike.get());
+            boardRepository.updateLikeCount(board.getBoardId(), -1);
+            todayLikeCancelProc(board);
+        }
+    }
+
+    // 게시판 오늘의 좋아요 카운트 - 1
+    private void todayLikeCancelProc(Board board) {
+        Optional<BoardTodayLike> boardTodayLike = boardTodayLikeRepository.findByBoard(board);
+        if (boardTodayLike.isPresent()) {
+            Long likeCount = boardTodayLike.get().getLikeCount();
+            if (likeCount > 0) {
+                boardTodayLike.get().setLikeCount(likeCount - 1);
+                boardTodayLikeRepository.save(boardTodayLike.get());
+            }
+        }
+    }
+
+    // 게시판 오늘의 좋아요 카운트 + 1
+    private void todayLikeProc(Board board) {
+        Optional<BoardTodayLike> boardTodayLike = boardTodayLikeRepository.findByBoard(board);
+        if (boardTodayLike.isPresent()) {
+            boardTodayLike.get().setLikeCount(boardTodayLike.get().getLikeCount() + 1);
+            boardTodayLikeRepository.save(boardTodayLike.get());
+        } else {
+            BoardTodayLike newBoardTodayLike = BoardTodayLike.builder()
+                    .board(board)
+                    .boardCategory(board.getBoardCategory())
+                    .likeCount(1L)
+                    .build();
+            boardTodayLikeRepository.save(newBoardTodayLike);
+        }
+    }
+    // endregion
+}
@@ -0,0 +1,430 @@
+package com.teamproj.backend.service.like;
+
+import com.teamproj.backend.exception.ServiceUnavailableException;
+import com.teamproj.backend.model.like.LikeTypeEnum;
+import com.teamproj.backend.util.RedisCircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.orm.ObjectRetrievalFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionException;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.util.*;
+
+import static com.teamproj.backend.exception.ExceptionMessages.LIKE_UNAVAILABLE;
+import static com.teamproj.backend.util.RedisKey.*;
+
+/*
+    좋아요 저장소(write-behind)
+    좋아요 요청마다 DictLike/BoardLike 를 조회 후 insert/delete 하고, 목록을 보여줄 때마다 좋아요 여부를 다시 조회하던 구조를 대체함.
+    1. 사용자별, 대상 종류별로 좋아요 한 대상 ID 를 Redis Set 에 보관(LIKE:DICT:userId)
+       Set 이 없으면 DB 에서 불러옴. 불러온 Set 에는 표시값(-)을 넣어 좋아요가 없는 사용자도 다시 불러오지 않도록 함.
+    2. 좋아요 / 좋아요 취소는 Lua 스크립트로 확인과 변경을 한 번에 처리하므로 연속 클릭에도 중복되지 않음.
+       변경 내역은 같은 스크립트 안에서 LIKE_QUEUE 에 쌓임.
+    3. N개 대상의 좋아요 여부도 스크립트 한 번(왕복 1회)으로 확인함.
+    4. 쌓인 변경 내역은 flush 가 주기적으로 LikePersistService 를 통해 DB 에 반영함.
+       여러 서버가 있어도 순서가 뒤바뀌지 않도록 락을 얻은 서버 하나만 반영함. 락은 묶음마다 소유자를 확인하며 연장함.
+       가져온 묶음은 처리 중 목록(LIKE_QUEUE:PROCESSING)으로 옮겨 두고 DB 에 커밋된 뒤에 지움.
+       반영 도중 서버가 종료되거나 DB 에 연결할 수 없으면 다음 반영 때 처리 중 목록부터 다시 반영함(같은 내역을 다시 반영해도 결과가 같음).
+       특정 내역만 계속 실패하면 내역별로 횟수를 세고, max-attempts 번 실패한 내역은 실패 목록(LIKE_QUEUE:DEAD)으로 옮겨서 뒤의 내역을 막지 않음.
+    5. Redis 에 연결할 수 없거나 응답하지 않을 경우(DataAccessException)
+       좋아요 여부 조회는 DB 에서 처리함(아직 반영되지 않은 변경은 보이지 않음).
+       좋아요 / 좋아요 취소는 503 으로 거절함. DB 는 아직 반영되지 않은 변경 내역보다 뒤처져 있으므로
+       DB 상태로 토글하면 사용자가 누른 것과 반대로 기록되거나, Redis 가 돌아온 뒤 남은 변경 내역이 덮어쓸 수 있음.
+       Redis 명령은 RedisCircuitBreaker 를 거치므로 장애 중에는 연결 시간 초과를 기다리지 않고 바로 넘어감.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeStoreService {
+    // 불러온 Set 표시값. 대상 ID 와 겹치지 않음.
+    private static final String LOADED_MARKER = "-";
+
+    // KEYS[1] : 사용자 Set, KEYS[2] : 변경 내역 / ARGV[1] : 대상 ID, ARGV[2] : 만료(초), ARGV[3] : 내역 앞부분
+    // return -1 : Set 없음 / 1 : 좋아요 / 0 : 좋아요 취소
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local liked = 1 " +
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then " +
+            "  redis.call('SREM', KEYS[1], ARGV[1]) " +
+            "  liked = 0 " +
+            "else " +
+            "  redis.call('SADD', KEYS[1], ARGV[1]) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "redis.call('RPUSH', KEYS[2], ARGV[3] .. ':' .. liked) " +
+            "return liked",
+            Long.class);
+
+    // KEYS[1] : 사용자 Set / ARGV[1] : 만료(초), ARGV[2..] : 대상 ID
+    // return 빈 목록 : Set 없음 / 대상별 1(좋아요), 0
+    // (nil 을 반환하면 목록 결과가 [null] 로 바뀌어 Set 이 없는 것과 구분되지 않음)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> IS_MEMBER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {} end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "local result = {} " +
+            "for i = 2, #ARGV do " +
+            "  result[i - 1] = redis.call('SISMEMBER', KEYS[1], ARGV[i]) " +
+            "end " +
+            "return result",
+            List.class);
+
+    // KEYS[1] : 사용자 Set / ARGV[1] : 만료(초)
+    // return 빈 목록 : Set 없음 / Set 전체(표시값 포함)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> MEMBERS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {} end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return redis.call('SMEMBERS', KEYS[1])",
+            List.class);
+
+    // KEYS[1] : 사용자 Set / ARGV[1] : 만료(초), ARGV[2] : 표시값, ARGV[3..] : 대상 ID
+    // 이미 Set 이 있으면 그 사이에 변경된 내용이 있을 수 있으므로 덮어쓰지 않음.
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "for i = 2, #ARGV do " +
+            "  redis.call('SADD', KEYS[1], ARGV[i]) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    // KEYS[1] : 변경 내역, KEYS[2] : 처리 중 목록 / ARGV[1] : 가져올 개수
+    // 처리 중 목록이 남아 있으면(이전 반영 실패) 그 목록을 다시 반환. 없으면 변경 내역 앞부분을 처리 중 목록으로 옮겨서 반환.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then return redis.call('LRANGE', KEYS[2], 0, -1) end " +
+            "local result = redis.call('LRANGE', KEYS[1], 0, ARGV[1] - 1) " +
+            "if #result == 0 then return result end " +
+            "redis.call('LTRIM', KEYS[1], ARGV[1], -1) " +
+            "redis.call('RPUSH', KEYS[2], unpack(result)) " +
+            "return result",
+            List.class);
+
+    // KEYS[1] : 락 / ARGV[1] : 락 소유자, ARGV[2] : 만료(초)
+    // return 1 : 연장 / 0 : 락을 잃음
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('EXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 0",
+            Long.class);
+
+    // KEYS[1] : 락 / ARGV[1] : 락 소유자
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    // KEYS[1] : 처리 중 목록 / ARGV : 남길 내역
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "return redis.call('RPUSH', KEYS[1], unpack(ARGV))",
+            Long.class);
+
+    private static final String LIKE_PROCESSING_KEY = LIKE_QUEUE_KEY + ":PROCESSING";
+    // 내역별 반영 실패 횟수(Hash)
+    private static final String LIKE_ATTEMPTS_KEY = LIKE_QUEUE_KEY + ":ATTEMPTS";
+    // max-attempts 번 실패한 내역
+    private static final String LIKE_DEAD_KEY = LIKE_QUEUE_KEY + ":DEAD";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LikePersistService likePersistService;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    // 사용자 Set 만료 시간(초). 조회/변경시마다 연장됨.
+    @Value("${memegle.like.ttl-seconds:604800}")
+    private long ttlSeconds;
+    // 한 번에 DB 에 반영할 변경 내역 수
+    @Value("${memegle.like.flush-batch-size:500}")
+    private int flushBatchSize;
+    // 반영 락 만료 시간(초). 반영 중 서버가 종료되어도 락이 남지 않도록 함.
+    @Value("${memegle.like.flush-lock-seconds:30}")
+    private long flushLockSeconds;
+    // 한 내역의 반영을 다시 시도하는 횟수. 넘으면 실패 목록으로 옮김.
+    @Value("${memegle.like.max-attempts:5}")
+    private int maxAttempts;
+
+    /**
+     * 좋아요 / 좋아요 취소
+     *
+     * @param likeTypeEnum 좋아요 대상 종류
+     * @param userId       사용자 ID
+     * @param targetId     대상 ID
+     * @return true : 좋아요 완료 / false : 좋아요 취소 완료
+     * @throws ServiceUnavailableException Redis 장애
+     */
+    public boolean toggle(LikeTypeEnum likeTypeEnum, Long userId, Long targetId) {
+        String key = getKey(likeTypeEnum, userId);
+        try {
+            List<String> keyList = Arrays.asList(key, LIKE_QUEUE_KEY);
+            String entryPrefix = likeTypeEnum.name() + ":" + userId + ":" + targetId;
+
+            Long result = redisCircuitBreaker.execute(() -> stringRedisTemplate.execute(TOGGLE_SCRIPT, keyList,
+                    String.valueOf(targetId), String.valueOf(ttlSeconds), entryPrefix));
+            if (result != null && result == -1) {
+                load(likeTypeEnum, userId);
+                result = redisCircuitBreaker.execute(() -> stringRedisTemplate.execute(TOGGLE_SCRIPT, keyList,
+                        String.valueOf(targetId), String.valueOf(ttlSeconds), entryPrefix));
+            }
+            return result != null && result == 1;
+        } catch (DataAccessException e) {
+            throw new ServiceUnavailableException(LIKE_UNAVAILABLE, e);
+        }
+    }
+
+    /**
+     * 대상 중 사용자가 좋아요 한 대상 ID
+     *
+     * @param likeTypeEnum 좋아요 대상 종류
+     * @param userId       사용자 ID. 비회원은 null
+     * @param targetIdList 확인할 대상 ID 목록
+     * @return 좋아요 한 대상 ID
+     */
+    public Set<Long> getLikedIdSet(LikeTypeEnum likeTypeEnum, Long userId, Collection<Long> targetIdList) {
+        if (userId == null || targetIdList.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        try {
+            List<Long> targetList = new ArrayList<>(targetIdList);
+            List<?> memberList = isMember(likeTypeEnum, userId, targetList);
+            if (memberList == null || memberList.isEmpty()) {
+                load(likeTypeEnum, userId);
+                memberList = isMember(likeTypeEnum, userId, targetList);
+            }
+
+            Set<Long> result = new HashSet<>();
+            for (int i = 0; memberList != null && i < memberList.size(); i++) {
+                if (Long.valueOf(1L).equals(memberList.get(i))) {
+                    result.add(targetList.get(i));
+                }
+            }
+            return result;
+        } catch (DataAccessException e) {
+            return likePersistService.getLikedIdSet(likeTypeEnum, userId, targetIdList);
+        }
+    }
+
+    /**
+     * 사용자가 좋아요 한 대상 ID 전체. 아직 DB 에 반영되지 않은 변경까지 포함됨.
+     *
+     * @param likeTypeEnum 좋아요 대상 종류
+     * @param userId       사용자 ID
+     * @return 좋아요 한 대상 ID
+     */
+    public Set<Long> getLikedIdSet(LikeTypeEnum likeTypeEnum, Long userId) {
+        try {
+            List<?> memberList = getMembers(likeTypeEnum, userId);
+            if (memberList == null || memberList.isEmpty()) {
+                load(likeTypeEnum, userId);
+                memberList = getMembers(likeTypeEnum, userId);
+            }
+
+            Set<Long> result = new HashSet<>();
+            for (int i = 0; memberList != null && i < memberList.size(); i++) {
+                String member = String.valueOf(memberList.get(i));
+                if (!LOADED_MARKER.equals(member)) {
+                    result.add(Long.parseLong(member));
+                }
+            }
+            return result;
+        } catch (DataAccessException e) {
+            return new HashSet<>(likePersistService.getLikedIdList(likeTypeEnum, userId));
+        }
+    }
+
+    /**
+     * 좋아요 여부
+     *
+     * @param likeTypeEnum 좋아요 대상 종류
+     * @param userId       사용자 ID. 비회원은 null
+     * @param targetId     대상 ID
+     * @return true : 좋아요 중
+     */
+    public boolean isLiked(LikeTypeEnum likeTypeEnum, Long userId, Long targetId) {
+        return !getLikedIdSet(likeTypeEnum, userId, Collections.singletonList(targetId)).isEmpty();
+    }
+
+    /**
+     * 쌓인 변경 내역 DB 반영. 반영에 실패한 묶음은 처리 중 목록에 남겨 두고 다음 주기에 먼저 다시 반영함.
+     *
+     * @return 반영한 변경 내역 수
+     */
+    @Scheduled(fixedDelayString = "${memegle.like.flush-delay-ms:1000}")
+    @PreDestroy
+    public int flush() {
+        String owner = UUID.randomUUID().toString();
+        try {
+            Boolean locked = redisCircuitBreaker.execute(() -> stringRedisTemplate.opsForValue()
+                    .setIfAbsent(LIKE_FLUSH_LOCK_KEY, owner, Duration.ofSeconds(flushLockSeconds)));
+            if (!Boolean.TRUE.equals(locked)) {
+                return 0;
+            }
+
+            try {
+                return flushWithLock(owner);
+            } finally {
+                redisCircuitBreaker.execute(() -> stringRedisTemplate.execute(UNLOCK_SCRIPT,
+                        Collections.singletonList(LIKE_FLUSH_LOCK_KEY), owner));
+            }
+        } catch (DataAccessException | TransactionException e) {
+            // Redis 장애 또는 DB 연결 실패. 처리 중 목록은 남아 있으므로 다음 주기에 다시 시도.
+            log.warn("좋아요 반영 실패 : {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    // region 보조 기능
+    @SuppressWarnings("unchecked")
+    private int flushWithLock(String owner) {
+        int flushedCount = 0;
+        while (true) {
+            // 묶음마다 락을 연장. 락이 만료되어 다른 서버가 가져갔으면 반영을 멈춤.
+            Long renewed = redisCircuitBreaker.execute(() -> stringRedisTemplate.execute(RENEW_SCRIPT,
+                    Collections.singletonList(LIKE_FLUSH_LOCK_KEY), owner, String.valueOf(flushLockSeconds)));
+            if (renewed == null || renewed != 1) {
+                log.warn("좋아요 반영 락을 잃어서 반영을 멈춤");
+                return flushedCount;
+            }
+
+            List<String> entryValueList = redisCircuitBreaker.execute(() -> stringRedisTemplate.execute(CLAIM_SCRIPT,
+                    Arrays.asList(LIKE_QUEUE_KEY, LIKE_PROCESSING_KEY), String.valueOf(flushBatchSize)));
+            if (entryValueList == null || entryValueList.isEmpty()) {
+                return flushedCount;
+            }
+
+            List<LikeEntry> likeEntryList = new ArrayList<>();
+            for (String entryValue : entryValueList) {
+                likeEntryList.add(LikeEntry.parse(entryValue));
+            }
+
+            List<String> retryList = Collections.emptyList();
+            try {
+                likePersistService.persistAll(likeEntryList);
+            } catch (RuntimeException e) {
+                if (isDbUnavailable(e)) {
+                    throw e;
+                }
+                retryList = persistEach(entryValueList, likeEntryList);
+            }
+
+            // DB 에 커밋된 뒤에 지움. 지우기 전에 실패하면 다음 반영 때 같은 묶음을 다시 반영함.
+            if (retryList.isEmpty()) {
+                redisCircuitBreaker.execute(() -> stringRedisTemplate.delete(LIKE_PROCESSING_KEY));
+            } else {
+                // 실패한 내역만 남겨서 다음 주기에 뒤의 내역보다 먼저 다시 반영함
+                Object[] retryValues = retryList.toArray();
+                redisCircuitBreaker.execute(() -> stringRedisTemplate.execute(REPLACE_SCRIPT,
+                        Collections.singletonList(LIKE_PROCESSING_KEY), retryValues));
+                return flushedCount + likeEntryList.size() - retryList.size();
+            }
+
+            flushedCount += likeEntryList.size();
+            if (entryValueList.size() < flushBatchSize) {
+                return flushedCount;
+            }
+        }
+    }
+
+    /*
+        한 번에 반영하지 못했을 때 하나씩 반영
+        1. 삭제된 사용자/대상의 내역은 버림
+        2. DB 에 연결할 수 없으면 그대로 던짐(묶음 전체가 처리 중 목록에 남음)
+        3. 그 외의 실패는 내역별로 횟수를 세고, maxAttempts 번 실패하면 실패 목록으로 옮김
+        return 다음 주기에 다시 반영할 내역
+     */
+    private List<String> persistEach(List<String> entryValueList, List<LikeEntry> likeEntryList) {
+        List<String> retryList = new ArrayList<>();
+        for (int i = 0; i < likeEntryList.size(); i++) {
+            String entryValue = entryValueList.get(i);
+            try {
+                likePersistService.persistAll(Collections.singletonList(likeEntryList.get(i)));
+            } catch (DataIntegrityViolationException | ObjectRetrievalFailureException | EntityNotFoundException e) {
+                log.warn("좋아요 반영 불가 내역 제외 : {}", entryValue);
+            } catch (RuntimeException e) {
+                if (isDbUnavailable(e)) {
+                    throw e;
+                }
+                if (countFailure(entryValue) < maxAttempts) {
+                    log.warn("좋아요 반영 실패, 다음 주기에 다시 시도 : {}", entryValue, e);
+                    retryList.add(entryValue);
+                } else {
+                    log.error("좋아요 반영 실패 {}회, 실패 목록으로 옮김 : {}", maxAttempts, entryValue, e);
+                    moveToDead(entryValue);
+                }
+            }
+        }
+        return retryList;
+    }
+
+    // 실패 횟수 증가. 하루 동안 다시 실패하지 않으면 횟수는 사라짐.
+    private long countFailure(String entryValue) {
+        Long attempts = redisCircuitBreaker.execute(() -> {
+            Long count = stringRedisTemplate.opsForHash().increment(LIKE_ATTEMPTS_KEY, entryValue, 1);
+            stringRedisTemplate.expire(LIKE_ATTEMPTS_KEY, Duration.ofDays(1));
+            return count;
+        });
+        return attempts == null ? 1 : attempts;
+    }
+
+    private void moveToDead(String entryValue) {
+        redisCircuitBreaker.execute(() -> {
+            stringRedisTemplate.opsForList().rightPush(LIKE_DEAD_KEY, entryValue);
+            return stringRedisTemplate.opsForHash().delete(LIKE_ATTEMPTS_KEY, entryValue);
+        });
+    }
+
+    // DB 연결 실패, 시간 초과 등 다시 시도하면 성공할 수 있는 실패. 내역 문제가 아니므로 실패 횟수를 세지 않음.
+    private boolean isDbUnavailable(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private List<?> getMembers(LikeTypeEnum likeTypeEnum, Long userId) {
+        return redisCircuitBreaker.execute(() -> stringRedisTemplate.execute(MEMBERS_SCRIPT,
+                Collections.singletonList(getKey(likeTypeEnum, userId)), String.valueOf(ttlSeconds)));
+    }
+
+    private List<?> isMember(LikeTypeEnum likeTypeEnum, Long userId, List<Long> targetIdList) {
+        Object[] args = new Object[targetIdList.size() + 1];
+        args[0] = String.valueOf(ttlSeconds);
+        for (int i = 0; i < targetIdList.size(); i++) {
+            args[i + 1] = String.valueOf(targetIdList.get(i));
+        }
+        return redisCircuitBreaker.execute(() -> stringRedisTemplate.execute(IS_MEMBER_SCRIPT,
+                Collections.singletonList(getKey(likeTypeEnum, userId)), args));
+    }
+
+    // DB 에서 사용자의 좋아요 목록을 불러와 Set 생성
+    private void load(LikeTypeEnum likeTypeEnum, Long userId) {
+        List<Long> likedIdList = likePersistService.getLikedIdList(likeTypeEnum, userId);
+
+        Object[] args = new Object[likedIdList.size() + 2];
+        args[0] = String.valueOf(ttlSeconds);
+        args[1] = LOADED_MARKER;
+        for (int i = 0; i < likedIdList.size(); i++) {
+            args[i + 2] = String.valueOf(likedIdList.get(i));
+        }
+        redisCircuitBreaker.execute(() -> stringRedisTemplate.execute(LOAD_SCRIPT,
+                Collections.singletonList(getKey(likeTypeEnum, userId)), args));
+    }
+
+    private String getKey(LikeTypeEnum likeTypeEnum, Long userId) {
+        return LIKE_KEY + ":" + likeTypeEnum.name() + ":" + userId;
+    }
+    // endregion
+}
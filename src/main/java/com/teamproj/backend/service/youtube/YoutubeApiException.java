@@ -0,0 +1,67 @@
+package com.teamproj.backend.service.youtube;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/*
+    YouTube Data API 호출 실패
+    statusCode 가 0 이면 응답을 받지 못한 경우(연결 실패, 시간 초과 등)
+    reason 은 API 오류 응답의 errors[0].reason(quotaExceeded, rateLimitExceeded 등). 없으면 null.
+    YoutubeQuota 의 예산이 부족해서 호출하지 않은 경우는 budgetExceeded 로 만듦.
+ */
+@Getter
+public class YoutubeApiException extends RuntimeException {
+    public static final String BUDGET_EXCEEDED = "budgetExceeded";
+
+    // 요청 내용(검색어 등) 때문에 실패한 경우. 같은 요청은 다시 보내도 실패함.
+    private static final Set<String> REQUEST_ERROR_REASONS = new HashSet<>(Arrays.asList(
+            "badRequest", "invalidSearchFilter", "invalidParameter"));
+    // API 키, 프로젝트 설정 문제. 어떤 요청이든 실패하며, 설정을 고치면 성공함.
+    private static final Set<String> CONFIGURATION_ERROR_REASONS = new HashSet<>(Arrays.asList(
+            "keyInvalid", "keyExpired", "accessNotConfigured", "forbidden", "ipRefererBlocked"));
+
+    private final int statusCode;
+    private final String reason;
+
+    public YoutubeApiException(int statusCode, String reason, String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = statusCode;
+        this.reason = reason;
+    }
+
+    public static YoutubeApiException budgetExceeded() {
+        return new YoutubeApiException(0, BUDGET_EXCEEDED, "YouTube 할당량 예산 초과", null);
+    }
+
+    // API 가 알려준 일일 할당량 소진. 태평양 시간 자정까지 다시 호출해도 실패함.
+    public boolean isApiQuotaExceeded() {
+        return statusCode == 403 && ("quotaExceeded".equals(reason) || "dailyLimitExceeded".equals(reason));
+    }
+
+    // 할당량 소진 또는 예산 초과
+    public boolean isQuotaExceeded() {
+        return isApiQuotaExceeded() || BUDGET_EXCEEDED.equals(reason);
+    }
+
+    // 요청 자체가 잘못된 경우(400 badRequest, invalidSearchFilter 등)
+    public boolean isRequestError() {
+        return statusCode == 400 && REQUEST_ERROR_REASONS.contains(reason);
+    }
+
+    // API 키, 프로젝트 설정 문제(400 keyInvalid, 403 accessNotConfigured, 403 forbidden, 401 등)
+    public boolean isConfigurationError() {
+        return statusCode == 401 || (statusCode >= 400 && CONFIGURATION_ERROR_REASONS.contains(reason));
+    }
+
+    // 잠시 후 다시 호출하면 성공할 수 있는 실패(응답 없음, 429, 5xx, 초당 요청 제한)
+    public boolean isRetryable() {
+        if (isQuotaExceeded()) {
+            return false;
+        }
+        return statusCode == 0 || statusCode == 429 || statusCode >= 500
+                || "rateLimitExceeded".equals(reason) || "userRateLimitExceeded".equals(reason);
+    }
+}
@@ -0,0 +1,345 @@
+package com.teamproj.backend.service.youtube;
+
+import com.teamproj.backend.Repository.dict.DictRepository;
+import com.teamproj.backend.Repository.dict.DictYoutubeUrlRepository;
+import com.teamproj.backend.model.dict.Dict;
+import com.teamproj.backend.model.dict.DictYoutubeUrl;
+import com.teamproj.backend.service.YoutubeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/*
+    사전 관련 영상(DictYoutubeUrl) 찾기
+    사전 작성(postDict) 트랜잭션 안에서 YouTube API 를 호출하면 응답을 기다리는 동안 DB 연결을 잡고 있고,
+    API 가 느려지면 사전 작성도 같이 느려짐. 사전은 바로 저장하고 관련 영상은 여기서 나중에 붙임.
+    1. enqueue : 트랜잭션이 커밋된 뒤에 작업을 넣음. 같은 사전은 한 번만 대기함.
+    2. 스레드 수(threads)와 대기열(queue-size)이 정해진 전용 스레드에서 처리. 대기열이 가득 차면 버리고 recover 에서 다시 찾음.
+    3. 응답 없음, 429, 5xx 는 max-attempts 까지 다시 시도. 대기 시간은 backoff-ms 부터 두 배씩 늘리고(최대 max-backoff-ms) 무작위로 줄임.
+    4. 검색 결과 캐시와 할당량 확인은 YoutubeService 에서 함. 할당량이 부족하면(quotaExceeded, budgetExceeded) 다시 시도하지 않음.
+    5. 찾고 나면(결과가 없어도) Dict.youtubeEnrichedAt 을 기록함. 요청 자체가 잘못되어 다시 보내도 실패하는 경우(badRequest 등)도 기록함.
+       API 키, 프로젝트 설정 오류(keyInvalid, accessNotConfigured, forbidden)는 모든 사전이 같이 실패하므로 기록하지 않고
+       error 로그를 남김. 설정을 고친 뒤 recover 에서 다시 찾음.
+    6. recover : 재시작, 대기열 초과, 할당량 부족 등으로 찾지 못한 최근 사전(recover-days)을 다시 넣음. Scheduler 에서 주기적으로 실행.
+    7. refreshPopular : 조회수 상위(popular-size) 사전 중 찾은 지 refresh-after-days 가 지난 사전의 관련 영상을 다시 검색해서,
+       영상이 바뀌었으면 교체함. 갱신 예산(YoutubeQuota.tryAcquireForRefresh) 안에서 한 번에 refresh-batch-size 개까지. Scheduler 에서 주기적으로 실행.
+    메트릭 : memegle.youtube.enrich(result = ok/empty/refreshed/unchanged/retry/failed/config/quota/dropped), memegle.youtube.enrich.queue(대기 중인 사전 수)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class YoutubeEnrichmentService {
+    private final YoutubeService youtubeService;
+    private final YoutubeQuota youtubeQuota;
+    private final DictRepository dictRepository;
+    private final DictYoutubeUrlRepository dictYoutubeUrlRepository;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${memegle.youtube.enrich.threads:2}")
+    private int threads;
+    @Value("${memegle.youtube.enrich.queue-size:500}")
+    private int queueSize;
+    @Value("${memegle.youtube.enrich.max-attempts:3}")
+    private int maxAttempts;
+    @Value("${memegle.youtube.enrich.backoff-ms:1000}")
+    private long backoffMs;
+    @Value("${memegle.youtube.enrich.max-backoff-ms:30000}")
+    private long maxBackoffMs;
+    // 작성된 지 이 기간이 지난 사전은 recover 에서 다시 찾지 않음
+    @Value("${memegle.youtube.enrich.recover-days:7}")
+    private long recoverDays;
+    // 작성된 지 이 시간이 지나지 않은 사전은 아직 처리 중일 수 있으므로 recover 에서 제외
+    @Value("${memegle.youtube.enrich.recover-delay-minutes:10}")
+    private long recoverDelayMinutes;
+    // 갱신 대상을 고르는 조회수 상위 사전 수
+    @Value("${memegle.youtube.refresh.popular-size:100}")
+    private int popularSize;
+    // 관련 영상을 찾은 지 이 기간이 지난 사전만 갱신
+    @Value("${memegle.youtube.refresh.after-days:30}")
+    private long refreshAfterDays;
+    // 한 번에 갱신하는 최대 사전 수
+    @Value("${memegle.youtube.refresh.batch-size:20}")
+    private int refreshBatchSize;
+
+    // 대기 중이거나 처리 중인 사전 ID
+    private final Set<Long> pendingIdSet = ConcurrentHashMap.newKeySet();
+    private ThreadPoolExecutor enrichExecutor;
+    private ScheduledExecutorService retryExecutor;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        enrichExecutor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueSize), r -> {
+                    Thread thread = new Thread(r, "youtube-enrich");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        enrichExecutor.allowCoreThreadTimeOut(true);
+        retryExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "youtube-enrich-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        meterRegistry.gaugeCollectionSize("memegle.youtube.enrich.queue", Tags.empty(), pendingIdSet);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 남은 작업은 다음 실행 때 recover 에서 다시 찾음
+        retryExecutor.shutdownNow();
+        enrichExecutor.shutdownNow();
+    }
+
+    /**
+     * 관련 영상 찾기 예약. 트랜잭션 안에서 호출하면 커밋된 뒤에 시작함.
+     *
+     * @param dictId   사전 ID
+     * @param dictName 검색어로 사용할 사전 이름
+     */
+    public void enqueue(Long dictId, String dictName) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(new EnrichJob(dictId, dictName, false));
+                }
+            });
+            return;
+        }
+        submit(new EnrichJob(dictId, dictName, false));
+    }
+
+    /**
+     * 아직 관련 영상을 찾지 못한 최근 사전을 다시 예약
+     *
+     * @return 예약한 사전 수
+     */
+    public int recover() {
+        if (youtubeQuota.getRemaining() < YoutubeQuota.SEARCH_COST) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Dict> dictList = dictRepository.findTop50ByYoutubeEnrichedAtIsNullAndCreatedAtBetweenOrderByCreatedAtAsc(
+                now.minusDays(recoverDays), now.minusMinutes(recoverDelayMinutes));
+        int count = 0;
+        for (Dict dict : dictList) {
+            if (submit(new EnrichJob(dict.getDictId(), dict.getDictName(), false))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 조회수 상위 사전 중 관련 영상을 찾은 지 오래된 사전을 다시 검색하도록 예약. 남은 갱신 예산만큼만 예약함.
+     *
+     * @return 예약한 사전 수
+     */
+    public int refreshPopular() {
+        long remaining = youtubeQuota.getRefreshRemaining();
+        if (remaining < YoutubeQuota.SEARCH_COST) {
+            return 0;
+        }
+
+        long limit = Math.min(refreshBatchSize, remaining / YoutubeQuota.SEARCH_COST);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime refreshBefore = now.minusDays(refreshAfterDays);
+        LocalDateTime createdBefore = now.minusMinutes(recoverDelayMinutes);
+        List<Dict> dictList = dictRepository.findAllByOrderByViewsDesc(PageRequest.of(0, popularSize)).getContent();
+        int count = 0;
+        for (Dict dict : dictList) {
+            if (count >= limit) {
+                break;
+            }
+            // 최근에 찾았거나, 방금 작성되어 아직 찾는 중일 수 있는 사전은 제외
+            if (dict.getYoutubeEnrichedAt() != null && dict.getYoutubeEnrichedAt().isAfter(refreshBefore)) {
+                continue;
+            }
+            if (dict.getCreatedAt() != null && dict.getCreatedAt().isAfter(createdBefore)) {
+                continue;
+            }
+            if (submit(new EnrichJob(dict.getDictId(), dict.getDictName(), true))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // region 보조 기능
+    private boolean submit(EnrichJob job) {
+        if (!pendingIdSet.add(job.dictId)) {
+            return false;
+        }
+        return execute(job);
+    }
+
+    private boolean execute(EnrichJob job) {
+        try {
+            enrichExecutor.execute(() -> process(job));
+            return true;
+        } catch (RejectedExecutionException e) {
+            pendingIdSet.remove(job.dictId);
+            count("dropped");
+            return false;
+        }
+    }
+
+    private void process(EnrichJob job) {
+        boolean retrying = false;
+        try {
+            retrying = enrich(job);
+        } catch (RuntimeException e) {
+            log.warn("사전 관련 영상 저장 실패. dictId : {}", job.dictId, e);
+            count("failed");
+        } finally {
+            // 다시 시도하는 동안에는 같은 사전이 다시 예약되지 않도록 남겨 둠
+            if (!retrying) {
+                pendingIdSet.remove(job.dictId);
+            }
+        }
+    }
+
+    // 다시 시도하도록 예약했으면 true
+    private boolean enrich(EnrichJob job) {
+        // 삭제되었거나 이미 찾은 사전(recover 와 겹친 경우 등)
+        if (!dictRepository.existsById(job.dictId)) {
+            return false;
+        }
+        if (job.refresh) {
+            return refresh(job);
+        }
+        if (dictYoutubeUrlRepository.existsByDict_DictId(job.dictId)) {
+            dictRepository.setYoutubeEnrichedAt(job.dictId, LocalDateTime.now());
+            return false;
+        }
+
+        List<DictYoutubeUrl> dictYoutubeUrlList;
+        try {
+            dictYoutubeUrlList = youtubeService.getYoutubeSearchResult(dictRepository.getById(job.dictId), job.dictName);
+        } catch (YoutubeApiException e) {
+            return handleApiException(job, e);
+        }
+        dictYoutubeUrlRepository.saveAll(dictYoutubeUrlList);
+        dictRepository.setYoutubeEnrichedAt(job.dictId, LocalDateTime.now());
+        count(dictYoutubeUrlList.isEmpty() ? "empty" : "ok");
+        return false;
+    }
+
+    // 다시 검색해서 영상이 바뀌었으면 교체. 검색 결과가 비어 있으면 일시적인 결과일 수 있으므로 기존 영상을 남겨 둠.
+    private boolean refresh(EnrichJob job) {
+        List<DictYoutubeUrl> dictYoutubeUrlList;
+        try {
+            dictYoutubeUrlList = youtubeService.refreshYoutubeSearchResult(dictRepository.getById(job.dictId), job.dictName);
+        } catch (YoutubeApiException e) {
+            return handleApiException(job, e);
+        }
+
+        Boolean replaced = Boolean.FALSE;
+        if (!dictYoutubeUrlList.isEmpty()) {
+            replaced = transactionTemplate.execute(status -> {
+                List<DictYoutubeUrl> savedList = dictYoutubeUrlRepository.findAllByDict_DictId(job.dictId);
+                if (getYoutubeUrlSet(savedList).equals(getYoutubeUrlSet(dictYoutubeUrlList))) {
+                    return false;
+                }
+                dictYoutubeUrlRepository.deleteAllInBatch(savedList);
+                dictYoutubeUrlRepository.saveAll(dictYoutubeUrlList);
+                return true;
+            });
+        }
+        dictRepository.setYoutubeEnrichedAt(job.dictId, LocalDateTime.now());
+        count(Boolean.TRUE.equals(replaced) ? "refreshed" : "unchanged");
+        return false;
+    }
+
+    private static Set<String> getYoutubeUrlSet(List<DictYoutubeUrl> dictYoutubeUrlList) {
+        Set<String> youtubeUrlSet = new HashSet<>();
+        for (DictYoutubeUrl dictYoutubeUrl : dictYoutubeUrlList) {
+            youtubeUrlSet.add(dictYoutubeUrl.getYoutubeUrl());
+        }
+        return youtubeUrlSet;
+    }
+
+    private boolean handleApiException(EnrichJob job, YoutubeApiException e) {
+        // 할당량 소진은 YoutubeService 에서 기록함. 다음 recover / 갱신 때 다시 찾음.
+        if (e.isQuotaExceeded()) {
+            count("quota");
+            return false;
+        }
+
+        if (e.isRetryable() && job.attempt < maxAttempts) {
+            long delayMs = getBackoffMs(job.attempt);
+            job.attempt++;
+            try {
+                retryExecutor.schedule(() -> {
+                    // 대기열이 가득 차면 execute 에서 대기 목록에서 제거함
+                    execute(job);
+                }, delayMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException rejected) {
+                return false;
+            }
+            count("retry");
+            return true;
+        }
+
+        // 설정을 고칠 때까지 모든 사전이 실패하므로 찾은 것으로 기록하지 않음
+        if (e.isConfigurationError()) {
+            log.error("YouTube API 설정 오류. dictId : {}, {}", job.dictId, e.getMessage());
+            count("config");
+            return false;
+        }
+
+        log.warn("사전 관련 영상 찾기 실패. dictId : {}, {}", job.dictId, e.getMessage());
+        count("failed");
+        // 요청 자체가 잘못되어 다시 보내도 실패하는 경우만 찾은 것으로 기록해서 recover 에서 반복하지 않음
+        if (e.isRequestError()) {
+            dictRepository.setYoutubeEnrichedAt(job.dictId, LocalDateTime.now());
+        }
+        return false;
+    }
+
+    // backoff-ms * 2^(attempt-1) 를 최대 max-backoff-ms 로 자른 뒤 절반~전체 사이의 무작위 값(동시에 실패한 작업이 같이 몰리지 않도록)
+    private long getBackoffMs(int attempt) {
+        long delayMs = Math.min(maxBackoffMs, backoffMs << Math.min(attempt - 1, 20));
+        return delayMs / 2 + ThreadLocalRandom.current().nextLong(delayMs / 2 + 1);
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("memegle.youtube.enrich", "result", result).increment();
+    }
+
+    private static class EnrichJob {
+        private final Long dictId;
+        private final String dictName;
+        // 이미 찾은 영상을 다시 검색해서 교체하는 작업
+        private final boolean refresh;
+        // 시도 횟수. 처리 중인 스레드 하나만 변경함.
+        private int attempt = 1;
+
+        private EnrichJob(Long dictId, String dictName, boolean refresh) {
+            this.dictId = dictId;
+            this.dictName = dictName;
+            this.refresh = refresh;
+        }
+    }
+    // endregion
+}
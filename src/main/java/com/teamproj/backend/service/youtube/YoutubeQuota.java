@@ -0,0 +1,141 @@
+package com.teamproj.backend.service.youtube;
+
+import com.teamproj.backend.util.RedisCircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.teamproj.backend.util.RedisKey.YOUTUBE_QUOTA_KEY;
+
+/*
+    YouTube Data API 일일 할당량
+    API 키 하나를 모든 서버가 같이 쓰므로 사용량은 Redis 에 날짜별로 기록함(YOUTUBE_QUOTA:2021-08-01).
+    1. 호출 전에 비용(검색 100)만큼 사용량을 늘리고, 일일 예산(daily-units)을 넘으면 호출하지 않음
+    2. API 가 할당량 소진(quotaExceeded)을 알려주면 남은 예산과 관계없이 오늘은 더 호출하지 않음
+    3. 할당량은 태평양 시간 자정에 초기화되므로 날짜도 태평양 시간 기준
+    4. 인기 사전 관련 영상 갱신(tryAcquireForRefresh)은 전체 예산 안에서 따로 정한 갱신 예산(refresh-daily-units)까지만 사용함.
+       새로 작성된 사전의 관련 영상 찾기에 쓸 할당량이 갱신 때문에 부족해지지 않도록 함.
+    Redis 에 연결할 수 없으면(RedisCircuitBreaker 차단 포함) 사용량을 알 수 없으므로 호출하지 않음.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class YoutubeQuota {
+    // search.list 호출 비용
+    public static final int SEARCH_COST = 100;
+
+    private static final ZoneId RESET_ZONE = ZoneId.of("America/Los_Angeles");
+    // 날짜가 바뀐 뒤에도 잠시 남겨 둠
+    private static final long KEY_TTL_SECONDS = TimeUnit.DAYS.toSeconds(2);
+
+    // KEYS[1] : 전체 사용량, KEYS[2] : 갱신 사용량 / ARGV[1] : 비용, ARGV[2] : 일일 예산, ARGV[3] : 갱신 예산(-1 : 갱신 아님), ARGV[4] : 만료(초)
+    // return 1 : 사용 가능 / 0 : 예산 초과
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local cost = tonumber(ARGV[1]) " +
+            "local used = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "if used + cost > tonumber(ARGV[2]) then return 0 end " +
+            "if tonumber(ARGV[3]) >= 0 then " +
+            "  local refreshUsed = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+            "  if refreshUsed + cost > tonumber(ARGV[3]) then return 0 end " +
+            "  redis.call('INCRBY', KEYS[2], cost) " +
+            "  redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+            "end " +
+            "redis.call('INCRBY', KEYS[1], cost) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    @Value("${memegle.youtube.quota.daily-units:10000}")
+    private long dailyUnits;
+    @Value("${memegle.youtube.quota.refresh-daily-units:2000}")
+    private long refreshDailyUnits;
+
+    /**
+     * 할당량 사용
+     *
+     * @param units 호출 비용
+     * @return 예산 안이면 true. false 이면 호출하지 않아야 함.
+     */
+    public boolean tryAcquire(int units) {
+        return acquire(units, -1);
+    }
+
+    /**
+     * 인기 사전 관련 영상 갱신용 할당량 사용. 전체 예산과 갱신 예산을 모두 넘지 않아야 함.
+     *
+     * @param units 호출 비용
+     * @return 예산 안이면 true. false 이면 호출하지 않아야 함.
+     */
+    public boolean tryAcquireForRefresh(int units) {
+        return acquire(units, refreshDailyUnits);
+    }
+
+    // API 가 할당량 소진을 알려준 경우. 오늘 남은 예산을 모두 사용한 것으로 기록함.
+    public void markExhausted() {
+        try {
+            String key = getKey();
+            redisCircuitBreaker.execute(() -> {
+                stringRedisTemplate.opsForValue().set(key, String.valueOf(dailyUnits), KEY_TTL_SECONDS, TimeUnit.SECONDS);
+                return null;
+            });
+        } catch (RedisConnectionFailureException e) {
+            log.warn("YouTube 할당량 소진을 기록할 수 없음 : {}", e.getMessage());
+        }
+    }
+
+    // 오늘 남은 예산. Redis 에 연결할 수 없으면 0.
+    public long getRemaining() {
+        return getRemaining(getKey(), dailyUnits);
+    }
+
+    // 오늘 남은 갱신 예산(전체 예산보다 많이 남았더라도 전체 예산까지만 사용 가능)
+    public long getRefreshRemaining() {
+        return Math.min(getRemaining(), getRemaining(getRefreshKey(), refreshDailyUnits));
+    }
+
+    // region 보조 기능
+    private boolean acquire(int units, long refreshBudget) {
+        try {
+            List<String> keyList = Arrays.asList(getKey(), getRefreshKey());
+            Long result = redisCircuitBreaker.execute(() -> stringRedisTemplate.execute(ACQUIRE_SCRIPT, keyList,
+                    String.valueOf(units), String.valueOf(dailyUnits), String.valueOf(refreshBudget),
+                    String.valueOf(KEY_TTL_SECONDS)));
+            return result != null && result == 1;
+        } catch (RedisConnectionFailureException e) {
+            log.warn("YouTube 할당량을 확인할 수 없음 : {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private long getRemaining(String key, long budget) {
+        try {
+            String used = redisCircuitBreaker.execute(() -> stringRedisTemplate.opsForValue().get(key));
+            return Math.max(0, budget - (used == null ? 0 : Long.parseLong(used)));
+        } catch (RedisConnectionFailureException e) {
+            return 0;
+        }
+    }
+
+    private String getKey() {
+        return YOUTUBE_QUOTA_KEY + ":" + LocalDate.now(RESET_ZONE);
+    }
+
+    private String getRefreshKey() {
+        return YOUTUBE_QUOTA_KEY + ":REFRESH:" + LocalDate.now(RESET_ZONE);
+    }
+    // endregion
+}
@@ -0,0 +1,152 @@
+package com.teamproj.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+    스레드 안전한 블룸 필터.
+    "이미 넣은 적이 있는가" 를 고정된 메모리로 O(1) 에 판단함.
+    - 없다고 판단한 경우 : 반드시 없음
+    - 있다고 판단한 경우 : 오탐(false positive)일 수 있음. 오탐률은 생성시 지정.
+ */
+public class BloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final double targetFpp;
+
+    // 1로 설정된 비트 개수, 실제로 추가된 원소 개수
+    private final AtomicLong bitCount = new AtomicLong();
+    private final AtomicLong insertionCount = new AtomicLong();
+
+    /**
+     * @param expectedInsertions 예상 원소 개수
+     * @param fpp                목표 오탐률(0 초과 1 미만)
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions 는 0보다 커야 합니다.");
+        }
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("fpp 는 0 초과 1 미만이어야 합니다.");
+        }
+        // 최적 비트 수 m = -n * ln(p) / (ln2)^2, 최적 해시 함수 개수 k = m / n * ln2
+        long size = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, (size + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitSize / 64));
+        this.targetFpp = fpp;
+    }
+
+    /**
+     * 원소 추가
+     *
+     * @param value 추가할 값
+     * @return true : 처음 추가된 값 / false : 이미 존재하는 값(또는 오탐)
+     */
+    public boolean put(String value) {
+        // 64비트 해시 두 개로 k 개의 해시를 만듦(Kirsch-Mitzenmacher).
+        // int 로 계산하면 2^31 이상의 비트에 닿지 않으므로 long 으로 계산함.
+        long hash1 = murmurHash64(value.getBytes(StandardCharsets.UTF_8));
+        long hash2 = fmix64(hash1 ^ 0x5bd1e995L);
+
+        // 하나라도 새로 설정된 비트가 있으면 이전에 넣은 적이 없는 값임.
+        boolean changed = false;
+        for (int i = 1; i <= hashCount; i++) {
+            changed |= setBit(bitIndex(hash1, hash2, i, bitSize));
+        }
+        if (changed) {
+            insertionCount.incrementAndGet();
+        }
+        return changed;
+    }
+
+    // 현재 채워진 비트 비율로 계산한 예상 오탐률
+    public double expectedFpp() {
+        return Math.pow((double) bitCount.get() / bitSize, hashCount);
+    }
+
+    public double getTargetFpp() {
+        return targetFpp;
+    }
+
+    public long getInsertionCount() {
+        return insertionCount.get();
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    // i 번째 해시의 비트 위치(0 이상 bitSize 미만)
+    static long bitIndex(long hash1, long hash2, int i, long bitSize) {
+        return ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+    }
+
+    private boolean setBit(long index) {
+        int arrayIndex = (int) (index >>> 6);
+        long mask = 1L << index;
+        while (true) {
+            long oldValue = bits.get(arrayIndex);
+            if ((oldValue & mask) != 0) {
+                return false;
+            }
+            if (bits.compareAndSet(arrayIndex, oldValue, oldValue | mask)) {
+                bitCount.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    // MurmurHash64A
+    private static long murmurHash64(byte[] data) {
+        final long m = 0xc6a4a7935bd1e995L;
+        final int r = 47;
+        int length = data.length;
+        long h = 0x9747b28cL ^ (length * m);
+
+        int blockCount = length / 8;
+        for (int i = 0; i < blockCount; i++) {
+            int offset = i * 8;
+            long k = (data[offset] & 0xffL)
+                    | (data[offset + 1] & 0xffL) << 8
+                    | (data[offset + 2] & 0xffL) << 16
+                    | (data[offset + 3] & 0xffL) << 24
+                    | (data[offset + 4] & 0xffL) << 32
+                    | (data[offset + 5] & 0xffL) << 40
+                    | (data[offset + 6] & 0xffL) << 48
+                    | (data[offset + 7] & 0xffL) << 56;
+            k *= m;
+            k ^= k >>> r;
+            k *= m;
+            h ^= k;
+            h *= m;
+        }
+
+        // 8바이트 블록에 들지 못한 나머지 바이트(원본 구현의 switch fall-through 와 같은 순서로 섞음)
+        int remainCount = length % 8;
+        if (remainCount > 0) {
+            int remainOffset = blockCount * 8;
+            for (int i = remainCount - 1; i >= 0; i--) {
+                h ^= (data[remainOffset + i] & 0xffL) << (i * 8);
+            }
+            h *= m;
+        }
+
+        h ^= h >>> r;
+        h *= m;
+        h ^= h >>> r;
+        return h;
+    }
+
+    // MurmurHash3 의 마지막 섞기 단계. 첫 번째 해시에서 두 번째 해시를 만들 때 사용.
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,210 @@
+package com.teamproj.backend.util;
+
+import com.teamproj.backend.config.RedisCodecRegistry;
+import com.teamproj.backend.service.RedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/*
+    Redis 캐시 조회(cache-aside)
+    서비스마다 "Redis 조회 -> 없으면 DB 에서 만들어 저장 -> 다시 조회" 를 직접 작성하던 것을 한 곳으로 모음.
+    1. 값, 남은 만료 시간, 빈 결과 표시를 파이프라인 한 번으로 조회
+    2. 없으면 서버당 한 요청만 불러와서 저장하고 나머지는 그 결과를 받음(SingleFlight)
+    3. 남은 만료 시간이 stale 이하면 이전 값을 반환하면서 백그라운드에서 다시 불러옴(stale-while-revalidate)
+    4. 불러온 결과가 비어 있으면 empty 동안 빈 결과를 기억함
+    5. Redis 연결 실패(회로 차단 포함) 시 RedisFallbackCache 에서 반환
+    6. 저장된 값을 읽을 수 없으면(DTO 변경, 직렬화 형식 되돌림 등) 없는 것으로 보고 다시 불러와 덮어씀
+    정책(만료 시간 등)은 CacheSpec, 사용하는 정책 목록은 CacheSpecs 참고.
+    메트릭 : memegle.cache.redis(name, result = hit/stale/miss/empty/fallback), memegle.cache.redis.load(name)
+    반환된 값은 RedisFallbackCache 등에 보관된 객체일 수 있으므로 수정하지 말고 복사해서 사용해야 함.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheAsideTemplate {
+    private final RedisService redisService;
+    private final RedisCodecRegistry redisCodecRegistry;
+    private final RedisFallbackCache redisFallbackCache;
+    private final MeterRegistry meterRegistry;
+
+    // 다른 요청이 불러오는 중일 때 기다리는 최대 시간(CacheSpec.waitTime 이 없을 때)
+    @Value("${memegle.cache.redis.wait-ms:3000}")
+    private long waitMs;
+
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final ExecutorService refreshExecutor = new ThreadPoolExecutor(1, 4, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(100), r -> {
+                Thread thread = new Thread(r, "redis-cache-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * 목록 조회. Redis 에 없으면 loader 로 불러와 저장함.
+     *
+     * @param spec   캐시 정책
+     * @param key    Redis 키
+     * @param loader DB 에서 목록을 만드는 기능
+     * @return 캐시된 목록. 비어 있으면 빈 목록.
+     */
+    public <V> List<V> getList(CacheSpec<V> spec, String key, Supplier<List<V>> loader) {
+        RedisSerializer<V> serializer = serializer(spec.getType());
+        return lookup(spec, key, true, loader,
+                entry -> decodeList(serializer, entry.getValueList()),
+                valueList -> listWrite(spec, key, valueList),
+                Collections.emptyList());
+    }
+
+    /**
+     * 단일 값 조회. Redis 에 없으면 loader 로 불러와 저장함.
+     *
+     * @return 캐시된 값. 비어 있으면 null.
+     */
+    public <V> V get(CacheSpec<V> spec, String key, Supplier<V> loader) {
+        RedisSerializer<V> serializer = serializer(spec.getType());
+        return lookup(spec, key, false, loader,
+                entry -> serializer.deserialize(entry.getValue()),
+                value -> valueWrite(spec, key, value),
+                null);
+    }
+
+    /**
+     * 만료 여부와 관계없이 다시 불러와서 저장(정기 스케줄 등).
+     * spec 이 keepOnEmptyRefresh 이면 불러온 목록이 비어 있을 때 저장하지 않고 기존 값을 남겨 둠.
+     */
+    public <V> List<V> refreshList(CacheSpec<V> spec, String key, Supplier<List<V>> loader) {
+        return singleFlight.run(key, getWaitMs(spec), () -> load(spec, loader, valueList ->
+                spec.isKeepOnEmptyRefresh() && valueList.isEmpty() ? null : listWrite(spec, key, valueList)));
+    }
+
+    /**
+     * 여러 키를 한 번에 교체. listWrite 로 만든 값을 넘김.
+     */
+    public void putAll(RedisCacheWrite... writeList) {
+        redisService.setCacheEntries(Arrays.asList(writeList));
+    }
+
+    public <V> RedisCacheWrite listWrite(CacheSpec<V> spec, String key, List<V> valueList) {
+        RedisSerializer<V> serializer = serializer(spec.getType());
+        List<byte[]> bytesList = new ArrayList<>(valueList.size());
+        for (V value : valueList) {
+            bytesList.add(serializer.serialize(value));
+        }
+        return new RedisCacheWrite(key, bytesList.isEmpty() ? null : bytesList, null, spec.nextExpireMs(), spec.getEmptyMs());
+    }
+
+    public void evict(String key) {
+        redisService.deleteCacheEntry(key);
+        redisFallbackCache.evict(key);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // region 보조 기능
+    private <T> T lookup(CacheSpec<?> spec, String key, boolean list, Supplier<T> loader,
+                         Function<RedisCacheEntry, T> decoder, Function<T, RedisCacheWrite> encoder, T emptyValue) {
+        RedisCacheEntry entry;
+        try {
+            entry = redisService.getCacheEntry(key, list);
+        } catch (RedisConnectionFailureException e) {
+            count(spec, "fallback");
+            return redisFallbackCache.get(key, loader);
+        }
+
+        T value;
+        try {
+            value = decoder.apply(entry);
+        } catch (SerializationException e) {
+            // 만료될 때까지 계속 실패하지 않도록 바로 다시 불러와서 덮어씀
+            log.warn("캐시 값을 읽을 수 없어 다시 불러옴 : key = {}, {}", key, e.getMessage());
+            count(spec, "miss");
+            T loaded = singleFlight.run(key, getWaitMs(spec), () -> load(spec, loader, encoder));
+            return loaded == null ? emptyValue : loaded;
+        }
+        if (value != null) {
+            // 만료 시간이 없는 값(-1)은 이전 버전이 쓴 것이므로 만료 시간을 붙여 다시 씀
+            if (entry.getTtlMs() < 0 || entry.getTtlMs() <= spec.getStaleMs()) {
+                count(spec, "stale");
+                singleFlight.runAsync(key, () -> load(spec, loader, encoder), refreshExecutor);
+            } else {
+                count(spec, "hit");
+            }
+            return value;
+        }
+        if (entry.isEmpty()) {
+            count(spec, "empty");
+            return emptyValue;
+        }
+
+        count(spec, "miss");
+        T loaded = singleFlight.run(key, getWaitMs(spec), () -> load(spec, loader, encoder));
+        return loaded == null ? emptyValue : loaded;
+    }
+
+    private <T> T load(CacheSpec<?> spec, Supplier<T> loader, Function<T, RedisCacheWrite> encoder) {
+        long start = System.nanoTime();
+        T value = loader.get();
+        meterRegistry.timer("memegle.cache.redis.load", "name", spec.getName())
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        RedisCacheWrite write = encoder.apply(value);
+        if (write == null) {
+            return value;
+        }
+        try {
+            redisService.setCacheEntries(Collections.singletonList(write));
+        } catch (RedisConnectionFailureException e) {
+            // 저장만 실패한 경우. 불러온 값은 그대로 반환하고 다음 조회 때 다시 불러옴.
+        }
+        return value;
+    }
+
+    private long getWaitMs(CacheSpec<?> spec) {
+        return spec.getWaitMs() > 0 ? spec.getWaitMs() : waitMs;
+    }
+
+    private <V> RedisCacheWrite valueWrite(CacheSpec<V> spec, String key, V value) {
+        byte[] bytes = value == null ? null : serializer(spec.getType()).serialize(value);
+        return new RedisCacheWrite(key, null, bytes, spec.nextExpireMs(), spec.getEmptyMs());
+    }
+
+    private static <V> List<V> decodeList(RedisSerializer<V> serializer, List<byte[]> bytesList) {
+        if (bytesList == null || bytesList.isEmpty()) {
+            return null;
+        }
+        List<V> valueList = new ArrayList<>(bytesList.size());
+        for (byte[] bytes : bytesList) {
+            valueList.add(serializer.deserialize(bytes));
+        }
+        return valueList;
+    }
+
+    // 문자열(ID 목록 등)은 JSON 으로 감싸지 않고 그대로 저장
+    @SuppressWarnings("unchecked")
+    private <V> RedisSerializer<V> serializer(Class<V> type) {
+        if (type == String.class) {
+            return (RedisSerializer<V>) RedisSerializer.string();
+        }
+        return redisCodecRegistry.get(type);
+    }
+
+    private void count(CacheSpec<?> spec, String result) {
+        meterRegistry.counter("memegle.cache.redis", "name", spec.getName(), "result", result).increment();
+    }
+    // endregion
+}
@@ -0,0 +1,80 @@
+package com.teamproj.backend.util;
+
+import lombok.Getter;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+    CacheAsideTemplate 로 캐싱하는 값의 정책
+    - ttl : 다시 불러오기까지의 시간. 실제 Redis 만료 시간은 ttl 에 ±jitter 비율만큼 무작위로 더하고 빼서 정함
+            (같은 시각에 쓴 키들이 한꺼번에 만료되어 DB 조회가 몰리지 않도록)
+    - stale : ttl 이 지난 뒤 이 시간 동안은 이전 값을 반환하면서 백그라운드에서 다시 불러옴
+    - empty : 불러온 결과가 비어 있을 때 빈 결과를 기억하는 시간(0 이면 기억하지 않고 매번 다시 불러옴)
+    - waitTime : 다른 요청이 불러오는 중일 때 기다리는 최대 시간(0 이면 memegle.cache.redis.wait-ms)
+                 외부 API 처럼 불러오는 시간이 긴 경우 그 시간 초과보다 길게 잡아야 기다리던 요청이 같이 호출하지 않음
+    - keepOnEmptyRefresh : refreshList 결과가 비어 있으면 기존 값을 덮어쓰지 않음(일시적으로 비어 있을 수 있는 외부 검색 결과 등)
+ */
+@Getter
+public class CacheSpec<V> {
+    private final String name;
+    private final Class<V> type;
+    private final long ttlMs;
+    private final double jitter;
+    private final long staleMs;
+    private final long emptyMs;
+    private final long waitMs;
+    private final boolean keepOnEmptyRefresh;
+
+    private CacheSpec(String name, Class<V> type, long ttlMs, double jitter, long staleMs, long emptyMs,
+                      long waitMs, boolean keepOnEmptyRefresh) {
+        if (ttlMs <= 0) {
+            throw new IllegalArgumentException("캐시 만료 시간은 0 보다 커야 합니다.");
+        }
+        if (jitter < 0 || jitter >= 1) {
+            throw new IllegalArgumentException("jitter 는 0 이상 1 미만이어야 합니다.");
+        }
+        this.name = name;
+        this.type = type;
+        this.ttlMs = ttlMs;
+        this.jitter = jitter;
+        this.staleMs = staleMs;
+        this.emptyMs = emptyMs;
+        this.waitMs = waitMs;
+        this.keepOnEmptyRefresh = keepOnEmptyRefresh;
+    }
+
+    /**
+     * @param name 메트릭 구분 이름(보통 Redis 키)
+     * @param type 저장하는 값(목록이면 원소)의 타입. RedisCodecRegistry 에 등록된 타입이거나 String.
+     */
+    public static <V> CacheSpec<V> of(String name, Class<V> type, long ttl, TimeUnit unit) {
+        return new CacheSpec<>(name, type, unit.toMillis(ttl), 0.1, 0, 0, 0, false);
+    }
+
+    public CacheSpec<V> jitter(double jitter) {
+        return new CacheSpec<>(name, type, ttlMs, jitter, staleMs, emptyMs, waitMs, keepOnEmptyRefresh);
+    }
+
+    public CacheSpec<V> stale(long stale, TimeUnit unit) {
+        return new CacheSpec<>(name, type, ttlMs, jitter, unit.toMillis(stale), emptyMs, waitMs, keepOnEmptyRefresh);
+    }
+
+    public CacheSpec<V> empty(long empty, TimeUnit unit) {
+        return new CacheSpec<>(name, type, ttlMs, jitter, staleMs, unit.toMillis(empty), waitMs, keepOnEmptyRefresh);
+    }
+
+    public CacheSpec<V> waitTime(long waitTime, TimeUnit unit) {
+        return new CacheSpec<>(name, type, ttlMs, jitter, staleMs, emptyMs, unit.toMillis(waitTime), keepOnEmptyRefresh);
+    }
+
+    public CacheSpec<V> keepOnEmptyRefresh() {
+        return new CacheSpec<>(name, type, ttlMs, jitter, staleMs, emptyMs, waitMs, true);
+    }
+
+    // Redis 만료 시간 : ttl(±jitter) + stale
+    public long nextExpireMs() {
+        long jitterMs = (long) (ttlMs * jitter * (ThreadLocalRandom.current().nextDouble() * 2 - 1));
+        return ttlMs + jitterMs + staleMs;
+    }
+}
@@ -0,0 +1,59 @@
+package com.teamproj.backend.util;
+
+import com.teamproj.backend.dto.board.BoardMemeBest.BoardMemeBestResponseDto;
+import com.teamproj.backend.dto.main.MainMemeImageResponseDto;
+import com.teamproj.backend.dto.main.MainTodayMemeResponseDto;
+import com.teamproj.backend.dto.quiz.QuizResponseDto;
+import com.teamproj.backend.dto.statistics.StatDictResponseDto;
+import com.teamproj.backend.dto.youtube.DictRelatedYoutubeDto;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.teamproj.backend.util.RedisKey.*;
+
+// CacheAsideTemplate 로 캐싱하는 값의 정책 목록
+public class CacheSpecs {
+    // region 자정 스케줄이 매일 교체하는 목록
+    // 스케줄만 교체하도록 만료 시간은 이틀로 두고 jitter, stale 은 두지 않음.
+    // 만료 전에 조회가 다시 불러오면 명예의 전당이 "오늘 지금까지"의 순위로 바뀌기 때문.
+    // 스케줄이 이틀 동안 실패한 경우에만 조회 시 다시 만들어짐.
+    public static final CacheSpec<MainTodayMemeResponseDto> TODAY_LIST =
+            CacheSpec.of(TODAY_LIST_KEY, MainTodayMemeResponseDto.class, 2, TimeUnit.DAYS)
+                    .jitter(0);
+    public static final CacheSpec<MainMemeImageResponseDto> TODAY_MEME_IMAGE_LIST =
+            CacheSpec.of(TODAY_MEME_IMAGE_LIST_KEY, MainMemeImageResponseDto.class, 2, TimeUnit.DAYS)
+                    .jitter(0);
+    public static final CacheSpec<String> BEST_DICT =
+            CacheSpec.of(BEST_DICT_KEY, String.class, 2, TimeUnit.DAYS)
+                    .jitter(0);
+    // endregion
+
+    // 매주 일요일 스케줄이 교체함. 같은 이유로 만료 시간은 2주.
+    public static final CacheSpec<BoardMemeBestResponseDto> BEST_MEME_JJAL =
+            CacheSpec.of(BEST_MEME_JJAL_KEY, BoardMemeBestResponseDto.class, 14, TimeUnit.DAYS)
+                    .jitter(0)
+                    .empty(10, TimeUnit.MINUTES);
+
+    public static final CacheSpec<String> DICT_RECOMMEND_SEARCH =
+            CacheSpec.of(DICT_RECOMMEND_SEARCH_KEY, String.class, 1, TimeUnit.HOURS)
+                    .stale(10, TimeUnit.MINUTES);
+
+    // 키 : RANDOM_QUIZ_KEY + 카테고리. 없는 카테고리는 빈 결과로 기억함.
+    public static final CacheSpec<QuizResponseDto> RANDOM_QUIZ =
+            CacheSpec.of(RANDOM_QUIZ_KEY, QuizResponseDto.class, 10, TimeUnit.MINUTES)
+                    .stale(1, TimeUnit.MINUTES)
+                    .empty(1, TimeUnit.MINUTES);
+
+    public static final CacheSpec<StatDictResponseDto> STAT_DICT =
+            CacheSpec.of(STAT_DICT_KEY, StatDictResponseDto.class, 10, TimeUnit.MINUTES)
+                    .stale(1, TimeUnit.MINUTES);
+
+    // 키 : YOUTUBE_SEARCH_KEY + ":" + 검색어. 검색 한 번이 할당량 100 을 쓰므로 오래 보관하고, 인기 사전은 스케줄이 갱신함.
+    // 만료 직전에 백그라운드로 다시 불러오면 조회마다 할당량을 쓰게 되므로 stale 은 두지 않음.
+    // 갱신 결과가 비어 있으면 일시적인 결과일 수 있으므로 기존 결과를 남겨 둠.
+    // 기다리는 시간(waitTime)은 YouTube API 시간 초과에 맞춰 YoutubeService 에서 정함.
+    public static final CacheSpec<DictRelatedYoutubeDto> YOUTUBE_SEARCH =
+            CacheSpec.of(YOUTUBE_SEARCH_KEY, DictRelatedYoutubeDto.class, 7, TimeUnit.DAYS)
+                    .empty(1, TimeUnit.DAYS)
+                    .keepOnEmptyRefresh();
+}
@@ -0,0 +1,289 @@
+package com.teamproj.backend.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.teamproj.backend.util.RedisKey.*;
+
+/*
+    여러 서버에서 같은 스케줄이 한 번만 실행되도록 하는 실행기
+    @Scheduled 는 서버마다 실행되므로 서버가 N대면 자정 집계도 N번 실행됨.
+    1. 실행 예정 시각별 실행권을 SET NX 로 먼저 얻은 서버만 실행함. 이미 다른 서버가 실행한 예정 시각은 건너뜀.
+       예정 시각은 실행한 시각이 아닌 cron 의 예정 시각(lastScheduledTime)을 사용하므로,
+       서버 간 시계 차이나 실행 지연이 분 경계에 걸려도 같은 실행권을 다툼.
+    2. 실행 중에는 작업별 임대(lease) 락을 잡고, 만료 전에 주기적으로 연장함. 이전 실행이 끝나지 않았으면 건너뜀.
+    3. 락을 얻을 때마다 1씩 증가하는 실행 번호를 발급하고 실행 기록에 남김(어느 서버의 몇 번째 실행인지 구분용).
+       실행 번호로 DB/캐시 쓰기를 막지는 않음(fencing 아님).
+       임대를 잃으면(다른 서버가 락을 가져감, 또는 연장 실패가 임대 시간 이상 이어짐) 다른 서버가 같은 작업을 실행 중일 수 있음.
+       작업은 묶음 사이마다 checkLease() 를 호출하고, 임대를 잃었으면 LeaseLostException 으로 남은 작업을 멈춤(결과 LEASE_LOST).
+       확인과 쓰기 사이에 임대를 잃을 수는 있으므로, 작업은 같은 묶음을 두 번 실행해도 결과가 같아야 함.
+    4. 실행 결과는 작업별 최근 실행 기록(Redis List)과 실행 시간 지표(memegle.scheduler.job)로 남김.
+    5. Redis 에 연결할 수 없으면 다른 서버도 실행하고 있는지 알 수 없으므로 실행하지 않음(SKIPPED).
+       빠진 자정 집계 등은 다음 주기에 이어서 처리됨.
+    Redis 명령은 RedisCircuitBreaker 를 거침.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterJobRunner {
+    public static final String RESULT_SUCCESS = "SUCCESS";
+    public static final String RESULT_FAILURE = "FAILURE";
+    public static final String RESULT_LEASE_LOST = "LEASE_LOST";
+    public static final String RESULT_SKIPPED = "SKIPPED";
+
+    private static final int HISTORY_SIZE = 50;
+    private static final List<Duration> CRON_LOOK_BACKS = Arrays.asList(
+            Duration.ofHours(1), Duration.ofDays(1), Duration.ofDays(8), Duration.ofDays(32), Duration.ofDays(366));
+
+    // KEYS[1] : 락 / ARGV[1] : 소유자, ARGV[2] : 만료(ms)
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 0",
+            Long.class);
+
+    // KEYS[1] : 락 / ARGV[1] : 소유자
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    // 임대 시간(ms). 실행 중에는 1/3 주기로 연장됨.
+    @Value("${memegle.scheduler.lease-ms:60000}")
+    private long leaseMs;
+
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+    // 현재 스레드에서 실행 중인 작업의 임대
+    private final ThreadLocal<LeaseRenewal> currentLease = new ThreadLocal<>();
+    private final ScheduledExecutorService renewExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "cluster-job-lease-renew");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 작업 실행. 같은 작업, 같은 예정 시각에 대해 클러스터 전체에서 한 번만 실행됨.
+     *
+     * @param jobName     작업 이름
+     * @param scheduledAt 실행 예정 시각. cron 작업은 lastScheduledTime 으로 구함.
+     * @param job         실행할 작업
+     * @return 실행 결과(SUCCESS, FAILURE, LEASE_LOST, SKIPPED)
+     */
+    public String run(String jobName, LocalDateTime scheduledAt, Runnable job) {
+        String owner = nodeId + ":" + UUID.randomUUID();
+        String leaseKey = SCHEDULER_LEASE_KEY + ":" + jobName;
+        long runSeq;
+
+        try {
+            String triggerKey = SCHEDULER_TRIGGER_KEY + ":" + jobName + ":" + scheduledAt;
+            if (!Boolean.TRUE.equals(redisCircuitBreaker.execute(() -> stringRedisTemplate.opsForValue()
+                    .setIfAbsent(triggerKey, nodeId, Duration.ofDays(1))))) {
+                return skip(jobName);
+            }
+            if (!Boolean.TRUE.equals(redisCircuitBreaker.execute(() -> stringRedisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey, owner, Duration.ofMillis(leaseMs))))) {
+                return skip(jobName);
+            }
+            Long seq = redisCircuitBreaker.execute(() -> stringRedisTemplate.opsForValue()
+                    .increment(SCHEDULER_RUN_SEQ_KEY + ":" + jobName));
+            runSeq = seq == null ? 0L : seq;
+        } catch (RedisConnectionFailureException e) {
+            log.warn("Redis 연결 실패로 {} 작업을 실행하지 않습니다.", jobName);
+            return skip(jobName);
+        }
+
+        return execute(jobName, job, leaseKey, owner, runSeq);
+    }
+
+    /**
+     * cron 의 가장 최근 예정 시각. @Scheduled 는 예정 시각 이후에 실행되므로 실행 중인 작업의 예정 시각이 됨.
+     *
+     * @param cron @Scheduled 와 같은 cron 식(초, 분, 시, 일, 월, 주)
+     * @param now  기준 시각
+     * @return now 이전(같은 시각 포함)의 가장 최근 예정 시각
+     */
+    public static LocalDateTime lastScheduledTime(String cron, LocalDateTime now) {
+        CronExpression cronExpression = CronExpression.parse(cron);
+        // 짧은 범위부터 찾아서 예정 시각이 자주 있는 cron 도 몇 번만 계산함
+        for (Duration lookBack : CRON_LOOK_BACKS) {
+            LocalDateTime scheduledAt = cronExpression.next(now.minus(lookBack));
+            if (scheduledAt == null || scheduledAt.isAfter(now)) {
+                continue;
+            }
+            LocalDateTime next = cronExpression.next(scheduledAt);
+            while (next != null && !next.isAfter(now)) {
+                scheduledAt = next;
+                next = cronExpression.next(scheduledAt);
+            }
+            return scheduledAt;
+        }
+        throw new IllegalArgumentException("1년 안에 예정 시각이 없는 cron 입니다 : " + cron);
+    }
+
+    /**
+     * 실행 중인 작업의 임대 확인. 작업은 묶음 사이마다 호출함. ClusterJobRunner 밖에서 실행 중이면 확인하지 않음.
+     *
+     * @throws LeaseLostException 임대를 잃음. 다른 서버가 같은 작업을 실행 중일 수 있으므로 남은 작업을 멈춰야 함.
+     */
+    public void checkLease() {
+        LeaseRenewal leaseRenewal = currentLease.get();
+        if (leaseRenewal != null && leaseRenewal.isLost()) {
+            throw new LeaseLostException(leaseRenewal.leaseKey + " 임대를 잃어서 작업을 멈춥니다.");
+        }
+    }
+
+    /**
+     * 작업의 최근 실행 기록. 최신순.
+     *
+     * @param jobName 작업 이름
+     * @return "시작 시각|실행 시간(ms)|결과|서버|실행 번호" 목록
+     */
+    public List<String> getRunHistory(String jobName) {
+        List<String> history = redisCircuitBreaker.execute(() -> stringRedisTemplate.opsForList()
+                .range(SCHEDULER_HISTORY_KEY + ":" + jobName, 0, HISTORY_SIZE - 1));
+        return history == null ? Collections.emptyList() : history;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewExecutor.shutdownNow();
+    }
+
+    // region 보조 기능
+    private String execute(String jobName, Runnable job, String leaseKey, String owner, long runSeq) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        LeaseRenewal leaseRenewal = new LeaseRenewal(leaseKey, owner);
+        currentLease.set(leaseRenewal);
+
+        String result = RESULT_SUCCESS;
+        try {
+            job.run();
+        } catch (LeaseLostException e) {
+            result = RESULT_LEASE_LOST;
+            log.warn("{} 작업 중단 : {}", jobName, e.getMessage());
+        } catch (RuntimeException e) {
+            result = RESULT_FAILURE;
+            log.error("{} 작업 실패", jobName, e);
+        } finally {
+            currentLease.remove();
+            if (leaseRenewal.stop() && RESULT_SUCCESS.equals(result)) {
+                result = RESULT_LEASE_LOST;
+            }
+        }
+
+        long durationNanos = System.nanoTime() - startNanos;
+        Timer.builder("memegle.scheduler.job")
+                .description("스케줄 작업 실행 시간")
+                .tag("job", jobName)
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        recordHistory(jobName, startedAt + "|" + TimeUnit.NANOSECONDS.toMillis(durationNanos) + "|" + result
+                + "|" + nodeId + "|" + runSeq);
+        return result;
+    }
+
+    private String skip(String jobName) {
+        meterRegistry.counter("memegle.scheduler.job.skipped", "job", jobName).increment();
+        return RESULT_SKIPPED;
+    }
+
+    private void recordHistory(String jobName, String history) {
+        String historyKey = SCHEDULER_HISTORY_KEY + ":" + jobName;
+        try {
+            redisCircuitBreaker.execute(() -> {
+                stringRedisTemplate.opsForList().leftPush(historyKey, history);
+                stringRedisTemplate.opsForList().trim(historyKey, 0, HISTORY_SIZE - 1);
+                return null;
+            });
+        } catch (RedisConnectionFailureException e) {
+            log.info("{} 실행 기록 : {}", jobName, history);
+        }
+    }
+
+    // 실행 중 임대 연장. 종료시 락을 반납함.
+    private class LeaseRenewal {
+        private final String leaseKey;
+        private final String owner;
+        private final ScheduledFuture<?> future;
+        private volatile boolean lost = false;
+        // 마지막으로 임대를 얻거나 연장한 시각(System.nanoTime)
+        private volatile long renewedAtNanos = System.nanoTime();
+
+        private LeaseRenewal(String leaseKey, String owner) {
+            this.leaseKey = leaseKey;
+            this.owner = owner;
+            long period = Math.max(leaseMs / 3, 1L);
+            this.future = renewExecutor.scheduleAtFixedRate(this::renew, period, period, TimeUnit.MILLISECONDS);
+        }
+
+        private void renew() {
+            long requestedAtNanos = System.nanoTime();
+            try {
+                Long renewed = redisCircuitBreaker.execute(() -> stringRedisTemplate.execute(RENEW_SCRIPT,
+                        Collections.singletonList(leaseKey), owner, String.valueOf(leaseMs)));
+                if (renewed == null || renewed == 0) {
+                    lost = true;
+                } else {
+                    renewedAtNanos = requestedAtNanos;
+                }
+            } catch (RuntimeException e) {
+                log.warn("{} 임대 연장 실패", leaseKey, e);
+            }
+        }
+
+        // 연장에 계속 실패해서 임대 시간이 지났으면 락이 이미 만료되었을 수 있으므로 잃은 것으로 봄
+        private boolean isLost() {
+            return lost || System.nanoTime() - renewedAtNanos >= TimeUnit.MILLISECONDS.toNanos(leaseMs);
+        }
+
+        // return true : 실행 중 임대를 잃음
+        private boolean stop() {
+            future.cancel(false);
+            try {
+                Long released = redisCircuitBreaker.execute(() -> stringRedisTemplate.execute(RELEASE_SCRIPT,
+                        Collections.singletonList(leaseKey), owner));
+                if (released == null || released == 0) {
+                    lost = true;
+                }
+            } catch (RedisConnectionFailureException e) {
+                log.warn("{} 락 반납 실패. 임대 만료 후 해제됩니다.", leaseKey);
+            }
+            return isLost();
+        }
+    }
+    // endregion
+
+    // 실행 중 임대를 잃음
+    public static class LeaseLostException extends IllegalStateException {
+        public LeaseLostException(String message) {
+            super(message);
+        }
+    }
+}
@@ -55,8 +55,26 @@ public class JwtAuthenticateProcessor {
     // jwt 토큰 정보를 발급받을 때마다 무조건 사용자 정보를 받아야 하는 상황에서 벗어나기 위해 getUser 기능을 userDetailsImpl 에서 외부로 빼낸 것.
     // 더 좋은 방법이 있을 수 있음. 아니 반드시 있음. 모르고 있을 뿐.
     // 현재는 이 구조로 프로그램이 많이 진행 된 상태지만, 다음 프로젝트에서도 같은 방식을 적용하지 않기 위해선 반드시 더 좋은 방법을 찾아봐야 함.
+    // 토큰에 사용자 ID 가 있으면 ID(PK)로 조회함.
     public User getUser(UserDetailsImpl userDetails){
-        Optional<User> user = userRepository.findByUsername(userDetails.getUsername());
+        Optional<User> user = userDetails.getUserId() == null
+                ? userRepository.findByUsername(userDetails.getUsername())
+                : userRepository.findById(userDetails.getUserId());
         return user.orElseThrow(() -> new NullPointerException(ExceptionMessages.NOT_EXIST_USER));
     }
+
+    // 사용자 ID. 토큰에 담긴 값을 사용하므로 조회하지 않음.
+    // 사용자 ID 가 담기기 전에 발급된 토큰은 사용자를 조회해서 가져옴.
+    public Long getUserId(UserDetailsImpl userDetails){
+        if (userDetails.getUserId() != null) {
+            return userDetails.getUserId();
+        }
+        return getUser(userDetails).getId();
+    }
+
+    // 연관관계 설정(작성자, 좋아요 등)이나 ID 비교에만 쓰이는 경우 사용. 조회 없이 ID 만 가진 프록시를 반환함.
+    // 닉네임 등 다른 필드에 접근하면 그 시점에 조회되므로, 필드가 필요하면 getUser 를 사용해야 함.
+    public User getUserReference(UserDetailsImpl userDetails){
+        return userRepository.getById(getUserId(userDetails));
+    }
 }
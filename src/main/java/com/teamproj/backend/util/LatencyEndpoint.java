@@ -0,0 +1,29 @@
+package com.teamproj.backend.util;
+
+import com.teamproj.backend.dto.latency.LatencySnapshotDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 서비스 메소드 실행 시간 통계 조회(GET /actuator/latency) / 초기화(DELETE /actuator/latency)
+// 웹으로 노출하려면 management.endpoints.web.exposure.include 에 latency 를 추가해야 함.
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyEndpoint {
+    private final LatencyTraceAop latencyTraceAop;
+
+    @ReadOperation
+    public List<LatencySnapshotDto> getLatency() {
+        return latencyTraceAop.getSnapshotList();
+    }
+
+    @DeleteOperation
+    public void resetLatency() {
+        latencyTraceAop.reset();
+    }
+}
@@ -0,0 +1,129 @@
+package com.teamproj.backend.util;
+
+import com.teamproj.backend.dto.latency.LatencySnapshotDto;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+    서비스 메소드 실행 시간 측정
+    이전의 TimeTraceAop 는 호출마다 System.out.println 으로 START/END 를 출력해서 부하가 걸리면 출력 자체가 병목이 되고,
+    백분위 응답 시간도 알 수 없었음.
+    1. 메소드별 실행 시간(us)을 HdrHistogram Recorder 에 기록. 기록은 락 없이 처리됨(wait-free).
+    2. memegle.latency.sample-rate 비율의 호출만 기록(1.0 : 전부, 0.1 : 10%)
+    3. memegle.latency.packages 에 포함된 패키지의 메소드만 기록. 메소드별 측정 여부는 처음 호출될 때 한 번만 판단함.
+    4. p50/p95/p99/max 는 /actuator/latency 에서 확인(LatencyEndpoint)
+ */
+@Aspect
+@Component
+public class LatencyTraceAop {
+    // 측정하지 않는 메소드 표시
+    private static final Recorder DISABLED = new Recorder(1);
+
+    @Value("${memegle.latency.enabled:true}")
+    private boolean enabled;
+    @Value("${memegle.latency.sample-rate:1.0}")
+    private double sampleRate;
+    @Value("${memegle.latency.packages:com.teamproj.backend.service}")
+    private String[] packages;
+
+    private final ConcurrentHashMap<Method, Recorder> recorderMap = new ConcurrentHashMap<>();
+    // 조회 시점까지 누적된 기록. Recorder 는 조회할 때마다 비워지므로 여기에 합쳐둠.
+    private final Map<Method, Histogram> accumulatedMap = new HashMap<>();
+
+    @Around("execution(* com.teamproj.backend.service..*(..))")
+    public Object execute(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!enabled || (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return joinPoint.proceed();
+        }
+
+        Recorder recorder = getRecorder(((MethodSignature) joinPoint.getSignature()).getMethod());
+        if (recorder == DISABLED) {
+            return joinPoint.proceed();
+        }
+
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * 메소드별 실행 시간 통계. 서버 시작(또는 reset) 이후 누적값.
+     *
+     * @return 호출 횟수가 많은 순서의 통계 목록
+     */
+    public List<LatencySnapshotDto> getSnapshotList() {
+        List<LatencySnapshotDto> snapshotList = new ArrayList<>();
+        synchronized (accumulatedMap) {
+            for (Map.Entry<Method, Recorder> recorder : recorderMap.entrySet()) {
+                if (recorder.getValue() == DISABLED) {
+                    continue;
+                }
+                Histogram accumulated = accumulatedMap.computeIfAbsent(recorder.getKey(), key -> new Histogram(3));
+                accumulated.add(recorder.getValue().getIntervalHistogram());
+                if (accumulated.getTotalCount() == 0) {
+                    continue;
+                }
+
+                snapshotList.add(LatencySnapshotDto.builder()
+                        .method(recorder.getKey().getDeclaringClass().getSimpleName() + "." + recorder.getKey().getName())
+                        .count(accumulated.getTotalCount())
+                        .p50(toMillis(accumulated.getValueAtPercentile(50)))
+                        .p95(toMillis(accumulated.getValueAtPercentile(95)))
+                        .p99(toMillis(accumulated.getValueAtPercentile(99)))
+                        .max(toMillis(accumulated.getMaxValue()))
+                        .build());
+            }
+        }
+        snapshotList.sort(Comparator.comparingLong(LatencySnapshotDto::getCount).reversed());
+        return snapshotList;
+    }
+
+    // 누적된 통계 초기화
+    public void reset() {
+        synchronized (accumulatedMap) {
+            for (Recorder recorder : recorderMap.values()) {
+                recorder.reset();
+            }
+            accumulatedMap.clear();
+        }
+    }
+
+    // region 보조 기능
+    private Recorder getRecorder(Method method) {
+        Recorder recorder = recorderMap.get(method);
+        if (recorder != null) {
+            return recorder;
+        }
+        return recorderMap.computeIfAbsent(method, key -> isTarget(key) ? new Recorder(3) : DISABLED);
+    }
+
+    private boolean isTarget(Method method) {
+        String className = method.getDeclaringClass().getName();
+        for (String targetPackage : packages) {
+            if (className.startsWith(targetPackage.trim() + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+    // endregion
+}
@@ -0,0 +1,129 @@
+package com.teamproj.backend.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/*
+    서버 메모리 캐시(L1). Redis(L2) 앞에 두어 자주 조회되는 데이터를 네트워크 왕복 없이 반환함.
+    1. 최대 개수(max-size)를 넘으면 가장 오래 조회되지 않은 항목부터 제거(LRU)
+    2. fresh-ms 동안은 그대로 반환하고, stale-ms 까지는 이전 값을 반환하면서 백그라운드에서 다시 불러옴(stale-while-revalidate)
+    3. 같은 키를 동시에 불러와야 할 때는 한 요청만 loader 를 실행하고 나머지는 그 결과를 기다림(single-flight)
+       캐시가 비는 순간 요청이 몰려도 Redis/DB 조회는 서버당 한 번만 일어남.
+       기다리는 시간은 wait-ms 까지이고, 넘으면 직접 불러옴(SingleFlight 참고).
+    반환된 값은 캐시에 보관된 객체 그대로이므로 수정하지 말고 복사해서 사용해야 함.
+ */
+@Component
+@RequiredArgsConstructor
+public class LocalCache {
+    private final MeterRegistry meterRegistry;
+
+    @Value("${memegle.cache.local.max-size:1000}")
+    private int maxSize;
+    // 이 시간 동안은 다시 불러오지 않음
+    @Value("${memegle.cache.local.fresh-ms:5000}")
+    private long freshMs;
+    // fresh-ms 이후 이 시간까지는 이전 값을 반환하면서 다시 불러옴. 이후에는 불러올 때까지 기다림.
+    @Value("${memegle.cache.local.stale-ms:60000}")
+    private long staleMs;
+    @Value("${memegle.cache.local.wait-ms:3000}")
+    private long waitMs;
+
+    private final Map<String, CacheEntry> entryMap = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            return size() > maxSize;
+        }
+    };
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final ExecutorService refreshExecutor = new ThreadPoolExecutor(1, 4, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(100), r -> {
+                Thread thread = new Thread(r, "local-cache-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * 캐시 조회. 없거나 만료되었으면 loader 로 불러온 뒤 보관함.
+     *
+     * @param key    캐시 키
+     * @param loader 캐시에 없을 때 값을 불러오는 기능(Redis 조회, DB 집계 등)
+     * @return 캐시된 값
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        CacheEntry entry;
+        synchronized (entryMap) {
+            entry = entryMap.get(key);
+        }
+
+        long now = System.currentTimeMillis();
+        if (entry != null && now < entry.freshUntil) {
+            count("hit");
+            return (T) entry.value;
+        }
+        if (entry != null && now < entry.staleUntil) {
+            count("stale");
+            // 다시 불러오기가 밀려 있으면 이번에는 건너뜀
+            singleFlight.runAsync(key, () -> load(key, loader), refreshExecutor);
+            return (T) entry.value;
+        }
+
+        count("miss");
+        return singleFlight.run(key, waitMs, () -> load(key, loader));
+    }
+
+    /**
+     * 캐시 삭제. 다음 조회시 다시 불러옴.
+     *
+     * @param key 캐시 키
+     */
+    public void evict(String key) {
+        synchronized (entryMap) {
+            entryMap.remove(key);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // region 보조 기능
+    private <T> T load(String key, Supplier<T> loader) {
+        T value = loader.get();
+        put(key, value);
+        return value;
+    }
+
+    private void put(String key, Object value) {
+        long now = System.currentTimeMillis();
+        synchronized (entryMap) {
+            entryMap.put(key, new CacheEntry(value, now + freshMs, now + freshMs + staleMs));
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("memegle.cache.local", "result", result).increment();
+    }
+
+    private static class CacheEntry {
+        private final Object value;
+        private final long freshUntil;
+        private final long staleUntil;
+
+        private CacheEntry(Object value, long freshUntil, long staleUntil) {
+            this.value = value;
+            this.freshUntil = freshUntil;
+            this.staleUntil = staleUntil;
+        }
+    }
+    // endregion
+}
@@ -0,0 +1,22 @@
+package com.teamproj.backend.util;
+
+// LongHashSet, LongLongHashMap 공통 해시 계산
+final class LongHashing {
+    private LongHashing() {
+    }
+
+    // 연속된 ID 가 인접한 칸에 몰리지 않도록 섞은 뒤 배열 크기에 맞춤
+    static int index(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    // 사용률 50% 이하가 되는 2의 거듭제곱 크기
+    static int capacityFor(int expectedSize, int minCapacity) {
+        int capacity = minCapacity;
+        while (capacity < expectedSize * 2L && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,176 @@
+package com.teamproj.backend.util;
+
+/*
+    long -> long 맵(open addressing, linear probing)
+    HashMap<Long, Long> 과 달리 키, 값을 박싱하지 않고 Entry 객체도 만들지 않음. ID 별 개수, ID 별 ID 보관용.
+    키 0 은 배열의 빈 칸 표시로 쓰므로 따로 보관함. 스레드 안전하지 않음.
+ */
+public class LongLongHashMap {
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private boolean hasZeroKey;
+    private long zeroKeyValue;
+
+    public LongLongHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize 예상 원소 개수. 넘어서면 자동으로 늘어남.
+     */
+    public LongLongHashMap(int expectedSize) {
+        allocate(LongHashing.capacityFor(expectedSize, MIN_CAPACITY));
+    }
+
+    public void put(long key, long value) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroKeyValue = value;
+            return;
+        }
+
+        int index = LongHashing.index(key, mask);
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > (mask + 1) / 2) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * @param defaultValue 키가 없을 때 반환할 값
+     */
+    public long get(long key, long defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroKeyValue : defaultValue;
+        }
+
+        int index = find(key);
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    public boolean containsKey(long key) {
+        return key == 0 ? hasZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * @param defaultValue 키가 없을 때 반환할 값
+     * @return 삭제된 값
+     */
+    public long remove(long key, long defaultValue) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                return defaultValue;
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroKeyValue;
+        }
+
+        int index = find(key);
+        if (index < 0) {
+            return defaultValue;
+        }
+        long removed = values[index];
+        shiftBack(index);
+        size--;
+        return removed;
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(0, zeroKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    // region 보조 기능
+    private int find(long key) {
+        int index = LongHashing.index(key, mask);
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    // 삭제한 칸 뒤에 이어진 원소들을 당겨서 빈 칸 때문에 탐색이 끊기지 않도록 함(tombstone 없이 삭제)
+    private void shiftBack(int emptyIndex) {
+        int index = emptyIndex;
+        while (true) {
+            index = (index + 1) & mask;
+            long key = keys[index];
+            if (key == 0) {
+                break;
+            }
+            int home = LongHashing.index(key, mask);
+            // home 이 (emptyIndex, index] 범위 밖이면 빈 칸으로 옮겨도 탐색 가능함
+            boolean movable = emptyIndex <= index
+                    ? home <= emptyIndex || home > index
+                    : home <= emptyIndex && home > index;
+            if (movable) {
+                keys[emptyIndex] = key;
+                values[emptyIndex] = values[index];
+                emptyIndex = index;
+            }
+        }
+        keys[emptyIndex] = 0;
+        values[emptyIndex] = 0;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int index = LongHashing.index(oldKeys[i], mask);
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+    // endregion
+}
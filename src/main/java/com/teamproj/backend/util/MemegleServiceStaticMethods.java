@@ -1,50 +1,44 @@
 package com.teamproj.backend.util;
 
 import com.querydsl.core.Tuple;
+import com.teamproj.backend.dto.user.profile.UserProfileDto;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class MemegleServiceStaticMethods {
-    public static HashMap<String, String> getUserInfoMap(List<Tuple> tupleList){
+    // writerIdMap : 게시글 ID -> 작성자 ID, userProfileMap : UserProfileService.getUserProfileMap 결과값
+    public static HashMap<String, String> getUserInfoMap(Map<Long, Long> writerIdMap, Map<Long, UserProfileDto> userProfileMap){
         HashMap<String, String> userInfoMap = new HashMap<>();
-        for (Tuple tuple : tupleList) {
+        for (Map.Entry<Long, Long> writerId : writerIdMap.entrySet()) {
+            UserProfileDto userProfile = userProfileMap.get(writerId.getValue());
+            if (userProfile == null) {
+                continue;
+            }
             // Long key : boardId
-            Long key = tuple.get(0, Long.class);
+            Long key = writerId.getKey();
             // 키값은 boardId:username, 밸류는 username
-            String username = tuple.get(1, String.class);
-            String usernameKey = key + ":username";
-            userInfoMap.put(usernameKey, username);
+            userInfoMap.put(key + ":username", userProfile.getUsername());
             // 키값은 boardId:nickname, 밸류는 nickname
-            String nickname = tuple.get(2, String.class);
-            String nicknameKey = key + ":nickname";
-            userInfoMap.put(nicknameKey, nickname);
+            userInfoMap.put(key + ":nickname", userProfile.getNickname());
             // 키값은 boardId:profileImage, 밸류는 profileImage
-            String profileImageKey = key + ":profileImage";
-            String profileImage = tuple.get(3, String.class);
-            userInfoMap.put(profileImageKey, profileImage);
+            userInfoMap.put(key + ":profileImage", userProfile.getProfileImage());
         }
 
         return userInfoMap;
     }
 
-    public static HashMap<String, Boolean> getLikeMap(List<Tuple> likeListTuple) {
-        HashMap<String, Boolean> likeMap = new HashMap<>();
-        for (Tuple tuple : likeListTuple) {
-            // 키값 형식은 "questionId":"userId"
-            String genString = tuple.get(0, Long.class) + ":" + tuple.get(1, Long.class);
-            likeMap.put(genString, true);
-        }
-        return likeMap;
-    }
-
-    public static HashMap<Long, Long> getLongLongMap(List<Tuple> tupleList) {
-        HashMap<Long, Long> map = new HashMap<>();
+    // 키 또는 값이 null 인 튜플은 넣지 않음(HashMap 에서 get 결과가 null 인 것과 같음)
+    public static LongLongHashMap getLongLongMap(List<Tuple> tupleList) {
+        LongLongHashMap map = new LongLongHashMap(tupleList.size());
         for (Tuple tuple : tupleList) {
             // 키값은 targetId, 밸류는 Long data.
             Long key = tuple.get(0, Long.class);
             Long value = tuple.get(1, Long.class);
-            map.put(key, value);
+            if (key != null && value != null) {
+                map.put(key, value);
+            }
         }
 
         return map;
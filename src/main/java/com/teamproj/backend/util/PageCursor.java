@@ -0,0 +1,77 @@
+package com.teamproj.backend.util;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.teamproj.backend.exception.ExceptionMessages.ILLEGAL_PAGE_SIZE;
+import static com.teamproj.backend.exception.ExceptionMessages.INVALID_CURSOR;
+
+/*
+    커서 기반 페이지네이션(keyset pagination)의 커서
+    마지막으로 받은 행의 정렬 기준값(작성일, ID)을 담아서 다음 페이지를 offset 없이 범위 조건으로 조회함.
+    클라이언트에는 내용을 알 수 없는 문자열(Base64)로 전달하고 그대로 돌려받음.
+ */
+@Getter
+public class PageCursor {
+    private static final String DELIMITER = "|";
+    // 한 페이지 최대 크기
+    public static final int MAX_SIZE = 100;
+
+    // ID 만으로 정렬하는 목록에서는 null
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private PageCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static String encode(Long id) {
+        return encode(null, id);
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt == null ? String.valueOf(id) : createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석
+     *
+     * @param cursor 클라이언트가 전달한 커서. 첫 페이지는 null 또는 빈 문자열.
+     * @return PageCursor. 첫 페이지일 경우 null
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                return new PageCursor(null, Long.parseLong(raw));
+            }
+            return new PageCursor(LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 페이지 크기 확인. 다음 페이지 존재 여부를 알기 위해 size + 1 개를 조회하고 size 번째 행으로 다음 커서를 만듦.
+     *
+     * @param size 클라이언트가 전달한 페이지 크기
+     * @throws IllegalArgumentException 1 미만 또는 MAX_SIZE 초과
+     */
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException(ILLEGAL_PAGE_SIZE);
+        }
+    }
+}
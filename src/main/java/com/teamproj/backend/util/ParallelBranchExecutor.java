@@ -0,0 +1,187 @@
+package com.teamproj.backend.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/*
+    서로 관계없는 조회(검색의 사전 / 질문 등)를 동시에 실행해서 응답 시간을 합이 아닌 가장 느린 조회 시간으로 줄임
+    1. 스레드 수(threads)와 대기열(queue-size)이 정해진 전용 스레드에서 실행. 대기열이 가득 차면 요청 스레드에서 바로 실행.
+       조회마다 DB 연결을 따로 사용하므로 스레드 수만큼 연결 풀을 더 사용할 수 있음.
+    2. join 에서 기한(deadline)까지 기다리고, 넘으면 기본값을 반환함(일부 결과만 반환).
+       아직 시작하지 않은 조회는 실행하지 않고, 이미 실행 중인 조회는 끝까지 실행된 뒤 버려짐.
+    3. 요청 스레드에 트랜잭션이 있으면 다른 스레드에서는 커밋 전 데이터가 보이지 않으므로 요청 스레드에서 바로 실행
+    4. 다른 스레드에서 실행된 SQL 은 join 할 때 요청의 SqlStatementContext 에 합침
+    메트릭 : memegle.parallel.branch(group, name, result = ok/error/timeout) 조회별 실행 시간. timeout 은 기한이 지나 버려진 조회.
+ */
+@Component
+@RequiredArgsConstructor
+public class ParallelBranchExecutor {
+    private final MeterRegistry meterRegistry;
+
+    @Value("${memegle.parallel.threads:4}")
+    private int threads;
+    @Value("${memegle.parallel.queue-size:50}")
+    private int queueSize;
+
+    private ThreadPoolExecutor branchExecutor;
+
+    @PostConstruct
+    public void init() {
+        branchExecutor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueSize), r -> {
+                    Thread thread = new Thread(r, "parallel-branch");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        branchExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        branchExecutor.shutdownNow();
+    }
+
+    /**
+     * 조회 시작. 결과는 반환된 Branch 의 join 으로 받음.
+     *
+     * @param group 메트릭에 사용할 묶음 이름(search 등)
+     * @param name  메트릭에 사용할 조회 이름(dict, question 등)
+     * @param task  실행할 조회
+     */
+    public <T> Branch<T> fork(String group, String name, Supplier<T> task) {
+        Branch<T> branch = new Branch<>(group, name, task, SqlStatementContext.current() != null);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            branch.runInline();
+            return branch;
+        }
+
+        try {
+            branch.future = CompletableFuture.runAsync(branch::run, branchExecutor);
+        } catch (RejectedExecutionException e) {
+            branch.runInline();
+        }
+        return branch;
+    }
+
+    public class Branch<T> {
+        private static final int NEW = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+        private static final int ABANDONED = 3;
+
+        private final String group;
+        private final String name;
+        private final Supplier<T> task;
+        private final boolean traceSql;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger state = new AtomicInteger(NEW);
+
+        // 다른 스레드에서 실행한 경우에만 사용. 아래 값은 실행이 끝난 뒤(DONE)에만 읽음.
+        private CompletableFuture<Void> future;
+        private T value;
+        private RuntimeException exception;
+        private SqlStatementContext sqlStatementContext;
+
+        private Branch(String group, String name, Supplier<T> task, boolean traceSql) {
+            this.group = group;
+            this.name = name;
+            this.task = task;
+            this.traceSql = traceSql;
+        }
+
+        /**
+         * 결과 받기. 조회 중 발생한 예외는 그대로 던짐.
+         *
+         * @param deadlineNanos System.nanoTime() 기준 기한. 여러 조회가 같은 기한을 공유함.
+         * @param fallback      기한까지 끝나지 않았을 때 반환할 값
+         * @return 조회 결과. 기한을 넘으면 fallback.
+         */
+        public T join(long deadlineNanos, T fallback) {
+            if (future != null) {
+                try {
+                    future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (abandon()) {
+                        return fallback;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    if (abandon()) {
+                        return fallback;
+                    }
+                } catch (ExecutionException e) {
+                    // run 에서 예외를 모두 받으므로 여기까지 오지 않음
+                    throw new IllegalStateException(e.getCause());
+                }
+                SqlStatementContext current = SqlStatementContext.current();
+                if (current != null && sqlStatementContext != null) {
+                    current.add(sqlStatementContext);
+                }
+            }
+
+            if (exception != null) {
+                throw exception;
+            }
+            return value;
+        }
+
+        private void runInline() {
+            state.set(RUNNING);
+            execute();
+        }
+
+        private void run() {
+            // 기한이 지나 버려진 조회는 실행하지 않음
+            if (!state.compareAndSet(NEW, RUNNING)) {
+                return;
+            }
+            if (traceSql) {
+                sqlStatementContext = SqlStatementContext.begin();
+            }
+            try {
+                execute();
+            } finally {
+                if (traceSql) {
+                    SqlStatementContext.end();
+                }
+            }
+        }
+
+        private void execute() {
+            String result = "ok";
+            try {
+                value = task.get();
+            } catch (RuntimeException e) {
+                exception = e;
+                result = "error";
+            }
+            if (!state.compareAndSet(RUNNING, DONE)) {
+                result = "timeout";
+            }
+            record(result);
+        }
+
+        // 기다리기를 포기함. 그 사이 실행이 끝났으면 false.
+        private boolean abandon() {
+            if (state.compareAndSet(NEW, ABANDONED)) {
+                record("timeout");
+                return true;
+            }
+            return state.compareAndSet(RUNNING, ABANDONED);
+        }
+
+        private void record(String result) {
+            meterRegistry.timer("memegle.parallel.branch", "group", group, "name", name, "result", result)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
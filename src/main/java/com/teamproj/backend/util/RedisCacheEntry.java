@@ -0,0 +1,19 @@
+package com.teamproj.backend.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// CacheAsideTemplate 가 Redis 에서 읽은 값(역직렬화 전)
+@Getter
+@AllArgsConstructor
+public class RedisCacheEntry {
+    // 목록이면 valueList, 단일 값이면 value. 키가 없으면 둘 다 null(또는 빈 목록).
+    private final List<byte[]> valueList;
+    private final byte[] value;
+    // 남은 만료 시간(PTTL). -1 : 만료 시간 없음, -2 : 키 없음
+    private final long ttlMs;
+    // 빈 결과 표시가 남아 있음
+    private final boolean empty;
+}
@@ -0,0 +1,23 @@
+package com.teamproj.backend.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// CacheAsideTemplate 가 Redis 에 쓸 값(직렬화 후)
+@Getter
+@AllArgsConstructor
+public class RedisCacheWrite {
+    private final String key;
+    // 목록이면 valueList, 단일 값이면 value. 결과가 비어 있으면 둘 다 null.
+    private final List<byte[]> valueList;
+    private final byte[] value;
+    private final long expireMs;
+    // 결과가 비어 있을 때 빈 결과 표시를 남기는 시간. 0 이면 남기지 않음.
+    private final long emptyMs;
+
+    public boolean isEmpty() {
+        return (valueList == null || valueList.isEmpty()) && value == null;
+    }
+}
@@ -0,0 +1,111 @@
+package com.teamproj.backend.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/*
+    Redis 회로 차단기
+    Redis 가 내려가면 요청마다 연결 / 응답 시간 초과를 기다린 뒤에야 DB 로 넘어가므로 응답이 밀림.
+    1. 연속으로 failure-threshold 번 연결 실패(또는 응답 시간 초과)하면 차단(OPEN)
+    2. 차단 중에는 Redis 에 보내지 않고 바로 RedisConnectionFailureException 을 던짐(기존 catch 에서 그대로 처리됨)
+    3. open-ms 가 지나면 한 요청만 Redis 로 보내 확인(HALF_OPEN). 성공하면 다시 연결(CLOSED), 실패하면 다시 차단.
+    응답 시간 초과(QueryTimeoutException)도 RedisConnectionFailureException 으로 바꿔서 던짐.
+ */
+@Component
+public class RedisCircuitBreaker {
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${memegle.redis.circuit.failure-threshold:3}")
+    private int failureThreshold;
+    // 차단 후 다시 확인하기까지의 시간
+    @Value("${memegle.redis.circuit.open-ms:5000}")
+    private long openMs;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger failureCount = new AtomicInteger();
+    private volatile long openedAt;
+
+    public RedisCircuitBreaker(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("memegle.redis.circuit.open", state, value -> value.get() == State.CLOSED ? 0 : 1);
+    }
+
+    /**
+     * Redis 명령 실행. 차단 중이면 실행하지 않고 바로 예외.
+     *
+     * @param action Redis 명령
+     * @return 실행 결과
+     * @throws RedisConnectionFailureException 차단 중이거나 연결 실패, 응답 시간 초과
+     */
+    public <T> T execute(Supplier<T> action) {
+        if (!tryAcquire()) {
+            count("rejected");
+            throw new RedisConnectionFailureException("Redis 연결이 차단되어 있습니다.");
+        }
+
+        try {
+            T result = action.get();
+            onSuccess();
+            return result;
+        } catch (RedisConnectionFailureException e) {
+            onFailure();
+            throw e;
+        } catch (QueryTimeoutException e) {
+            onFailure();
+            throw new RedisConnectionFailureException("Redis 응답 시간이 초과되었습니다.", e);
+        } catch (RuntimeException | Error e) {
+            // Redis 는 응답했으므로(직렬화 실패 등) 연결은 정상으로 봄
+            onSuccess();
+            throw e;
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    // region 보조 기능
+    private boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        // 확인 요청은 하나만 보냄
+        return current == State.OPEN
+                && System.currentTimeMillis() - openedAt >= openMs
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    }
+
+    private void onSuccess() {
+        failureCount.set(0);
+        if (state.get() != State.CLOSED) {
+            state.set(State.CLOSED);
+            count("closed");
+        }
+    }
+
+    private void onFailure() {
+        if (state.get() == State.HALF_OPEN || failureCount.incrementAndGet() >= failureThreshold) {
+            openedAt = System.currentTimeMillis();
+            if (state.getAndSet(State.OPEN) != State.OPEN) {
+                count("opened");
+            }
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("memegle.redis.circuit", "result", result).increment();
+    }
+    // endregion
+}
@@ -0,0 +1,35 @@
+package com.teamproj.backend.util;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+/*
+    RedisService 의 모든 public 메소드를 RedisCircuitBreaker 를 거쳐 실행
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RedisCircuitBreakerAop {
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    @Around("execution(public * com.teamproj.backend.service.RedisService.*(..))")
+    public Object execute(ProceedingJoinPoint joinPoint) {
+        return redisCircuitBreaker.execute(() -> proceed(joinPoint));
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // RedisService 메소드는 checked 예외를 선언하지 않음
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.teamproj.backend.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+    Redis 장애 중에 사용하는 서버 메모리 캐시
+    Redis 조회가 실패하면(RedisConnectionFailureException) 요청마다 DB 에서 다시 집계하는 대신 여기서 반환함.
+    1. 키마다 interval-ms 에 한 번만 DB 에서 다시 불러옴. 그 사이에는 불러온 값을 그대로 반환.
+    2. 다시 불러오는 중에는 한 요청만 loader 를 실행하고, 이전 값이 있으면 나머지는 이전 값을 바로 반환
+    3. 이전 값이 없으면 wait-ms 까지 기다린 뒤, 그래도 끝나지 않으면 직접 불러옴(SingleFlight 참고)
+    4. 최대 개수(max-size)를 넘으면 가장 오래 조회되지 않은 항목부터 제거(LRU)
+    반환된 값은 캐시에 보관된 객체 그대로이므로 수정하지 말고 복사해서 사용해야 함.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisFallbackCache {
+    private final MeterRegistry meterRegistry;
+
+    @Value("${memegle.redis.fallback.max-size:500}")
+    private int maxSize;
+    @Value("${memegle.redis.fallback.interval-ms:30000}")
+    private long intervalMs;
+    @Value("${memegle.redis.fallback.wait-ms:3000}")
+    private long waitMs;
+
+    private final Map<String, CacheEntry> entryMap = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            return size() > maxSize;
+        }
+    };
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    /**
+     * Redis 대신 조회. interval-ms 가 지났거나 없으면 loader 로 불러온 뒤 보관함.
+     *
+     * @param key    Redis 키
+     * @param loader DB 에서 값을 불러오는 기능
+     * @return 보관된 값
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        CacheEntry entry;
+        synchronized (entryMap) {
+            entry = entryMap.get(key);
+        }
+        if (entry != null && System.currentTimeMillis() - entry.loadedAt < intervalMs) {
+            count("hit");
+            return (T) entry.value;
+        }
+
+        if (entry != null && singleFlight.isLoading(key)) {
+            count("stale");
+            return (T) entry.value;
+        }
+
+        count("load");
+        return singleFlight.run(key, waitMs, () -> load(key, loader));
+    }
+
+    /**
+     * 보관된 값 삭제. 다음 조회시 다시 불러옴.
+     *
+     * @param key Redis 키
+     */
+    public void evict(String key) {
+        synchronized (entryMap) {
+            entryMap.remove(key);
+        }
+    }
+
+    // region 보조 기능
+    @SuppressWarnings("unchecked")
+    private <T> T load(String key, Supplier<T> loader) {
+        // 기다리는 사이 다른 요청이 이미 불러왔으면 그 값을 사용
+        synchronized (entryMap) {
+            CacheEntry entry = entryMap.get(key);
+            if (entry != null && System.currentTimeMillis() - entry.loadedAt < intervalMs) {
+                return (T) entry.value;
+            }
+        }
+
+        T value = loader.get();
+        synchronized (entryMap) {
+            entryMap.put(key, new CacheEntry(value, System.currentTimeMillis()));
+        }
+        return value;
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("memegle.redis.fallback", "result", result).increment();
+    }
+
+    private static class CacheEntry {
+        private final Object value;
+        private final long loadedAt;
+
+        private CacheEntry(Object value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+    // endregion
+}
@@ -10,5 +10,15 @@ public class RedisKey {
     public static final String BEST_MEME_JJAL_KEY = "BEST_MEME_JJAL_KEY";
     public static final String STAT_DICT_KEY = "STAT_DICT";
     public static final String USER_ALARM_KEY = "USER_ALARM";
+    public static final String VIEW_RANK_KEY = "VIEW_RANK";
     public static final String DICT_HEALTH_CHECK_KEY = "DICT_HEALTH_CHECK";
+    public static final String LIKE_KEY = "LIKE";
+    public static final String LIKE_QUEUE_KEY = "LIKE_QUEUE";
+    public static final String LIKE_FLUSH_LOCK_KEY = "LIKE_FLUSH_LOCK";
+    public static final String SCHEDULER_TRIGGER_KEY = "SCHEDULER_TRIGGER";
+    public static final String SCHEDULER_LEASE_KEY = "SCHEDULER_LEASE";
+    public static final String SCHEDULER_RUN_SEQ_KEY = "SCHEDULER_RUN_SEQ";
+    public static final String SCHEDULER_HISTORY_KEY = "SCHEDULER_HISTORY";
+    public static final String YOUTUBE_QUOTA_KEY = "YOUTUBE_QUOTA";
+    public static final String YOUTUBE_SEARCH_KEY = "YOUTUBE_SEARCH";
 }
@@ -1,65 +1,139 @@
 package com.teamproj.backend.util;
 
-import com.teamproj.backend.Repository.ViewersRepository;
-import com.teamproj.backend.Repository.board.BoardTodayLikeRepository;
-import com.teamproj.backend.Repository.board.BoardViewersRepository;
-import com.teamproj.backend.Repository.dict.DictViewersRepository;
 import com.teamproj.backend.Repository.stat.StatNumericDataRepository;
-import com.teamproj.backend.Repository.stat.StatVisitorRepository;
+import com.teamproj.backend.model.board.QBoardTodayLike;
+import com.teamproj.backend.model.board.QBoardViewers;
+import com.teamproj.backend.model.dict.QDictViewers;
 import com.teamproj.backend.service.BoardService;
-import com.teamproj.backend.service.RedisService;
+import com.teamproj.backend.service.CountReconcileService;
 import com.teamproj.backend.service.StatService;
+import com.teamproj.backend.service.ViewCountService;
 import com.teamproj.backend.service.dict.DictService;
+import com.teamproj.backend.service.youtube.YoutubeEnrichmentService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
 import static com.teamproj.backend.util.RedisKey.*;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class Scheduler {
+    // 초, 분, 시, 일, 월, 주 순서
+    private static final String DAY_REGULAR_CRON = "0 0 0 * * *";
+    private static final String COUNT_RECONCILE_CRON = "0 0 4 * * *";
+    private static final String WEEKEND_CRON = "0 0 0 * * 0";
+    private static final String YOUTUBE_RECOVER_CRON = "0 30 * * * *";
+    private static final String YOUTUBE_REFRESH_CRON = "0 45 */6 * * *";
+
     private final DictService dictService;
     private final StatService statService;
     private final BoardService boardService;
+    private final ViewCountService viewCountService;
+    private final CountReconcileService countReconcileService;
+    private final YoutubeEnrichmentService youtubeEnrichmentService;
 
-    private final StatVisitorRepository statVisitorRepository;
     private final StatNumericDataRepository statNumericdataRepository;
-    private final BoardViewersRepository boardViewersRepository;
-    private final DictViewersRepository dictViewersRepository;
-    private final BoardTodayLikeRepository boardTodayLikeRepository;
-    private final ViewersRepository viewersRepository;
 
     private final RedisTemplate<String, Object> redisTemplate;
 
-    private final RedisService redisService;
+    private final CacheAsideTemplate cacheAsideTemplate;
+    private final ClusterJobRunner clusterJobRunner;
+    private final TablePurger tablePurger;
 
-    // 초, 분, 시, 일, 월, 주 순서
-    @Scheduled(cron = "0 0 0 * * *")
+    // 여러 서버 중 한 곳에서만 실행되도록 ClusterJobRunner 로 감싸서 실행함. 같은 cron 예정 시각에는 한 번만 실행됨.
+    @Scheduled(cron = DAY_REGULAR_CRON)
     public void dayRegularSchedule() {
-        System.out.println("자정 정기 스케줄 실시 .....");
-        // 오늘의밈, 명예의전당 데이터 교체
-        System.out.println("메인 페이지 데이터 교체 .....");
-        // 메인페이지 오늘의 밈
-        redisService.setTodayList(TODAY_LIST_KEY, dictService.getTodayMeme(20));
-        // 메인페이지 명예의 밈글
-        redisService.setTodayMemeImageList(TODAY_MEME_IMAGE_LIST_KEY, boardService.getTodayImage(5));
-        boardTodayLikeRepository.deleteAll();
-
-        System.out.println("조회수 및 방문자 정보 초기화 .....");
-        statService.statVisitorToNumericData(statVisitorRepository.count(), "VISITOR");
-        boardViewersRepository.deleteAll();
-        // 사전페이지 오늘의 밈카드
-        redisService.setBestDict(BEST_DICT_KEY, dictService.getSafeBestDict());
-        dictViewersRepository.deleteAll();
-        viewersRepository.deleteAll();
+        // 오늘 조회 기록은 서버마다 메모리에 있으므로 모든 서버에서 초기화.
+        // 어제 조회수 증가분을 Redis 순위에 마저 보낸 뒤 어제 순위로 명예의 전당을 만들도록 먼저 실행함.
+        viewCountService.resetTodayViewers();
+        runScheduled("dayRegularSchedule", DAY_REGULAR_CRON, this::dayRegularJob);
+    }
+
+    // 요청이 적은 새벽에 좋아요/댓글/나도 궁금해요 개수 보정
+    @Scheduled(cron = COUNT_RECONCILE_CRON)
+    public void countReconcileSchedule() {
+        runScheduled("countReconcileSchedule", COUNT_RECONCILE_CRON, this::countReconcileJob);
     }
 
-    @Scheduled(cron = "0 0 0 * * 0")
+    // 서버 시작시 개수 보정(개수 컬럼이 추가된 직후 기존 데이터 채우기).
+    // 예정 시각이 없으므로 시작한 시각(시간 단위)을 사용함. 같은 시간대에 여러 서버가 시작해도 한 곳에서만 실행.
+    @EventListener(ApplicationReadyEvent.class)
+    public void countReconcileOnStartup() {
+        clusterJobRunner.run("countReconcileOnStartup", LocalDateTime.now().truncatedTo(ChronoUnit.HOURS),
+                this::countReconcileJob);
+    }
+
+    @Scheduled(cron = WEEKEND_CRON)
     public void weekendSchedule() {
-        System.out.println("매주 일요일 스케줄 실시");
+        runScheduled("weekendSchedule", WEEKEND_CRON, this::weekendJob);
+    }
+
+    // 관련 영상을 찾지 못한 사전 다시 찾기(재시작, 할당량 부족 등)
+    @Scheduled(cron = YOUTUBE_RECOVER_CRON)
+    public void youtubeRecoverSchedule() {
+        runScheduled("youtubeRecoverSchedule", YOUTUBE_RECOVER_CRON, this::youtubeRecoverJob);
+    }
+
+    // 인기 사전의 오래된 관련 영상 갱신(갱신 예산 안에서)
+    @Scheduled(cron = YOUTUBE_REFRESH_CRON)
+    public void youtubeRefreshSchedule() {
+        runScheduled("youtubeRefreshSchedule", YOUTUBE_REFRESH_CRON, this::youtubeRefreshJob);
+    }
+
+    private void runScheduled(String jobName, String cron, Runnable job) {
+        clusterJobRunner.run(jobName, ClusterJobRunner.lastScheduledTime(cron, LocalDateTime.now()), job);
+    }
+
+    private void dayRegularJob() {
+        log.info("자정 정기 스케줄 실시");
+        // 오늘의밈, 명예의전당 데이터 교체
+        log.info("메인 페이지 데이터 교체");
+        // 메인페이지 오늘의 밈, 명예의 밈글, 사전페이지 오늘의 밈카드
+        // 전날 기록을 지우기 전에 모두 만들어 두고 Redis 에는 한 번에 씀
+        cacheAsideTemplate.putAll(
+                cacheAsideTemplate.listWrite(CacheSpecs.TODAY_LIST, TODAY_LIST_KEY, dictService.getTodayMeme(20)),
+                cacheAsideTemplate.listWrite(CacheSpecs.TODAY_MEME_IMAGE_LIST, TODAY_MEME_IMAGE_LIST_KEY, boardService.getTodayImage(5)),
+                cacheAsideTemplate.listWrite(CacheSpecs.BEST_DICT, BEST_DICT_KEY, dictService.getSafeBestDict()));
+        tablePurger.purge(QBoardTodayLike.boardTodayLike, QBoardTodayLike.boardTodayLike.boardTodayLikeId);
+
+        clusterJobRunner.checkLease();
+        log.info("조회수 및 방문자 정보 초기화");
+        statService.statVisitorToNumericData("VISITOR");
+        tablePurger.purge(QBoardViewers.boardViewers, QBoardViewers.boardViewers.viewersId);
+        tablePurger.purge(QDictViewers.dictViewers, QDictViewers.dictViewers.viewersId);
+    }
+
+    private void countReconcileJob() {
+        log.info("개수 보정 스케줄 실시");
+        countReconcileService.reconcileAll();
+    }
+
+    private void youtubeRecoverJob() {
+        int count = youtubeEnrichmentService.recover();
+        if (count > 0) {
+            log.info("사전 관련 영상 다시 찾기 : {}건", count);
+        }
+    }
+
+    private void youtubeRefreshJob() {
+        int count = youtubeEnrichmentService.refreshPopular();
+        if (count > 0) {
+            log.info("인기 사전 관련 영상 갱신 : {}건", count);
+        }
+    }
+
+    private void weekendJob() {
+        log.info("매주 일요일 스케줄 실시");
         // 명예의 밈짤 데이터 교체
-        redisService.setBestMemeImgList(BEST_MEME_JJAL_KEY, boardService.getBestMemeImg("MEME", ""));
+        boardService.refreshBestMemeImg();
     }
 }
@@ -0,0 +1,93 @@
+package com.teamproj.backend.util;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/*
+    같은 키를 동시에 불러와야 할 때 한 요청만 loader 를 실행하고 나머지는 그 결과를 기다림(single-flight)
+    기다리는 시간은 waitMs 까지. 넘으면 기다리던 요청이 직접 불러옴(결과는 공유하지 않음).
+    OSIV 로 DB 연결을 잡은 요청들이 무한정 기다리면, 연결 풀이 모두 기다리는 요청에 묶여
+    먼저 불러오는 요청이 쓸 연결을 얻지 못하는 교착이 생길 수 있음.
+ */
+public class SingleFlight {
+    // 불러오는 중인 키 -> 결과
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> loadingMap = new ConcurrentHashMap<>();
+
+    /**
+     * 불러오기. 이미 불러오는 중이면 waitMs 까지 그 결과를 기다림.
+     *
+     * @param key    키
+     * @param waitMs 다른 요청이 불러오는 중일 때 기다리는 최대 시간
+     * @param loader 값을 불러오는 기능
+     * @return 불러온 값
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T run(String key, long waitMs, Supplier<T> loader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> loadingFuture = loadingMap.putIfAbsent(key, future);
+        if (loadingFuture == null) {
+            return (T) complete(key, loader, future);
+        }
+
+        try {
+            return (T) loadingFuture.get(waitMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return loader.get();
+        } catch (TimeoutException e) {
+            return loader.get();
+        }
+    }
+
+    /**
+     * 백그라운드에서 불러오기. 이미 불러오는 중이면 실행하지 않음.
+     *
+     * @return 실행을 시작했으면 true
+     */
+    public boolean runAsync(String key, Supplier<?> loader, Executor executor) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        if (loadingMap.putIfAbsent(key, future) != null) {
+            return false;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    complete(key, loader, future);
+                } catch (RuntimeException | Error e) {
+                    // 결과는 future 로 전달됨
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            loadingMap.remove(key, future);
+            future.completeExceptionally(e);
+            return false;
+        }
+    }
+
+    public boolean isLoading(String key) {
+        return loadingMap.containsKey(key);
+    }
+
+    private Object complete(String key, Supplier<?> loader, CompletableFuture<Object> future) {
+        try {
+            Object value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadingMap.remove(key, future);
+        }
+    }
+}
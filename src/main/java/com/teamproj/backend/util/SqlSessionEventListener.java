@@ -0,0 +1,35 @@
+package com.teamproj.backend.util;
+
+import org.hibernate.BaseSessionEventListener;
+
+// JDBC 실행 시간 기록. hibernate.session.events.auto 로 세션마다 생성됨.
+public class SqlSessionEventListener extends BaseSessionEventListener {
+    private long executeStart = -1L;
+    private long batchStart = -1L;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        if (executeStart >= 0) {
+            SqlStatementContext.onJdbcExecute(System.nanoTime() - executeStart);
+            executeStart = -1L;
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        if (batchStart >= 0) {
+            SqlStatementContext.onJdbcExecute(System.nanoTime() - batchStart);
+            batchStart = -1L;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.teamproj.backend.util;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+// 서비스 메소드마다 실행된 SQL 개수와 JDBC 실행 시간 기록
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class SqlStatementAop {
+    private final SqlStatementMonitor sqlStatementMonitor;
+
+    @Around("execution(* com.teamproj.backend.service..*(..))")
+    public Object execute(ProceedingJoinPoint joinPoint) throws Throwable {
+        // 요청 밖(스케줄러 등)에서 호출된 경우 이 메소드 동안만 집계
+        boolean started = SqlStatementContext.current() == null;
+        SqlStatementContext context = SqlStatementContext.begin();
+        int statementCount = context.getStatementCount();
+        long jdbcNanos = context.getJdbcNanos();
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            Signature signature = joinPoint.getSignature();
+            sqlStatementMonitor.recordMethod(signature.getDeclaringType().getSimpleName() + "." + signature.getName(),
+                    context.getStatementCount() - statementCount, context.getJdbcNanos() - jdbcNanos);
+            if (started) {
+                SqlStatementContext.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.teamproj.backend.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+    현재 스레드(요청)에서 실행된 SQL 집계
+    SqlStatementInspector 가 SQL 을 준비할 때마다, SqlSessionEventListener 가 JDBC 실행이 끝날 때마다 기록함.
+    begin 으로 시작한 스레드에서만 기록되므로 스케줄러 등 다른 스레드의 SQL 은 집계되지 않음.
+    테스트에서도 begin / end 사이에 실행된 SQL 개수로 N+1 이 다시 생겼는지 확인할 수 있음.
+ */
+public final class SqlStatementContext {
+    // 같은 SQL 이 몇 번 실행되었는지 기록하는 최대 종류 수
+    private static final int MAX_SQL_KIND = 200;
+
+    private static final ThreadLocal<SqlStatementContext> CURRENT = new ThreadLocal<>();
+
+    private int statementCount = 0;
+    private long jdbcNanos = 0L;
+    private final Map<String, Integer> sqlCountMap = new HashMap<>();
+
+    private SqlStatementContext() {
+    }
+
+    // 집계 시작. 이미 시작된 경우 기존 집계를 그대로 사용함.
+    public static SqlStatementContext begin() {
+        SqlStatementContext context = CURRENT.get();
+        if (context == null) {
+            context = new SqlStatementContext();
+            CURRENT.set(context);
+        }
+        return context;
+    }
+
+    // 집계 종료. 시작할 때 받은 context 로 결과를 확인함.
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    // 집계 중이 아니면 null
+    public static SqlStatementContext current() {
+        return CURRENT.get();
+    }
+
+    static void onStatement(String sql) {
+        SqlStatementContext context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        context.statementCount++;
+        if (context.sqlCountMap.size() < MAX_SQL_KIND || context.sqlCountMap.containsKey(sql)) {
+            context.sqlCountMap.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void onJdbcExecute(long nanos) {
+        SqlStatementContext context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        context.jdbcNanos += nanos;
+    }
+
+    // 다른 스레드에서 집계한 결과 합치기(ParallelBranchExecutor). 집계가 끝난 context 만 넘겨야 함.
+    void add(SqlStatementContext other) {
+        statementCount += other.statementCount;
+        jdbcNanos += other.jdbcNanos;
+        for (Map.Entry<String, Integer> sqlCount : other.sqlCountMap.entrySet()) {
+            if (sqlCountMap.size() < MAX_SQL_KIND || sqlCountMap.containsKey(sqlCount.getKey())) {
+                sqlCountMap.merge(sqlCount.getKey(), sqlCount.getValue(), Integer::sum);
+            }
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    // 가장 많이 반복된 SQL. 없으면 null
+    public Map.Entry<String, Integer> getMostRepeatedSql() {
+        Map.Entry<String, Integer> mostRepeated = null;
+        for (Map.Entry<String, Integer> sqlCount : sqlCountMap.entrySet()) {
+            if (mostRepeated == null || sqlCount.getValue() > mostRepeated.getValue()) {
+                mostRepeated = sqlCount;
+            }
+        }
+        return mostRepeated;
+    }
+}
@@ -0,0 +1,27 @@
+package com.teamproj.backend.util;
+
+import com.teamproj.backend.dto.sql.SqlStatementReportDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+// 요청, 서비스 메소드별 SQL 통계 조회(GET /actuator/sql) / 초기화(DELETE /actuator/sql)
+// 웹으로 노출하려면 management.endpoints.web.exposure.include 에 sql 을 추가해야 함.
+@Component
+@Endpoint(id = "sql")
+@RequiredArgsConstructor
+public class SqlStatementEndpoint {
+    private final SqlStatementMonitor sqlStatementMonitor;
+
+    @ReadOperation
+    public SqlStatementReportDto getReport() {
+        return sqlStatementMonitor.getReport();
+    }
+
+    @DeleteOperation
+    public void resetReport() {
+        sqlStatementMonitor.reset();
+    }
+}
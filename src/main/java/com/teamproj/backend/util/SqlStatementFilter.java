@@ -0,0 +1,38 @@
+package com.teamproj.backend.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+// 요청마다 실행된 SQL 개수와 JDBC 실행 시간 기록
+@Component
+@RequiredArgsConstructor
+public class SqlStatementFilter extends OncePerRequestFilter {
+    private final SqlStatementMonitor sqlStatementMonitor;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementContext context = SqlStatementContext.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementContext.end();
+            // URL 에 ID 가 포함된 요청도 하나로 묶기 위해 URL 패턴으로 기록. 매칭된 핸들러가 없으면 한 곳에 모음.
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            sqlStatementMonitor.recordRequest(request.getMethod() + " " + (pattern == null ? "UNMATCHED" : pattern), context);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+}
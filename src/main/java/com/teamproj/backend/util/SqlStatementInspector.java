@@ -0,0 +1,12 @@
+package com.teamproj.backend.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate 가 SQL 을 준비할 때마다 호출됨. SQL 은 변경하지 않고 개수만 기록함.
+public class SqlStatementInspector implements StatementInspector {
+    @Override
+    public String inspect(String sql) {
+        SqlStatementContext.onStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,141 @@
+package com.teamproj.backend.util;
+
+import com.teamproj.backend.dto.sql.SqlFlaggedRequestDto;
+import com.teamproj.backend.dto.sql.SqlStatementReportDto;
+import com.teamproj.backend.dto.sql.SqlStatementStatDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+    요청, 서비스 메소드별 SQL 개수와 JDBC 실행 시간 통계
+    1. 요청 : SqlStatementFilter 가 요청이 끝날 때 기록. 요청 이름은 "HTTP 메소드 + URL 패턴"(예 : GET /api/board/{boardId})
+    2. 서비스 메소드 : SqlStatementAop 가 메소드가 끝날 때 기록. 안에서 호출한 다른 서비스 메소드의 SQL 도 포함됨.
+    3. 요청의 SQL 개수가 memegle.sql.request-threshold 를 넘거나, 같은 SQL 이 memegle.sql.repeat-threshold 번 이상
+       반복되면(N+1 의심) 경고 로그를 남기고 최근 목록에 보관함.
+    통계는 /actuator/sql 에서 확인(SqlStatementEndpoint)
+ */
+@Slf4j
+@Component
+public class SqlStatementMonitor {
+    private static final int FLAGGED_SIZE = 50;
+
+    @Value("${memegle.sql.request-threshold:30}")
+    private int requestThreshold;
+    @Value("${memegle.sql.repeat-threshold:10}")
+    private int repeatThreshold;
+    @Value("${memegle.sql.top-size:10}")
+    private int topSize;
+
+    private final ConcurrentHashMap<String, Stat> requestStatMap = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Stat> methodStatMap = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedDeque<SqlFlaggedRequestDto> flaggedDeque = new ConcurrentLinkedDeque<>();
+
+    /**
+     * 요청 1건의 SQL 집계 기록
+     *
+     * @param request 요청 이름
+     * @param context 요청 동안의 SQL 집계
+     */
+    public void recordRequest(String request, SqlStatementContext context) {
+        int statementCount = context.getStatementCount();
+        Map.Entry<String, Integer> mostRepeatedSql = context.getMostRepeatedSql();
+        int repeatCount = mostRepeatedSql == null ? 0 : mostRepeatedSql.getValue();
+        boolean flagged = statementCount > requestThreshold || repeatCount >= repeatThreshold;
+
+        requestStatMap.computeIfAbsent(request, key -> new Stat())
+                .record(statementCount, context.getJdbcNanos(), flagged);
+        if (!flagged) {
+            return;
+        }
+
+        SqlFlaggedRequestDto flaggedRequest = SqlFlaggedRequestDto.builder()
+                .request(request)
+                .statementCount(statementCount)
+                .jdbcMs(context.getJdbcNanos() / 1_000_000.0)
+                .repeatedSql(repeatCount >= repeatThreshold ? mostRepeatedSql.getKey() : null)
+                .repeatCount(repeatCount)
+                .occurredAt(LocalDateTime.now())
+                .build();
+        flaggedDeque.addFirst(flaggedRequest);
+        while (flaggedDeque.size() > FLAGGED_SIZE) {
+            flaggedDeque.pollLast();
+        }
+        log.warn("SQL {}개 실행 : {} (가장 많이 반복된 SQL {}회 : {})",
+                statementCount, request, repeatCount, flaggedRequest.getRepeatedSql());
+    }
+
+    /**
+     * 서비스 메소드 1회 호출의 SQL 집계 기록
+     *
+     * @param method         메소드 이름
+     * @param statementCount 실행된 SQL 개수
+     * @param jdbcNanos      JDBC 실행 시간(ns)
+     */
+    public void recordMethod(String method, int statementCount, long jdbcNanos) {
+        methodStatMap.computeIfAbsent(method, key -> new Stat())
+                .record(statementCount, jdbcNanos, false);
+    }
+
+    public SqlStatementReportDto getReport() {
+        return SqlStatementReportDto.builder()
+                .requests(getTopStatList(requestStatMap))
+                .methods(getTopStatList(methodStatMap))
+                .flagged(new ArrayList<>(flaggedDeque))
+                .build();
+    }
+
+    public void reset() {
+        requestStatMap.clear();
+        methodStatMap.clear();
+        flaggedDeque.clear();
+    }
+
+    // region 보조 기능
+    private List<SqlStatementStatDto> getTopStatList(Map<String, Stat> statMap) {
+        List<SqlStatementStatDto> statList = new ArrayList<>();
+        for (Map.Entry<String, Stat> stat : statMap.entrySet()) {
+            statList.add(stat.getValue().toDto(stat.getKey()));
+        }
+        statList.sort(Comparator.comparingDouble(SqlStatementStatDto::getAvgStatements).reversed());
+        return statList.size() > topSize ? new ArrayList<>(statList.subList(0, topSize)) : statList;
+    }
+
+    private static class Stat {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder jdbcNanos = new LongAdder();
+        private final LongAdder flagged = new LongAdder();
+        private final AtomicLong maxStatements = new AtomicLong();
+
+        private void record(int statementCount, long jdbcNanos, boolean flagged) {
+            this.calls.increment();
+            this.statements.add(statementCount);
+            this.jdbcNanos.add(jdbcNanos);
+            if (flagged) {
+                this.flagged.increment();
+            }
+            this.maxStatements.accumulateAndGet(statementCount, Math::max);
+        }
+
+        private SqlStatementStatDto toDto(String name) {
+            long calls = Math.max(this.calls.sum(), 1L);
+            return SqlStatementStatDto.builder()
+                    .name(name)
+                    .calls(this.calls.sum())
+                    .avgStatements((double) statements.sum() / calls)
+                    .maxStatements(maxStatements.get())
+                    .avgJdbcMs(jdbcNanos.sum() / 1_000_000.0 / calls)
+                    .flaggedCount(flagged.sum())
+                    .build();
+        }
+    }
+    // endregion
+}
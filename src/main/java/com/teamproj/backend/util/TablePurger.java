@@ -0,0 +1,164 @@
+package com.teamproj.backend.util;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teamproj.backend.dto.purge.PurgeResultDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/*
+    하루 단위로 비우는 테이블 정리
+    Spring Data 의 deleteAll() 은 모든 엔티티를 불러온 뒤 하나씩 delete 하므로, 그동안 테이블 잠금이 길게 유지됨.
+    1. 정리 시작 시점의 최대 ID 까지만 지움. 정리 중에 새로 들어온 행(다음 날의 기록)은 남음.
+    2. ID 범위(chunk-size)별로 bulk delete 를 실행하고, 범위마다 트랜잭션을 따로 커밋해 잠금을 짧게 유지함.
+       범위 사이에는 throttle-ms 만큼 쉬어 다른 요청이 처리될 틈을 줌.
+    3. 다음 범위는 남은 행의 최소 ID 부터 시작하므로 ID 사이가 비어 있어도 빈 범위를 돌지 않음.
+    4. 테이블별로 지운 행 수와 걸린 시간을 반환하고 지표(memegle.purge)로 남김.
+    5. ClusterJobRunner 작업으로 실행 중이면 범위마다 임대를 확인하고, 임대를 잃었으면 멈춤.
+    6. 지운 행을 집계해야 하면(방문자 수 등) 범위마다 지운 행 수를 같은 트랜잭션 안에서 전달함.
+       집계와 삭제가 함께 커밋되므로 중간에 실패해도 두 번 세거나 빠뜨리지 않음.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TablePurger {
+    private final JPAQueryFactory queryFactory;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final ClusterJobRunner clusterJobRunner;
+
+    // 한 번에 지울 ID 범위
+    @Value("${memegle.purge.chunk-size:5000}")
+    private long chunkSize;
+    // 범위 사이 대기 시간(ms)
+    @Value("${memegle.purge.throttle-ms:50}")
+    private long throttleMs;
+
+    /**
+     * 테이블 정리. 시작 시점에 있던 행을 모두 지움.
+     *
+     * @param entityPath 정리할 엔티티
+     * @param idPath     엔티티의 ID(자동 증가)
+     * @return 테이블 이름, 지운 행 수, 범위 수, 걸린 시간
+     */
+    public PurgeResultDto purge(EntityPath<?> entityPath, NumberPath<Long> idPath) {
+        return purge(entityPath, idPath, getMaxId(entityPath, idPath));
+    }
+
+    /**
+     * 테이블 정리. maxId 이하의 행만 지움.
+     *
+     * @param entityPath 정리할 엔티티
+     * @param idPath     엔티티의 ID(자동 증가)
+     * @param maxId      지울 최대 ID. null 이면 지우지 않음.
+     * @return 테이블 이름, 지운 행 수, 범위 수, 걸린 시간
+     */
+    public PurgeResultDto purge(EntityPath<?> entityPath, NumberPath<Long> idPath, Long maxId) {
+        return purge(entityPath, idPath, maxId, null);
+    }
+
+    /**
+     * 테이블 정리. maxId 이하의 행만 지우고, 범위마다 지운 행 수를 삭제와 같은 트랜잭션 안에서 전달함.
+     *
+     * @param entityPath      정리할 엔티티
+     * @param idPath          엔티티의 ID(자동 증가)
+     * @param maxId           지울 최대 ID. null 이면 지우지 않음.
+     * @param deletedListener 범위마다 지운 행 수(0 초과)를 받음. 예외를 던지면 그 범위의 삭제도 롤백됨.
+     * @return 테이블 이름, 지운 행 수, 범위 수, 걸린 시간
+     */
+    public PurgeResultDto purge(EntityPath<?> entityPath, NumberPath<Long> idPath, Long maxId,
+                                LongConsumer deletedListener) {
+        String tableName = entityPath.getType().getSimpleName();
+        long startNanos = System.nanoTime();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long purgedCount = 0;
+        int chunkCount = 0;
+        Long fromId = maxId == null ? null : getMinId(entityPath, idPath);
+        while (fromId != null && fromId <= maxId) {
+            clusterJobRunner.checkLease();
+            long toId = Math.min(fromId + chunkSize - 1, maxId);
+            long chunkFromId = fromId;
+            Long deleted = transactionTemplate.execute(status -> {
+                long deletedCount = queryFactory
+                        .delete(entityPath)
+                        .where(idPath.between(chunkFromId, toId))
+                        .execute();
+                if (deletedListener != null && deletedCount > 0) {
+                    deletedListener.accept(deletedCount);
+                }
+                return deletedCount;
+            });
+            purgedCount += deleted == null ? 0 : deleted;
+            chunkCount++;
+
+            if (toId >= maxId || !throttle()) {
+                break;
+            }
+            fromId = getMinIdAfter(entityPath, idPath, toId);
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        meterRegistry.counter("memegle.purge.rows", "table", tableName).increment(purgedCount);
+        meterRegistry.timer("memegle.purge", "table", tableName).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        PurgeResultDto result = PurgeResultDto.builder()
+                .tableName(tableName)
+                .purgedCount(purgedCount)
+                .chunkCount(chunkCount)
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .build();
+        log.info("테이블 정리 완료 : {}", result);
+        return result;
+    }
+
+    /**
+     * 현재 최대 ID
+     */
+    public Long getMaxId(EntityPath<?> entityPath, NumberPath<Long> idPath) {
+        return queryFactory
+                .select(idPath.max())
+                .from(entityPath)
+                .fetchOne();
+    }
+
+    // region 보조 기능
+    private Long getMinId(EntityPath<?> entityPath, NumberPath<Long> idPath) {
+        return queryFactory
+                .select(idPath.min())
+                .from(entityPath)
+                .fetchOne();
+    }
+
+    private Long getMinIdAfter(EntityPath<?> entityPath, NumberPath<Long> idPath, long afterId) {
+        return queryFactory
+                .select(idPath.min())
+                .from(entityPath)
+                .where(idPath.gt(afterId))
+                .fetchOne();
+    }
+
+    // return false : 대기 중 인터럽트(서버 종료 등)되어 정리를 멈춰야 함
+    private boolean throttle() {
+        if (throttleMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttleMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    // endregion
+}
@@ -0,0 +1,117 @@
+package com.teamproj.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.teamproj.backend.config.RedisCodecRegistry.Format;
+import com.teamproj.backend.dto.main.MainTodayMemeResponseDto;
+import com.teamproj.backend.dto.quiz.QuizResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RedisCodecRegistryTest {
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+    private RedisCodecRegistry registry(Format writeFormat) {
+        return new RedisCodecRegistry(jsonMapper, smileMapper, writeFormat,
+                MainTodayMemeResponseDto.class, QuizResponseDto.class);
+    }
+
+    @Nested
+    @DisplayName("직렬화")
+    class Serialize {
+        @Test
+        @DisplayName("JSON 으로 저장")
+        void serialize_json() {
+            // given
+            RedisSerializer<MainTodayMemeResponseDto> codec = registry(Format.JSON).get(MainTodayMemeResponseDto.class);
+
+            // when
+            byte[] bytes = codec.serialize(new MainTodayMemeResponseDto(1L, "단어"));
+
+            // then
+            assertEquals("{\"dictId\":1,\"dictName\":\"단어\"}", new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("Smile 로 저장하고 다시 읽음")
+        void serialize_smile() {
+            // given
+            RedisSerializer<QuizResponseDto> codec = registry(Format.SMILE).get(QuizResponseDto.class);
+            QuizResponseDto quiz = QuizResponseDto.builder()
+                    .question("질문")
+                    .solution("정답")
+                    .choice(Arrays.asList("정답", "보기"))
+                    .build();
+
+            // when
+            byte[] bytes = codec.serialize(quiz);
+            QuizResponseDto result = codec.deserialize(bytes);
+
+            // then
+            assertEquals(':', bytes[0]);
+            assertEquals("질문", result.getQuestion());
+            assertEquals("정답", result.getSolution());
+            assertNull(result.getQuizImage());
+            assertEquals(Arrays.asList("정답", "보기"), result.getChoice());
+        }
+    }
+
+    @Nested
+    @DisplayName("역직렬화")
+    class Deserialize {
+        @Test
+        @DisplayName("저장 형식과 관계없이 JSON, Smile 모두 읽음")
+        void deserialize_mixed() {
+            // given
+            MainTodayMemeResponseDto todayMeme = new MainTodayMemeResponseDto(1L, "단어");
+            byte[] jsonBytes = registry(Format.JSON).get(MainTodayMemeResponseDto.class).serialize(todayMeme);
+            byte[] smileBytes = registry(Format.SMILE).get(MainTodayMemeResponseDto.class).serialize(todayMeme);
+            RedisSerializer<MainTodayMemeResponseDto> codec = registry(Format.SMILE).get(MainTodayMemeResponseDto.class);
+
+            // when
+            MainTodayMemeResponseDto fromJson = codec.deserialize(jsonBytes);
+            MainTodayMemeResponseDto fromSmile = codec.deserialize(smileBytes);
+
+            // then
+            assertEquals("단어", fromJson.getDictName());
+            assertEquals("단어", fromSmile.getDictName());
+            assertTrue(smileBytes.length < jsonBytes.length);
+        }
+
+        @Test
+        @DisplayName("빈 값은 null")
+        void deserialize_empty() {
+            // given
+            RedisSerializer<MainTodayMemeResponseDto> codec = registry(Format.JSON).get(MainTodayMemeResponseDto.class);
+
+            // when
+            MainTodayMemeResponseDto result = codec.deserialize(new byte[0]);
+
+            // then
+            assertNull(result);
+        }
+    }
+
+    @Test
+    @DisplayName("등록하지 않은 타입은 예외")
+    void get_unregistered() {
+        // given
+        RedisCodecRegistry registry = registry(Format.JSON);
+
+        // when
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> registry.get(String.class)
+        );
+
+        // then
+        assertTrue(exception.getMessage().contains(String.class.getName()));
+    }
+}
@@ -0,0 +1,108 @@
+package com.teamproj.backend.security.jwt;
+
+import com.teamproj.backend.security.UserDetailsImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+
+import static com.teamproj.backend.security.jwt.JwtTokenUtils.CLAIM_USER_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JwtDecoderTest {
+    SimpleMeterRegistry meterRegistry;
+    JwtDecoder jwtDecoder;
+    String token;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtDecoder = new JwtDecoder(meterRegistry);
+        ReflectionTestUtils.setField(jwtDecoder, "maxSize", 10);
+        ReflectionTestUtils.setField(jwtDecoder, "ttlMs", 60000L);
+
+        token = JwtTokenUtils.generateJwtToken(UserDetailsImpl.builder()
+                .username("테스트유저")
+                .password("password")
+                .build());
+    }
+
+    @Nested
+    @DisplayName("토큰 해석")
+    class DecodeUser {
+        @Test
+        @DisplayName("같은 토큰은 한 번만 검증함")
+        void decodeUser_cache_hit() {
+            // when
+            jwtDecoder.decodeUser(token);
+            HashMap<String, String> userInfo = jwtDecoder.decodeUser(token);
+
+            // then
+            assertEquals("테스트유저", userInfo.get(CLAIM_USER_NAME));
+            assertEquals(1.0, meterRegistry.counter("memegle.jwt.cache", "result", "miss").count());
+            assertEquals(1.0, meterRegistry.counter("memegle.jwt.cache", "result", "hit").count());
+        }
+
+        @Test
+        @DisplayName("반환된 정보를 수정해도 캐시에 영향 없음")
+        void decodeUser_copy() {
+            // given
+            jwtDecoder.decodeUser(token).put(CLAIM_USER_NAME, "변경");
+
+            // when
+            HashMap<String, String> userInfo = jwtDecoder.decodeUser(token);
+
+            // then
+            assertEquals("테스트유저", userInfo.get(CLAIM_USER_NAME));
+        }
+
+        @Test
+        @DisplayName("토큰에 담긴 사용자 ID, 닉네임 반환")
+        void decodeUser_user_id() {
+            // given
+            String userIdToken = JwtTokenUtils.generateJwtToken(UserDetailsImpl.builder()
+                    .username("테스트유저")
+                    .password("password")
+                    .userId(1L)
+                    .nickname("닉네임")
+                    .build());
+
+            // when
+            UserDetailsImpl userDetails = UserDetailsImpl.initUserDetails(jwtDecoder.decodeUser(userIdToken));
+
+            // then
+            assertEquals(1L, userDetails.getUserId());
+            assertEquals("닉네임", userDetails.getNickname());
+            assertNull(userDetails.getProfileImage());
+        }
+
+        @Test
+        @DisplayName("사용자 ID 가 없는 이전 토큰")
+        void decodeUser_legacy_token() {
+            // when
+            UserDetailsImpl userDetails = UserDetailsImpl.initUserDetails(jwtDecoder.decodeUser(token));
+
+            // then
+            assertEquals("테스트유저", userDetails.getUsername());
+            assertNull(userDetails.getUserId());
+        }
+
+        @Test
+        @DisplayName("실패 / 유효하지 않은 토큰")
+        void decodeUser_fail() {
+            // when
+            Exception exception = assertThrows(IllegalArgumentException.class,
+                    () -> jwtDecoder.decodeUser(token + "x")
+            );
+
+            // then
+            assertEquals("유효한 토큰이 아닙니다.", exception.getMessage());
+        }
+    }
+}
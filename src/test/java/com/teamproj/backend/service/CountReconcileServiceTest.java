@@ -0,0 +1,95 @@
+package com.teamproj.backend.service;
+
+import com.teamproj.backend.Repository.UserRepository;
+import com.teamproj.backend.Repository.dict.DictLikeRepository;
+import com.teamproj.backend.Repository.dict.DictRepository;
+import com.teamproj.backend.model.User;
+import com.teamproj.backend.model.dict.Dict;
+import com.teamproj.backend.model.dict.DictLike;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(value = MethodOrderer.OrderAnnotation.class)
+@Transactional
+@Rollback
+public class CountReconcileServiceTest {
+    @Autowired
+    private CountReconcileService countReconcileService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DictRepository dictRepository;
+    @Autowired
+    private DictLikeRepository dictLikeRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    User user;
+    Long dictId;
+
+    @BeforeEach
+    void setup() {
+        user = userRepository.save(User.builder()
+                .username(UUID.randomUUID().toString().substring(0, 10))
+                .nickname(UUID.randomUUID().toString().substring(0, 10))
+                .password("a1234567")
+                .build());
+
+        Dict dict = dictRepository.save(Dict.builder()
+                .firstAuthor(user)
+                .recentModifier(user)
+                .dictName(UUID.randomUUID().toString())
+                .summary("요약")
+                .content("내용")
+                .build());
+        dictId = dict.getDictId();
+
+        dictLikeRepository.save(DictLike.builder()
+                .dict(dict)
+                .user(user)
+                .build());
+    }
+
+    @Nested
+    @DisplayName("개수 보정")
+    class Reconcile {
+        @Test
+        @DisplayName("개수 컬럼이 비어있는 경우")
+        void reconcile_missing_count() {
+            // given
+
+            // when
+            countReconcileService.reconcileAll();
+            entityManager.clear();
+
+            // then
+            assertEquals(1, dictRepository.findById(dictId).get().getLikeCount());
+        }
+
+        @Test
+        @DisplayName("개수 컬럼이 실제보다 큰 경우")
+        void reconcile_drifted_count() {
+            // given
+            entityManager.createQuery("update Dict d set d.likeCount = 5 where d.dictId = :dictId")
+                    .setParameter("dictId", dictId)
+                    .executeUpdate();
+
+            // when
+            countReconcileService.reconcileAll();
+            entityManager.clear();
+
+            // then
+            assertEquals(1, dictRepository.findById(dictId).get().getLikeCount());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.teamproj.backend.service;
+
+import com.teamproj.backend.Repository.board.BoardRepository;
+import com.teamproj.backend.Repository.dict.DictQuestionRepository;
+import com.teamproj.backend.Repository.dict.DictRepository;
+import com.teamproj.backend.model.viewers.ViewTypeEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/*
+    DB 반영 도중/실패 시 getPendingViews 가 DB 값과 겹치거나 빠지지 않는지 확인
+    DB 는 mock 으로 대체함. 실제 반영은 ViewCountServiceTest 참고.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ViewCountServiceFlushTest {
+    @Mock
+    DictRepository dictRepository;
+    @Mock
+    BoardRepository boardRepository;
+    @Mock
+    DictQuestionRepository dictQuestionRepository;
+    @Mock
+    RedisService redisService;
+
+    ViewCountService viewCountService;
+
+    @BeforeEach
+    void setup() {
+        viewCountService = new ViewCountService(dictRepository, boardRepository, dictQuestionRepository,
+                redisService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(viewCountService, "expectedInsertions", 1000L);
+        ReflectionTestUtils.setField(viewCountService, "fpp", 0.001);
+        viewCountService.init();
+    }
+
+    @Test
+    @DisplayName("반영된 묶음은 바로 증가분에서 빠짐")
+    void flush_clear_each_group() {
+        // given
+        viewCountService.view(ViewTypeEnum.DICT, 1L, "127.0.0.1");
+        viewCountService.view(ViewTypeEnum.DICT, 2L, "127.0.0.1");
+        viewCountService.view(ViewTypeEnum.DICT, 2L, "127.0.0.2");
+        AtomicInteger pendingOfFirstGroup = new AtomicInteger(-1);
+        // 증가분 1 묶음(1번)이 반영된 뒤 증가분 2 묶음(2번)을 반영하는 시점의 1번 증가분
+        doAnswer(invocation -> {
+            pendingOfFirstGroup.set(viewCountService.getPendingViews(ViewTypeEnum.DICT, 1L));
+            return null;
+        }).when(dictRepository).updateViews(eq(Collections.singletonList(2L)), eq(2));
+
+        // when
+        viewCountService.flushViews();
+
+        // then
+        verify(dictRepository).updateViews(Collections.singletonList(1L), 1);
+        assertEquals(0, pendingOfFirstGroup.get());
+        assertEquals(0, viewCountService.getPendingViews(ViewTypeEnum.DICT, 2L));
+    }
+
+    @Test
+    @DisplayName("반영 실패한 증가분은 남겨 두고 다음 주기에 반영")
+    void flush_retry() {
+        // given
+        viewCountService.view(ViewTypeEnum.DICT, 1L, "127.0.0.1");
+        doThrow(new QueryTimeoutException("timeout")).doNothing()
+                .when(dictRepository).updateViews(anyList(), anyInt());
+
+        // when
+        viewCountService.flushViews();
+        int pendingAfterFailure = viewCountService.getPendingViews(ViewTypeEnum.DICT, 1L);
+        viewCountService.flushViews();
+
+        // then
+        assertEquals(1, pendingAfterFailure);
+        assertEquals(0, viewCountService.getPendingViews(ViewTypeEnum.DICT, 1L));
+        verify(dictRepository, times(2)).updateViews(Collections.singletonList(1L), 1);
+    }
+}
@@ -0,0 +1,118 @@
+package com.teamproj.backend.service;
+
+import com.teamproj.backend.Repository.UserRepository;
+import com.teamproj.backend.Repository.dict.DictRepository;
+import com.teamproj.backend.model.User;
+import com.teamproj.backend.model.dict.Dict;
+import com.teamproj.backend.model.viewers.ViewTypeEnum;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(value = MethodOrderer.OrderAnnotation.class)
+@Transactional
+@Rollback
+public class ViewCountServiceTest {
+    @Autowired
+    private ViewCountService viewCountService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DictRepository dictRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    Long dictId;
+
+    @BeforeEach
+    void setup() {
+        User user = userRepository.save(User.builder()
+                .username(UUID.randomUUID().toString().substring(0, 10))
+                .nickname(UUID.randomUUID().toString().substring(0, 10))
+                .password("a1234567")
+                .build());
+
+        dictId = dictRepository.save(Dict.builder()
+                .firstAuthor(user)
+                .recentModifier(user)
+                .dictName(UUID.randomUUID().toString())
+                .summary("요약")
+                .content("내용")
+                .build()).getDictId();
+    }
+
+    @Nested
+    @DisplayName("조회 처리")
+    class View {
+        @Test
+        @DisplayName("첫 조회시 증가분 누적")
+        void view_first() {
+            // given
+
+            // when
+            boolean result = viewCountService.view(ViewTypeEnum.DICT, dictId, "127.0.0.1");
+
+            // then
+            assertTrue(result);
+            assertEquals(1, viewCountService.getPendingViews(ViewTypeEnum.DICT, dictId));
+        }
+
+        @Test
+        @DisplayName("같은 IP 로 2회 조회시 증가하지 않음")
+        void view_2times() {
+            // given
+            viewCountService.view(ViewTypeEnum.DICT, dictId, "127.0.0.2");
+
+            // when
+            boolean result = viewCountService.view(ViewTypeEnum.DICT, dictId, "127.0.0.2");
+
+            // then
+            assertFalse(result);
+            assertEquals(1, viewCountService.getPendingViews(ViewTypeEnum.DICT, dictId));
+        }
+    }
+
+    @Nested
+    @DisplayName("DB 반영")
+    class Flush {
+        @Test
+        @DisplayName("성공")
+        void flush_success() {
+            // given
+            viewCountService.view(ViewTypeEnum.DICT, dictId, "127.0.0.3");
+            viewCountService.view(ViewTypeEnum.DICT, dictId, "127.0.0.4");
+
+            // when
+            viewCountService.flushViews();
+            entityManager.clear();
+
+            // then
+            assertEquals(0, viewCountService.getPendingViews(ViewTypeEnum.DICT, dictId));
+            assertEquals(2, dictRepository.findById(dictId).get().getViews());
+        }
+
+        @Test
+        @DisplayName("자정에 어제 증가분을 어제 순위에 반영")
+        void flush_rank_on_reset() {
+            // given
+            viewCountService.view(ViewTypeEnum.DICT, dictId, "127.0.0.5");
+            LocalDate today = LocalDate.now();
+
+            // when
+            viewCountService.resetTodayViewers();
+
+            // then
+            assertTrue(viewCountService.getMostViewedIdList(ViewTypeEnum.DICT, today, 100).contains(dictId));
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.teamproj.backend.Repository.dict.DictQuestionCommentRepository;
 import com.teamproj.backend.Repository.dict.DictQuestionRepository;
 import com.teamproj.backend.Repository.dict.QuestionSelectRepository;
 import com.teamproj.backend.config.S3MockConfig;
+import com.teamproj.backend.dto.cursor.CursorPageResponseDto;
 import com.teamproj.backend.dto.dict.question.DictQuestionResponseDto;
 import com.teamproj.backend.dto.dict.question.DictQuestionUploadRequestDto;
 import com.teamproj.backend.dto.dict.question.DictQuestionUploadResponseDto;
@@ -149,11 +150,38 @@ class DictQuestionServiceTest {
             List<DictQuestionResponseDto> dictQuestionResponseDtoList = dictQuestionService.getQuestion(
                                                                                             0, 1, null);
         }
+
+        @Test
+        @DisplayName("커서 기반 조회 성공")
+        void getQuestionByCursor_success() {
+            // given
+            for (int i = 0; i < 2; i++) {
+                dictQuestionRepository.save(DictQuestion.builder()
+                        .questionName(dictQuestionName)
+                        .content(dictQuestionContent)
+                        .enabled(true)
+                        .thumbNail("thumbNail")
+                        .user(user)
+                        .build()
+                );
+            }
+
+            // when
+            CursorPageResponseDto<DictQuestionResponseDto> firstPage = dictQuestionService.getQuestionByCursor(null, 1, null);
+            CursorPageResponseDto<DictQuestionResponseDto> secondPage = dictQuestionService.getQuestionByCursor(
+                                                                                    firstPage.getNextCursor(), 1, null);
+
+            // then
+            assertNotNull(firstPage.getNextCursor());
+            assertTrue(firstPage.getContent().get(0).getQuestionId() > secondPage.getContent().get(0).getQuestionId());
+        }
     }
 
 
     //endregion
 
+    //region 질문 작성
+
     //region 질문 작성
     @Nested
     @DisplayName("질문 작성")
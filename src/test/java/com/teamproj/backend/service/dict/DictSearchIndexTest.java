@@ -0,0 +1,144 @@
+package com.teamproj.backend.service.dict;
+
+import com.teamproj.backend.Repository.UserRepository;
+import com.teamproj.backend.Repository.dict.DictRepository;
+import com.teamproj.backend.dto.dict.search.DictSearchIndexResultDto;
+import com.teamproj.backend.model.User;
+import com.teamproj.backend.model.dict.Dict;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    색인은 커밋된 뒤에 갱신되므로 테스트 트랜잭션(@Transactional) 없이 실제로 커밋하고, 끝나면 지움.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(value = MethodOrderer.OrderAnnotation.class)
+public class DictSearchIndexTest {
+    @Autowired
+    private DictSearchIndex dictSearchIndex;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DictRepository dictRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    User user;
+    Dict dict;
+    String keyword;
+
+    @BeforeEach
+    void setup() {
+        user = userRepository.save(User.builder()
+                .username(UUID.randomUUID().toString().substring(0, 10))
+                .nickname(UUID.randomUUID().toString().substring(0, 10))
+                .password("a1234567")
+                .build());
+
+        keyword = UUID.randomUUID().toString().substring(0, 8);
+        dict = dictRepository.save(Dict.builder()
+                .firstAuthor(user)
+                .recentModifier(user)
+                .dictName("오놀아놈" + keyword)
+                .summary("요약")
+                .content("내용" + keyword)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dictRepository.existsById(dict.getDictId())) {
+            dictRepository.deleteById(dict.getDictId());
+        }
+        userRepository.deleteById(user.getId());
+    }
+
+    @Nested
+    @DisplayName("사전 검색")
+    class Search {
+        @Test
+        @DisplayName("이름 일부로 검색")
+        void search_success() {
+            // given
+
+            // when
+            DictSearchIndexResultDto result = dictSearchIndex.search("놀아놈" + keyword, 0, 10);
+
+            // then
+            assertEquals(1, result.getTotalCount());
+            assertEquals(dict.getDictId(), result.getDictIdList().get(0));
+        }
+
+        @Test
+        @DisplayName("대소문자 구분하지 않음")
+        void search_ignore_case() {
+            // given
+
+            // when
+            long count = dictSearchIndex.count(keyword.toUpperCase());
+
+            // then
+            assertEquals(1, count);
+        }
+
+        @Test
+        @DisplayName("수정된 내용으로 검색")
+        void search_modified() {
+            // given
+            String newContent = "수정" + UUID.randomUUID();
+            dict.setContent(newContent);
+
+            // when
+            dictRepository.save(dict);
+
+            // then
+            assertEquals(1, dictSearchIndex.count(newContent));
+            assertEquals(0, dictSearchIndex.count("내용" + keyword));
+        }
+
+        @Test
+        @DisplayName("삭제된 사전은 검색되지 않음")
+        void search_deleted() {
+            // given
+
+            // when
+            dictRepository.deleteById(dict.getDictId());
+
+            // then
+            assertEquals(0, dictSearchIndex.count(keyword));
+        }
+
+        @Test
+        @DisplayName("커밋 전이거나 롤백된 사전은 색인하지 않음")
+        void search_rollback() {
+            // given
+            String rollbackName = "롤백" + UUID.randomUUID();
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+            // when
+            long countBeforeCommit = transactionTemplate.execute(status -> {
+                dictRepository.saveAndFlush(Dict.builder()
+                        .firstAuthor(user)
+                        .recentModifier(user)
+                        .dictName(rollbackName)
+                        .summary("요약")
+                        .content("내용")
+                        .build());
+                status.setRollbackOnly();
+                return dictSearchIndex.count(rollbackName);
+            });
+
+            // then
+            assertEquals(0, countBeforeCommit);
+            assertEquals(0, dictSearchIndex.count(rollbackName));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.teamproj.backend.service.dict;
 
 import com.teamproj.backend.Repository.UserRepository;
 import com.teamproj.backend.Repository.dict.DictRepository;
+import com.teamproj.backend.dto.cursor.CursorPageResponseDto;
 import com.teamproj.backend.dto.dict.*;
 import com.teamproj.backend.dto.dict.mymeme.DictMyMemeResponseDto;
 import com.teamproj.backend.dto.dict.search.DictSearchResponseDto;
@@ -90,6 +91,63 @@ public class DictServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("사전 목록 조회(커서)")
+    class getDictByCursor {
+        @Test
+        @DisplayName("성공 - 다음 페이지와 겹치지 않음")
+        void getDictByCursor_success() {
+            // given
+            dictRepository.save(Dict.builder()
+                    .firstAuthor(user)
+                    .recentModifier(user)
+                    .dictName(UUID.randomUUID().toString())
+                    .summary("요약")
+                    .content("내용")
+                    .build());
+
+            // when
+            CursorPageResponseDto<DictResponseDto> firstPage = dictService.getDictListByCursor(null, 1, token);
+            CursorPageResponseDto<DictResponseDto> secondPage = dictService.getDictListByCursor(firstPage.getNextCursor(), 1, token);
+
+            // then
+            assertNotNull(firstPage.getNextCursor());
+            assertEquals(1, firstPage.getContent().size());
+            assertEquals(1, secondPage.getContent().size());
+            assertNotEquals(firstPage.getContent().get(0).getDictId(), secondPage.getContent().get(0).getDictId());
+        }
+
+        @Test
+        @DisplayName("실패 - 유효하지 않은 커서")
+        void getDictByCursor_fail_invalid_cursor() {
+            // given
+            String cursor = "invalid cursor";
+
+            // when
+            Exception exception = assertThrows(IllegalArgumentException.class,
+                    () -> dictService.getDictListByCursor(cursor, 1, token)
+            );
+
+            // then
+            assertEquals(INVALID_CURSOR, exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("실패 - 페이지 크기가 범위를 벗어남")
+        void getDictByCursor_fail_illegal_size() {
+            // given
+            int size = 0;
+
+            // when
+            Exception exception = assertThrows(IllegalArgumentException.class,
+                    () -> dictService.getDictListByCursor(null, size, token)
+            );
+
+            // then
+            assertEquals(ILLEGAL_PAGE_SIZE, exception.getMessage());
+        }
+    }
+
     @Nested
     @DisplayName("사전 생성")
     class postDict {
@@ -265,6 +323,20 @@ public class DictServiceTest {
                 // then
                 assertFalse(dictLikeResponseDto.isResult());
             }
+
+            @Test
+            @DisplayName("좋아요 여부 반영")
+            void dictLike_is_like_success() {
+                // given
+
+                // when
+                dictService.likeDict(userDetails, dictId);
+
+                // then
+                DictResponseDto result = dictService.getDictList(0, 1, token).get(0);
+                assertEquals(dictId, result.getDictId());
+                assertTrue(result.isLike());
+            }
         }
 
         @Nested
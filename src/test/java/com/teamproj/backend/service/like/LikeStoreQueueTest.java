@@ -0,0 +1,234 @@
+package com.teamproj.backend.service.like;
+
+import com.teamproj.backend.exception.ServiceUnavailableException;
+import com.teamproj.backend.model.like.LikeTypeEnum;
+import com.teamproj.backend.util.RedisCircuitBreaker;
+import com.teamproj.backend.util.RedisStandIn;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.teamproj.backend.exception.ExceptionMessages.LIKE_UNAVAILABLE;
+import static com.teamproj.backend.util.RedisKey.LIKE_FLUSH_LOCK_KEY;
+import static com.teamproj.backend.util.RedisKey.LIKE_QUEUE_KEY;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/*
+    좋아요 변경 내역 반영(처리 중 목록, 락 연장)과 Redis 장애 처리
+    DB 는 LikePersistService 목(mock)으로 대신함.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class LikeStoreQueueTest {
+    static final String PROCESSING_KEY = LIKE_QUEUE_KEY + ":PROCESSING";
+    static final String DEAD_KEY = LIKE_QUEUE_KEY + ":DEAD";
+
+    @Mock
+    LikePersistService likePersistService;
+
+    RedisStandIn redisStandIn;
+    StringRedisTemplate stringRedisTemplate;
+    RedisCircuitBreaker redisCircuitBreaker;
+    LikeStoreService likeStoreService;
+
+    @BeforeEach
+    void setup() {
+        redisStandIn = new RedisStandIn();
+        stringRedisTemplate = new StringRedisTemplate(redisStandIn.getConnectionFactory());
+        redisCircuitBreaker = new RedisCircuitBreaker(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(redisCircuitBreaker, "failureThreshold", 3);
+        ReflectionTestUtils.setField(redisCircuitBreaker, "openMs", 60000L);
+        likeStoreService = new LikeStoreService(stringRedisTemplate, likePersistService, redisCircuitBreaker);
+        ReflectionTestUtils.setField(likeStoreService, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(likeStoreService, "flushBatchSize", 500);
+        ReflectionTestUtils.setField(likeStoreService, "flushLockSeconds", 30L);
+        ReflectionTestUtils.setField(likeStoreService, "maxAttempts", 2);
+
+        when(likePersistService.getLikedIdList(any(), anyLong())).thenReturn(Collections.emptyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisStandIn.close();
+    }
+
+    @Nested
+    @DisplayName("DB 반영")
+    class Flush {
+        @Test
+        @DisplayName("반영에 성공하면 처리 중 목록을 지움")
+        void flush_success() {
+            // given
+            likeStoreService.toggle(LikeTypeEnum.DICT, 1L, 10L);
+            likeStoreService.toggle(LikeTypeEnum.DICT, 1L, 11L);
+
+            // when
+            int count = likeStoreService.flush();
+
+            // then
+            assertEquals(2, count);
+            assertEquals(0, stringRedisTemplate.opsForList().size(LIKE_QUEUE_KEY));
+            assertFalse(stringRedisTemplate.hasKey(PROCESSING_KEY));
+        }
+
+        @Test
+        @DisplayName("DB 반영에 실패한 묶음은 남겨 두고 다음 반영 때 먼저 다시 반영")
+        @SuppressWarnings("unchecked")
+        void flush_retry_after_failure() {
+            // given
+            likeStoreService.toggle(LikeTypeEnum.DICT, 1L, 10L);
+            doThrow(new DataAccessResourceFailureException("DB 장애")).when(likePersistService).persistAll(anyList());
+            likeStoreService.flush();
+            likeStoreService.toggle(LikeTypeEnum.DICT, 1L, 11L);
+            reset(likePersistService);
+
+            // when
+            likeStoreService.flush();
+            likeStoreService.flush();
+
+            // then
+            ArgumentCaptor<List<LikeEntry>> captor = ArgumentCaptor.forClass(List.class);
+            verify(likePersistService, times(2)).persistAll(captor.capture());
+            assertEquals(10L, captor.getAllValues().get(0).get(0).getTargetId());
+            assertEquals(11L, captor.getAllValues().get(1).get(0).getTargetId());
+            assertFalse(stringRedisTemplate.hasKey(PROCESSING_KEY));
+        }
+
+        @Test
+        @DisplayName("반영 중 락을 잃으면 다음 묶음을 가져오지 않음")
+        void flush_lock_lost() {
+            // given
+            ReflectionTestUtils.setField(likeStoreService, "flushBatchSize", 1);
+            likeStoreService.toggle(LikeTypeEnum.DICT, 1L, 10L);
+            likeStoreService.toggle(LikeTypeEnum.DICT, 1L, 11L);
+            doAnswer(invocation -> {
+                stringRedisTemplate.opsForValue().set(LIKE_FLUSH_LOCK_KEY, "other");
+                return null;
+            }).when(likePersistService).persistAll(anyList());
+
+            // when
+            int count = likeStoreService.flush();
+
+            // then
+            assertEquals(1, count);
+            assertEquals(1, stringRedisTemplate.opsForList().size(LIKE_QUEUE_KEY));
+            assertEquals("other", stringRedisTemplate.opsForValue().get(LIKE_FLUSH_LOCK_KEY));
+        }
+
+        @Test
+        @DisplayName("반영할 수 없는 내역만 처리 중 목록에 남기고 나머지는 반영")
+        void flush_poison_entry() {
+            // given
+            likeStoreService.toggle(LikeTypeEnum.DICT, 1L, 10L);
+            likeStoreService.toggle(LikeTypeEnum.DICT, 1L, 11L);
+            failPersist(10L);
+
+            // when
+            int count = likeStoreService.flush();
+
+            // then
+            assertEquals(1, count);
+            assertEquals(Collections.singletonList("DICT:1:10:1"),
+                    stringRedisTemplate.opsForList().range(PROCESSING_KEY, 0, -1));
+        }
+
+        @Test
+        @DisplayName("정해진 횟수만큼 실패한 내역은 실패 목록으로 옮기고 다음 내역을 반영")
+        void flush_dead_letter() {
+            // given
+            likeStoreService.toggle(LikeTypeEnum.DICT, 1L, 10L);
+            failPersist(10L);
+            likeStoreService.flush();
+            likeStoreService.toggle(LikeTypeEnum.DICT, 1L, 11L);
+
+            // when
+            likeStoreService.flush();
+            likeStoreService.flush();
+
+            // then
+            assertEquals(Collections.singletonList("DICT:1:10:1"),
+                    stringRedisTemplate.opsForList().range(DEAD_KEY, 0, -1));
+            assertFalse(stringRedisTemplate.hasKey(PROCESSING_KEY));
+            assertEquals(0, stringRedisTemplate.opsForList().size(LIKE_QUEUE_KEY));
+            verify(likePersistService).persistAll(argThat(list -> list.size() == 1 && list.get(0).getTargetId() == 11L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis 장애")
+    class Failure {
+        @Test
+        @DisplayName("Redis 에 연결할 수 없으면 좋아요를 거절하고 DB 는 바꾸지 않음")
+        void toggle_rejected_when_redis_down() {
+            // given
+            redisStandIn.stop();
+
+            // when
+            ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                    () -> likeStoreService.toggle(LikeTypeEnum.DICT, 1L, 10L));
+
+            // then
+            assertEquals(LIKE_UNAVAILABLE, exception.getMessage());
+            verify(likePersistService, never()).persistAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Redis 에 연결할 수 없으면 좋아요 여부는 DB 에서 조회")
+        void read_from_db_when_redis_down() {
+            // given
+            redisStandIn.stop();
+            when(likePersistService.getLikedIdSet(LikeTypeEnum.DICT, 1L, Collections.singletonList(10L)))
+                    .thenReturn(Collections.singleton(10L));
+
+            // when
+            boolean liked = likeStoreService.isLiked(LikeTypeEnum.DICT, 1L, 10L);
+
+            // then
+            assertTrue(liked);
+        }
+
+        @Test
+        @DisplayName("회로 차단 중에는 Redis 에 보내지 않고 바로 거절")
+        void circuit_open() {
+            // given
+            ReflectionTestUtils.setField(redisCircuitBreaker, "failureThreshold", 1);
+            redisStandIn.stop();
+            assertThrows(ServiceUnavailableException.class, () -> likeStoreService.toggle(LikeTypeEnum.DICT, 1L, 10L));
+            redisStandIn.start();
+
+            // when
+            assertThrows(ServiceUnavailableException.class, () -> likeStoreService.toggle(LikeTypeEnum.DICT, 1L, 11L));
+
+            // then
+            assertEquals(RedisCircuitBreaker.State.OPEN, redisCircuitBreaker.getState());
+            assertEquals(0, stringRedisTemplate.opsForList().size(LIKE_QUEUE_KEY));
+        }
+    }
+
+    // region 보조 기능
+    // 묶음 반영은 항상 실패하고, 하나씩 반영할 때는 targetId 내역만 실패
+    private void failPersist(Long targetId) {
+        doAnswer(invocation -> {
+            List<LikeEntry> likeEntryList = invocation.getArgument(0);
+            if (likeEntryList.size() > 1 || likeEntryList.get(0).getTargetId().equals(targetId)) {
+                throw new IllegalArgumentException("반영 불가");
+            }
+            return null;
+        }).when(likePersistService).persistAll(anyList());
+    }
+    // endregion
+}
@@ -0,0 +1,164 @@
+package com.teamproj.backend.service.like;
+
+import com.teamproj.backend.Repository.UserRepository;
+import com.teamproj.backend.Repository.dict.DictLikeRepository;
+import com.teamproj.backend.Repository.dict.DictRepository;
+import com.teamproj.backend.model.User;
+import com.teamproj.backend.model.dict.Dict;
+import com.teamproj.backend.model.like.LikeTypeEnum;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(value = MethodOrderer.OrderAnnotation.class)
+@Transactional
+@Rollback
+public class LikeStoreServiceTest {
+    @Autowired
+    private LikeStoreService likeStoreService;
+    @Autowired
+    private LikePersistService likePersistService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DictRepository dictRepository;
+    @Autowired
+    private DictLikeRepository dictLikeRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    User user;
+    Dict dict;
+    Dict otherDict;
+
+    @BeforeEach
+    void setup() {
+        user = userRepository.save(User.builder()
+                .username(UUID.randomUUID().toString().substring(0, 10))
+                .nickname(UUID.randomUUID().toString().substring(0, 10))
+                .password("a1234567")
+                .build());
+
+        dict = saveDict();
+        otherDict = saveDict();
+    }
+
+    @Nested
+    @DisplayName("좋아요 / 좋아요 취소")
+    class Toggle {
+        @Test
+        @DisplayName("좋아요 후 취소")
+        void toggle_success() {
+            // given
+
+            // when
+            boolean like = likeStoreService.toggle(LikeTypeEnum.DICT, user.getId(), dict.getDictId());
+            boolean cancel = likeStoreService.toggle(LikeTypeEnum.DICT, user.getId(), dict.getDictId());
+
+            // then
+            assertTrue(like);
+            assertFalse(cancel);
+        }
+
+        @Test
+        @DisplayName("좋아요 한 대상만 조회")
+        void getLikedIdSet_success() {
+            // given
+            likeStoreService.toggle(LikeTypeEnum.DICT, user.getId(), dict.getDictId());
+
+            // when
+            Set<Long> result = likeStoreService.getLikedIdSet(LikeTypeEnum.DICT, user.getId(),
+                    Arrays.asList(dict.getDictId(), otherDict.getDictId()));
+
+            // then
+            assertEquals(Collections.singleton(dict.getDictId()), result);
+            assertTrue(likeStoreService.getLikedIdSet(LikeTypeEnum.DICT, user.getId()).contains(dict.getDictId()));
+        }
+
+        @Test
+        @DisplayName("비회원은 좋아요 한 대상 없음")
+        void getLikedIdSet_non_login_user() {
+            // given
+
+            // when
+            Set<Long> result = likeStoreService.getLikedIdSet(LikeTypeEnum.DICT, null,
+                    Collections.singletonList(dict.getDictId()));
+
+            // then
+            assertTrue(result.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("DB 반영")
+    class Persist {
+        @Test
+        @DisplayName("마지막 변경 내역만 반영")
+        void persistAll_success() {
+            // given
+            LikeEntry like = new LikeEntry(LikeTypeEnum.DICT, user.getId(), dict.getDictId(), true);
+            LikeEntry cancel = new LikeEntry(LikeTypeEnum.DICT, user.getId(), dict.getDictId(), false);
+
+            // when
+            likePersistService.persistAll(Arrays.asList(like, cancel, like));
+            entityManager.clear();
+
+            // then
+            assertTrue(dictLikeRepository.existsByUserAndDict(user, dict));
+            assertEquals(1, dictRepository.findById(dict.getDictId()).get().getLikeCount());
+        }
+
+        @Test
+        @DisplayName("같은 내역을 여러 번 반영해도 결과가 같음")
+        void persistAll_idempotent() {
+            // given
+            LikeEntry like = new LikeEntry(LikeTypeEnum.DICT, user.getId(), dict.getDictId(), true);
+
+            // when
+            likePersistService.persistAll(Collections.singletonList(like));
+            likePersistService.persistAll(Collections.singletonList(like));
+            entityManager.clear();
+
+            // then
+            assertEquals(1, dictRepository.findById(dict.getDictId()).get().getLikeCount());
+        }
+
+        @Test
+        @DisplayName("내역 문자열 변환")
+        void parse_success() {
+            // given
+            String value = "BOARD:3:15:0";
+
+            // when
+            LikeEntry result = LikeEntry.parse(value);
+
+            // then
+            assertEquals(LikeTypeEnum.BOARD, result.getLikeTypeEnum());
+            assertEquals(3L, result.getUserId());
+            assertEquals(15L, result.getTargetId());
+            assertFalse(result.isLiked());
+        }
+    }
+
+    private Dict saveDict() {
+        return dictRepository.save(Dict.builder()
+                .firstAuthor(user)
+                .recentModifier(user)
+                .dictName(UUID.randomUUID().toString())
+                .summary("요약")
+                .content("내용")
+                .build());
+    }
+}
@@ -2,8 +2,10 @@ package com.teamproj.backend.service.stat;
 
 import com.teamproj.backend.Repository.stat.StatNumericDataRepository;
 import com.teamproj.backend.Repository.stat.StatQuizSolverRepository;
+import com.teamproj.backend.Repository.stat.StatVisitorRepository;
 import com.teamproj.backend.dto.statistics.StatDictResponseDto;
 import com.teamproj.backend.model.statistics.StatNumericData;
+import com.teamproj.backend.model.statistics.StatVisitor;
 import com.teamproj.backend.service.StatService;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +13,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -26,6 +30,10 @@ public class StatServiceTest {
     private StatQuizSolverRepository statQuizSolverRepository;
     @Autowired
     private StatNumericDataRepository statNumericDataRepository;
+    @Autowired
+    private StatVisitorRepository statVisitorRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     @Nested
     @DisplayName("사전 통계 호출")
@@ -114,17 +122,23 @@ public class StatServiceTest {
         @DisplayName("성공")
         void success() {
             // given
+            for (int i = 0; i < 10; i++) {
+                statVisitorRepository.save(StatVisitor.builder().visitorIp("127.0.0." + i).build());
+            }
+            long todayVisitorCnt = statVisitorRepository.count();
             StatNumericData statNumericData = statNumericDataRepository.findByName("VISITOR");
             Long visitorCnt = statNumericData.getData();
 
             // when
-            statService.statVisitorToNumericData(10L, "VISITOR");
+            statService.statVisitorToNumericData("VISITOR");
+            entityManager.clear();
 
             // then
             StatNumericData resultData = statNumericDataRepository.findByName("VISITOR");
             Long result = resultData.getData();
 
-            assertEquals(visitorCnt + 10, result);
+            assertEquals(visitorCnt + todayVisitorCnt, result);
+            assertEquals(0, statVisitorRepository.count());
         }
     }
 }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teamproj.backend.dto.LoginRequestDto;
 import com.teamproj.backend.dto.ResponseDto;
 import com.teamproj.backend.dto.user.login.LoginResponseDto;
+import com.teamproj.backend.dto.user.profile.UserProfileDto;
 import com.teamproj.backend.dto.user.signUp.SignUpCheckResponseDto;
 import com.teamproj.backend.dto.user.signUp.SignUpRequestDto;
 import com.teamproj.backend.dto.user.signUp.SignUpResponseDto;
@@ -13,6 +14,7 @@ import com.teamproj.backend.dto.user.userInfo.UserNicknameModifyRequestDto;
 import com.teamproj.backend.dto.user.userInfo.UserNicknameModifyResponseDto;
 import com.teamproj.backend.model.User;
 import com.teamproj.backend.security.UserDetailsImpl;
+import com.teamproj.backend.service.UserProfileService;
 import com.teamproj.backend.service.UserService;
 import com.teamproj.backend.util.JwtAuthenticateProcessor;
 import org.junit.jupiter.api.*;
@@ -46,6 +48,9 @@ public class UserServiceTest {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserProfileService userProfileService;
+
     String username;
     String nickname;
     String password;
@@ -424,6 +429,23 @@ public class UserServiceTest {
             // then
             assertEquals("변경 완료", result.getResult());
         }
+
+        @Test
+        @DisplayName("작성자 정보 캐시에 반영")
+        void success_user_profile_evicted() {
+            // given
+            userProfileService.getUserProfile(user.getId());
+            UserNicknameModifyRequestDto dto = UserNicknameModifyRequestDto.builder()
+                    .nickname("toast325")
+                    .build();
+
+            // when
+            userService.nicknameModify(userDetails, dto);
+            UserProfileDto result = userProfileService.getUserProfile(user.getId());
+
+            // then
+            assertEquals("toast325", result.getNickname());
+        }
     }
 
     @Nested
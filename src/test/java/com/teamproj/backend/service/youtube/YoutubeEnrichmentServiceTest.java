@@ -0,0 +1,360 @@
+package com.teamproj.backend.service.youtube;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.teamproj.backend.Repository.dict.DictRepository;
+import com.teamproj.backend.Repository.dict.DictYoutubeUrlRepository;
+import com.teamproj.backend.config.RedisCodecRegistry;
+import com.teamproj.backend.dto.youtube.DictRelatedYoutubeDto;
+import com.teamproj.backend.model.dict.Dict;
+import com.teamproj.backend.model.dict.DictYoutubeUrl;
+import com.teamproj.backend.service.RedisService;
+import com.teamproj.backend.service.YoutubeService;
+import com.teamproj.backend.util.CacheAsideTemplate;
+import com.teamproj.backend.util.RedisCircuitBreaker;
+import com.teamproj.backend.util.RedisFallbackCache;
+import com.teamproj.backend.util.RedisStandIn;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class YoutubeEnrichmentServiceTest {
+    @Mock
+    DictRepository dictRepository;
+    @Mock
+    DictYoutubeUrlRepository dictYoutubeUrlRepository;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    YoutubeStub youtubeStub;
+    RedisStandIn redisStandIn;
+    SimpleMeterRegistry meterRegistry;
+    YoutubeQuota youtubeQuota;
+    CacheAsideTemplate cacheAsideTemplate;
+    YoutubeEnrichmentService youtubeEnrichmentService;
+
+    @BeforeEach
+    void setup() {
+        youtubeStub = new YoutubeStub();
+        redisStandIn = new RedisStandIn();
+        meterRegistry = new SimpleMeterRegistry();
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(redisStandIn.getConnectionFactory());
+        youtubeQuota = new YoutubeQuota(stringRedisTemplate, new RedisCircuitBreaker(meterRegistry));
+        ReflectionTestUtils.setField(youtubeQuota, "dailyUnits", 10000L);
+        ReflectionTestUtils.setField(youtubeQuota, "refreshDailyUnits", 2000L);
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setConnectionFactory(redisStandIn.getConnectionFactory());
+        redisTemplate.afterPropertiesSet();
+        RedisCodecRegistry registry = new RedisCodecRegistry(new ObjectMapper(), new ObjectMapper(new SmileFactory()),
+                RedisCodecRegistry.Format.JSON, DictRelatedYoutubeDto.class);
+        RedisFallbackCache redisFallbackCache = new RedisFallbackCache(meterRegistry);
+        ReflectionTestUtils.setField(redisFallbackCache, "maxSize", 10);
+        ReflectionTestUtils.setField(redisFallbackCache, "intervalMs", 60000L);
+        ReflectionTestUtils.setField(redisFallbackCache, "waitMs", 3000L);
+        cacheAsideTemplate = new CacheAsideTemplate(new RedisService(redisTemplate, stringRedisTemplate, null),
+                registry, redisFallbackCache, meterRegistry);
+        ReflectionTestUtils.setField(cacheAsideTemplate, "waitMs", 3000L);
+
+        YoutubeService youtubeService = new YoutubeService(dictYoutubeUrlRepository, youtubeQuota, cacheAsideTemplate);
+        ReflectionTestUtils.setField(youtubeService, "apiKey", "test");
+        ReflectionTestUtils.setField(youtubeService, "rootUrl", youtubeStub.getRootUrl());
+        ReflectionTestUtils.setField(youtubeService, "connectTimeoutMs", 1000);
+        ReflectionTestUtils.setField(youtubeService, "readTimeoutMs", 1000);
+        youtubeService.init();
+
+        youtubeEnrichmentService = new YoutubeEnrichmentService(youtubeService, youtubeQuota,
+                dictRepository, dictYoutubeUrlRepository, meterRegistry, transactionManager);
+        ReflectionTestUtils.setField(youtubeEnrichmentService, "threads", 2);
+        ReflectionTestUtils.setField(youtubeEnrichmentService, "queueSize", 10);
+        ReflectionTestUtils.setField(youtubeEnrichmentService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(youtubeEnrichmentService, "backoffMs", 10L);
+        ReflectionTestUtils.setField(youtubeEnrichmentService, "maxBackoffMs", 100L);
+        ReflectionTestUtils.setField(youtubeEnrichmentService, "recoverDelayMinutes", 10L);
+        ReflectionTestUtils.setField(youtubeEnrichmentService, "popularSize", 100);
+        ReflectionTestUtils.setField(youtubeEnrichmentService, "refreshAfterDays", 30L);
+        ReflectionTestUtils.setField(youtubeEnrichmentService, "refreshBatchSize", 20);
+        youtubeEnrichmentService.init();
+
+        when(dictRepository.existsById(anyLong())).thenReturn(true);
+        when(dictRepository.getById(anyLong())).thenAnswer(invocation ->
+                Dict.builder().dictId(invocation.getArgument(0)).build());
+        when(dictYoutubeUrlRepository.existsByDict_DictId(anyLong())).thenReturn(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        youtubeEnrichmentService.shutdown();
+        cacheAsideTemplate.shutdown();
+        youtubeStub.close();
+        redisStandIn.close();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("관련 영상 찾기")
+    class Enqueue {
+        @Test
+        @DisplayName("찾은 영상을 저장하고 찾은 시각을 기록")
+        @SuppressWarnings("unchecked")
+        void enqueue_success() {
+            // when
+            youtubeEnrichmentService.enqueue(1L, "오놀아놈");
+
+            // then
+            ArgumentCaptor<List<DictYoutubeUrl>> captor = ArgumentCaptor.forClass(List.class);
+            verify(dictYoutubeUrlRepository, timeout(5000)).saveAll(captor.capture());
+            verify(dictRepository, timeout(5000)).setYoutubeEnrichedAt(eq(1L), any(LocalDateTime.class));
+            assertEquals(3, captor.getValue().size());
+            assertEquals(1L, captor.getValue().get(0).getDict().getDictId());
+            assertEquals("오놀아놈", youtubeStub.getLastQuery());
+            assertEquals(9900, youtubeQuota.getRemaining());
+        }
+
+        @Test
+        @DisplayName("같은 이름의 사전은 캐시된 검색 결과를 사용")
+        void enqueue_cached() throws Exception {
+            // when
+            youtubeEnrichmentService.enqueue(1L, "오놀아놈");
+            verify(dictRepository, timeout(5000)).setYoutubeEnrichedAt(eq(1L), any(LocalDateTime.class));
+            youtubeEnrichmentService.enqueue(2L, "오놀아놈");
+
+            // then
+            verify(dictRepository, timeout(5000)).setYoutubeEnrichedAt(eq(2L), any(LocalDateTime.class));
+            assertEquals(1, youtubeStub.getRequestCount());
+            assertEquals(9900, youtubeQuota.getRemaining());
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서 예약하면 커밋된 뒤에 찾음")
+        void enqueue_after_commit() throws Exception {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            youtubeEnrichmentService.enqueue(1L, "오놀아놈");
+            Thread.sleep(200);
+            int requestCountBeforeCommit = youtubeStub.getRequestCount();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+
+            // then
+            assertEquals(0, requestCountBeforeCommit);
+            verify(dictRepository, timeout(5000)).setYoutubeEnrichedAt(eq(1L), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("이미 영상이 있는 사전은 API 를 호출하지 않음")
+        void enqueue_already_enriched() {
+            // given
+            when(dictYoutubeUrlRepository.existsByDict_DictId(1L)).thenReturn(true);
+
+            // when
+            youtubeEnrichmentService.enqueue(1L, "오놀아놈");
+
+            // then
+            verify(dictRepository, timeout(5000)).setYoutubeEnrichedAt(eq(1L), any(LocalDateTime.class));
+            assertEquals(0, youtubeStub.getRequestCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("실패")
+    class Failure {
+        @Test
+        @DisplayName("5xx 는 기다렸다가 다시 시도")
+        void retry() {
+            // given
+            youtubeStub.fail(503, "backendError", 2);
+
+            // when
+            youtubeEnrichmentService.enqueue(1L, "오놀아놈");
+
+            // then
+            verify(dictRepository, timeout(5000)).setYoutubeEnrichedAt(eq(1L), any(LocalDateTime.class));
+            assertEquals(3, youtubeStub.getRequestCount());
+            assertEquals(2.0, meterRegistry.counter("memegle.youtube.enrich", "result", "retry").count());
+        }
+
+        @Test
+        @DisplayName("max-attempts 까지 실패하면 기록하지 않고 recover 에 맡김")
+        void retry_exhausted() throws Exception {
+            // given
+            youtubeStub.fail(503, "backendError", 3);
+
+            // when
+            youtubeEnrichmentService.enqueue(1L, "오놀아놈");
+
+            // then
+            assertEventually(() -> meterRegistry.counter("memegle.youtube.enrich", "result", "failed").count() == 1.0);
+            assertEquals(3, youtubeStub.getRequestCount());
+            verify(dictRepository, never()).setYoutubeEnrichedAt(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("다시 시도해도 실패하는 요청은 찾은 것으로 기록")
+        void bad_request() throws Exception {
+            // given
+            youtubeStub.fail(400, "invalidParameter", 1);
+
+            // when
+            youtubeEnrichmentService.enqueue(1L, "오놀아놈");
+
+            // then
+            verify(dictRepository, timeout(5000)).setYoutubeEnrichedAt(eq(1L), any(LocalDateTime.class));
+            assertEquals(1, youtubeStub.getRequestCount());
+        }
+
+        @Test
+        @DisplayName("API 키, 설정 오류는 찾은 것으로 기록하지 않음")
+        void configuration_error() throws Exception {
+            // given
+            youtubeStub.fail(403, "accessNotConfigured", 1);
+
+            // when
+            youtubeEnrichmentService.enqueue(1L, "오놀아놈");
+
+            // then
+            assertEventually(() -> meterRegistry.counter("memegle.youtube.enrich", "result", "config").count() == 1.0);
+            assertEquals(1, youtubeStub.getRequestCount());
+            verify(dictRepository, never()).setYoutubeEnrichedAt(anyLong(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("할당량")
+    class Quota {
+        @Test
+        @DisplayName("일일 예산을 넘으면 호출하지 않음")
+        void budget() throws Exception {
+            // given
+            ReflectionTestUtils.setField(youtubeQuota, "dailyUnits", 100L);
+
+            // when
+            youtubeEnrichmentService.enqueue(1L, "오놀아놈");
+            verify(dictRepository, timeout(5000)).setYoutubeEnrichedAt(eq(1L), any(LocalDateTime.class));
+            youtubeEnrichmentService.enqueue(2L, "절레절레");
+
+            // then
+            assertEventually(() -> meterRegistry.counter("memegle.youtube.enrich", "result", "quota").count() == 1.0);
+            assertEquals(1, youtubeStub.getRequestCount());
+            verify(dictRepository, never()).setYoutubeEnrichedAt(eq(2L), any());
+        }
+
+        @Test
+        @DisplayName("API 가 할당량 소진을 알려주면 오늘은 더 호출하지 않음")
+        void quota_exceeded() throws Exception {
+            // given
+            youtubeStub.fail(403, "quotaExceeded", 1);
+
+            // when
+            youtubeEnrichmentService.enqueue(1L, "오놀아놈");
+            assertEventually(() -> meterRegistry.counter("memegle.youtube.enrich", "result", "quota").count() == 1.0);
+            youtubeEnrichmentService.enqueue(2L, "절레절레");
+
+            // then
+            assertEventually(() -> meterRegistry.counter("memegle.youtube.enrich", "result", "quota").count() == 2.0);
+            assertEquals(1, youtubeStub.getRequestCount());
+            assertEquals(0, youtubeQuota.getRemaining());
+            assertEquals(0, youtubeEnrichmentService.recover());
+        }
+    }
+
+    @Nested
+    @DisplayName("인기 사전 갱신")
+    class RefreshPopular {
+        @Test
+        @DisplayName("찾은 지 오래된 사전만 다시 검색하고, 영상이 바뀌었으면 교체")
+        @SuppressWarnings("unchecked")
+        void refresh_changed() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            Dict staleDict = popularDict(1L, "오놀아놈", now.minusDays(40), now.minusDays(60));
+            Dict recentDict = popularDict(2L, "절레절레", now.minusDays(1), now.minusDays(60));
+            when(dictRepository.findAllByOrderByViewsDesc(any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(Arrays.asList(staleDict, recentDict)));
+            List<DictYoutubeUrl> savedList = Arrays.asList(DictYoutubeUrl.builder().dict(staleDict).youtubeUrl("old").build());
+            when(dictYoutubeUrlRepository.findAllByDict_DictId(1L)).thenReturn(savedList);
+
+            // when
+            int count = youtubeEnrichmentService.refreshPopular();
+
+            // then
+            assertEquals(1, count);
+            verify(dictRepository, timeout(5000)).setYoutubeEnrichedAt(eq(1L), any(LocalDateTime.class));
+            verify(dictYoutubeUrlRepository).deleteAllInBatch(savedList);
+            ArgumentCaptor<List<DictYoutubeUrl>> captor = ArgumentCaptor.forClass(List.class);
+            verify(dictYoutubeUrlRepository).saveAll(captor.capture());
+            assertEquals(3, captor.getValue().size());
+            assertEquals(1, youtubeStub.getRequestCount());
+            assertEquals(1900, youtubeQuota.getRefreshRemaining());
+            assertEquals(1.0, meterRegistry.counter("memegle.youtube.enrich", "result", "refreshed").count());
+        }
+
+        @Test
+        @DisplayName("남은 갱신 예산만큼만 예약")
+        void refresh_budget() {
+            // given
+            ReflectionTestUtils.setField(youtubeQuota, "refreshDailyUnits", 100L);
+            LocalDateTime now = LocalDateTime.now();
+            when(dictRepository.findAllByOrderByViewsDesc(any(Pageable.class))).thenReturn(new PageImpl<>(Arrays.asList(
+                    popularDict(1L, "오놀아놈", null, now.minusDays(60)),
+                    popularDict(2L, "절레절레", null, now.minusDays(60)))));
+
+            // when
+            int count = youtubeEnrichmentService.refreshPopular();
+
+            // then
+            assertEquals(1, count);
+            verify(dictRepository, timeout(5000)).setYoutubeEnrichedAt(eq(1L), any(LocalDateTime.class));
+            assertEquals(0, youtubeQuota.getRefreshRemaining());
+            assertEquals(0, youtubeEnrichmentService.refreshPopular());
+        }
+    }
+
+    // region 보조 기능
+    private static Dict popularDict(Long dictId, String dictName, LocalDateTime youtubeEnrichedAt, LocalDateTime createdAt) {
+        Dict dict = Dict.builder().dictId(dictId).dictName(dictName).youtubeEnrichedAt(youtubeEnrichedAt).build();
+        ReflectionTestUtils.setField(dict, "createdAt", createdAt);
+        return dict;
+    }
+
+    private static void assertEventually(java.util.concurrent.Callable<Boolean> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.call()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("5초 안에 조건을 만족하지 않음");
+            }
+            Thread.sleep(50);
+        }
+    }
+    // endregion
+}
@@ -0,0 +1,244 @@
+package com.teamproj.backend.service.youtube;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.teamproj.backend.config.RedisCodecRegistry;
+import com.teamproj.backend.dto.youtube.DictRelatedYoutubeDto;
+import com.teamproj.backend.model.dict.Dict;
+import com.teamproj.backend.model.dict.DictYoutubeUrl;
+import com.teamproj.backend.service.RedisService;
+import com.teamproj.backend.service.YoutubeService;
+import com.teamproj.backend.util.CacheAsideTemplate;
+import com.teamproj.backend.util.RedisCircuitBreaker;
+import com.teamproj.backend.util.RedisFallbackCache;
+import com.teamproj.backend.util.RedisStandIn;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class YoutubeSearchCacheTest {
+    YoutubeStub youtubeStub;
+    RedisStandIn redisStandIn;
+    YoutubeQuota youtubeQuota;
+    CacheAsideTemplate cacheAsideTemplate;
+    YoutubeService youtubeService;
+
+    @BeforeEach
+    void setup() {
+        youtubeStub = new YoutubeStub();
+        redisStandIn = new RedisStandIn();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(redisStandIn.getConnectionFactory());
+        youtubeQuota = new YoutubeQuota(stringRedisTemplate, new RedisCircuitBreaker(meterRegistry));
+        ReflectionTestUtils.setField(youtubeQuota, "dailyUnits", 10000L);
+        ReflectionTestUtils.setField(youtubeQuota, "refreshDailyUnits", 200L);
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setConnectionFactory(redisStandIn.getConnectionFactory());
+        redisTemplate.afterPropertiesSet();
+        RedisCodecRegistry registry = new RedisCodecRegistry(new ObjectMapper(), new ObjectMapper(new SmileFactory()),
+                RedisCodecRegistry.Format.JSON, DictRelatedYoutubeDto.class);
+        RedisFallbackCache redisFallbackCache = new RedisFallbackCache(meterRegistry);
+        ReflectionTestUtils.setField(redisFallbackCache, "maxSize", 10);
+        ReflectionTestUtils.setField(redisFallbackCache, "intervalMs", 60000L);
+        ReflectionTestUtils.setField(redisFallbackCache, "waitMs", 3000L);
+        cacheAsideTemplate = new CacheAsideTemplate(new RedisService(redisTemplate, stringRedisTemplate, null),
+                registry, redisFallbackCache, meterRegistry);
+        ReflectionTestUtils.setField(cacheAsideTemplate, "waitMs", 3000L);
+
+        youtubeService = new YoutubeService(null, youtubeQuota, cacheAsideTemplate);
+        ReflectionTestUtils.setField(youtubeService, "apiKey", "test");
+        ReflectionTestUtils.setField(youtubeService, "rootUrl", youtubeStub.getRootUrl());
+        ReflectionTestUtils.setField(youtubeService, "connectTimeoutMs", 1000);
+        ReflectionTestUtils.setField(youtubeService, "readTimeoutMs", 1000);
+        youtubeService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheAsideTemplate.shutdown();
+        youtubeStub.close();
+        redisStandIn.close();
+    }
+
+    @Nested
+    @DisplayName("검색 결과 캐시")
+    class Cache {
+        @Test
+        @DisplayName("같은 검색어는 띄어쓰기, 대소문자가 달라도 한 번만 호출하고 사전마다 새 엔티티를 만듦")
+        void cache_hit() {
+            // given
+            Dict dict1 = Dict.builder().dictId(1L).build();
+            Dict dict2 = Dict.builder().dictId(2L).build();
+
+            // when
+            List<DictYoutubeUrl> result1 = youtubeService.getYoutubeSearchResult(dict1, "Hello World");
+            List<DictYoutubeUrl> result2 = youtubeService.getYoutubeSearchResult(dict2, " hello  world ");
+
+            // then
+            assertEquals(1, youtubeStub.getRequestCount());
+            assertEquals(9900, youtubeQuota.getRemaining());
+            assertEquals(3, result2.size());
+            assertEquals(result1.get(0).getYoutubeUrl(), result2.get(0).getYoutubeUrl());
+            assertEquals(1L, result1.get(0).getDict().getDictId());
+            assertEquals(2L, result2.get(0).getDict().getDictId());
+        }
+
+        @Test
+        @DisplayName("동시에 같은 검색어를 찾으면 한 요청만 호출")
+        void cache_coalesce() throws Exception {
+            // given
+            youtubeStub.setDelayMs(300);
+            int threads = 4;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch startLatch = new CountDownLatch(1);
+            List<Future<List<DictYoutubeUrl>>> futureList = new ArrayList<>();
+
+            // when
+            for (int i = 0; i < threads; i++) {
+                Dict dict = Dict.builder().dictId((long) i).build();
+                futureList.add(executor.submit(() -> {
+                    startLatch.await();
+                    return youtubeService.getYoutubeSearchResult(dict, "오놀아놈");
+                }));
+            }
+            startLatch.countDown();
+
+            // then
+            for (Future<List<DictYoutubeUrl>> future : futureList) {
+                assertEquals(3, future.get(5, TimeUnit.SECONDS).size());
+            }
+            executor.shutdownNow();
+            assertEquals(1, youtubeStub.getRequestCount());
+            assertEquals(9900, youtubeQuota.getRemaining());
+        }
+
+        @Test
+        @DisplayName("API 응답이 캐시 기본 대기 시간보다 늦어도 기다리던 요청은 같이 호출하지 않음")
+        void cache_coalesce_slow_api() throws Exception {
+            // given
+            ReflectionTestUtils.setField(cacheAsideTemplate, "waitMs", 100L);
+            youtubeStub.setDelayMs(500);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            Dict dict = Dict.builder().dictId(1L).build();
+
+            // when
+            Future<List<DictYoutubeUrl>> first = executor.submit(() -> youtubeService.getYoutubeSearchResult(dict, "오놀아놈"));
+            Thread.sleep(100);
+            List<DictYoutubeUrl> second = youtubeService.getYoutubeSearchResult(dict, "오놀아놈");
+
+            // then
+            assertEquals(3, first.get(5, TimeUnit.SECONDS).size());
+            assertEquals(3, second.size());
+            executor.shutdownNow();
+            assertEquals(1, youtubeStub.getRequestCount());
+        }
+
+        @Test
+        @DisplayName("결과가 없는 검색어도 기억해서 다시 호출하지 않음")
+        void cache_empty() {
+            // given
+            youtubeStub.setVideoCount(0);
+            Dict dict = Dict.builder().dictId(1L).build();
+
+            // when
+            youtubeService.getYoutubeSearchResult(dict, "오놀아놈");
+            List<DictYoutubeUrl> result = youtubeService.getYoutubeSearchResult(dict, "오놀아놈");
+
+            // then
+            assertTrue(result.isEmpty());
+            assertEquals(1, youtubeStub.getRequestCount());
+        }
+
+        @Test
+        @DisplayName("실패한 검색은 기억하지 않음")
+        void cache_failure() {
+            // given
+            youtubeStub.fail(503, "backendError", 1);
+            Dict dict = Dict.builder().dictId(1L).build();
+
+            // when
+            YoutubeApiException exception = assertThrows(YoutubeApiException.class,
+                    () -> youtubeService.getYoutubeSearchResult(dict, "오놀아놈"));
+            List<DictYoutubeUrl> result = youtubeService.getYoutubeSearchResult(dict, "오놀아놈");
+
+            // then
+            assertTrue(exception.isRetryable());
+            assertEquals(3, result.size());
+            assertEquals(2, youtubeStub.getRequestCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("갱신")
+    class Refresh {
+        @Test
+        @DisplayName("캐시와 관계없이 다시 검색해서 교체하고 갱신 예산을 사용")
+        void refresh() {
+            // given
+            Dict dict = Dict.builder().dictId(1L).build();
+            youtubeService.getYoutubeSearchResult(dict, "오놀아놈");
+            youtubeStub.setVideoCount(1);
+
+            // when
+            List<DictYoutubeUrl> refreshed = youtubeService.refreshYoutubeSearchResult(dict, "오놀아놈");
+            List<DictYoutubeUrl> result = youtubeService.getYoutubeSearchResult(dict, "오놀아놈");
+
+            // then
+            assertEquals(1, refreshed.size());
+            assertEquals(1, result.size());
+            assertEquals(2, youtubeStub.getRequestCount());
+            assertEquals(9800, youtubeQuota.getRemaining());
+            assertEquals(100, youtubeQuota.getRefreshRemaining());
+        }
+
+        @Test
+        @DisplayName("다시 검색한 결과가 비어 있으면 기존 캐시를 남겨 둠")
+        void refresh_empty() {
+            // given
+            Dict dict = Dict.builder().dictId(1L).build();
+            youtubeService.getYoutubeSearchResult(dict, "오놀아놈");
+            youtubeStub.setVideoCount(0);
+
+            // when
+            List<DictYoutubeUrl> refreshed = youtubeService.refreshYoutubeSearchResult(dict, "오놀아놈");
+            List<DictYoutubeUrl> result = youtubeService.getYoutubeSearchResult(dict, "오놀아놈");
+
+            // then
+            assertTrue(refreshed.isEmpty());
+            assertEquals(3, result.size());
+            assertEquals(2, youtubeStub.getRequestCount());
+        }
+
+        @Test
+        @DisplayName("갱신 예산을 넘으면 호출하지 않고, 새 사전의 검색에는 남은 전체 예산을 사용")
+        void refresh_budget() {
+            // given
+            Dict dict = Dict.builder().dictId(1L).build();
+            youtubeService.refreshYoutubeSearchResult(dict, "오놀아놈");
+            youtubeService.refreshYoutubeSearchResult(dict, "절레절레");
+
+            // when
+            YoutubeApiException exception = assertThrows(YoutubeApiException.class,
+                    () -> youtubeService.refreshYoutubeSearchResult(dict, "오놀아놈"));
+            List<DictYoutubeUrl> result = youtubeService.getYoutubeSearchResult(dict, "킹받네");
+
+            // then
+            assertTrue(exception.isQuotaExceeded());
+            assertFalse(exception.isRetryable());
+            assertEquals(3, result.size());
+            assertEquals(3, youtubeStub.getRequestCount());
+            assertEquals(9700, youtubeQuota.getRemaining());
+        }
+    }
+}
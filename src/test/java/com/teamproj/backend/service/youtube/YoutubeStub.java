@@ -0,0 +1,172 @@
+package com.teamproj.backend.service.youtube;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    테스트용 YouTube Data API(search.list) 가짜 서버
+    빈 포트에 띄우고, YoutubeService 의 youtube.root-url 을 getRootUrl() 로 바꿔서 사용함.
+    1. 기본 응답 : 검색어가 제목에 포함된 영상 videoCount 개
+    2. fail 로 다음 응답들을 오류(상태 코드, 사유)로 지정할 수 있음
+    3. delayMs 만큼 늦게 응답함
+    실제 API 를 호출하지 않으므로 할당량을 사용하지 않음.
+ */
+public class YoutubeStub implements AutoCloseable {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpServer httpServer;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final Queue<Failure> failureQueue = new ConcurrentLinkedQueue<>();
+    private volatile int videoCount = 3;
+    private volatile long delayMs = 0;
+    private volatile String lastQuery;
+
+    public YoutubeStub() {
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        httpServer.createContext("/youtube/v3/search", this::handleSearch);
+        httpServer.start();
+    }
+
+    public String getRootUrl() {
+        return "http://localhost:" + httpServer.getAddress().getPort() + "/";
+    }
+
+    // 다음 times 번의 요청을 오류로 응답
+    public void fail(int statusCode, String reason, int times) {
+        for (int i = 0; i < times; i++) {
+            failureQueue.add(new Failure(statusCode, reason));
+        }
+    }
+
+    public void setVideoCount(int videoCount) {
+        this.videoCount = videoCount;
+    }
+
+    public void setDelayMs(long delayMs) {
+        this.delayMs = delayMs;
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public String getLastQuery() {
+        return lastQuery;
+    }
+
+    @Override
+    public void close() {
+        httpServer.stop(0);
+    }
+
+    // region 보조 기능
+    private void handleSearch(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        String query = getParameter(exchange.getRequestURI().getRawQuery(), "q");
+        lastQuery = query;
+        sleep(delayMs);
+
+        Failure failure = failureQueue.poll();
+        if (failure != null) {
+            respond(exchange, failure.statusCode, errorBody(failure.statusCode, failure.reason));
+            return;
+        }
+        respond(exchange, 200, searchBody(query));
+    }
+
+    private String searchBody(String query) {
+        ObjectNode body = OBJECT_MAPPER.createObjectNode();
+        ArrayNode items = body.putArray("items");
+        for (int i = 1; i <= videoCount; i++) {
+            ObjectNode item = items.addObject();
+            item.putObject("id")
+                    .put("kind", "youtube#video")
+                    .put("videoId", "video" + i);
+            ObjectNode snippet = item.putObject("snippet")
+                    .put("title", query + " 모음 " + i)
+                    .put("channelTitle", "채널" + i);
+            snippet.putObject("thumbnails").putObject("medium")
+                    .put("url", "https://i.ytimg.com/vi/video" + i + "/mqdefault.jpg");
+        }
+        return body.toString();
+    }
+
+    // Google API 오류 응답 형식
+    private String errorBody(int statusCode, String reason) {
+        ObjectNode body = OBJECT_MAPPER.createObjectNode();
+        ObjectNode error = body.putObject("error")
+                .put("code", statusCode)
+                .put("message", "stub error");
+        if (reason != null) {
+            error.putArray("errors").addObject()
+                    .put("reason", reason)
+                    .put("message", "stub error");
+        }
+        return body.toString();
+    }
+
+    private void respond(HttpExchange exchange, int statusCode, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private static String getParameter(String rawQuery, String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int index = pair.indexOf('=');
+            if (index > 0 && pair.substring(0, index).equals(name)) {
+                try {
+                    return URLDecoder.decode(pair.substring(index + 1), "UTF-8");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Failure {
+        private final int statusCode;
+        private final String reason;
+
+        private Failure(int statusCode, String reason) {
+            this.statusCode = statusCode;
+            this.reason = reason;
+        }
+    }
+    // endregion
+}
@@ -0,0 +1,137 @@
+package com.teamproj.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BloomFilterTest {
+    @Nested
+    @DisplayName("원소 추가")
+    class Put {
+        @Test
+        @DisplayName("넣은 값은 다시 넣으면 항상 이미 있다고 판단(false negative 없음)")
+        void no_false_negative() {
+            // given
+            BloomFilter bloomFilter = new BloomFilter(10000, 0.01);
+            for (int i = 0; i < 10000; i++) {
+                bloomFilter.put("DICT:" + i + ":127.0.0.1");
+            }
+
+            // when
+            int falseNegativeCount = 0;
+            for (int i = 0; i < 10000; i++) {
+                if (bloomFilter.put("DICT:" + i + ":127.0.0.1")) {
+                    falseNegativeCount++;
+                }
+            }
+
+            // then
+            assertEquals(0, falseNegativeCount);
+        }
+
+        @Test
+        @DisplayName("8바이트 블록으로 나누어 떨어지지 않는 길이의 값도 구분")
+        void remain_bytes() {
+            // given
+            BloomFilter bloomFilter = new BloomFilter(1000, 0.001);
+            StringBuilder value = new StringBuilder();
+
+            // when
+            int newCount = 0;
+            for (int length = 1; length <= 24; length++) {
+                value.append('a');
+                if (bloomFilter.put(value.toString())) {
+                    newCount++;
+                }
+            }
+
+            // then
+            assertEquals(24, newCount);
+        }
+
+        @Test
+        @DisplayName("예상 개수만큼 넣으면 예상 오탐률이 목표 근처")
+        void expected_fpp() {
+            // given
+            BloomFilter bloomFilter = new BloomFilter(10000, 0.01);
+
+            // when
+            for (int i = 0; i < 10000; i++) {
+                bloomFilter.put("BOARD:" + i);
+            }
+
+            // then
+            assertTrue(bloomFilter.expectedFpp() < 0.02, "expectedFpp : " + bloomFilter.expectedFpp());
+            // 새 값인데 이미 있다고 판단한 경우(오탐)만 빠지므로 대부분 추가된 것으로 셈
+            assertTrue(bloomFilter.getInsertionCount() > 9800, "insertionCount : " + bloomFilter.getInsertionCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("비트 위치 계산")
+    class BitIndex {
+        @Test
+        @DisplayName("2^31 이상의 비트에도 닿고 항상 범위 안")
+        void bit_index_over_int() {
+            // given
+            long bitSize = 1L << 36;
+            Random random = new Random(0);
+
+            // when
+            long maxIndex = 0;
+            for (int n = 0; n < 1000; n++) {
+                long hash1 = random.nextLong();
+                long hash2 = random.nextLong();
+                for (int i = 1; i <= 10; i++) {
+                    long index = BloomFilter.bitIndex(hash1, hash2, i, bitSize);
+                    assertTrue(index >= 0 && index < bitSize, "index : " + index);
+                    maxIndex = Math.max(maxIndex, index);
+                }
+            }
+
+            // then
+            assertTrue(maxIndex >= 1L << 35, "maxIndex : " + maxIndex);
+        }
+    }
+
+    @Nested
+    @DisplayName("크기 계산")
+    class Sizing {
+        @Test
+        @DisplayName("비트 수는 -n * ln(p) / (ln2)^2 를 64 배수로 올림")
+        void bit_size() {
+            // given
+            // -1000 * ln(0.01) / (ln2)^2 = 9585.06 -> 9586 -> 9600
+
+            // when
+            BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+
+            // then
+            assertEquals(9600, bloomFilter.getBitSize());
+            assertEquals(0.01, bloomFilter.getTargetFpp());
+        }
+
+        @Test
+        @DisplayName("아주 작은 필터도 64비트 이상")
+        void min_bit_size() {
+            // when
+            BloomFilter bloomFilter = new BloomFilter(1, 0.5);
+
+            // then
+            assertEquals(64, bloomFilter.getBitSize());
+        }
+
+        @Test
+        @DisplayName("실패 - 잘못된 예상 개수, 오탐률")
+        void illegal_argument() {
+            // then
+            assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+            assertThrows(IllegalArgumentException.class, () -> new BloomFilter(1000, 0));
+            assertThrows(IllegalArgumentException.class, () -> new BloomFilter(1000, 1));
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.teamproj.backend.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.teamproj.backend.config.RedisCodecRegistry;
+import com.teamproj.backend.config.RedisCodecRegistry.Format;
+import com.teamproj.backend.dto.main.MainTodayMemeResponseDto;
+import com.teamproj.backend.service.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CacheAsideTemplateTest {
+    static final CacheSpec<MainTodayMemeResponseDto> LIST_SPEC =
+            CacheSpec.of("list", MainTodayMemeResponseDto.class, 10, TimeUnit.MINUTES);
+
+    RedisStandIn redisStandIn;
+    StringRedisTemplate stringRedisTemplate;
+    SimpleMeterRegistry meterRegistry;
+    CacheAsideTemplate cacheAsideTemplate;
+
+    @BeforeEach
+    void setup() {
+        redisStandIn = new RedisStandIn();
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setConnectionFactory(redisStandIn.getConnectionFactory());
+        redisTemplate.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(redisStandIn.getConnectionFactory());
+        // 운영과 같이 회로 차단기를 거치도록 함(응답 시간 초과 -> RedisConnectionFailureException)
+        meterRegistry = new SimpleMeterRegistry();
+        RedisCircuitBreaker redisCircuitBreaker = new RedisCircuitBreaker(meterRegistry);
+        ReflectionTestUtils.setField(redisCircuitBreaker, "failureThreshold", 3);
+        ReflectionTestUtils.setField(redisCircuitBreaker, "openMs", 60000L);
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new RedisService(redisTemplate, stringRedisTemplate, null));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new RedisCircuitBreakerAop(redisCircuitBreaker));
+        RedisService redisService = proxyFactory.getProxy();
+
+        RedisCodecRegistry registry = new RedisCodecRegistry(new ObjectMapper(), new ObjectMapper(new SmileFactory()),
+                Format.JSON, MainTodayMemeResponseDto.class);
+
+        RedisFallbackCache redisFallbackCache = new RedisFallbackCache(meterRegistry);
+        ReflectionTestUtils.setField(redisFallbackCache, "maxSize", 10);
+        ReflectionTestUtils.setField(redisFallbackCache, "intervalMs", 60000L);
+        ReflectionTestUtils.setField(redisFallbackCache, "waitMs", 3000L);
+
+        cacheAsideTemplate = new CacheAsideTemplate(redisService, registry, redisFallbackCache, meterRegistry);
+        ReflectionTestUtils.setField(cacheAsideTemplate, "waitMs", 3000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheAsideTemplate.shutdown();
+        redisStandIn.close();
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Get {
+        @Test
+        @DisplayName("없으면 불러와서 만료 시간과 함께 저장하고, 다음에는 Redis 에서 반환")
+        void get_miss_then_hit() {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            cacheAsideTemplate.getList(LIST_SPEC, "key", () -> todayList(loadCount.incrementAndGet()));
+            List<MainTodayMemeResponseDto> result = cacheAsideTemplate.getList(LIST_SPEC, "key",
+                    () -> todayList(loadCount.incrementAndGet()));
+
+            // then
+            assertEquals(1, loadCount.get());
+            assertEquals("단어1", result.get(0).getDictName());
+            // 10분 ± 10%
+            long ttlSeconds = stringRedisTemplate.getExpire("key");
+            assertTrue(ttlSeconds >= 539 && ttlSeconds <= 660, "만료 시간 : " + ttlSeconds);
+            assertEquals(1.0, meterRegistry.counter("memegle.cache.redis", "name", "list", "result", "hit").count());
+            assertEquals(1.0, meterRegistry.counter("memegle.cache.redis", "name", "list", "result", "miss").count());
+            assertEquals(1, meterRegistry.timer("memegle.cache.redis.load", "name", "list").count());
+        }
+
+        @Test
+        @DisplayName("단일 값도 저장")
+        void get_value() {
+            // given
+            CacheSpec<String> spec = CacheSpec.of("value", String.class, 1, TimeUnit.MINUTES);
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            cacheAsideTemplate.get(spec, "value", () -> "값" + loadCount.incrementAndGet());
+            String result = cacheAsideTemplate.get(spec, "value", () -> "값" + loadCount.incrementAndGet());
+
+            // then
+            assertEquals("값1", result);
+            assertEquals("값1", stringRedisTemplate.opsForValue().get("value"));
+        }
+
+        @Test
+        @DisplayName("동시에 요청해도 한 번만 불러옴")
+        void get_single_flight() throws Exception {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+            // when
+            List<Future<List<MainTodayMemeResponseDto>>> futureList = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futureList.add(executorService.submit(() -> {
+                    start.await();
+                    return cacheAsideTemplate.getList(LIST_SPEC, "key", () -> {
+                        loadCount.incrementAndGet();
+                        sleep(200);
+                        return todayList(1);
+                    });
+                }));
+            }
+            start.countDown();
+
+            // then
+            for (Future<List<MainTodayMemeResponseDto>> future : futureList) {
+                assertEquals(1, future.get(5, TimeUnit.SECONDS).size());
+            }
+            assertEquals(1, loadCount.get());
+            executorService.shutdown();
+        }
+
+        @Test
+        @DisplayName("빈 결과는 empty 동안 다시 불러오지 않음")
+        void get_empty() {
+            // given
+            CacheSpec<MainTodayMemeResponseDto> spec = LIST_SPEC.empty(1, TimeUnit.MINUTES);
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            cacheAsideTemplate.getList(spec, "key", () -> {
+                loadCount.incrementAndGet();
+                return Collections.emptyList();
+            });
+            List<MainTodayMemeResponseDto> result = cacheAsideTemplate.getList(spec, "key", () -> {
+                loadCount.incrementAndGet();
+                return Collections.emptyList();
+            });
+
+            // then
+            assertTrue(result.isEmpty());
+            assertEquals(1, loadCount.get());
+            assertEquals(Boolean.TRUE, stringRedisTemplate.hasKey("key:EMPTY"));
+        }
+
+        @Test
+        @DisplayName("만료가 가까우면 이전 값을 반환하면서 다시 불러옴")
+        void get_stale_while_revalidate() throws Exception {
+            // given
+            CacheSpec<MainTodayMemeResponseDto> spec = LIST_SPEC.stale(1, TimeUnit.MINUTES);
+            cacheAsideTemplate.putAll(cacheAsideTemplate.listWrite(spec, "key", todayList(1)));
+            // ttl 이 지나고 stale 기간만 남은 상태
+            stringRedisTemplate.expire("key", 30, TimeUnit.SECONDS);
+            CountDownLatch reloaded = new CountDownLatch(1);
+
+            // when
+            List<MainTodayMemeResponseDto> result = cacheAsideTemplate.getList(spec, "key", () -> {
+                reloaded.countDown();
+                return todayList(2);
+            });
+
+            // then
+            assertEquals("단어1", result.get(0).getDictName());
+            assertTrue(reloaded.await(5, TimeUnit.SECONDS));
+            assertEventually(() -> stringRedisTemplate.opsForList().range("key", 0, -1).get(0).contains("단어2"));
+        }
+
+        @Test
+        @DisplayName("만료 시간 없이 저장된 이전 값은 반환한 뒤 만료 시간을 붙여 다시 씀")
+        void get_without_expire() throws Exception {
+            // given
+            stringRedisTemplate.opsForList().rightPush("key", "{\"dictId\":1,\"dictName\":\"단어1\"}");
+
+            // when
+            List<MainTodayMemeResponseDto> result = cacheAsideTemplate.getList(LIST_SPEC, "key", () -> todayList(2));
+
+            // then
+            assertEquals("단어1", result.get(0).getDictName());
+            assertEventually(() -> stringRedisTemplate.getExpire("key") > 0);
+        }
+
+        @Test
+        @DisplayName("읽을 수 없는 값은 없는 것으로 보고 다시 불러와서 덮어씀")
+        void get_undecodable() {
+            // given
+            stringRedisTemplate.opsForList().rightPush("key", "{\"dictId\":\"이전 형식\"");
+            stringRedisTemplate.expire("key", 1, TimeUnit.DAYS);
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            List<MainTodayMemeResponseDto> result = cacheAsideTemplate.getList(LIST_SPEC, "key",
+                    () -> todayList(loadCount.incrementAndGet()));
+            List<MainTodayMemeResponseDto> cached = cacheAsideTemplate.getList(LIST_SPEC, "key",
+                    () -> todayList(loadCount.incrementAndGet()));
+
+            // then
+            assertEquals("단어1", result.get(0).getDictName());
+            assertEquals("단어1", cached.get(0).getDictName());
+            assertEquals(1, loadCount.get());
+            assertEquals(1.0, meterRegistry.counter("memegle.cache.redis", "name", "list", "result", "miss").count());
+        }
+    }
+
+    @Test
+    @DisplayName("Redis 가 내려가면 서버 메모리에서 반환하고 다시 불러오지 않음")
+    void get_fallback() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        redisStandIn.stop();
+
+        // when
+        cacheAsideTemplate.getList(LIST_SPEC, "key", () -> todayList(loadCount.incrementAndGet()));
+        List<MainTodayMemeResponseDto> result = cacheAsideTemplate.getList(LIST_SPEC, "key",
+                () -> todayList(loadCount.incrementAndGet()));
+
+        // then
+        assertEquals("단어1", result.get(0).getDictName());
+        assertEquals(1, loadCount.get());
+        assertEquals(2.0, meterRegistry.counter("memegle.cache.redis", "name", "list", "result", "fallback").count());
+    }
+
+    @Test
+    @DisplayName("스케줄이 교체하는 키는 하루 안에 조회가 다시 불러오지 않음")
+    void scheduler_owned_spec() {
+        // given
+        long oneDayMs = TimeUnit.DAYS.toMillis(1);
+
+        // when
+        List<CacheSpec<?>> specList = Arrays.asList(CacheSpecs.TODAY_LIST, CacheSpecs.TODAY_MEME_IMAGE_LIST, CacheSpecs.BEST_DICT);
+
+        // then
+        for (CacheSpec<?> spec : specList) {
+            assertEquals(0, spec.getStaleMs());
+            assertEquals(2 * oneDayMs, spec.nextExpireMs());
+        }
+    }
+
+    // region 보조 기능
+    private static List<MainTodayMemeResponseDto> todayList(long dictId) {
+        return Arrays.asList(new MainTodayMemeResponseDto(dictId, "단어" + dictId));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void assertEventually(Callable<Boolean> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.call()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("5초 안에 조건을 만족하지 않음");
+            }
+            Thread.sleep(50);
+        }
+    }
+    // endregion
+}
@@ -0,0 +1,194 @@
+package com.teamproj.backend.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.teamproj.backend.util.RedisKey.SCHEDULER_LEASE_KEY;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    ClusterJobRunner 의 예정 시각 계산, Redis 장애와 임대 만료시 동작
+ */
+public class ClusterJobRunnerLeaseTest {
+    RedisStandIn redisStandIn;
+    StringRedisTemplate stringRedisTemplate;
+    ClusterJobRunner clusterJobRunner;
+
+    String jobName;
+    LocalDateTime scheduledAt;
+
+    @BeforeEach
+    void setup() {
+        redisStandIn = new RedisStandIn();
+        stringRedisTemplate = new StringRedisTemplate(redisStandIn.getConnectionFactory());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisCircuitBreaker redisCircuitBreaker = new RedisCircuitBreaker(meterRegistry);
+        ReflectionTestUtils.setField(redisCircuitBreaker, "failureThreshold", 3);
+        ReflectionTestUtils.setField(redisCircuitBreaker, "openMs", 60000L);
+        clusterJobRunner = new ClusterJobRunner(stringRedisTemplate, meterRegistry, redisCircuitBreaker);
+        ReflectionTestUtils.setField(clusterJobRunner, "leaseMs", 300L);
+
+        jobName = "test-" + UUID.randomUUID();
+        scheduledAt = LocalDateTime.of(2021, 9, 1, 0, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clusterJobRunner.shutdown();
+        redisStandIn.close();
+    }
+
+    @Nested
+    @DisplayName("예정 시각")
+    class ScheduledTime {
+        @Test
+        @DisplayName("실행이 늦어져 분 경계를 넘어도 같은 예정 시각")
+        void delayed_fire() {
+            // when
+            LocalDateTime onTime = ClusterJobRunner.lastScheduledTime("0 0 0 * * *", LocalDateTime.of(2021, 9, 2, 0, 0, 0, 500_000_000));
+            LocalDateTime delayed = ClusterJobRunner.lastScheduledTime("0 0 0 * * *", LocalDateTime.of(2021, 9, 2, 0, 1, 2));
+
+            // then
+            assertEquals(LocalDateTime.of(2021, 9, 2, 0, 0), onTime);
+            assertEquals(onTime, delayed);
+        }
+
+        @Test
+        @DisplayName("예정 시각과 같은 시각이면 그 예정 시각, 주 단위 cron 도 계산")
+        void exact_and_weekly() {
+            // when
+            LocalDateTime hourly = ClusterJobRunner.lastScheduledTime("0 30 * * * *", LocalDateTime.of(2021, 9, 1, 10, 30));
+            LocalDateTime weekly = ClusterJobRunner.lastScheduledTime("0 0 0 * * 0", LocalDateTime.of(2021, 9, 1, 12, 0));
+
+            // then
+            assertEquals(LocalDateTime.of(2021, 9, 1, 10, 30), hourly);
+            assertEquals(LocalDateTime.of(2021, 8, 29, 0, 0), weekly);
+        }
+
+        @Test
+        @DisplayName("같은 예정 시각은 먼저 끝난 서버가 락을 반납한 뒤에도 다시 실행하지 않음")
+        void run_once_per_scheduled_time() {
+            // given
+            AtomicInteger runCount = new AtomicInteger();
+            LocalDateTime first = ClusterJobRunner.lastScheduledTime("0 0 0 * * *", LocalDateTime.of(2021, 9, 2, 0, 0, 0, 500_000_000));
+            LocalDateTime second = ClusterJobRunner.lastScheduledTime("0 0 0 * * *", LocalDateTime.of(2021, 9, 2, 0, 1, 2));
+
+            // when
+            String firstResult = clusterJobRunner.run(jobName, first, runCount::incrementAndGet);
+            String secondResult = clusterJobRunner.run(jobName, second, runCount::incrementAndGet);
+
+            // then
+            assertEquals(ClusterJobRunner.RESULT_SUCCESS, firstResult);
+            assertEquals(ClusterJobRunner.RESULT_SKIPPED, secondResult);
+            assertEquals(1, runCount.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis 장애")
+    class Failure {
+        @Test
+        @DisplayName("Redis 에 연결할 수 없으면 실행하지 않음")
+        void skip_when_redis_down() {
+            // given
+            AtomicInteger runCount = new AtomicInteger();
+            redisStandIn.stop();
+
+            // when
+            String result = clusterJobRunner.run(jobName, scheduledAt, runCount::incrementAndGet);
+
+            // then
+            assertEquals(ClusterJobRunner.RESULT_SKIPPED, result);
+            assertEquals(0, runCount.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("임대 확인")
+    class Lease {
+        @Test
+        @DisplayName("다른 서버가 락을 가져가면 다음 묶음 전에 멈춤")
+        void stop_when_lease_taken() {
+            // given
+            AtomicBoolean afterLost = new AtomicBoolean(false);
+            Runnable job = () -> {
+                stringRedisTemplate.opsForValue().set(SCHEDULER_LEASE_KEY + ":" + jobName, "other");
+                waitUntilLeaseLost();
+                afterLost.set(true);
+            };
+
+            // when
+            String result = clusterJobRunner.run(jobName, scheduledAt, job);
+
+            // then
+            assertEquals(ClusterJobRunner.RESULT_LEASE_LOST, result);
+            assertFalse(afterLost.get());
+            assertEquals("other", stringRedisTemplate.opsForValue().get(SCHEDULER_LEASE_KEY + ":" + jobName));
+        }
+
+        @Test
+        @DisplayName("연장 실패가 임대 시간 이상 이어지면 멈춤")
+        void stop_when_renewal_fails() {
+            // given
+            AtomicBoolean afterLost = new AtomicBoolean(false);
+            Runnable job = () -> {
+                redisStandIn.stop();
+                waitUntilLeaseLost();
+                afterLost.set(true);
+            };
+
+            // when
+            String result = clusterJobRunner.run(jobName, scheduledAt, job);
+
+            // then
+            assertEquals(ClusterJobRunner.RESULT_LEASE_LOST, result);
+            assertFalse(afterLost.get());
+        }
+
+        @Test
+        @DisplayName("임대를 유지하는 동안에는 끝까지 실행")
+        void run_while_lease_kept() {
+            // given
+            AtomicInteger batchCount = new AtomicInteger();
+            Runnable job = () -> {
+                for (int i = 0; i < 5; i++) {
+                    clusterJobRunner.checkLease();
+                    sleep(100);
+                    batchCount.incrementAndGet();
+                }
+            };
+
+            // when
+            String result = clusterJobRunner.run(jobName, scheduledAt, job);
+
+            // then
+            assertEquals(ClusterJobRunner.RESULT_SUCCESS, result);
+            assertEquals(5, batchCount.get());
+        }
+    }
+
+    // 묶음 사이마다 임대를 확인하는 작업. 임대를 잃으면 checkLease 가 예외를 던짐.
+    private void waitUntilLeaseLost() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            clusterJobRunner.checkLease();
+            sleep(20);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.teamproj.backend.util;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ClusterJobRunnerTest {
+    @Autowired
+    private ClusterJobRunner clusterJobRunner;
+
+    String jobName;
+    LocalDateTime scheduledAt;
+
+    @BeforeEach
+    void setup() {
+        jobName = "test-" + UUID.randomUUID();
+        scheduledAt = LocalDateTime.of(2021, 9, 1, 0, 0);
+    }
+
+    @Nested
+    @DisplayName("스케줄 작업 실행")
+    class Run {
+        @Test
+        @DisplayName("같은 예정 시각에는 한 번만 실행")
+        void run_once_per_trigger() {
+            // given
+            AtomicInteger runCount = new AtomicInteger();
+
+            // when
+            String first = clusterJobRunner.run(jobName, scheduledAt, runCount::incrementAndGet);
+            String second = clusterJobRunner.run(jobName, scheduledAt, runCount::incrementAndGet);
+
+            // then
+            assertEquals(ClusterJobRunner.RESULT_SUCCESS, first);
+            assertEquals(ClusterJobRunner.RESULT_SKIPPED, second);
+            assertEquals(1, runCount.get());
+        }
+
+        @Test
+        @DisplayName("실패한 작업도 실행 기록에 남음")
+        void run_failure_history() {
+            // given
+            Runnable job = () -> {
+                throw new IllegalStateException("실패");
+            };
+
+            // when
+            String result = clusterJobRunner.run(jobName, scheduledAt, job);
+
+            // then
+            assertEquals(ClusterJobRunner.RESULT_FAILURE, result);
+            assertTrue(clusterJobRunner.getRunHistory(jobName).get(0).contains(ClusterJobRunner.RESULT_FAILURE));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.teamproj.backend.util;
+
+import com.teamproj.backend.dto.latency.LatencySnapshotDto;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LatencyTraceAopTest {
+    LatencyTraceAop latencyTraceAop;
+
+    @BeforeEach
+    void setup() {
+        latencyTraceAop = new LatencyTraceAop();
+        ReflectionTestUtils.setField(latencyTraceAop, "enabled", true);
+        ReflectionTestUtils.setField(latencyTraceAop, "sampleRate", 1.0);
+        ReflectionTestUtils.setField(latencyTraceAop, "packages", new String[]{"com.teamproj.backend.util"});
+    }
+
+    // 포인트컷(service 패키지)과 관계없이 execute 를 직접 호출해 기록 여부만 확인
+    private ProceedingJoinPoint joinPoint() throws Throwable {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(Target.class.getMethod("work"));
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        return joinPoint;
+    }
+
+    public static class Target {
+        public void work() {
+        }
+    }
+
+    @Nested
+    @DisplayName("실행 시간 기록")
+    class Execute {
+        @Test
+        @DisplayName("측정 대상 패키지의 메소드 호출 횟수 기록")
+        void execute_record() throws Throwable {
+            // given
+            ProceedingJoinPoint joinPoint = joinPoint();
+
+            // when
+            for (int i = 0; i < 3; i++) {
+                latencyTraceAop.execute(joinPoint);
+            }
+            List<LatencySnapshotDto> snapshotList = latencyTraceAop.getSnapshotList();
+
+            // then
+            assertEquals(1, snapshotList.size());
+            assertEquals("Target.work", snapshotList.get(0).getMethod());
+            assertEquals(3, snapshotList.get(0).getCount());
+            assertTrue(snapshotList.get(0).getP99() <= snapshotList.get(0).getMax());
+        }
+
+        @Test
+        @DisplayName("측정 대상이 아닌 패키지는 기록하지 않음")
+        void execute_other_package() throws Throwable {
+            // given
+            ReflectionTestUtils.setField(latencyTraceAop, "packages", new String[]{"com.teamproj.backend.service"});
+
+            // when
+            latencyTraceAop.execute(joinPoint());
+
+            // then
+            assertTrue(latencyTraceAop.getSnapshotList().isEmpty());
+        }
+
+        @Test
+        @DisplayName("초기화")
+        void reset() throws Throwable {
+            // given
+            latencyTraceAop.execute(joinPoint());
+
+            // when
+            latencyTraceAop.reset();
+
+            // then
+            assertTrue(latencyTraceAop.getSnapshotList().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.teamproj.backend.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalCacheTest {
+    LocalCache localCache;
+
+    @BeforeEach
+    void setup() {
+        localCache = new LocalCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(localCache, "maxSize", 2);
+        ReflectionTestUtils.setField(localCache, "freshMs", 60000L);
+        ReflectionTestUtils.setField(localCache, "staleMs", 60000L);
+        ReflectionTestUtils.setField(localCache, "waitMs", 3000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        localCache.shutdown();
+    }
+
+    @Nested
+    @DisplayName("캐시 조회")
+    class Get {
+        @Test
+        @DisplayName("만료 전에는 다시 불러오지 않음")
+        void get_hit() {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            localCache.get("key", loadCount::incrementAndGet);
+            Integer result = localCache.get("key", loadCount::incrementAndGet);
+
+            // then
+            assertEquals(1, result);
+            assertEquals(1, loadCount.get());
+        }
+
+        @Test
+        @DisplayName("동시에 요청해도 한 번만 불러옴")
+        void get_single_flight() throws Exception {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+            CountDownLatch loading = new CountDownLatch(1);
+            ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+            // when
+            List<Future<Integer>> futureList = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futureList.add(executorService.submit(() -> localCache.get("key", () -> {
+                    loadCount.incrementAndGet();
+                    try {
+                        loading.await(1, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return 7;
+                })));
+            }
+            loading.countDown();
+
+            // then
+            for (Future<Integer> future : futureList) {
+                assertEquals(7, future.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loadCount.get());
+            executorService.shutdown();
+        }
+
+        @Test
+        @DisplayName("fresh 기간이 지나면 이전 값을 반환하면서 다시 불러옴")
+        void get_stale_while_revalidate() throws Exception {
+            // given
+            ReflectionTestUtils.setField(localCache, "freshMs", 0L);
+            localCache.get("key", () -> "old");
+            CountDownLatch reloaded = new CountDownLatch(1);
+
+            // when
+            String result = localCache.get("key", () -> {
+                reloaded.countDown();
+                return "new";
+            });
+
+            // then
+            assertEquals("old", result);
+            assertTrue(reloaded.await(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("먼저 불러오는 요청이 오래 걸리면 wait-ms 이후 직접 불러옴")
+        void get_wait_timeout() throws Exception {
+            // given
+            ReflectionTestUtils.setField(localCache, "waitMs", 100L);
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executorService = Executors.newSingleThreadExecutor();
+            Future<String> slow = executorService.submit(() -> localCache.get("key", () -> {
+                loading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "slow";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // when
+            String result = localCache.get("key", () -> "direct");
+            release.countDown();
+
+            // then
+            assertEquals("direct", result);
+            assertEquals("slow", slow.get(5, TimeUnit.SECONDS));
+            executorService.shutdown();
+        }
+
+        @Test
+        @DisplayName("최대 개수를 넘으면 오래된 항목 제거")
+        void get_evict_eldest() {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+            localCache.get("first", loadCount::incrementAndGet);
+            localCache.get("second", loadCount::incrementAndGet);
+
+            // when
+            localCache.get("third", loadCount::incrementAndGet);
+            localCache.get("first", loadCount::incrementAndGet);
+
+            // then
+            assertEquals(4, loadCount.get());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.teamproj.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongLongHashMapTest {
+    @Nested
+    @DisplayName("LongLongHashMap")
+    class LongLongMap {
+        @Test
+        @DisplayName("저장, 조회, 덮어쓰기")
+        void put_get() {
+            // given
+            LongLongHashMap map = new LongLongHashMap();
+
+            // when
+            map.put(1L, 10L);
+            map.put(2L, 20L);
+            map.put(1L, 11L);
+
+            // then
+            assertEquals(2, map.size());
+            assertEquals(11L, map.get(1L, -1L));
+            assertEquals(20L, map.get(2L, -1L));
+            assertEquals(-1L, map.get(3L, -1L));
+            assertFalse(map.containsKey(3L));
+        }
+
+        @Test
+        @DisplayName("키 0 도 저장됨")
+        void zero_key() {
+            // given
+            LongLongHashMap map = new LongLongHashMap();
+
+            // when
+            map.put(0L, 5L);
+
+            // then
+            assertTrue(map.containsKey(0L));
+            assertEquals(5L, map.get(0L, -1L));
+            assertEquals(5L, map.remove(0L, -1L));
+            assertTrue(map.isEmpty());
+        }
+
+        @Test
+        @DisplayName("크기를 넘어서 저장하면 늘어남")
+        void grow() {
+            // given
+            LongLongHashMap map = new LongLongHashMap(2);
+
+            // when
+            for (long key = 1; key <= 1000; key++) {
+                map.put(key, key * 2);
+            }
+
+            // then
+            assertEquals(1000, map.size());
+            for (long key = 1; key <= 1000; key++) {
+                assertEquals(key * 2, map.get(key, -1L));
+            }
+        }
+
+        @Test
+        @DisplayName("삭제 후에도 나머지 키를 찾을 수 있음")
+        void remove() {
+            // given
+            LongLongHashMap map = new LongLongHashMap(4);
+            Map<Long, Long> expected = new HashMap<>();
+            // 작은 배열에 많이 넣어 충돌이 나도록 함(크기는 자동으로 늘어남)
+            for (long key = 1; key <= 64; key++) {
+                map.put(key * 16, key);
+                expected.put(key * 16, key);
+            }
+
+            // when
+            for (long key = 1; key <= 64; key += 3) {
+                assertEquals(key, map.remove(key * 16, -1L));
+                expected.remove(key * 16);
+            }
+
+            // then
+            assertEquals(expected.size(), map.size());
+            assertEquals(-1L, map.remove(16L, -1L));
+            for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+                assertEquals(entry.getValue(), map.get(entry.getKey(), -1L));
+            }
+            Map<Long, Long> visited = new HashMap<>();
+            map.forEach(visited::put);
+            assertEquals(expected, visited);
+        }
+    }
+
+    @Nested
+    @DisplayName("LongHashSet")
+    class LongSet {
+        @Test
+        @DisplayName("추가, 포함 여부")
+        void add_contains() {
+            // given
+            LongHashSet set = LongHashSet.of(Arrays.asList(0L, 3L, null, 3L, 100L));
+
+            // when
+            boolean added = set.add(5L);
+            boolean duplicated = set.add(100L);
+
+            // then
+            assertTrue(added);
+            assertFalse(duplicated);
+            assertEquals(4, set.size());
+            assertTrue(set.contains(0L));
+            assertTrue(set.contains(3L));
+            assertTrue(set.contains(5L));
+            assertFalse(set.contains(4L));
+        }
+
+        @Test
+        @DisplayName("크기를 넘어서 추가하면 늘어남")
+        void grow() {
+            // given
+            LongHashSet set = new LongHashSet();
+
+            // when
+            for (long value = 1; value <= 1000; value++) {
+                set.add(value);
+            }
+
+            // then
+            assertEquals(1000, set.size());
+            for (long value = 1; value <= 1000; value++) {
+                assertTrue(set.contains(value));
+            }
+            assertFalse(set.contains(1001L));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.teamproj.backend.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelBranchExecutorTest {
+    SimpleMeterRegistry meterRegistry;
+    ParallelBranchExecutor parallelBranchExecutor;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        parallelBranchExecutor = new ParallelBranchExecutor(meterRegistry);
+        ReflectionTestUtils.setField(parallelBranchExecutor, "threads", 2);
+        ReflectionTestUtils.setField(parallelBranchExecutor, "queueSize", 10);
+        parallelBranchExecutor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelBranchExecutor.shutdown();
+        SqlStatementContext.end();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Nested
+    @DisplayName("동시 실행")
+    class Fork {
+        @Test
+        @DisplayName("두 조회가 동시에 실행됨")
+        void fork_parallel() {
+            // given
+            long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            // 두 조회가 동시에 실행 중일 때만 둘 다 통과함. 차례로 실행되면 먼저 시작한 조회가 기다리다 실패함.
+            CyclicBarrier barrier = new CyclicBarrier(2);
+
+            // when
+            ParallelBranchExecutor.Branch<String> first = parallelBranchExecutor.fork("search", "first",
+                    () -> awaitOther(barrier, "first"));
+            ParallelBranchExecutor.Branch<String> second = parallelBranchExecutor.fork("search", "second",
+                    () -> awaitOther(barrier, "second"));
+
+            // then
+            assertEquals("first", first.join(deadlineNanos, null));
+            assertEquals("second", second.join(deadlineNanos, null));
+            assertEquals(1, meterRegistry.timer("memegle.parallel.branch",
+                    "group", "search", "name", "first", "result", "ok").count());
+        }
+
+        @Test
+        @DisplayName("기한이 지나면 기본값을 반환하고 timeout 으로 기록")
+        void fork_timeout() throws Exception {
+            // given
+            long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+
+            // when
+            ParallelBranchExecutor.Branch<String> fast = parallelBranchExecutor.fork("search", "fast", () -> "fast");
+            ParallelBranchExecutor.Branch<String> slow = parallelBranchExecutor.fork("search", "slow", () -> {
+                sleep(500);
+                return "slow";
+            });
+
+            // then
+            assertEquals("fast", fast.join(deadlineNanos, null));
+            assertEquals("기본값", slow.join(deadlineNanos, "기본값"));
+            // 실행 중이던 조회는 끝난 뒤에 기록됨
+            Thread.sleep(700);
+            assertEquals(1, meterRegistry.timer("memegle.parallel.branch",
+                    "group", "search", "name", "slow", "result", "timeout").count());
+        }
+
+        @Test
+        @DisplayName("조회 중 발생한 예외는 그대로 던짐")
+        void fork_exception() {
+            // given
+            long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+            // when
+            ParallelBranchExecutor.Branch<String> branch = parallelBranchExecutor.fork("search", "error", () -> {
+                throw new IllegalArgumentException("검색 실패");
+            });
+
+            // then
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> branch.join(deadlineNanos, null));
+            assertEquals("검색 실패", exception.getMessage());
+            assertEquals(1, meterRegistry.timer("memegle.parallel.branch",
+                    "group", "search", "name", "error", "result", "error").count());
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서는 요청 스레드에서 바로 실행")
+        void fork_in_transaction() {
+            // given
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            Thread requestThread = Thread.currentThread();
+
+            // when
+            ParallelBranchExecutor.Branch<Thread> branch = parallelBranchExecutor.fork("search", "inline", Thread::currentThread);
+
+            // then
+            assertSame(requestThread, branch.join(System.nanoTime(), null));
+        }
+    }
+
+    @Test
+    @DisplayName("다른 스레드에서 실행된 SQL 을 요청의 집계에 합침")
+    void join_sql_statement() {
+        // given
+        SqlStatementContext context = SqlStatementContext.begin();
+        SqlStatementContext.onStatement("select * from dict where dict_id=?");
+
+        // when
+        ParallelBranchExecutor.Branch<String> branch = parallelBranchExecutor.fork("search", "sql", () -> {
+            SqlStatementContext.onStatement("select * from dict_question where question_id=?");
+            SqlStatementContext.onStatement("select * from dict_question where question_id=?");
+            return "sql";
+        });
+        branch.join(System.nanoTime() + TimeUnit.SECONDS.toNanos(5), null);
+
+        // then
+        assertEquals(3, context.getStatementCount());
+        assertEquals(2, context.getMostRepeatedSql().getValue());
+    }
+
+    // region 보조 기능
+    private static String awaitOther(CyclicBarrier barrier, String result) {
+        try {
+            barrier.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (BrokenBarrierException | TimeoutException e) {
+            throw new IllegalStateException("다른 조회와 동시에 실행되지 않음", e);
+        }
+        return result;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    // endregion
+}
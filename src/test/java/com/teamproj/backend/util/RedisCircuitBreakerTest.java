@@ -0,0 +1,178 @@
+package com.teamproj.backend.util;
+
+import com.teamproj.backend.util.RedisCircuitBreaker.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RedisCircuitBreakerTest {
+    RedisCircuitBreaker redisCircuitBreaker;
+
+    @BeforeEach
+    void setup() {
+        redisCircuitBreaker = new RedisCircuitBreaker(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(redisCircuitBreaker, "failureThreshold", 2);
+        ReflectionTestUtils.setField(redisCircuitBreaker, "openMs", 200L);
+    }
+
+    @Nested
+    @DisplayName("상태 전환")
+    class Transition {
+        @Test
+        @DisplayName("연속 실패하면 차단되고, 차단 중에는 실행하지 않음")
+        void open() {
+            // given
+            AtomicInteger callCount = new AtomicInteger();
+
+            // when
+            for (int i = 0; i < 2; i++) {
+                assertThrows(RedisConnectionFailureException.class, () -> redisCircuitBreaker.execute(() -> {
+                    callCount.incrementAndGet();
+                    throw new RedisConnectionFailureException("연결 실패");
+                }));
+            }
+            assertThrows(RedisConnectionFailureException.class,
+                    () -> redisCircuitBreaker.execute(callCount::incrementAndGet));
+
+            // then
+            assertEquals(State.OPEN, redisCircuitBreaker.getState());
+            assertEquals(2, callCount.get());
+        }
+
+        @Test
+        @DisplayName("응답 시간 초과도 연결 실패로 바꿔서 던짐")
+        void timeout() {
+            // when
+            Exception exception = assertThrows(RedisConnectionFailureException.class,
+                    () -> redisCircuitBreaker.execute(() -> {
+                        throw new QueryTimeoutException("시간 초과");
+                    }));
+
+            // then
+            assertTrue(exception.getCause() instanceof QueryTimeoutException);
+            assertEquals(State.CLOSED, redisCircuitBreaker.getState());
+        }
+
+        @Test
+        @DisplayName("중간에 성공하면 실패 횟수 초기화")
+        void success_resets() {
+            // when
+            assertThrows(RedisConnectionFailureException.class, () -> redisCircuitBreaker.execute(() -> {
+                throw new RedisConnectionFailureException("연결 실패");
+            }));
+            redisCircuitBreaker.execute(() -> "OK");
+            assertThrows(RedisConnectionFailureException.class, () -> redisCircuitBreaker.execute(() -> {
+                throw new RedisConnectionFailureException("연결 실패");
+            }));
+
+            // then
+            assertEquals(State.CLOSED, redisCircuitBreaker.getState());
+        }
+
+        @Test
+        @DisplayName("차단 시간이 지나면 한 번 확인 후 다시 연결")
+        void half_open() throws Exception {
+            // given
+            for (int i = 0; i < 2; i++) {
+                assertThrows(RedisConnectionFailureException.class, () -> redisCircuitBreaker.execute(() -> {
+                    throw new RedisConnectionFailureException("연결 실패");
+                }));
+            }
+
+            // when
+            Thread.sleep(250);
+            String result = redisCircuitBreaker.execute(() -> "OK");
+
+            // then
+            assertEquals("OK", result);
+            assertEquals(State.CLOSED, redisCircuitBreaker.getState());
+        }
+
+        @Test
+        @DisplayName("확인 요청이 실패하면 바로 다시 차단")
+        void half_open_failure() throws Exception {
+            // given
+            for (int i = 0; i < 2; i++) {
+                assertThrows(RedisConnectionFailureException.class, () -> redisCircuitBreaker.execute(() -> {
+                    throw new RedisConnectionFailureException("연결 실패");
+                }));
+            }
+            Thread.sleep(250);
+
+            // when
+            assertThrows(RedisConnectionFailureException.class, () -> redisCircuitBreaker.execute(() -> {
+                throw new RedisConnectionFailureException("연결 실패");
+            }));
+
+            // then
+            assertEquals(State.OPEN, redisCircuitBreaker.getState());
+            assertThrows(RedisConnectionFailureException.class, () -> redisCircuitBreaker.execute(() -> "OK"));
+        }
+    }
+
+    @Nested
+    @DisplayName("내장 Redis")
+    class EmbeddedRedis {
+        RedisStandIn redisStandIn;
+        StringRedisTemplate redisTemplate;
+
+        @BeforeEach
+        void setup() {
+            redisStandIn = new RedisStandIn();
+            redisTemplate = new StringRedisTemplate(redisStandIn.getConnectionFactory());
+        }
+
+        @AfterEach
+        void tearDown() {
+            redisStandIn.close();
+        }
+
+        @Test
+        @DisplayName("Redis 가 내려가면 차단 후 바로 실패하고, 다시 올라오면 연결")
+        void outage() throws Exception {
+            // given
+            redisCircuitBreaker.execute(() -> {
+                redisTemplate.opsForValue().set("key", "value");
+                return null;
+            });
+            redisStandIn.stop();
+
+            // when
+            for (int i = 0; i < 2; i++) {
+                assertThrows(RedisConnectionFailureException.class,
+                        () -> redisCircuitBreaker.execute(() -> redisTemplate.opsForValue().get("key")));
+            }
+            long start = System.nanoTime();
+            assertThrows(RedisConnectionFailureException.class,
+                    () -> redisCircuitBreaker.execute(() -> redisTemplate.opsForValue().get("key")));
+            long rejectedMs = (System.nanoTime() - start) / 1_000_000;
+
+            // then
+            assertEquals(State.OPEN, redisCircuitBreaker.getState());
+            assertTrue(rejectedMs < 50, "차단 중 실패까지 걸린 시간 : " + rejectedMs + "ms");
+
+            // 다시 올라오면 차단 시간이 지난 뒤의 확인 요청으로 연결됨(Lettuce 재연결까지 기다림)
+            redisStandIn.start();
+            boolean connected = false;
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (!connected && System.currentTimeMillis() < deadline) {
+                Thread.sleep(250);
+                try {
+                    redisCircuitBreaker.execute(() -> redisTemplate.hasKey("key"));
+                    connected = true;
+                } catch (RedisConnectionFailureException e) {
+                    // 아직 재연결 전
+                }
+            }
+            assertTrue(connected);
+            assertEquals(State.CLOSED, redisCircuitBreaker.getState());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.teamproj.backend.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RedisFallbackCacheTest {
+    RedisFallbackCache redisFallbackCache;
+
+    @BeforeEach
+    void setup() {
+        redisFallbackCache = new RedisFallbackCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(redisFallbackCache, "maxSize", 10);
+        ReflectionTestUtils.setField(redisFallbackCache, "intervalMs", 60000L);
+        ReflectionTestUtils.setField(redisFallbackCache, "waitMs", 100L);
+    }
+
+    @Test
+    @DisplayName("interval 안에서는 다시 불러오지 않음")
+    void get_interval() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        redisFallbackCache.get("key", loadCount::incrementAndGet);
+        Integer result = redisFallbackCache.get("key", loadCount::incrementAndGet);
+
+        // then
+        assertEquals(1, result);
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("다시 불러오는 중에는 이전 값을 바로 반환")
+    void get_stale_while_loading() throws Exception {
+        // given
+        ReflectionTestUtils.setField(redisFallbackCache, "intervalMs", 0L);
+        redisFallbackCache.get("key", () -> "old");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<String> loader = executorService.submit(() -> redisFallbackCache.get("key", () -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "new";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // when
+        String result = redisFallbackCache.get("key", () -> "duplicated");
+        release.countDown();
+
+        // then
+        assertEquals("old", result);
+        assertEquals("new", loader.get(5, TimeUnit.SECONDS));
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("이전 값이 없고 먼저 불러오는 요청이 오래 걸리면 직접 불러옴")
+    void get_wait_timeout() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(() -> redisFallbackCache.get("key", () -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "slow";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // when
+        String result = redisFallbackCache.get("key", () -> "direct");
+        release.countDown();
+
+        // then
+        assertEquals("direct", result);
+        executorService.shutdown();
+    }
+}
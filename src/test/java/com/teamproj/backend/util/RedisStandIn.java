@@ -0,0 +1,67 @@
+package com.teamproj.backend.util;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+/*
+    테스트용 내장 Redis
+    빈 포트에 띄우고, 장애 상황을 만들 수 있도록 같은 포트로 내렸다 올릴 수 있음.
+    연결 팩토리는 응답 / 연결 시간 초과를 짧게 잡아서 장애 테스트가 오래 걸리지 않도록 함.
+ */
+public class RedisStandIn implements AutoCloseable {
+    private final RedisServer redisServer;
+    private final LettuceConnectionFactory connectionFactory;
+
+    public RedisStandIn() {
+        int port = findFreePort();
+        this.redisServer = RedisServer.builder()
+                .port(port)
+                .setting("save \"\"")
+                .build();
+        this.redisServer.start();
+
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(300))
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder().connectTimeout(Duration.ofMillis(300)).build())
+                        .build())
+                .build();
+        this.connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port), clientConfiguration);
+        this.connectionFactory.afterPropertiesSet();
+    }
+
+    public LettuceConnectionFactory getConnectionFactory() {
+        return connectionFactory;
+    }
+
+    public void stop() {
+        redisServer.stop();
+    }
+
+    public void start() {
+        redisServer.start();
+    }
+
+    @Override
+    public void close() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    private static int findFreePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
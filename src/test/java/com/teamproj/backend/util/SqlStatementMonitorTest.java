@@ -0,0 +1,82 @@
+package com.teamproj.backend.util;
+
+import com.teamproj.backend.dto.sql.SqlStatementReportDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SqlStatementMonitorTest {
+    SqlStatementMonitor sqlStatementMonitor;
+    SqlStatementInspector sqlStatementInspector;
+
+    @BeforeEach
+    void setup() {
+        sqlStatementMonitor = new SqlStatementMonitor();
+        ReflectionTestUtils.setField(sqlStatementMonitor, "requestThreshold", 5);
+        ReflectionTestUtils.setField(sqlStatementMonitor, "repeatThreshold", 3);
+        ReflectionTestUtils.setField(sqlStatementMonitor, "topSize", 10);
+        sqlStatementInspector = new SqlStatementInspector();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementContext.end();
+    }
+
+    @Nested
+    @DisplayName("요청 SQL 기록")
+    class RecordRequest {
+        @Test
+        @DisplayName("집계 중인 스레드의 SQL 개수 기록")
+        void recordRequest() {
+            // given
+            SqlStatementContext context = SqlStatementContext.begin();
+            sqlStatementInspector.inspect("select * from board where board_id=?");
+            sqlStatementInspector.inspect("select * from user where id=?");
+
+            // when
+            sqlStatementMonitor.recordRequest("GET /api/board/{boardId}", context);
+            SqlStatementReportDto report = sqlStatementMonitor.getReport();
+
+            // then
+            assertEquals(2, context.getStatementCount());
+            assertEquals(1, report.getRequests().size());
+            assertEquals(2.0, report.getRequests().get(0).getAvgStatements());
+            assertTrue(report.getFlagged().isEmpty());
+        }
+
+        @Test
+        @DisplayName("같은 SQL 반복 실행시 N+1 의심 요청으로 기록")
+        void recordRequest_repeated() {
+            // given
+            SqlStatementContext context = SqlStatementContext.begin();
+            for (int i = 0; i < 3; i++) {
+                sqlStatementInspector.inspect("select * from board where board_id=?");
+            }
+
+            // when
+            sqlStatementMonitor.recordRequest("GET /api/board/best", context);
+            SqlStatementReportDto report = sqlStatementMonitor.getReport();
+
+            // then
+            assertEquals(1, report.getFlagged().size());
+            assertEquals("select * from board where board_id=?", report.getFlagged().get(0).getRepeatedSql());
+            assertEquals(3, report.getFlagged().get(0).getRepeatCount());
+        }
+
+        @Test
+        @DisplayName("집계 중이 아닌 스레드의 SQL 은 기록하지 않음")
+        void recordRequest_no_context() {
+            // when
+            sqlStatementInspector.inspect("select 1");
+
+            // then
+            assertNull(SqlStatementContext.current());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.teamproj.backend.util;
+
+import com.teamproj.backend.Repository.stat.StatVisitorRepository;
+import com.teamproj.backend.dto.purge.PurgeResultDto;
+import com.teamproj.backend.model.statistics.QStatVisitor;
+import com.teamproj.backend.model.statistics.StatVisitor;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional
+@Rollback
+public class TablePurgerTest {
+    @Autowired
+    private TablePurger tablePurger;
+    @Autowired
+    private StatVisitorRepository statVisitorRepository;
+
+    QStatVisitor qStatVisitor = QStatVisitor.statVisitor;
+
+    StatVisitor first;
+    StatVisitor second;
+    StatVisitor third;
+
+    @BeforeEach
+    void setup() {
+        first = statVisitorRepository.save(StatVisitor.builder().visitorIp("127.0.0.1").build());
+        second = statVisitorRepository.save(StatVisitor.builder().visitorIp("127.0.0.2").build());
+        third = statVisitorRepository.save(StatVisitor.builder().visitorIp("127.0.0.3").build());
+    }
+
+    @Nested
+    @DisplayName("테이블 정리")
+    class Purge {
+        @Test
+        @DisplayName("최대 ID 이후의 행은 남김")
+        void purge_up_to_max_id() {
+            // given
+            Long maxId = second.getVisitId();
+
+            // when
+            PurgeResultDto result = tablePurger.purge(qStatVisitor, qStatVisitor.visitId, maxId);
+
+            // then
+            assertEquals("StatVisitor", result.getTableName());
+            assertTrue(result.getPurgedCount() >= 2);
+            assertFalse(statVisitorRepository.existsById(first.getVisitId()));
+            assertFalse(statVisitorRepository.existsById(second.getVisitId()));
+            assertTrue(statVisitorRepository.existsById(third.getVisitId()));
+        }
+
+        @Test
+        @DisplayName("범위를 나눠서 정리")
+        void purge_chunked() {
+            // given
+            ReflectionTestUtils.setField(tablePurger, "chunkSize", 1L);
+            ReflectionTestUtils.setField(tablePurger, "throttleMs", 0L);
+
+            // when
+            PurgeResultDto result;
+            try {
+                result = tablePurger.purge(qStatVisitor, qStatVisitor.visitId);
+            } finally {
+                ReflectionTestUtils.setField(tablePurger, "chunkSize", 5000L);
+                ReflectionTestUtils.setField(tablePurger, "throttleMs", 50L);
+            }
+
+            // then
+            assertEquals(0, statVisitorRepository.count());
+            assertEquals(result.getPurgedCount(), result.getChunkCount());
+        }
+    }
+}